@@ -0,0 +1,584 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ChartRenderService.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A service that renders charts to encoded images (PNG by default) on a pool
+ * of worker threads, for applications that generate a large number of chart
+ * images (a reporting server, for example).  The images that the charts are
+ * drawn into are returned to a pool after encoding and reused for later
+ * charts with the same size, so that rendering a stream of same-sized
+ * charts does not allocate a new image for each one.  Each
+ * {@link Result} records the time spent waiting in the queue, drawing and
+ * encoding.
+ * <p>
+ * A chart must not be modified while it is being rendered, and the same
+ * chart instance should not be submitted again until the earlier rendering
+ * has completed, since charts are not thread-safe.
+ *
+ * @since 2.0.0
+ */
+public class ChartRenderService implements AutoCloseable {
+
+    /**
+     * The result of rendering a chart.
+     */
+    public static final class Result {
+
+        /** The encoded image. */
+        private final byte[] bytes;
+
+        /** The time spent waiting for a worker (in nanoseconds). */
+        private final long queueNanos;
+
+        /** The time spent drawing the chart (in nanoseconds). */
+        private final long drawNanos;
+
+        /** The time spent encoding the image (in nanoseconds). */
+        private final long encodeNanos;
+
+        /**
+         * Creates a new result.
+         *
+         * @param bytes  the encoded image.
+         * @param queueNanos  the time spent waiting for a worker.
+         * @param drawNanos  the time spent drawing the chart.
+         * @param encodeNanos  the time spent encoding the image.
+         */
+        Result(byte[] bytes, long queueNanos, long drawNanos,
+                long encodeNanos) {
+            this.bytes = bytes;
+            this.queueNanos = queueNanos;
+            this.drawNanos = drawNanos;
+            this.encodeNanos = encodeNanos;
+        }
+
+        /**
+         * Returns the encoded image.  The array is not copied.
+         *
+         * @return The encoded image.
+         */
+        public byte[] getBytes() {
+            return this.bytes;
+        }
+
+        /**
+         * Returns the time between submitting the chart and the start of
+         * drawing, in nanoseconds.
+         *
+         * @return The queue time.
+         */
+        public long getQueueNanos() {
+            return this.queueNanos;
+        }
+
+        /**
+         * Returns the time spent drawing the chart, in nanoseconds.
+         *
+         * @return The drawing time.
+         */
+        public long getDrawNanos() {
+            return this.drawNanos;
+        }
+
+        /**
+         * Returns the time spent encoding the image, in nanoseconds.
+         *
+         * @return The encoding time.
+         */
+        public long getEncodeNanos() {
+            return this.encodeNanos;
+        }
+
+    }
+
+    /** The executor. */
+    private final ExecutorService executor;
+
+    /** A flag that indicates whether the executor is owned by the service. */
+    private final boolean ownsExecutor;
+
+    /** The image format. */
+    private volatile String format;
+
+    /** The encoding quality. */
+    private volatile float quality;
+
+    /** Encode alpha? */
+    private volatile boolean encodeAlpha;
+
+    /** The maximum number of images kept in the pool. */
+    private volatile int maxPooledImages;
+
+    /** The pooled images, by size and type. */
+    private final Map<ImageKey, ConcurrentLinkedDeque<BufferedImage>> pool;
+
+    /** The number of images in the pool. */
+    private final AtomicInteger pooledImageCount;
+
+    /** A flag that is set when the service is closed. */
+    private volatile boolean closed;
+
+    /**
+     * Creates a new service with one worker thread per available processor.
+     */
+    public ChartRenderService() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new service with the specified number of worker threads
+     * (daemon threads, stopped by {@link #close()}).
+     *
+     * @param threads  the number of threads (at least 1).
+     */
+    public ChartRenderService(int threads) {
+        this(Executors.newFixedThreadPool(threads, new WorkerFactory()), true,
+                threads);
+    }
+
+    /**
+     * Creates a new service that uses the specified executor (which is not
+     * shut down by {@link #close()}).
+     *
+     * @param executor  the executor ({@code null} not permitted).
+     */
+    public ChartRenderService(ExecutorService executor) {
+        this(executor, false, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new service.
+     *
+     * @param executor  the executor ({@code null} not permitted).
+     * @param ownsExecutor  shut down the executor when the service is
+     *     closed?
+     * @param threads  the (expected) number of threads.
+     */
+    private ChartRenderService(ExecutorService executor, boolean ownsExecutor,
+            int threads) {
+        Args.nullNotPermitted(executor, "executor");
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.format = ImageFormat.PNG;
+        this.quality = 0.75f;
+        this.encodeAlpha = false;
+        this.maxPooledImages = Math.max(1, threads) * 2;
+        this.pool = new ConcurrentHashMap<>();
+        this.pooledImageCount = new AtomicInteger();
+    }
+
+    /**
+     * Returns the image format.  The default is {@link ImageFormat#PNG}.
+     *
+     * @return The image format (never {@code null}).
+     */
+    public String getFormat() {
+        return this.format;
+    }
+
+    /**
+     * Sets the image format for charts submitted after this call.
+     *
+     * @param format  the format ({@link ImageFormat#PNG} or
+     *     {@link ImageFormat#JPEG}, {@code null} not permitted).
+     */
+    public void setFormat(String format) {
+        Args.nullNotPermitted(format, "format");
+        this.format = format;
+    }
+
+    /**
+     * Returns the quality setting passed to the image encoder when the
+     * format is {@link ImageFormat#JPEG}.  The default value is
+     * {@code 0.75f}.  PNG images are written with the encoder's default
+     * compression level.
+     *
+     * @return The quality.
+     */
+    public float getQuality() {
+        return this.quality;
+    }
+
+    /**
+     * Sets the quality setting passed to the image encoder when the format
+     * is {@link ImageFormat#JPEG} (see {@link ImageEncoder#setQuality(float)}).
+     * For PNG the encoders interpret the quality as a compression level
+     * (0 to 9), which does not match the JPEG scale, so it is not used.
+     *
+     * @param quality  the quality.
+     */
+    public void setQuality(float quality) {
+        this.quality = quality;
+    }
+
+    /**
+     * Returns the flag that controls whether the alpha channel is encoded.
+     * The default value is {@code false}.
+     *
+     * @return A boolean.
+     */
+    public boolean isEncodeAlpha() {
+        return this.encodeAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether the alpha channel is encoded
+     * (PNG only).
+     *
+     * @param encodeAlpha  the new flag value.
+     */
+    public void setEncodeAlpha(boolean encodeAlpha) {
+        this.encodeAlpha = encodeAlpha;
+    }
+
+    /**
+     * Returns the maximum number of images kept in the pool (for all sizes).
+     * The default is twice the number of worker threads.
+     *
+     * @return The maximum number of pooled images.
+     */
+    public int getMaxPooledImages() {
+        return this.maxPooledImages;
+    }
+
+    /**
+     * Sets the maximum number of images kept in the pool (for all sizes).
+     *
+     * @param max  the maximum (zero or greater, zero disables pooling).
+     */
+    public void setMaxPooledImages(int max) {
+        Args.requireNonNegative(max, "max");
+        this.maxPooledImages = max;
+    }
+
+    /**
+     * Returns the number of images currently in the pool.
+     *
+     * @return The number of pooled images.
+     */
+    public int getPooledImageCount() {
+        return this.pooledImageCount.get();
+    }
+
+    /**
+     * Removes all the images from the pool.
+     */
+    public void clearImagePool() {
+        for (ConcurrentLinkedDeque<BufferedImage> images
+                : this.pool.values()) {
+            while (images.poll() != null) {
+                this.pooledImageCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Submits a chart for rendering.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return A future for the result.
+     */
+    public Future<Result> submit(JFreeChart chart, int width, int height) {
+        return submit(chart, width, height, null);
+    }
+
+    /**
+     * Submits a chart for rendering.
+     *
+     * @param chart  the chart ({@code null} not permitted).
+     * @param width  the image width (greater than zero).
+     * @param height  the image height (greater than zero).
+     * @param info  carries back chart rendering info ({@code null}
+     *     permitted).
+     *
+     * @return A future for the result.
+     */
+    public Future<Result> submit(JFreeChart chart, int width, int height,
+            ChartRenderingInfo info) {
+        Args.nullNotPermitted(chart, "chart");
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'width' and 'height' > 0.");
+        }
+        String f = this.format;
+        float q = this.quality;
+        boolean alpha = this.encodeAlpha;
+        long submitted = System.nanoTime();
+        Callable<Result> task = () -> render(chart, width, height, info, f,
+                q, alpha, submitted);
+        return this.executor.submit(task);
+    }
+
+    /**
+     * Renders a list of charts (all with the same size) and waits for the
+     * results.
+     *
+     * @param charts  the charts ({@code null} not permitted, and the list
+     *     should not contain the same chart more than once).
+     * @param width  the image width.
+     * @param height  the image height.
+     *
+     * @return The results, in the same order as the charts.
+     *
+     * @throws IOException if a chart cannot be encoded (or the current
+     *     thread is interrupted).
+     */
+    public List<Result> renderAll(List<? extends JFreeChart> charts,
+            int width, int height) throws IOException {
+        Args.nullNotPermitted(charts, "charts");
+        List<Future<Result>> futures = new ArrayList<>(charts.size());
+        for (JFreeChart chart : charts) {
+            futures.add(submit(chart, width, height));
+        }
+        List<Result> results = new ArrayList<>(charts.size());
+        try {
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while rendering.");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+        return results;
+    }
+
+    /**
+     * Draws a chart into a pooled image and encodes it.
+     *
+     * @param chart  the chart.
+     * @param width  the width.
+     * @param height  the height.
+     * @param info  the rendering info ({@code null} permitted).
+     * @param format  the image format.
+     * @param quality  the encoding quality (JPEG only).
+     * @param alpha  encode alpha?
+     * @param submitted  the time the chart was submitted.
+     *
+     * @return The result.
+     *
+     * @throws IOException if there is an encoding problem.
+     */
+    private Result render(JFreeChart chart, int width, int height,
+            ChartRenderingInfo info, String format, float quality,
+            boolean alpha, long submitted) throws IOException {
+        long start = System.nanoTime();
+        // JPEG does not support an alpha channel
+        int type = ImageFormat.JPEG.equals(format)
+                ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        ImageKey key = new ImageKey(width, height, type);
+        BufferedImage image = acquire(key);
+        try {
+            Graphics2D g2 = image.createGraphics();
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, width, height);
+            g2.setComposite(AlphaComposite.SrcOver);
+            chart.draw(g2, new Rectangle2D.Double(0, 0, width, height), null,
+                    info);
+            g2.dispose();
+            long drawn = System.nanoTime();
+            ImageEncoder encoder = ImageFormat.JPEG.equals(format)
+                    ? ImageEncoderFactory.newInstance(format, quality, alpha)
+                    : ImageEncoderFactory.newInstance(format, alpha);
+            byte[] bytes = encoder.encode(image);
+            long encoded = System.nanoTime();
+            return new Result(bytes, start - submitted, drawn - start,
+                    encoded - drawn);
+        }
+        finally {
+            release(key, image);
+        }
+    }
+
+    /**
+     * Returns an image from the pool, or a new image if there is none.
+     *
+     * @param key  the image size and type.
+     *
+     * @return An image.
+     */
+    private BufferedImage acquire(ImageKey key) {
+        ConcurrentLinkedDeque<BufferedImage> images = this.pool.get(key);
+        if (images != null) {
+            BufferedImage image = images.poll();
+            if (image != null) {
+                this.pooledImageCount.decrementAndGet();
+                return image;
+            }
+        }
+        return new BufferedImage(key.width, key.height, key.type);
+    }
+
+    /**
+     * Returns an image to the pool, unless the pool is full or the service
+     * has been closed.
+     *
+     * @param key  the image size and type.
+     * @param image  the image.
+     */
+    private void release(ImageKey key, BufferedImage image) {
+        if (this.closed) {
+            return;
+        }
+        if (this.pooledImageCount.incrementAndGet() > this.maxPooledImages) {
+            this.pooledImageCount.decrementAndGet();
+            return;
+        }
+        this.pool.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>())
+                .push(image);
+        // the service may have been closed (and the pool cleared) since the
+        // check above
+        if (this.closed) {
+            clearImagePool();
+        }
+    }
+
+    /**
+     * Shuts down the worker threads (if they were created by this service)
+     * and clears the image pool.  Charts that have already been submitted
+     * are still rendered, but their images are not returned to the pool.
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        if (this.ownsExecutor) {
+            this.executor.shutdown();
+        }
+        clearImagePool();
+    }
+
+    /**
+     * The key for the image pool.
+     */
+    private static final class ImageKey {
+
+        /** The image width. */
+        final int width;
+
+        /** The image height. */
+        final int height;
+
+        /** The image type. */
+        final int type;
+
+        /**
+         * Creates a new key.
+         *
+         * @param width  the width.
+         * @param height  the height.
+         * @param type  the image type.
+         */
+        ImageKey(int width, int height, int type) {
+            this.width = width;
+            this.height = height;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.type == that.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return (this.width * 31 + this.height) * 31 + this.type;
+        }
+
+    }
+
+    /**
+     * Creates the daemon worker threads.
+     */
+    private static final class WorkerFactory implements ThreadFactory {
+
+        /** The number of threads created. */
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "ChartRenderService-"
+                    + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -642,7 +642,10 @@ public abstract class ChartUtils {
     }
 
     /**
-     * Writes an image map to the specified writer.
+     * Writes an image map to the specified writer.  To write the image map
+     * while the chart is drawn, without retaining the entities, use a
+     * {@link org.jfree.chart.imagemap.StreamingImageMapWriter} as the
+     * entity collection for the {@link ChartRenderingInfo}.
      *
      * @param writer  the writer ({@code null} not permitted).
      * @param name  the map name ({@code null} not permitted).
@@ -662,8 +665,8 @@ public abstract class ChartUtils {
             URLTagFragmentGenerator urlTagFragmentGenerator)
             throws IOException {
 
-        writer.println(ImageMapUtils.getImageMap(name, info,
-                toolTipTagFragmentGenerator, urlTagFragmentGenerator));
+        ImageMapUtils.writeImageMap(writer, name, info,
+                toolTipTagFragmentGenerator, urlTagFragmentGenerator);
     }
 
     /**
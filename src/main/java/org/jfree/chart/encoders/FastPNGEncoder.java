@@ -0,0 +1,777 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * FastPNGEncoder.java
+ * -------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A PNG encoder that writes 8-bit truecolor images (with or without an alpha
+ * channel) directly from the image raster, with a configurable compression
+ * level and row filter.  Large images are divided into horizontal stripes
+ * that are filtered and compressed in parallel (each stripe uses the end of
+ * the previous stripe as its dictionary, so the compression ratio is close
+ * to that of a single stream).  This is the default encoder for
+ * {@link ImageFormat#PNG} in {@link ImageEncoderFactory}.
+ * <p>
+ * The quality setting (see {@link #setQuality(float)}) is interpreted as
+ * the compression level (0 to 9), which is how
+ * {@link org.jfree.chart.ChartUtils} passes the compression argument of its
+ * {@code writeChartAsPNG()} methods.
+ *
+ * @since 2.0.0
+ */
+public class FastPNGEncoder implements ImageEncoder {
+
+    /**
+     * The row filters that can be applied before compression.
+     */
+    public enum Filter {
+
+        /** No filtering. */
+        NONE,
+
+        /** The difference from the pixel to the left. */
+        SUB,
+
+        /** The difference from the pixel above. */
+        UP,
+
+        /** The difference from the average of the left and above pixels. */
+        AVERAGE,
+
+        /** The difference from the Paeth predictor. */
+        PAETH,
+
+        /**
+         * The filter that gives the smallest sum of absolute differences,
+         * chosen for each row.
+         */
+        ADAPTIVE
+
+    }
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The approximate number of uncompressed bytes in a stripe. */
+    private static final int STRIPE_BYTES = 256 * 1024;
+
+    /** The size of the dictionary taken from the previous stripe. */
+    private static final int DICTIONARY_BYTES = 32 * 1024;
+
+    /** The compression level (0-9). */
+    private int compressionLevel;
+
+    /** The row filter. */
+    private Filter filter;
+
+    /** Encode the alpha channel? */
+    private boolean encodingAlpha;
+
+    /** Compress stripes in parallel? */
+    private boolean parallel;
+
+    /**
+     * Creates a new encoder with compression level 4, the adaptive filter,
+     * alpha encoding (for images that have an alpha channel) and parallel
+     * compression.
+     */
+    public FastPNGEncoder() {
+        this.compressionLevel = 4;
+        this.filter = Filter.ADAPTIVE;
+        this.encodingAlpha = true;
+        this.parallel = true;
+    }
+
+    /**
+     * Returns the compression level (as a float).
+     *
+     * @return The compression level.
+     */
+    @Override
+    public float getQuality() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level, rounded to the nearest integer and
+     * limited to the range 0 to 9.
+     *
+     * @param quality  the compression level.
+     */
+    @Override
+    public void setQuality(float quality) {
+        setCompressionLevel(Math.round(quality));
+    }
+
+    /**
+     * Returns the compression level.
+     *
+     * @return The compression level (0 to 9).
+     */
+    public int getCompressionLevel() {
+        return this.compressionLevel;
+    }
+
+    /**
+     * Sets the compression level (values outside the range 0 to 9 are
+     * limited to that range).  Level 0 stores the data without
+     * compression, level 9 gives the smallest output but is the slowest.
+     *
+     * @param level  the compression level.
+     */
+    public void setCompressionLevel(int level) {
+        this.compressionLevel = Math.max(0, Math.min(level, 9));
+    }
+
+    /**
+     * Returns the row filter.
+     *
+     * @return The row filter (never {@code null}).
+     */
+    public Filter getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the row filter.
+     *
+     * @param filter  the filter ({@code null} not permitted).
+     */
+    public void setFilter(Filter filter) {
+        Args.nullNotPermitted(filter, "filter");
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the flag that controls whether the alpha channel is encoded
+     * (for images that have one).  The default value is {@code true}.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets the flag that controls whether the alpha channel is encoded (for
+     * images that have one).
+     *
+     * @param encodingAlpha  the new flag value.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the flag that controls whether the stripes of large images
+     * are compressed in parallel.  The default value is {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets the flag that controls whether the stripes of large images are
+     * compressed in parallel (on the common {@link ForkJoinPool}).
+     *
+     * @param parallel  the new flag value.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  the image to be encoded ({@code null} not
+     *     permitted).
+     *
+     * @return The encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(bufferedImage, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an output stream.
+     *
+     * @param bufferedImage  the image to be encoded ({@code null} not
+     *     permitted).
+     * @param outputStream  the output stream ({@code null} not permitted).
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        Args.nullNotPermitted(bufferedImage, "bufferedImage");
+        Args.nullNotPermitted(outputStream, "outputStream");
+        PixelSource source = new PixelSource(bufferedImage,
+                this.encodingAlpha);
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+
+        outputStream.write(SIGNATURE);
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;
+        header[9] = (byte) (source.bytesPerPixel == 4 ? 6 : 2);
+        writeChunk(outputStream, "IHDR", header);
+
+        int rowBytes = width * source.bytesPerPixel + 1;
+        int stripeRows = Math.max(1, STRIPE_BYTES / rowBytes);
+        int stripeCount = (height + stripeRows - 1) / stripeRows;
+        byte[] zlibHeader = zlibHeader(this.compressionLevel);
+        long adler = 1L;
+        if (this.parallel && stripeCount > 1) {
+            List<Callable<Stripe>> tasks = new ArrayList<>(stripeCount);
+            for (int i = 0; i < stripeCount; i++) {
+                int start = i * stripeRows;
+                int end = Math.min(height, start + stripeRows);
+                boolean last = (i == stripeCount - 1);
+                tasks.add(() -> compress(source, start, end, last));
+            }
+            List<Future<Stripe>> futures
+                    = ForkJoinPool.commonPool().invokeAll(tasks);
+            for (int i = 0; i < stripeCount; i++) {
+                Stripe stripe;
+                try {
+                    stripe = futures.get(i).get();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while encoding.", e);
+                }
+                catch (ExecutionException e) {
+                    throw new IOException(e.getCause());
+                }
+                adler = writeStripe(outputStream, stripe, adler,
+                        i == 0 ? zlibHeader : null);
+            }
+        }
+        else {
+            for (int i = 0; i < stripeCount; i++) {
+                int start = i * stripeRows;
+                int end = Math.min(height, start + stripeRows);
+                Stripe stripe = compress(source, start, end,
+                        i == stripeCount - 1);
+                adler = writeStripe(outputStream, stripe, adler,
+                        i == 0 ? zlibHeader : null);
+            }
+        }
+        byte[] trailer = new byte[4];
+        writeInt(trailer, 0, (int) adler);
+        writeChunk(outputStream, "IDAT", trailer);
+        writeChunk(outputStream, "IEND", new byte[0]);
+        outputStream.flush();
+    }
+
+    /**
+     * Writes the compressed data for a stripe as an IDAT chunk.
+     *
+     * @param out  the output stream.
+     * @param stripe  the stripe.
+     * @param adler  the checksum for the preceding stripes.
+     * @param prefix  the zlib header, for the first stripe (otherwise
+     *     {@code null}).
+     *
+     * @return The checksum including this stripe.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static long writeStripe(OutputStream out, Stripe stripe,
+            long adler, byte[] prefix) throws IOException {
+        if (prefix != null) {
+            writeChunk(out, "IDAT", prefix, stripe.data);
+        }
+        else {
+            writeChunk(out, "IDAT", stripe.data);
+        }
+        return adler32Combine(adler, stripe.adler, stripe.length);
+    }
+
+    /**
+     * Filters and compresses a range of rows.
+     *
+     * @param source  the pixel source.
+     * @param start  the first row.
+     * @param end  the row after the last row.
+     * @param last  is this the last stripe in the image?
+     *
+     * @return The compressed stripe.
+     */
+    private Stripe compress(PixelSource source, int start, int end,
+            boolean last) {
+        int rowBytes = source.width * source.bytesPerPixel;
+        int bpp = source.bytesPerPixel;
+        int[] pixels = new int[source.width];
+        byte[] prev = new byte[rowBytes];
+        byte[] cur = new byte[rowBytes];
+        byte[] filtered = new byte[rowBytes + 1];
+        byte[][] candidates = this.filter == Filter.ADAPTIVE
+                ? new byte[5][rowBytes + 1] : null;
+        Deflater deflater = new Deflater(this.compressionLevel, true);
+        Adler32 adler = new Adler32();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                (end - start) * (rowBytes + 1) / 4 + 64);
+        byte[] buffer = new byte[64 * 1024];
+
+        // use the filtered rows at the end of the previous stripe as the
+        // dictionary, so that the compression does not restart from nothing
+        int dictRows = Math.min(start,
+                (DICTIONARY_BYTES + rowBytes) / (rowBytes + 1));
+        int first = start - dictRows;
+        if (first > 0) {
+            source.readRow(first - 1, prev, pixels);
+        }
+        ByteArrayOutputStream dictionary = dictRows > 0
+                ? new ByteArrayOutputStream(dictRows * (rowBytes + 1)) : null;
+        for (int y = first; y < end; y++) {
+            source.readRow(y, cur, pixels);
+            byte[] row = filterRow(cur, prev, bpp, filtered, candidates);
+            if (y < start) {
+                dictionary.write(row, 0, row.length);
+            }
+            else {
+                if (y == start && dictionary != null) {
+                    byte[] dict = dictionary.toByteArray();
+                    int off = Math.max(0, dict.length - DICTIONARY_BYTES);
+                    deflater.setDictionary(dict, off, dict.length - off);
+                }
+                adler.update(row, 0, row.length);
+                deflater.setInput(row, 0, row.length);
+                while (!deflater.needsInput()) {
+                    int n = deflater.deflate(buffer, 0, buffer.length,
+                            Deflater.NO_FLUSH);
+                    out.write(buffer, 0, n);
+                }
+            }
+            byte[] swap = prev;
+            prev = cur;
+            cur = swap;
+        }
+        if (last) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+        }
+        else {
+            int n;
+            do {
+                n = deflater.deflate(buffer, 0, buffer.length,
+                        Deflater.SYNC_FLUSH);
+                out.write(buffer, 0, n);
+            } while (n == buffer.length);
+        }
+        deflater.end();
+        return new Stripe(out.toByteArray(), adler.getValue(),
+                (long) (end - start) * (rowBytes + 1));
+    }
+
+    /**
+     * Applies the row filter to a row.
+     *
+     * @param cur  the current row (raw bytes).
+     * @param prev  the previous row (raw bytes, all zero for the first row).
+     * @param bpp  the number of bytes per pixel.
+     * @param filtered  the array for the filtered row (the filter type
+     *     followed by the filtered bytes).
+     * @param candidates  arrays for each filter type (only used by the
+     *     adaptive filter).
+     *
+     * @return The filtered row.
+     */
+    private byte[] filterRow(byte[] cur, byte[] prev, int bpp,
+            byte[] filtered, byte[][] candidates) {
+        switch (this.filter) {
+            case NONE:
+                applyFilter(0, cur, prev, bpp, filtered);
+                return filtered;
+            case SUB:
+                applyFilter(1, cur, prev, bpp, filtered);
+                return filtered;
+            case UP:
+                applyFilter(2, cur, prev, bpp, filtered);
+                return filtered;
+            case AVERAGE:
+                applyFilter(3, cur, prev, bpp, filtered);
+                return filtered;
+            case PAETH:
+                applyFilter(4, cur, prev, bpp, filtered);
+                return filtered;
+            default:
+                byte[] best = null;
+                long bestSum = Long.MAX_VALUE;
+                for (int type = 0; type < 5; type++) {
+                    long sum = applyFilter(type, cur, prev, bpp,
+                            candidates[type]);
+                    if (sum < bestSum) {
+                        bestSum = sum;
+                        best = candidates[type];
+                    }
+                }
+                return best;
+        }
+    }
+
+    /**
+     * Applies a filter to a row.
+     *
+     * @param type  the PNG filter type (0 to 4).
+     * @param cur  the current row.
+     * @param prev  the previous row.
+     * @param bpp  the number of bytes per pixel.
+     * @param out  the array for the filter type and filtered bytes.
+     *
+     * @return The sum of the absolute values of the filtered bytes (as
+     *     signed values), used to choose the adaptive filter.
+     */
+    private static long applyFilter(int type, byte[] cur, byte[] prev,
+            int bpp, byte[] out) {
+        out[0] = (byte) type;
+        long sum = 0;
+        int n = cur.length;
+        for (int i = 0; i < n; i++) {
+            int x = cur[i] & 0xFF;
+            int a = i >= bpp ? cur[i - bpp] & 0xFF : 0;
+            int b = prev[i] & 0xFF;
+            int v;
+            switch (type) {
+                case 1:
+                    v = x - a;
+                    break;
+                case 2:
+                    v = x - b;
+                    break;
+                case 3:
+                    v = x - ((a + b) >>> 1);
+                    break;
+                case 4:
+                    int c = i >= bpp ? prev[i - bpp] & 0xFF : 0;
+                    v = x - paeth(a, b, c);
+                    break;
+                default:
+                    v = x;
+            }
+            byte f = (byte) v;
+            out[i + 1] = f;
+            sum += Math.abs(f);
+        }
+        return sum;
+    }
+
+    /**
+     * The Paeth predictor.
+     *
+     * @param a  the byte to the left.
+     * @param b  the byte above.
+     * @param c  the byte above and to the left.
+     *
+     * @return The predicted value.
+     */
+    private static int paeth(int a, int b, int c) {
+        int p = a + b - c;
+        int pa = Math.abs(p - a);
+        int pb = Math.abs(p - b);
+        int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        if (pb <= pc) {
+            return b;
+        }
+        return c;
+    }
+
+    /**
+     * Returns the two-byte zlib header for the compression level.
+     *
+     * @param level  the compression level.
+     *
+     * @return The header.
+     */
+    private static byte[] zlibHeader(int level) {
+        int cmf = 0x78;
+        int flevel = level < 2 ? 0 : (level < 6 ? 1 : (level == 6 ? 2 : 3));
+        int flg = flevel << 6;
+        flg += 31 - ((cmf << 8) + flg) % 31;
+        return new byte[] {(byte) cmf, (byte) flg};
+    }
+
+    /**
+     * Combines the Adler-32 checksums of two consecutive blocks of data (the
+     * same calculation as zlib's {@code adler32_combine()}).
+     *
+     * @param adler1  the checksum of the first block.
+     * @param adler2  the checksum of the second block.
+     * @param len2  the length of the second block.
+     *
+     * @return The checksum of the combined data.
+     */
+    static long adler32Combine(long adler1, long adler2, long len2) {
+        final long base = 65521L;
+        long rem = len2 % base;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFF) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF)
+                + base - rem;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 -= (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * Writes a PNG chunk.
+     *
+     * @param out  the output stream.
+     * @param type  the chunk type.
+     * @param parts  the chunk data (in one or more parts).
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void writeChunk(OutputStream out, String type,
+            byte[]... parts) throws IOException {
+        int length = 0;
+        for (byte[] part : parts) {
+            length += part.length;
+        }
+        byte[] header = new byte[8];
+        writeInt(header, 0, length);
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(typeBytes, 0, header, 4, 4);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        out.write(header);
+        for (byte[] part : parts) {
+            crc.update(part);
+            out.write(part);
+        }
+        byte[] trailer = new byte[4];
+        writeInt(trailer, 0, (int) crc.getValue());
+        out.write(trailer);
+    }
+
+    /**
+     * Writes a big-endian integer into an array.
+     *
+     * @param b  the array.
+     * @param off  the offset.
+     * @param v  the value.
+     */
+    private static void writeInt(byte[] b, int off, int v) {
+        b[off] = (byte) (v >>> 24);
+        b[off + 1] = (byte) (v >>> 16);
+        b[off + 2] = (byte) (v >>> 8);
+        b[off + 3] = (byte) v;
+    }
+
+    /**
+     * The compressed data for a stripe of rows.
+     */
+    private static final class Stripe {
+
+        /** The compressed data. */
+        final byte[] data;
+
+        /** The Adler-32 checksum of the uncompressed (filtered) data. */
+        final long adler;
+
+        /** The length of the uncompressed data. */
+        final long length;
+
+        /**
+         * Creates a new stripe.
+         *
+         * @param data  the compressed data.
+         * @param adler  the checksum.
+         * @param length  the uncompressed length.
+         */
+        Stripe(byte[] data, long adler, long length) {
+            this.data = data;
+            this.adler = adler;
+            this.length = length;
+        }
+
+    }
+
+    /**
+     * Reads the rows of an image as RGB or RGBA bytes, directly from the
+     * raster's data array for the common integer RGB image types.
+     */
+    private static final class PixelSource {
+
+        /** The image. */
+        private final BufferedImage image;
+
+        /** The image width. */
+        final int width;
+
+        /** The number of bytes per pixel (3 or 4). */
+        final int bytesPerPixel;
+
+        /** The raster data (for the direct path), otherwise {@code null}. */
+        private final int[] data;
+
+        /** The index of the first pixel in the data array. */
+        private final int offset;
+
+        /** The scanline stride. */
+        private final int stride;
+
+        /**
+         * Creates a new source.
+         *
+         * @param image  the image.
+         * @param encodeAlpha  include the alpha channel (if the image has
+         *     one)?
+         */
+        PixelSource(BufferedImage image, boolean encodeAlpha) {
+            this.image = image;
+            this.width = image.getWidth();
+            this.bytesPerPixel = encodeAlpha
+                    && image.getColorModel().hasAlpha() ? 4 : 3;
+            WritableRaster raster = image.getRaster();
+            DataBuffer buffer = raster.getDataBuffer();
+            int type = image.getType();
+            if ((type == BufferedImage.TYPE_INT_ARGB
+                    || type == BufferedImage.TYPE_INT_RGB)
+                    && buffer instanceof DataBufferInt
+                    && raster.getSampleModel()
+                    instanceof SinglePixelPackedSampleModel) {
+                SinglePixelPackedSampleModel sm
+                        = (SinglePixelPackedSampleModel) raster
+                        .getSampleModel();
+                this.data = ((DataBufferInt) buffer).getData();
+                this.stride = sm.getScanlineStride();
+                this.offset = buffer.getOffset() + sm.getOffset(
+                        -raster.getSampleModelTranslateX(),
+                        -raster.getSampleModelTranslateY());
+            }
+            else {
+                this.data = null;
+                this.stride = 0;
+                this.offset = 0;
+            }
+        }
+
+        /**
+         * Reads a row of pixels as RGB or RGBA bytes.
+         *
+         * @param y  the row index.
+         * @param out  the array for the bytes.
+         * @param scratch  an array for one row of pixels (only used when the
+         *     raster data cannot be read directly).
+         */
+        void readRow(int y, byte[] out, int[] scratch) {
+            int[] pixels;
+            int start;
+            if (this.data != null) {
+                pixels = this.data;
+                start = this.offset + y * this.stride;
+            }
+            else {
+                pixels = scratch;
+                this.image.getRGB(0, y, this.width, 1, pixels, 0, this.width);
+                start = 0;
+            }
+            int j = 0;
+            if (this.bytesPerPixel == 4) {
+                for (int x = 0; x < this.width; x++) {
+                    int argb = pixels[start + x];
+                    out[j++] = (byte) (argb >> 16);
+                    out[j++] = (byte) (argb >> 8);
+                    out[j++] = (byte) argb;
+                    out[j++] = (byte) (argb >>> 24);
+                }
+            }
+            else {
+                for (int x = 0; x < this.width; x++) {
+                    int rgb = pixels[start + x];
+                    out[j++] = (byte) (rgb >> 16);
+                    out[j++] = (byte) (rgb >> 8);
+                    out[j++] = (byte) rgb;
+                }
+            }
+        }
+
+    }
+
+}
@@ -62,13 +62,14 @@ public class ImageEncoderFactory {
     }
 
     /**
-     * Sets up default encoders (uses Sun PNG Encoder if JDK 1.4+ and the
-     * SunPNGEncoderAdapter class is available).
+     * Sets up default encoders (PNG images are written by the
+     * {@link FastPNGEncoder}, the ImageIO based {@link SunPNGEncoderAdapter}
+     * can be selected with {@link #setImageEncoder(String, String)}).
      */
     private static void init() {
         encoders = new HashMap<>();
         encoders.put("jpeg", "org.jfree.chart.encoders.SunJPEGEncoderAdapter");
-        encoders.put("png", "org.jfree.chart.encoders.SunPNGEncoderAdapter");
+        encoders.put("png", "org.jfree.chart.encoders.FastPNGEncoder");
     }
 
     /**
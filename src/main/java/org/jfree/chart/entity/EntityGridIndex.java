@@ -0,0 +1,299 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * EntityGridIndex.java
+ * --------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.util.function.IntPredicate;
+
+/**
+ * A uniform grid of cells, each holding the indices of the entities whose
+ * bounds overlap the cell, used to find the entity at a point without
+ * checking every entity in a collection.  The index is built from an array
+ * of entity bounds and is not updated when entities are added (the owning
+ * collection discards it and builds a new one when next required).
+ * <p>
+ * Entities that span many cells (such as the entities for the plot area and
+ * the chart) are kept in a separate list that is checked for every lookup.
+ */
+final class EntityGridIndex {
+
+    /**
+     * The maximum number of cells that an entity can span before it is kept
+     * in the list of large entities.
+     */
+    private static final int MAX_CELL_SPAN = 16;
+
+    /** The maximum number of cells in the grid. */
+    private static final int MAX_CELLS = 1 << 20;
+
+    /** The x-coordinate of the left edge of the grid. */
+    private final double minX;
+
+    /** The y-coordinate of the top edge of the grid. */
+    private final double minY;
+
+    /** The x-coordinate of the right edge of the grid. */
+    private final double maxX;
+
+    /** The y-coordinate of the bottom edge of the grid. */
+    private final double maxY;
+
+    /** The number of columns. */
+    private final int cols;
+
+    /** The number of rows. */
+    private final int rows;
+
+    /** The width of a cell. */
+    private final double cellWidth;
+
+    /** The height of a cell. */
+    private final double cellHeight;
+
+    /**
+     * The start of each cell's entries in {@code cellItems} (with an extra
+     * element that marks the end of the last cell).
+     */
+    private final int[] cellStart;
+
+    /** The entity indices for all cells, in ascending order per cell. */
+    private final int[] cellItems;
+
+    /** The indices of the large entities, in ascending order. */
+    private final int[] largeItems;
+
+    /** The bounds of each entity (minX, minY, maxX, maxY). */
+    private final double[] bounds;
+
+    /**
+     * Builds the index for a set of entities.
+     *
+     * @param bounds  the bounds of the entities, four values (minX, minY,
+     *     maxX, maxY) per entity, with {@code Double.NaN} for an entity that
+     *     cannot contain any point (the array is not copied).
+     */
+    EntityGridIndex(double[] bounds) {
+        int n = bounds.length / 4;
+        this.bounds = bounds;
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            if (isIndexable(i)) {
+                x0 = Math.min(x0, bounds[i * 4]);
+                y0 = Math.min(y0, bounds[i * 4 + 1]);
+                x1 = Math.max(x1, bounds[i * 4 + 2]);
+                y1 = Math.max(y1, bounds[i * 4 + 3]);
+            }
+        }
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+
+        // aim for about one cell per entity, with square-ish cells
+        double w = Math.max(x1 - x0, 0.0);
+        double h = Math.max(y1 - y0, 0.0);
+        int cells = Math.max(1, Math.min(n, MAX_CELLS));
+        int c = 1;
+        if (w > 0.0 && h > 0.0) {
+            c = (int) Math.round(Math.sqrt(cells * w / h));
+        }
+        else if (w > 0.0) {
+            c = cells;
+        }
+        this.cols = Math.max(1, Math.min(c, cells));
+        this.rows = Math.max(1, cells / this.cols);
+        this.cellWidth = w > 0.0 ? w / this.cols : 1.0;
+        this.cellHeight = h > 0.0 ? h / this.rows : 1.0;
+
+        // count the entries in each cell, then fill them in
+        int[] counts = new int[this.cols * this.rows + 1];
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isIndexable(i)) {
+                continue;
+            }
+            if (isLarge(i)) {
+                largeCount++;
+                continue;
+            }
+            for (int r = row(bounds[i * 4 + 1]); r <= row(bounds[i * 4 + 3]);
+                    r++) {
+                for (int col = col(bounds[i * 4]);
+                        col <= col(bounds[i * 4 + 2]); col++) {
+                    counts[r * this.cols + col + 1]++;
+                }
+            }
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        this.cellStart = counts.clone();
+        this.cellItems = new int[counts[counts.length - 1]];
+        this.largeItems = new int[largeCount];
+        int large = 0;
+        for (int i = 0; i < n; i++) {
+            if (!isIndexable(i)) {
+                continue;
+            }
+            if (isLarge(i)) {
+                this.largeItems[large++] = i;
+                continue;
+            }
+            for (int r = row(bounds[i * 4 + 1]); r <= row(bounds[i * 4 + 3]);
+                    r++) {
+                for (int col = col(bounds[i * 4]);
+                        col <= col(bounds[i * 4 + 2]); col++) {
+                    this.cellItems[counts[r * this.cols + col]++] = i;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if the bounds of an entity are valid (an entity
+     * with invalid bounds cannot contain any point).
+     *
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isIndexable(int i) {
+        return !Double.isNaN(this.bounds[i * 4])
+                && !Double.isNaN(this.bounds[i * 4 + 1])
+                && this.bounds[i * 4] <= this.bounds[i * 4 + 2]
+                && this.bounds[i * 4 + 1] <= this.bounds[i * 4 + 3];
+    }
+
+    /**
+     * Returns {@code true} if an entity spans too many cells to be stored in
+     * each of them.
+     *
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isLarge(int i) {
+        long span = (long) (col(this.bounds[i * 4 + 2])
+                - col(this.bounds[i * 4]) + 1)
+                * (row(this.bounds[i * 4 + 3]) - row(this.bounds[i * 4 + 1])
+                + 1);
+        return span > MAX_CELL_SPAN;
+    }
+
+    /**
+     * Returns the column containing an x-coordinate.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column index (clamped to the grid).
+     */
+    private int col(double x) {
+        int c = (int) Math.floor((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.cols - 1));
+    }
+
+    /**
+     * Returns the row containing a y-coordinate.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row index (clamped to the grid).
+     */
+    private int row(double y) {
+        int r = (int) Math.floor((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Returns {@code true} if a point lies within the bounds of an entity
+     * and the entity contains the point.
+     *
+     * @param i  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param contains  the test for the entity's area.
+     *
+     * @return A boolean.
+     */
+    private boolean contains(int i, double x, double y,
+            IntPredicate contains) {
+        return x >= this.bounds[i * 4] && x <= this.bounds[i * 4 + 2]
+                && y >= this.bounds[i * 4 + 1] && y <= this.bounds[i * 4 + 3]
+                && contains.test(i);
+    }
+
+    /**
+     * Finds the index of the last entity that contains a point.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param contains  a test that returns {@code true} if the area of the
+     *     entity with the given index contains the point (only called for
+     *     entities with bounds that contain the point).
+     *
+     * @return The entity index, or -1.
+     */
+    int find(double x, double y, IntPredicate contains) {
+        if (!(x >= this.minX && x <= this.maxX && y >= this.minY
+                && y <= this.maxY)) {
+            return -1;
+        }
+        int result = -1;
+        int cell = row(y) * this.cols + col(x);
+        for (int k = this.cellStart[cell + 1] - 1; k >= this.cellStart[cell];
+                k--) {
+            int i = this.cellItems[k];
+            if (contains(i, x, y, contains)) {
+                result = i;
+                break;
+            }
+        }
+        for (int k = this.largeItems.length - 1; k >= 0; k--) {
+            int i = this.largeItems[k];
+            if (i < result) {
+                break;
+            }
+            if (contains(i, x, y, contains)) {
+                return i;
+            }
+        }
+        return result;
+    }
+
+}
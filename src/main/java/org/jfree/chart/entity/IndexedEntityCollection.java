@@ -0,0 +1,162 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * IndexedEntityCollection.java
+ * ----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+
+/**
+ * An entity collection that uses a spatial index to find the entity at a
+ * given point.  The {@link StandardEntityCollection} class checks every
+ * entity (from last to first) in {@link #getEntity(double, double)}, which is
+ * slow when a chart has a very large number of entities (a scatter plot with
+ * hundreds of thousands of items, for example).  This class builds a uniform
+ * grid over the bounds of the entities the first time a point is looked up
+ * after the collection has changed (typically, just after the chart has been
+ * drawn) so that only the entities that overlap the grid cell containing the
+ * point need to be checked.  As in the standard collection, when several
+ * entities contain the point, the one added last (drawn on top) is returned.
+ * <p>
+ * Entities that span many grid cells (such as the entities for the plot
+ * area and the chart) are kept in a separate list that is checked for every
+ * lookup.
+ *
+ * @since 2.0.0
+ */
+public class IndexedEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4781920537765123058L;
+
+    /** The index (built on demand, {@code null} when invalid). */
+    private transient EntityGridIndex index;
+
+    /**
+     * Constructs a new (empty) entity collection.
+     */
+    public IndexedEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities in this collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        this.index = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        this.index = null;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        super.addAll(collection);
+        this.index = null;
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.  Since the
+     * iterator can be used to remove entities, the spatial index is rebuilt
+     * the next time it is used.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        this.index = null;
+        return super.iterator();
+    }
+
+    /**
+     * Returns the last entity in the collection that contains the specified
+     * point, or {@code null} if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        if (this.index == null) {
+            int n = getEntityCount();
+            double[] bounds = new double[n * 4];
+            for (int i = 0; i < n; i++) {
+                Rectangle2D b = getEntity(i).getArea().getBounds2D();
+                bounds[i * 4] = b.getMinX();
+                bounds[i * 4 + 1] = b.getMinY();
+                bounds[i * 4 + 2] = b.getMaxX();
+                bounds[i * 4 + 3] = b.getMaxY();
+            }
+            this.index = new EntityGridIndex(bounds);
+        }
+        int i = this.index.find(x, y,
+                k -> getEntity(k).getArea().contains(x, y));
+        return i >= 0 ? getEntity(i) : null;
+    }
+
+    /**
+     * Returns a clone of the collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        IndexedEntityCollection clone = (IndexedEntityCollection) super.clone();
+        clone.index = null;
+        return clone;
+    }
+
+}
@@ -0,0 +1,90 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * ItemEntityFactory.java
+ * ----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+
+import org.jfree.data.general.Dataset;
+
+/**
+ * A factory that creates the entity for a data item on demand.  Renderers
+ * implement this interface (typically with a method reference) so that a
+ * {@link LazyEntityCollection} can record only the location of each item
+ * while the chart is drawn, and create the entity (along with its tool tip
+ * and URL) only when it is actually required.
+ *
+ * @since 2.0.0
+ */
+@FunctionalInterface
+public interface ItemEntityFactory {
+
+    /**
+     * Creates the entity for a data item.
+     *
+     * @param area  the entity area ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The entity (never {@code null}).
+     */
+    ChartEntity createItemEntity(Shape area, Dataset dataset, int series,
+            int item);
+
+    /**
+     * Returns {@code true} if a data item still has the values that were
+     * recorded for it when it was drawn.  The collection calls this method
+     * before creating an entity, since the dataset may have changed since
+     * the chart was drawn (for example, items removed from the start of a
+     * series change the indices of all the other items), and an entity
+     * created from the current data would then describe a different item.
+     * The default implementation returns {@code true}.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xValue  the x-value recorded for the item.
+     * @param yValue  the y-value recorded for the item.
+     *
+     * @return A boolean.
+     */
+    default boolean isItemUnchanged(Dataset dataset, int series, int item,
+            double xValue, double yValue) {
+        return true;
+    }
+
+}
@@ -0,0 +1,577 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * LazyEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Objects;
+
+import org.jfree.chart.api.PublicCloneable;
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.Dataset;
+
+/**
+ * An entity collection that can record data items without creating their
+ * entities.  When a renderer draws a large dataset, creating a shape, an
+ * entity, a tool tip and a URL for every item can cost more than the drawing
+ * itself, even though most of these entities are never used.  Renderers
+ * that support this collection call one of the {@code addItem()} methods
+ * instead, which records only the dataset, series and item indices, the
+ * x and y-values and the bounds of the item in primitive arrays.  The entity
+ * is created by the renderer's {@link ItemEntityFactory} the first time it is
+ * requested, either by {@link #getEntity(double, double)} (hit testing) or
+ * {@link #getEntity(int)} (for example, when writing an image map), and then
+ * retained.
+ * <p>
+ * If the item no longer has the values that were recorded when it was drawn
+ * (see {@link ItemEntityFactory#isItemUnchanged(Dataset, int, int, double,
+ * double)}), the data has changed since the chart was drawn and the entity
+ * would describe the wrong item.  In that case the item is not found by hit
+ * testing, and {@link #getEntity(int)} returns an entity with the item's
+ * area only (no tool tip or URL).
+ * <p>
+ * Like {@link IndexedEntityCollection}, this collection uses a spatial index
+ * for hit testing.  Entities that are created elsewhere can be added as
+ * usual.  The iterator returned by {@link #iterator()} does not support
+ * removal.
+ *
+ * @since 2.0.0
+ */
+public class LazyEntityCollection implements EntityCollection, Cloneable,
+        PublicCloneable, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2719437285019475183L;
+
+    /** The initial capacity of the arrays. */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The item index recorded for an item that had changed when its entity
+     * was created.
+     */
+    private static final int STALE = -2;
+
+    /** The number of entities (created or not) in the collection. */
+    private int count;
+
+    /**
+     * The frame (x, y, width and height) of the area of each entity.  For
+     * items added without a shape, this is the frame of the ellipse that
+     * defines the area.
+     */
+    private double[] frames;
+
+    /** The series index for each item. */
+    private int[] series;
+
+    /** The item index for each item. */
+    private int[] items;
+
+    /** The entities that have been created (or added), otherwise null. */
+    private ChartEntity[] entities;
+
+    /** The x and y-values recorded for each item. */
+    private transient double[] values;
+
+    /** The area for each item ({@code null} for an ellipse). */
+    private transient Shape[] shapes;
+
+    /** The entity factory for each item. */
+    private transient ItemEntityFactory[] factories;
+
+    /** The dataset for each item. */
+    private transient Dataset[] datasets;
+
+    /** The index (built on demand, {@code null} when invalid). */
+    private transient EntityGridIndex index;
+
+    /**
+     * Creates a new (empty) collection.
+     */
+    public LazyEntityCollection() {
+        this.frames = new double[INITIAL_CAPACITY * 4];
+        this.values = new double[INITIAL_CAPACITY * 2];
+        this.series = new int[INITIAL_CAPACITY];
+        this.items = new int[INITIAL_CAPACITY];
+        this.entities = new ChartEntity[INITIAL_CAPACITY];
+        this.shapes = new Shape[INITIAL_CAPACITY];
+        this.factories = new ItemEntityFactory[INITIAL_CAPACITY];
+        this.datasets = new Dataset[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns the number of entities in the collection, including those
+     * that have not yet been created.
+     *
+     * @return The entity count.
+     */
+    @Override
+    public int getEntityCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the number of entities in the collection that have been
+     * created (or were added as entities).
+     *
+     * @return The number of entities created.
+     */
+    public int getCreatedEntityCount() {
+        int result = 0;
+        for (int i = 0; i < this.count; i++) {
+            if (this.entities[i] != null) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(this.entities, 0, this.count, null);
+        Arrays.fill(this.shapes, 0, this.count, null);
+        Arrays.fill(this.factories, 0, this.count, null);
+        Arrays.fill(this.datasets, 0, this.count, null);
+        this.count = 0;
+        this.index = null;
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        Args.nullNotPermitted(entity, "entity");
+        int i = reserve(entity.getArea().getBounds2D());
+        this.entities[i] = entity;
+        this.series[i] = -1;
+        this.items[i] = -1;
+    }
+
+    /**
+     * Records a data item with the specified area.  The entity will be
+     * created by the factory when it is first requested.
+     *
+     * @param factory  the entity factory ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xValue  the x-value of the item.
+     * @param yValue  the y-value of the item.
+     * @param area  the entity area ({@code null} not permitted).
+     */
+    public void addItem(ItemEntityFactory factory, Dataset dataset,
+            int series, int item, double xValue, double yValue, Shape area) {
+        Args.nullNotPermitted(factory, "factory");
+        Args.nullNotPermitted(area, "area");
+        int i = reserve(area.getBounds2D());
+        this.values[i * 2] = xValue;
+        this.values[i * 2 + 1] = yValue;
+        this.shapes[i] = area;
+        this.factories[i] = factory;
+        this.datasets[i] = dataset;
+        this.series[i] = series;
+        this.items[i] = item;
+    }
+
+    /**
+     * Records a data item with an area defined by an ellipse.  This avoids
+     * creating a shape for each item, and the entity will be created by the
+     * factory (with an {@link Ellipse2D} area) when it is first requested.
+     *
+     * @param factory  the entity factory ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param item  the item index.
+     * @param xValue  the x-value of the item.
+     * @param yValue  the y-value of the item.
+     * @param x  the x-coordinate of the ellipse frame.
+     * @param y  the y-coordinate of the ellipse frame.
+     * @param w  the width of the ellipse frame.
+     * @param h  the height of the ellipse frame.
+     */
+    public void addItem(ItemEntityFactory factory, Dataset dataset,
+            int series, int item, double xValue, double yValue, double x,
+            double y, double w, double h) {
+        Args.nullNotPermitted(factory, "factory");
+        int i = reserve(x, y, w, h);
+        this.values[i * 2] = xValue;
+        this.values[i * 2 + 1] = yValue;
+        this.factories[i] = factory;
+        this.datasets[i] = dataset;
+        this.series[i] = series;
+        this.items[i] = item;
+    }
+
+    /**
+     * Adds all the entities from the specified collection.  Items that have
+     * not yet been created in another {@code LazyEntityCollection} are
+     * copied without being created.
+     *
+     * @param collection  the collection of entities ({@code null} not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        Args.nullNotPermitted(collection, "collection");
+        if (!(collection instanceof LazyEntityCollection)) {
+            for (ChartEntity entity : collection.getEntities()) {
+                add(entity);
+            }
+            return;
+        }
+        LazyEntityCollection that = (LazyEntityCollection) collection;
+        int n = that.count;
+        ensureCapacity(this.count + n);
+        System.arraycopy(that.frames, 0, this.frames, this.count * 4, n * 4);
+        System.arraycopy(that.values, 0, this.values, this.count * 2, n * 2);
+        System.arraycopy(that.series, 0, this.series, this.count, n);
+        System.arraycopy(that.items, 0, this.items, this.count, n);
+        System.arraycopy(that.entities, 0, this.entities, this.count, n);
+        System.arraycopy(that.shapes, 0, this.shapes, this.count, n);
+        System.arraycopy(that.factories, 0, this.factories, this.count, n);
+        System.arraycopy(that.datasets, 0, this.datasets, this.count, n);
+        this.count += n;
+        this.index = null;
+    }
+
+    /**
+     * Returns a chart entity from the collection, creating it if necessary.
+     * If the item has changed since it was recorded, the entity has the
+     * item's area only.
+     *
+     * @param index  the entity index.
+     *
+     * @return The entity.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        Objects.checkIndex(index, this.count);
+        ChartEntity entity = this.entities[index];
+        if (entity == null) {
+            Shape area = this.shapes[index];
+            if (area == null) {
+                area = new Ellipse2D.Double(this.frames[index * 4],
+                        this.frames[index * 4 + 1], this.frames[index * 4 + 2],
+                        this.frames[index * 4 + 3]);
+            }
+            ItemEntityFactory factory = this.factories[index];
+            if (factory.isItemUnchanged(this.datasets[index],
+                    this.series[index], this.items[index],
+                    this.values[index * 2], this.values[index * 2 + 1])) {
+                entity = factory.createItemEntity(area, this.datasets[index],
+                        this.series[index], this.items[index]);
+            }
+            else {
+                entity = new ChartEntity(area);
+                this.items[index] = STALE;
+            }
+            this.entities[index] = entity;
+            this.shapes[index] = null;
+            this.factories[index] = null;
+            this.datasets[index] = null;
+        }
+        return entity;
+    }
+
+    /**
+     * Returns the last entity in the collection with an area that encloses
+     * the specified coordinates, or {@code null} if there is no such entity.
+     * Entities for items that have changed since they were recorded are
+     * skipped.  Only the entity that is returned is created.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        if (this.index == null) {
+            double[] bounds = new double[this.count * 4];
+            for (int i = 0; i < this.count; i++) {
+                bounds[i * 4] = this.frames[i * 4];
+                bounds[i * 4 + 1] = this.frames[i * 4 + 1];
+                bounds[i * 4 + 2] = this.frames[i * 4]
+                        + this.frames[i * 4 + 2];
+                bounds[i * 4 + 3] = this.frames[i * 4 + 1]
+                        + this.frames[i * 4 + 3];
+            }
+            this.index = new EntityGridIndex(bounds);
+        }
+        int i = this.index.find(x, y, k -> contains(k, x, y) && !isStale(k));
+        return i >= 0 ? getEntity(i) : null;
+    }
+
+    /**
+     * Returns {@code true} if the item for an entity has changed since the
+     * entity was recorded, without creating the entity.
+     *
+     * @param i  the entity index.
+     *
+     * @return A boolean.
+     */
+    private boolean isStale(int i) {
+        if (this.entities[i] != null) {
+            return this.items[i] == STALE;
+        }
+        return !this.factories[i].isItemUnchanged(this.datasets[i],
+                this.series[i], this.items[i], this.values[i * 2],
+                this.values[i * 2 + 1]);
+    }
+
+    /**
+     * Returns {@code true} if the area of an entity contains a point,
+     * without creating the entity.
+     *
+     * @param i  the entity index.
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     *
+     * @return A boolean.
+     */
+    private boolean contains(int i, double x, double y) {
+        if (this.entities[i] != null) {
+            return this.entities[i].getArea().contains(x, y);
+        }
+        if (this.shapes[i] != null) {
+            return this.shapes[i].contains(x, y);
+        }
+        // the same test as Ellipse2D.contains()
+        double w = this.frames[i * 4 + 2];
+        double h = this.frames[i * 4 + 3];
+        if (w <= 0.0 || h <= 0.0) {
+            return false;
+        }
+        double nx = (x - this.frames[i * 4]) / w - 0.5;
+        double ny = (y - this.frames[i * 4 + 1]) / h - 0.5;
+        return (nx * nx + ny * ny) < 0.25;
+    }
+
+    /**
+     * Returns the entities in an unmodifiable collection.  Calling this
+     * method creates all the entities that have not yet been created.
+     *
+     * @return The entities.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        ChartEntity[] result = new ChartEntity[this.count];
+        for (int i = 0; i < this.count; i++) {
+            result[i] = getEntity(i);
+        }
+        return Collections.unmodifiableList(Arrays.asList(result));
+    }
+
+    /**
+     * Returns an iterator for the entities in the collection.  Calling this
+     * method creates all the entities that have not yet been created.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return getEntities().iterator();
+    }
+
+    /**
+     * Adds a slot for an entity with the specified bounds.
+     *
+     * @param bounds  the bounds.
+     *
+     * @return The index of the slot.
+     */
+    private int reserve(Rectangle2D bounds) {
+        return reserve(bounds.getX(), bounds.getY(), bounds.getWidth(),
+                bounds.getHeight());
+    }
+
+    /**
+     * Adds a slot for an entity with the specified frame.
+     *
+     * @param x  the x-coordinate.
+     * @param y  the y-coordinate.
+     * @param w  the width.
+     * @param h  the height.
+     *
+     * @return The index of the slot.
+     */
+    private int reserve(double x, double y, double w, double h) {
+        ensureCapacity(this.count + 1);
+        int i = this.count++;
+        this.frames[i * 4] = x;
+        this.frames[i * 4 + 1] = y;
+        this.frames[i * 4 + 2] = w;
+        this.frames[i * 4 + 3] = h;
+        this.index = null;
+        return i;
+    }
+
+    /**
+     * Ensures that the arrays can hold the specified number of entities.
+     *
+     * @param capacity  the required capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.series.length) {
+            return;
+        }
+        int n = Math.max(capacity, this.series.length * 2);
+        this.frames = Arrays.copyOf(this.frames, n * 4);
+        this.values = Arrays.copyOf(this.values, n * 2);
+        this.series = Arrays.copyOf(this.series, n);
+        this.items = Arrays.copyOf(this.items, n);
+        this.entities = Arrays.copyOf(this.entities, n);
+        this.shapes = Arrays.copyOf(this.shapes, n);
+        this.factories = Arrays.copyOf(this.factories, n);
+        this.datasets = Arrays.copyOf(this.datasets, n);
+    }
+
+    /**
+     * Tests this object for equality with an arbitrary object.  Calling this
+     * method creates all the entities in both collections.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof LazyEntityCollection)) {
+            return false;
+        }
+        LazyEntityCollection that = (LazyEntityCollection) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        for (int i = 0; i < this.count; i++) {
+            if (!getEntity(i).equals(that.getEntity(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 5;
+        hash = 29 * hash + this.count;
+        return hash;
+    }
+
+    /**
+     * Returns a clone of this entity collection.  The entities that have
+     * been created are cloned, the others are created by the clone when
+     * requested.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        LazyEntityCollection clone = (LazyEntityCollection) super.clone();
+        clone.frames = this.frames.clone();
+        clone.values = this.values.clone();
+        clone.series = this.series.clone();
+        clone.items = this.items.clone();
+        clone.entities = this.entities.clone();
+        clone.shapes = this.shapes.clone();
+        clone.factories = this.factories.clone();
+        clone.datasets = this.datasets.clone();
+        clone.index = null;
+        for (int i = 0; i < this.count; i++) {
+            if (clone.entities[i] != null) {
+                clone.entities[i] = (ChartEntity) clone.entities[i].clone();
+            }
+        }
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.  All the entities are created before
+     * the collection is written, since the entity factories and datasets
+     * are not serialized.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        for (int i = 0; i < this.count; i++) {
+            getEntity(i);
+        }
+        stream.defaultWriteObject();
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        int capacity = this.series.length;
+        this.values = new double[capacity * 2];
+        this.shapes = new Shape[capacity];
+        this.factories = new ItemEntityFactory[capacity];
+        this.datasets = new Dataset[capacity];
+    }
+
+}
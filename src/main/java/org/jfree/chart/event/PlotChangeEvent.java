@@ -37,6 +37,7 @@
 package org.jfree.chart.event;
 
 import org.jfree.chart.plot.Plot;
+import org.jfree.data.general.DatasetChangeEvent;
 
 /**
  * An event that can be forwarded to any
@@ -48,6 +49,12 @@ public class PlotChangeEvent extends ChartChangeEvent {
     /** The plot that generated the event. */
     private final Plot plot;
 
+    /**
+     * The dataset change event that triggered this event ({@code null} if
+     * the plot change was not triggered by a dataset change).
+     */
+    private DatasetChangeEvent datasetChangeEvent;
+
     /**
      * Creates a new PlotChangeEvent.
      *
@@ -68,4 +75,28 @@ public class PlotChangeEvent extends ChartChangeEvent {
         return this.plot;
     }
 
+    /**
+     * Returns the dataset change event that triggered this event, if any.
+     * Listeners can use this to limit the work they do in response to a
+     * change in the data (for example, redrawing only the affected dataset).
+     *
+     * @return The dataset change event (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeEvent getDatasetChangeEvent() {
+        return this.datasetChangeEvent;
+    }
+
+    /**
+     * Sets the dataset change event that triggered this event.
+     *
+     * @param event  the dataset change event ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setDatasetChangeEvent(DatasetChangeEvent event) {
+        this.datasetChangeEvent = event;
+    }
+
 }
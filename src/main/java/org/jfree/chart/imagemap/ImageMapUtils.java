@@ -39,6 +39,7 @@ package org.jfree.chart.imagemap;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.entity.ChartEntity;
@@ -102,7 +103,10 @@ public class ImageMapUtils {
     }
 
     /**
-     * Writes an image map to an output stream.
+     * Writes an image map to an output stream.  Each area is written to the
+     * writer as it is generated, so the complete map is never held in
+     * memory.  To avoid retaining the entities as well, see
+     * {@link StreamingImageMapWriter}.
      *
      * @param writer  the writer ({@code null} not permitted).
      * @param name  the map name ({@code null} not permitted).
@@ -122,8 +126,10 @@ public class ImageMapUtils {
             URLTagFragmentGenerator urlTagFragmentGenerator)
         throws IOException {
 
-        writer.println(ImageMapUtils.getImageMap(name, info,
-                toolTipTagFragmentGenerator, urlTagFragmentGenerator));
+        Args.nullNotPermitted(writer, "writer");
+        writeMap(writer, name, info, toolTipTagFragmentGenerator,
+                urlTagFragmentGenerator);
+        writer.println();
     }
 
     /**
@@ -160,30 +166,79 @@ public class ImageMapUtils {
             ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
             URLTagFragmentGenerator urlTagFragmentGenerator) {
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("<map id=\"").append(htmlEscape(name));
-        sb.append("\" name=\"").append(htmlEscape(name)).append("\">");
-        sb.append(StringUtils.getLineSeparator());
+        StringWriter sw = new StringWriter();
+        writeMap(new PrintWriter(sw), name, info, toolTipTagFragmentGenerator,
+                urlTagFragmentGenerator);
+        return sw.toString();
+
+    }
+
+    /**
+     * Writes an image map element (without a trailing line separator).
+     *
+     * @param writer  the writer.
+     * @param name  the map name ({@code null} not permitted).
+     * @param info  the chart rendering info ({@code null} not permitted).
+     * @param toolTipTagFragmentGenerator  the tool tip fragment generator.
+     * @param urlTagFragmentGenerator  the URL fragment generator.
+     */
+    private static void writeMap(PrintWriter writer, String name,
+            ChartRenderingInfo info,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        writeMapStart(writer, name);
         EntityCollection entities = info.getEntityCollection();
         if (entities != null) {
             int count = entities.getEntityCount();
             for (int i = count - 1; i >= 0; i--) {
-                ChartEntity entity = entities.getEntity(i);
-                if (entity.getToolTipText() != null
-                        || entity.getURLText() != null) {
-                    String area = entity.getImageMapAreaTag(
-                            toolTipTagFragmentGenerator,
-                            urlTagFragmentGenerator);
-                    if (area.length() > 0) {
-                        sb.append(area);
-                        sb.append(StringUtils.getLineSeparator());
-                    }
-                }
+                writeArea(writer, entities.getEntity(i),
+                        toolTipTagFragmentGenerator, urlTagFragmentGenerator);
             }
         }
-        sb.append("</map>");
-        return sb.toString();
+        writer.print("</map>");
+        writer.flush();
+    }
 
+    /**
+     * Writes the start tag for an image map element, followed by a line
+     * separator.
+     *
+     * @param writer  the writer.
+     * @param name  the map name ({@code null} not permitted).
+     */
+    static void writeMapStart(PrintWriter writer, String name) {
+        writer.print("<map id=\"");
+        writer.print(htmlEscape(name));
+        writer.print("\" name=\"");
+        writer.print(htmlEscape(name));
+        writer.print("\">");
+        writer.print(StringUtils.getLineSeparator());
+    }
+
+    /**
+     * Writes the area tag for an entity, followed by a line separator, if
+     * the entity has a tool tip or URL.
+     *
+     * @param writer  the writer.
+     * @param entity  the entity.
+     * @param toolTipTagFragmentGenerator  the tool tip fragment generator.
+     * @param urlTagFragmentGenerator  the URL fragment generator.
+     *
+     * @return A boolean that indicates whether an area tag was written.
+     */
+    static boolean writeArea(PrintWriter writer, ChartEntity entity,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        if (entity.getToolTipText() != null || entity.getURLText() != null) {
+            String area = entity.getImageMapAreaTag(
+                    toolTipTagFragmentGenerator, urlTagFragmentGenerator);
+            if (area.length() > 0) {
+                writer.print(area);
+                writer.print(StringUtils.getLineSeparator());
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
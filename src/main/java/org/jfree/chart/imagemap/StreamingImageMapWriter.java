@@ -0,0 +1,268 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * StreamingImageMapWriter.java
+ * ----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.io.PrintWriter;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.internal.Args;
+
+/**
+ * An entity collection that writes an HTML image map as the entities are
+ * added, instead of storing them.  Use an instance as the entity collection
+ * for the {@link org.jfree.chart.ChartRenderingInfo} passed to the chart's
+ * {@code draw()} method (for example, via
+ * {@link org.jfree.chart.ChartUtils#writeChartAsPNG(java.io.OutputStream,
+ * org.jfree.chart.JFreeChart, int, int, org.jfree.chart.ChartRenderingInfo)})
+ * and then call {@link #finish()}.  Each area tag is written as soon as the
+ * entity is created, so the memory used does not depend on the number of
+ * items in the chart:
+ * <pre>
+ * StreamingImageMapWriter map = new StreamingImageMapWriter(writer, "chart");
+ * ChartUtils.writeChartAsPNG(out, chart, 600, 400,
+ *         new ChartRenderingInfo(map));
+ * map.finish();
+ * </pre>
+ * <p>
+ * The areas are written in the order in which the entities are created.
+ * Browsers use the first area in a map that contains a point, so when areas
+ * overlap the entity that was drawn first is used, whereas
+ * {@link ImageMapUtils#getImageMap(String,
+ * org.jfree.chart.ChartRenderingInfo)} writes the areas in reverse order
+ * so that the entity drawn last is used.
+ * <p>
+ * Since no entities are retained, {@link #getEntityCount()} returns zero
+ * and this collection cannot be used for hit testing.
+ *
+ * @since 2.0.0
+ */
+public class StreamingImageMapWriter implements EntityCollection {
+
+    /** The writer. */
+    private final PrintWriter writer;
+
+    /** The map name. */
+    private final String name;
+
+    /** The tool tip fragment generator. */
+    private final ToolTipTagFragmentGenerator toolTipTagFragmentGenerator;
+
+    /** The URL fragment generator. */
+    private final URLTagFragmentGenerator urlTagFragmentGenerator;
+
+    /** A flag that indicates whether the map start tag has been written. */
+    private boolean started;
+
+    /** A flag that indicates whether the map end tag has been written. */
+    private boolean finished;
+
+    /** The number of entities written. */
+    private int areaCount;
+
+    /**
+     * Creates a new writer that uses the standard tool tip and URL fragment
+     * generators.
+     *
+     * @param writer  the writer ({@code null} not permitted).
+     * @param name  the map name ({@code null} not permitted).
+     */
+    public StreamingImageMapWriter(PrintWriter writer, String name) {
+        this(writer, name, new StandardToolTipTagFragmentGenerator(),
+                new StandardURLTagFragmentGenerator());
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param writer  the writer ({@code null} not permitted).
+     * @param name  the map name ({@code null} not permitted).
+     * @param toolTipTagFragmentGenerator  a generator for the HTML fragment
+     *     that will contain the tooltip text ({@code null} not permitted).
+     * @param urlTagFragmentGenerator  a generator for the HTML fragment that
+     *     will contain the URL reference ({@code null} not permitted).
+     */
+    public StreamingImageMapWriter(PrintWriter writer, String name,
+            ToolTipTagFragmentGenerator toolTipTagFragmentGenerator,
+            URLTagFragmentGenerator urlTagFragmentGenerator) {
+        Args.nullNotPermitted(writer, "writer");
+        Args.nullNotPermitted(name, "name");
+        Args.nullNotPermitted(toolTipTagFragmentGenerator,
+                "toolTipTagFragmentGenerator");
+        Args.nullNotPermitted(urlTagFragmentGenerator,
+                "urlTagFragmentGenerator");
+        this.writer = writer;
+        this.name = name;
+        this.toolTipTagFragmentGenerator = toolTipTagFragmentGenerator;
+        this.urlTagFragmentGenerator = urlTagFragmentGenerator;
+    }
+
+    /**
+     * Returns the number of area tags written so far.
+     *
+     * @return The number of area tags.
+     */
+    public int getAreaCount() {
+        return this.areaCount;
+    }
+
+    /**
+     * Writes the area tag for an entity (if it has a tool tip or URL).
+     *
+     * @param entity  the entity ({@code null} not permitted).
+     *
+     * @throws IllegalStateException if {@link #finish()} has been called.
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        Args.nullNotPermitted(entity, "entity");
+        if (this.finished) {
+            throw new IllegalStateException("The map has been finished.");
+        }
+        if (!this.started) {
+            ImageMapUtils.writeMapStart(this.writer, this.name);
+            this.started = true;
+        }
+        if (ImageMapUtils.writeArea(this.writer, entity,
+                this.toolTipTagFragmentGenerator,
+                this.urlTagFragmentGenerator)) {
+            this.areaCount++;
+        }
+    }
+
+    /**
+     * Writes the area tags for all the entities in a collection.
+     *
+     * @param collection  the collection ({@code null} not permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        Args.nullNotPermitted(collection, "collection");
+        int count = collection.getEntityCount();
+        for (int i = 0; i < count; i++) {
+            add(collection.getEntity(i));
+        }
+    }
+
+    /**
+     * Writes the end tag for the map (and the start tag, if no entities have
+     * been added) and flushes the writer.  Calling this method more than
+     * once has no effect.
+     */
+    public void finish() {
+        if (this.finished) {
+            return;
+        }
+        if (!this.started) {
+            ImageMapUtils.writeMapStart(this.writer, this.name);
+            this.started = true;
+        }
+        this.writer.println("</map>");
+        this.writer.flush();
+        this.finished = true;
+    }
+
+    /**
+     * Does nothing, since the entities are not retained (areas that have
+     * already been written are not affected).
+     */
+    @Override
+    public void clear() {
+        // nothing to do
+    }
+
+    /**
+     * Returns {@code null}, since the entities are not retained.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return {@code null}.
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        return null;
+    }
+
+    /**
+     * Throws an exception, since the entities are not retained.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return Never returns.
+     *
+     * @throws IndexOutOfBoundsException in all cases.
+     */
+    @Override
+    public ChartEntity getEntity(int index) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: 0");
+    }
+
+    /**
+     * Returns zero, since the entities are not retained.
+     *
+     * @return Zero.
+     */
+    @Override
+    public int getEntityCount() {
+        return 0;
+    }
+
+    /**
+     * Returns an empty collection, since the entities are not retained.
+     *
+     * @return An empty collection.
+     */
+    @Override
+    public Collection<ChartEntity> getEntities() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns an empty iterator, since the entities are not retained.
+     *
+     * @return An iterator.
+     */
+    @Override
+    public Iterator<ChartEntity> iterator() {
+        return Collections.emptyIterator();
+    }
+
+}
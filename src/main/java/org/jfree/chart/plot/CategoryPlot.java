@@ -2105,6 +2105,7 @@ public class CategoryPlot<R extends Comparable<R>, C extends Comparable<C>>
         } else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            e.setDatasetChangeEvent(event);
             notifyListeners(e);
         }
 
@@ -1149,6 +1149,7 @@ public abstract class Plot implements ChartElement, AxisChangeListener,
     public void datasetChanged(DatasetChangeEvent event) {
         PlotChangeEvent newEvent = new PlotChangeEvent(this);
         newEvent.setType(ChartChangeEventType.DATASET_UPDATED);
+        newEvent.setDatasetChangeEvent(event);
         notifyListeners(newEvent);
     }
 
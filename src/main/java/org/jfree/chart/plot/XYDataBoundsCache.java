@@ -0,0 +1,400 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * XYDataBoundsCache.java
+ * ----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.chart.plot;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jfree.chart.renderer.xy.AbstractXYItemRenderer;
+import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
+import org.jfree.chart.renderer.xy.SamplingXYLineRenderer;
+import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
+import org.jfree.chart.renderer.xy.XYAreaRenderer;
+import org.jfree.chart.renderer.xy.XYAreaRenderer2;
+import org.jfree.chart.renderer.xy.XYBezierRenderer;
+import org.jfree.chart.renderer.xy.XYDotRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYSplineRenderer;
+import org.jfree.chart.renderer.xy.XYStepAreaRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * A cache of the data bounds that an {@link XYPlot} uses to configure its
+ * axes, so that the bounds of a dataset are not recalculated (which for most
+ * datasets means iterating over every item) each time the plot is notified
+ * of a change to one of its other datasets, or to an axis.  The bounds for
+ * a dataset are cached together with the renderer and series visibility
+ * that they were calculated for and, for the range bounds, the x-range that
+ * the items were filtered by.
+ * <p>
+ * For renderers whose bounds are simply the bounds of the x and y-values of
+ * the items in the visible series, the cached bounds can also be updated
+ * when items are added to a series, by looking at the new items only (see
+ * {@link #itemsAdded(XYDataset, int, int, int)}).  When items are removed
+ * from a series in an {@link XYSeriesCollection} or a
+ * {@link TimeSeriesCollection}, the cached bounds are recalculated from the
+ * bounds that each series maintains (see
+ * {@link #itemsRemoved(XYDataset, int)}), which is much faster than
+ * iterating over the items.
+ */
+final class XYDataBoundsCache {
+
+    /**
+     * The renderer classes that calculate their bounds from the x and
+     * y-values of the items alone (via the methods in
+     * {@link AbstractXYItemRenderer}), so that the bounds can be extended
+     * item by item.  Subclasses are not included since they may override
+     * the bounds calculation.
+     */
+    private static final Set<Class<?>> ITEM_BOUNDS_RENDERERS
+            = new HashSet<>(Arrays.asList(XYLineAndShapeRenderer.class,
+            XYStepRenderer.class, XYSplineRenderer.class,
+            XYBezierRenderer.class, DefaultXYItemRenderer.class,
+            StandardXYItemRenderer.class, SamplingXYLineRenderer.class,
+            XYAreaRenderer.class, XYAreaRenderer2.class,
+            XYStepAreaRenderer.class, XYDotRenderer.class));
+
+    /** The cached bounds for each dataset. */
+    private final Map<XYDataset<?>, Entry> entries;
+
+    /**
+     * Creates a new empty cache.
+     */
+    XYDataBoundsCache() {
+        this.entries = new IdentityHashMap<>();
+    }
+
+    /**
+     * Returns the domain bounds for a dataset, from the cache if possible,
+     * otherwise from the {@code source} (and the result is cached).
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer for the dataset ({@code null} permitted).
+     * @param source  calculates the bounds.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    Range getDomainBounds(XYDataset<?> dataset, XYItemRenderer renderer,
+            Supplier<Range> source) {
+        Entry entry = getEntry(dataset, renderer);
+        if (!entry.domainValid) {
+            entry.domain = source.get();
+            entry.domainValid = true;
+        }
+        return entry.domain;
+    }
+
+    /**
+     * Returns the range bounds for a dataset, from the cache if possible,
+     * otherwise from the {@code source} (and the result is cached).
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer for the dataset ({@code null} permitted).
+     * @param xRange  the range of the domain axis for the dataset
+     *     ({@code null} permitted).
+     * @param source  calculates the bounds.
+     *
+     * @return The bounds (possibly {@code null}).
+     */
+    Range getRangeBounds(XYDataset<?> dataset, XYItemRenderer renderer,
+            Range xRange, Supplier<Range> source) {
+        Entry entry = getEntry(dataset, renderer);
+        if (entry.rangeValid && !entry.filtered) {
+            // the cached bounds include every item, which is also the result
+            // for any x-range that contains the domain bounds
+            if (!entry.filterByX || containsDomain(entry, xRange)) {
+                return entry.range;
+            }
+        }
+        else if (entry.rangeValid && Objects.equals(entry.xRange, xRange)) {
+            return entry.range;
+        }
+        entry.range = source.get();
+        entry.rangeValid = true;
+        entry.xRange = xRange;
+        entry.filtered = !entry.itemBounds
+                || entry.filterByX && !containsDomain(entry, xRange);
+        return entry.range;
+    }
+
+    /**
+     * Returns {@code true} if the domain bounds in an entry are known and
+     * are contained in the specified range.
+     *
+     * @param entry  the entry.
+     * @param xRange  the x-range ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private static boolean containsDomain(Entry entry, Range xRange) {
+        if (!entry.domainValid || xRange == null) {
+            return false;
+        }
+        return entry.domain == null
+                || (xRange.contains(entry.domain.getLowerBound())
+                && xRange.contains(entry.domain.getUpperBound()));
+    }
+
+    /**
+     * Updates the cached bounds (if any) for a dataset after items have been
+     * added to a series.  If the bounds cannot be updated from the new items
+     * alone, they are discarded.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the index of the first new item.
+     * @param lastItem  the index of the last new item.
+     */
+    void itemsAdded(XYDataset<?> dataset, int series, int firstItem,
+            int lastItem) {
+        Entry entry = this.entries.get(dataset);
+        if (entry == null) {
+            return;
+        }
+        if (!entry.itemBounds || series >= entry.visible.length
+                || dataset.getSeriesCount() != entry.visible.length) {
+            this.entries.remove(dataset);
+            return;
+        }
+        if (entry.filterByX && !entry.visible[series]) {
+            return;
+        }
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        Range xRange = entry.filtered ? entry.xRange : null;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (!Double.isNaN(x)) {
+                xMin = Math.min(xMin, x);
+                xMax = Math.max(xMax, x);
+            }
+            else if (entry.filterByX) {
+                continue;
+            }
+            if (!Double.isNaN(y) && (xRange == null || xRange.contains(x))) {
+                yMin = Math.min(yMin, y);
+                yMax = Math.max(yMax, y);
+            }
+        }
+        if (entry.domainValid && xMin <= xMax) {
+            entry.domain = Range.combine(entry.domain, new Range(xMin, xMax));
+        }
+        if (entry.rangeValid && yMin <= yMax) {
+            entry.range = Range.combine(entry.range, new Range(yMin, yMax));
+        }
+    }
+
+    /**
+     * Updates the cached bounds (if any) for a dataset after items have been
+     * removed from a series (possibly together with items appended to it,
+     * as for a series used as a sliding window).  For an
+     * {@link XYSeriesCollection} or a {@link TimeSeriesCollection}, the
+     * bounds are recalculated from the bounds of each series, otherwise they
+     * are discarded.  Range bounds that were filtered by an x-range are
+     * always discarded.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     */
+    void itemsRemoved(XYDataset<?> dataset, int series) {
+        Entry entry = this.entries.get(dataset);
+        if (entry == null) {
+            return;
+        }
+        if (!entry.itemBounds || series >= entry.visible.length
+                || dataset.getSeriesCount() != entry.visible.length
+                || (dataset.getClass() != XYSeriesCollection.class
+                && dataset.getClass() != TimeSeriesCollection.class)) {
+            this.entries.remove(dataset);
+            return;
+        }
+        if (entry.filterByX && !entry.visible[series]) {
+            return;
+        }
+        if (entry.filtered) {
+            entry.rangeValid = false;
+        }
+        Range domain = null;
+        Range range = null;
+        for (int s = 0; s < entry.visible.length; s++) {
+            if (entry.filterByX && !entry.visible[s]) {
+                continue;
+            }
+            if (dataset instanceof XYSeriesCollection) {
+                XYSeries<?> xys = ((XYSeriesCollection<?>) dataset)
+                        .getSeries(s);
+                domain = Range.combineIgnoringNaN(domain,
+                        new Range(xys.getMinX(), xys.getMaxX()));
+                range = Range.combineIgnoringNaN(range,
+                        new Range(xys.getMinY(), xys.getMaxY()));
+            }
+            else {
+                TimeSeries<?> ts = ((TimeSeriesCollection<?>) dataset)
+                        .getSeries(s);
+                int count = ts.getItemCount();
+                if (count > 0) {
+                    domain = Range.combine(domain, new Range(
+                            dataset.getXValue(s, 0),
+                            dataset.getXValue(s, count - 1)));
+                }
+                range = Range.combineIgnoringNaN(range,
+                        new Range(ts.getMinY(), ts.getMaxY()));
+            }
+        }
+        if (entry.domainValid) {
+            entry.domain = domain;
+        }
+        if (entry.rangeValid) {
+            entry.range = range;
+        }
+    }
+
+    /**
+     * Discards the cached bounds for a dataset.
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     */
+    void invalidate(XYDataset<?> dataset) {
+        this.entries.remove(dataset);
+    }
+
+    /**
+     * Discards all the cached bounds.
+     */
+    void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the entry for a dataset, replacing it if the renderer or
+     * series visibility has changed since the bounds were cached.
+     *
+     * @param dataset  the dataset.
+     * @param renderer  the renderer ({@code null} permitted).
+     *
+     * @return The entry.
+     */
+    private Entry getEntry(XYDataset<?> dataset, XYItemRenderer renderer) {
+        int seriesCount = dataset.getSeriesCount();
+        boolean[] visible = new boolean[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            visible[s] = renderer == null || renderer.isSeriesVisible(s);
+        }
+        Entry entry = this.entries.get(dataset);
+        if (entry == null || entry.renderer != renderer
+                || !Arrays.equals(entry.visible, visible)) {
+            entry = new Entry(renderer, visible);
+            this.entries.put(dataset, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * The cached bounds for one dataset.
+     */
+    private static final class Entry {
+
+        /** The renderer that the bounds were calculated for. */
+        final XYItemRenderer renderer;
+
+        /** The series visibility that the bounds were calculated for. */
+        final boolean[] visible;
+
+        /** Can the bounds be updated from individual items? */
+        final boolean itemBounds;
+
+        /**
+         * Does the renderer include only the visible series, and only the
+         * items within the x-range, in the range bounds?
+         */
+        final boolean filterByX;
+
+        /** Are the domain bounds valid? */
+        boolean domainValid;
+
+        /** The domain bounds. */
+        Range domain;
+
+        /** Are the range bounds valid? */
+        boolean rangeValid;
+
+        /** The range bounds. */
+        Range range;
+
+        /** The x-range that the range bounds were calculated for. */
+        Range xRange;
+
+        /**
+         * A flag indicating that the range bounds might exclude some items,
+         * so that they are valid only for the same x-range.
+         */
+        boolean filtered;
+
+        /**
+         * Creates a new entry.
+         *
+         * @param renderer  the renderer ({@code null} permitted).
+         * @param visible  the series visibility.
+         */
+        Entry(XYItemRenderer renderer, boolean[] visible) {
+            this.renderer = renderer;
+            this.visible = visible;
+            this.itemBounds = renderer != null
+                    && ITEM_BOUNDS_RENDERERS.contains(renderer.getClass());
+            this.filterByX = !this.itemBounds || ((AbstractXYItemRenderer)
+                    renderer).getDataBoundsIncludesVisibleSeriesOnly();
+        }
+
+    }
+
+}
@@ -50,6 +50,7 @@
 
 package org.jfree.chart.plot;
 
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.ChartElementVisitor;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.annotations.Annotation;
@@ -60,6 +61,8 @@ import org.jfree.chart.api.PublicCloneable;
 import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.api.RectangleInsets;
 import org.jfree.chart.axis.*;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
 import org.jfree.chart.event.*;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
@@ -75,10 +78,16 @@ import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtils;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYPyramid;
+import org.jfree.data.xy.XYPyramidInfo;
 
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
@@ -89,6 +98,9 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * A general class for plotting data in the form of (x, y) pairs.  This plot can
@@ -128,6 +140,29 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     /** The default crosshair paint. */
     public static final Paint DEFAULT_CROSSHAIR_PAINT = Color.BLUE;
 
+    /**
+     * The key for a rendering hint that splits the drawing of the plot into
+     * layers.  If the hint value is {@code Boolean.TRUE}, the
+     * {@code draw()} method draws only the parts of the plot that lie below
+     * the data items (the background, gridlines, axes and background markers
+     * and annotations).  The caller is then expected to call
+     * {@link #drawDatasetLayer(Graphics2D, Rectangle2D, int,
+     * PlotRenderingInfo)} for each dataset and
+     * {@link #drawForegroundLayer(Graphics2D, Rectangle2D, boolean,
+     * PlotRenderingInfo)}, typically into separate images that can be
+     * cached independently.  The hint is ignored when a shadow generator is
+     * set.
+     *
+     * @since 2.0.0
+     */
+    public static final RenderingHints.Key KEY_SEPARATE_DATA_LAYERS
+            = new RenderingHints.Key(0) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof Boolean;
+        }
+    };
+
     /** The resourceBundle for the localization. */
     protected static ResourceBundle localizationResources
             = ResourceBundle.getBundle("org.jfree.chart.plot.LocalizationBundle");
@@ -153,6 +188,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
     /** Storage for the datasets. */
     private Map<Integer, XYDataset<S>> datasets;
 
+    /** A cache of the data bounds used to configure the axes. */
+    private transient XYDataBoundsCache dataBoundsCache
+            = new XYDataBoundsCache();
+
     /** Storage for the renderers. */
     private Map<Integer, XYItemRenderer> renderers;
 
@@ -369,6 +408,24 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether the datasets are rendered in parallel
+     * (into separate images) when the plot is drawn.
+     */
+    private boolean parallelRendering;
+
+    /**
+     * The maximum number of item entities that the renderers create each
+     * time the plot is drawn.
+     */
+    private int itemEntityLimit = Integer.MAX_VALUE;
+
+    /**
+     * The number of item entities that the renderers can still create in the
+     * current drawing ({@code null} when there is no limit).
+     */
+    private transient AtomicInteger itemEntityBudget;
+
     /**
      * Creates a new {@code XYPlot} instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -1186,6 +1243,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         XYDataset<S> existing = getDataset(index);
         if (existing != null) {
             existing.removeChangeListener(this);
+            this.dataBoundsCache.invalidate(existing);
         }
         this.datasets.put(index, dataset);
         if (dataset != null) {
@@ -1223,6 +1281,23 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         return -1;
     }
 
+    /**
+     * Returns {@code true} if the dataset is assigned to this plot (compared
+     * by reference, as in {@link #indexOf(XYDataset)}).
+     *
+     * @param dataset  the dataset ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    private boolean isMapped(XYDataset<?> dataset) {
+        for (XYDataset<S> d : this.datasets.values()) {
+            if (d == dataset) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Maps a dataset to a particular domain axis.  All data will be plotted
      * against axis zero by default, no mapping is required for this case.
@@ -2678,6 +2753,109 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the datasets are
+     * rendered in parallel.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     * @since 2.0.0
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the datasets are rendered
+     * in parallel, and sends a {@link PlotChangeEvent} to all registered
+     * listeners.  When this flag is set, each dataset is rendered into its
+     * own image on the common {@link ForkJoinPool}, and the images are
+     * combined in the dataset rendering order (entities and crosshair
+     * values are merged in the same order, so the result matches sequential
+     * rendering).  This can speed up plots with many datasets considerably,
+     * but note that:
+     * <ul>
+     * <li>the data items are rasterized, so this mode is not suitable for
+     * vector output (SVG, PDF or printing);</li>
+     * <li>datasets that share a renderer are rendered on the same thread,
+     * but renderers must not share other mutable state;</li>
+     * <li>sequential rendering is used when the graphics transform includes
+     * a rotation or shear.</li>
+     * </ul>
+     *
+     * @param parallel  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
+    /**
+     * Returns the maximum number of item entities that the renderers will
+     * create each time the plot is drawn.  The default value is
+     * {@code Integer.MAX_VALUE} (no limit).
+     *
+     * @return The limit.
+     *
+     * @see #setItemEntityLimit(int)
+     * @since 2.0.0
+     */
+    public int getItemEntityLimit() {
+        return this.itemEntityLimit;
+    }
+
+    /**
+     * Sets the maximum number of item entities that the renderers will
+     * create each time the plot is drawn, and sends a {@link PlotChangeEvent}
+     * to all registered listeners.  Once the limit is reached, no entities
+     * are created for the remaining data items (the items are still drawn).
+     * This protects applications (servers in particular) from the memory and
+     * time required to create entities for a very large dataset.  When the
+     * datasets are drawn as separate layers, the limit applies to each
+     * layer.  The limit is applied by renderers that create entities via
+     * {@link AbstractXYItemRenderer#addEntity(EntityCollection, Shape,
+     * XYDataset, int, int, double, double)}.
+     *
+     * @param limit  the limit (zero or greater).
+     *
+     * @see #reserveItemEntity()
+     * @since 2.0.0
+     */
+    public void setItemEntityLimit(int limit) {
+        Args.requireNonNegative(limit, "limit");
+        this.itemEntityLimit = limit;
+        resetItemEntityBudget();
+        fireChangeEvent();
+    }
+
+    /**
+     * Called by renderers before they create an entity for a data item,
+     * this method returns {@code false} if the item entity limit for the
+     * current drawing of the plot has been reached.  This method is safe to
+     * call from several threads.
+     *
+     * @return A boolean.
+     *
+     * @see #setItemEntityLimit(int)
+     * @since 2.0.0
+     */
+    public boolean reserveItemEntity() {
+        AtomicInteger budget = this.itemEntityBudget;
+        return budget == null || budget.getAndDecrement() > 0;
+    }
+
+    /**
+     * Resets the number of item entities that the renderers can create to
+     * the item entity limit.
+     */
+    private void resetItemEntityBudget() {
+        this.itemEntityBudget = this.itemEntityLimit < Integer.MAX_VALUE
+                ? new AtomicInteger(this.itemEntityLimit) : null;
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -2873,6 +3051,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (info != null) {
             info.setDataArea(dataArea);
         }
+        resetItemEntityBudget();
 
         // draw the plot background and axes...
         drawBackground(g2, dataArea);
@@ -2997,10 +3176,25 @@ public class XYPlot<S extends Comparable<S>> extends Plot
             }
         }
 
+        // the caller will draw the data and foreground layers separately...
+        if (dataImage == null && Boolean.TRUE.equals(g2.getRenderingHint(
+                KEY_SEPARATE_DATA_LAYERS))) {
+            g2.setClip(originalClip);
+            g2.setComposite(originalComposite);
+            return;
+        }
+
         // render data items...
-        for (int datasetIndex : datasetIndices) {
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        if (this.parallelRendering && datasetIndices.size() > 1
+                && isParallelRenderingSupported(g2.getTransform())) {
+            foundData = renderInParallel(g2, dataArea, datasetIndices, info,
+                    crosshairState);
+        }
+        else {
+            for (int datasetIndex : datasetIndices) {
+                foundData = render(g2, dataArea, datasetIndex, info,
+                        crosshairState) || foundData;
+            }
         }
 
         // draw foreground annotations
@@ -3086,6 +3280,283 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
     }
 
+    /**
+     * Returns {@code true} if the datasets can be rendered into separate
+     * images (in device space) for the specified transform.
+     *
+     * @param transform  the graphics transform.
+     *
+     * @return A boolean.
+     */
+    private static boolean isParallelRenderingSupported(
+            AffineTransform transform) {
+        int mask = AffineTransform.TYPE_FLIP
+                | AffineTransform.TYPE_MASK_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM;
+        return (transform.getType() & mask) == 0
+                && transform.getDeterminant() != 0.0;
+    }
+
+    /**
+     * Renders the datasets in parallel, each into its own image, and then
+     * draws the images in order.  To limit the memory used, the datasets
+     * are processed in batches of (at most) one dataset per worker thread.
+     * Datasets that share a renderer are rendered on the same thread.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param info  collects the entities ({@code null} permitted).
+     * @param crosshairState  collects the crosshair values.
+     *
+     * @return A flag that indicates whether any data was found.
+     */
+    private boolean renderInParallel(Graphics2D g2, Rectangle2D dataArea,
+            List<Integer> datasetIndices, PlotRenderingInfo info,
+            CrosshairState crosshairState) {
+        AffineTransform transform = g2.getTransform();
+        AffineTransform inverse;
+        try {
+            inverse = transform.createInverse();
+        } catch (NoninvertibleTransformException e) {
+            throw new IllegalStateException(e);  // checked by caller
+        }
+        Rectangle bounds = transform.createTransformedShape(dataArea)
+                .getBounds();
+        if (bounds.isEmpty()) {
+            return false;
+        }
+        inverse.translate(bounds.x, bounds.y);
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int batchSize = Math.max(2, pool.getParallelism());
+        BufferedImage[] images = new BufferedImage[Math.min(batchSize,
+                datasetIndices.size())];
+        boolean foundData = false;
+        for (int start = 0; start < datasetIndices.size();
+                start += batchSize) {
+            List<Integer> batch = datasetIndices.subList(start,
+                    Math.min(start + batchSize, datasetIndices.size()));
+            int n = batch.size();
+            boolean[] found = new boolean[n];
+            CrosshairState[] states = new CrosshairState[n];
+            ChartRenderingInfo[] infos = new ChartRenderingInfo[n];
+            Graphics2D[] layers = new Graphics2D[n];
+            boolean lazy = info != null && info.getOwner() != null
+                    && info.getOwner().getEntityCollection()
+                    instanceof LazyEntityCollection;
+            for (int i = 0; i < n; i++) {
+                if (images[i] == null) {
+                    images[i] = new BufferedImage(bounds.width,
+                            bounds.height, BufferedImage.TYPE_INT_ARGB);
+                }
+                layers[i] = createLayerGraphics(g2, images[i], bounds,
+                        transform);
+                states[i] = copyCrosshairState(crosshairState);
+                if (info != null) {
+                    infos[i] = lazy
+                            ? new ChartRenderingInfo(new LazyEntityCollection())
+                            : new ChartRenderingInfo();
+                    infos[i].getPlotInfo().setPlotArea(info.getPlotArea());
+                    infos[i].getPlotInfo().setDataArea(dataArea);
+                }
+            }
+
+            // one task per renderer, rendering its datasets in order
+            Map<XYItemRenderer, List<Integer>> groups
+                    = new IdentityHashMap<>();
+            for (int i = 0; i < n; i++) {
+                XYItemRenderer r = getRendererForDataset(
+                        getDataset(batch.get(i)));
+                groups.computeIfAbsent(r, k -> new ArrayList<>()).add(i);
+            }
+            List<ForkJoinTask<?>> tasks = new ArrayList<>();
+            for (List<Integer> group : groups.values()) {
+                tasks.add(pool.submit(() -> {
+                    for (int i : group) {
+                        found[i] = render(layers[i], dataArea, batch.get(i),
+                                infos[i] == null ? null
+                                : infos[i].getPlotInfo(), states[i]);
+                    }
+                }));
+            }
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+
+            // combine the results in order
+            Composite savedComposite = g2.getComposite();
+            g2.setComposite(AlphaComposite.SrcOver);
+            for (int i = 0; i < n; i++) {
+                layers[i].dispose();
+                g2.drawImage(images[i], inverse, null);
+                foundData = foundData || found[i];
+                if (states[i].getCrosshairDistance()
+                        < crosshairState.getCrosshairDistance()) {
+                    crosshairState.setCrosshairX(states[i].getCrosshairX());
+                    crosshairState.setCrosshairY(states[i].getCrosshairY());
+                    crosshairState.setDatasetIndex(
+                            states[i].getDatasetIndex());
+                    crosshairState.setCrosshairDistance(
+                            states[i].getCrosshairDistance());
+                }
+                if (info != null && info.getOwner() != null) {
+                    EntityCollection entities
+                            = info.getOwner().getEntityCollection();
+                    if (entities != null) {
+                        entities.addAll(infos[i].getEntityCollection());
+                    }
+                }
+            }
+            g2.setComposite(savedComposite);
+        }
+        return foundData;
+    }
+
+    /**
+     * Creates a graphics context for rendering one dataset into an image
+     * covering (in device space) the data area, after clearing the image.
+     *
+     * @param g2  the target graphics device.
+     * @param image  the image.
+     * @param bounds  the bounds of the image in device space.
+     * @param transform  the transform of the target graphics device.
+     *
+     * @return The graphics context.
+     */
+    private static Graphics2D createLayerGraphics(Graphics2D g2,
+            BufferedImage image, Rectangle bounds,
+            AffineTransform transform) {
+        Graphics2D result = image.createGraphics();
+        result.setComposite(AlphaComposite.Clear);
+        result.fillRect(0, 0, image.getWidth(), image.getHeight());
+        result.setRenderingHints(g2.getRenderingHints());
+        result.translate(-bounds.x, -bounds.y);
+        result.transform(transform);
+        result.setClip(g2.getClip());
+        result.setComposite(g2.getComposite());
+        result.setFont(g2.getFont());
+        result.setPaint(g2.getPaint());
+        result.setStroke(g2.getStroke());
+        return result;
+    }
+
+    /**
+     * Returns a new crosshair state with the same settings as the
+     * specified state, for rendering one dataset.
+     *
+     * @param state  the state.
+     *
+     * @return A new crosshair state.
+     */
+    private static CrosshairState copyCrosshairState(CrosshairState state) {
+        CrosshairState result = new CrosshairState();
+        result.setAnchor(state.getAnchor());
+        result.setAnchorX(state.getAnchorX());
+        result.setAnchorY(state.getAnchorY());
+        result.setCrosshairX(state.getCrosshairX());
+        result.setCrosshairY(state.getCrosshairY());
+        result.setDatasetIndex(state.getDatasetIndex());
+        result.setCrosshairDistance(Double.POSITIVE_INFINITY);
+        return result;
+    }
+
+    /**
+     * Draws the data items for one dataset, as a separate layer.  This is
+     * used together with the {@link #KEY_SEPARATE_DATA_LAYERS} rendering
+     * hint, after the plot has been drawn (with the hint) into the same area,
+     * so that each dataset can be cached as a separate image.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (as recorded in the plot rendering
+     *     info when the plot was drawn).
+     * @param index  the dataset index.
+     * @param info  collects the entities for the data items ({@code null}
+     *     permitted).
+     *
+     * @return A flag that indicates whether any data was found.
+     *
+     * @since 2.0.0
+     */
+    public boolean drawDatasetLayer(Graphics2D g2, Rectangle2D dataArea,
+            int index, PlotRenderingInfo info) {
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+        g2.clip(dataArea);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                getForegroundAlpha()));
+        CrosshairState crosshairState = new CrosshairState();
+        crosshairState.setCrosshairDistance(Double.POSITIVE_INFINITY);
+        crosshairState.setAnchorX(Double.NaN);
+        crosshairState.setAnchorY(Double.NaN);
+        resetItemEntityBudget();
+        boolean foundData = render(g2, dataArea, index, info, crosshairState);
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+        return foundData;
+    }
+
+    /**
+     * Draws the parts of the plot that lie above the data items (the
+     * foreground annotations and markers, the crosshairs, the "no data"
+     * message and the plot outline), as a separate layer.  This is used
+     * together with the {@link #KEY_SEPARATE_DATA_LAYERS} rendering hint.
+     * The crosshairs are drawn at their current values, they are not
+     * updated from an anchor point or the data.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area (as recorded in the plot rendering
+     *     info when the plot was drawn).
+     * @param foundData  a flag that indicates whether any of the dataset
+     *     layers found data.
+     * @param info  collects the entities for the annotations ({@code null}
+     *     permitted).
+     *
+     * @since 2.0.0
+     */
+    public void drawForegroundLayer(Graphics2D g2, Rectangle2D dataArea,
+            boolean foundData, PlotRenderingInfo info) {
+        Shape originalClip = g2.getClip();
+        Composite originalComposite = g2.getComposite();
+        g2.clip(dataArea);
+        g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
+                getForegroundAlpha()));
+        List<Integer> rendererIndices = getRendererIndices(
+                getDatasetRenderingOrder());
+        for (int i : rendererIndices) {
+            XYItemRenderer renderer = getRenderer(i);
+            if (renderer != null) {
+                ValueAxis domainAxis = getDomainAxisForDataset(i);
+                ValueAxis rangeAxis = getRangeAxisForDataset(i);
+                renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis,
+                        Layer.FOREGROUND, info);
+            }
+        }
+        PlotOrientation orient = getOrientation();
+        if (isDomainCrosshairVisible()) {
+            drawDomainCrosshair(g2, dataArea, orient,
+                    getDomainCrosshairValue(), getDomainAxisForDataset(0),
+                    getDomainCrosshairStroke(), getDomainCrosshairPaint());
+        }
+        if (isRangeCrosshairVisible()) {
+            drawRangeCrosshair(g2, dataArea, orient,
+                    getRangeCrosshairValue(), getRangeAxisForDataset(0),
+                    getRangeCrosshairStroke(), getRangeCrosshairPaint());
+        }
+        if (!foundData) {
+            drawNoDataMessage(g2, dataArea);
+        }
+        for (int i : rendererIndices) {
+            drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
+        }
+        for (int i : rendererIndices) {
+            drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+        }
+        drawAnnotations(g2, dataArea, info);
+        g2.setClip(originalClip);
+        g2.setComposite(originalComposite);
+        drawOutline(g2, dataArea);
+    }
+
     /**
      * Returns the indices of the non-null datasets in the specified order.
      * 
@@ -3433,6 +3904,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                     dataset, info);
             int passCount = renderer.getPassCount();
 
+            // the retained items for each series, when decimation is used,
+            // are found in the first pass and reused in subsequent passes
+            int[][] decimatedItems = new int[dataset.getSeriesCount()][];
+
             SeriesRenderingOrder seriesOrder = getSeriesRenderingOrder();
             if (seriesOrder == SeriesRenderingOrder.REVERSE) {
                 //render series in reverse order
@@ -3451,15 +3926,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
+                        renderSeriesPass(g2, dataArea, info, crosshairState,
+                                renderer, state, dataset, xAxis, yAxis, series,
+                                firstItem, lastItem, pass, passCount,
+                                decimatedItems);
                     }
                 }
             }
@@ -3477,15 +3947,10 @@ public class XYPlot<S extends Comparable<S>> extends Plot
                             firstItem = Math.max(itemBounds[0] - 1, 0);
                             lastItem = Math.min(itemBounds[1] + 1, lastItem);
                         }
-                        state.startSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
-                        for (int item = firstItem; item <= lastItem; item++) {
-                            renderer.drawItem(g2, state, dataArea, info,
-                                    this, xAxis, yAxis, dataset, series, item,
-                                    crosshairState, pass);
-                        }
-                        state.endSeriesPass(dataset, series, firstItem,
-                                lastItem, pass, passCount);
+                        renderSeriesPass(g2, dataArea, info, crosshairState,
+                                renderer, state, dataset, xAxis, yAxis, series,
+                                firstItem, lastItem, pass, passCount,
+                                decimatedItems);
                     }
                 }
             }
@@ -3493,6 +3958,84 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         return foundData;
     }
 
+    /**
+     * Draws the items in one series for a single rendering pass.  If the
+     * renderer state requests decimation, only the items found by
+     * {@link RendererUtils#findDecimatedItems(XYDataset, int, int, int,
+     * ValueAxis, Rectangle2D, RectangleEdge)} are passed to the renderer.
+     * When the dataset provides an {@link XYPyramid}, the decimation starts
+     * from the items selected at the coarsest level of the index that has at
+     * least one bucket per pixel, rather than from every item in the range.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        ({@code null} permitted).
+     * @param renderer  the renderer.
+     * @param state  the renderer state.
+     * @param dataset  the dataset.
+     * @param xAxis  the domain axis.
+     * @param yAxis  the range axis.
+     * @param series  the series index.
+     * @param firstItem  the index of the first item to draw.
+     * @param lastItem  the index of the last item to draw.
+     * @param pass  the pass index.
+     * @param passCount  the number of passes.
+     * @param decimatedItems  a cache of the decimated items for each series.
+     */
+    private void renderSeriesPass(Graphics2D g2, Rectangle2D dataArea,
+            PlotRenderingInfo info, CrosshairState crosshairState,
+            XYItemRenderer renderer, XYItemRendererState state,
+            XYDataset<S> dataset, ValueAxis xAxis, ValueAxis yAxis, int series,
+            int firstItem, int lastItem, int pass, int passCount,
+            int[][] decimatedItems) {
+        int[] items = null;
+        if (state.getUseDecimation()) {
+            items = decimatedItems[series];
+            if (items == null) {
+                XYPyramid pyramid = null;
+                if (dataset instanceof XYPyramidInfo) {
+                    pyramid = ((XYPyramidInfo) dataset).getPyramid();
+                }
+                int[] candidates = null;
+                if (pyramid != null) {
+                    double pixels = this.orientation == PlotOrientation.VERTICAL
+                            ? dataArea.getWidth() : dataArea.getHeight();
+                    candidates = pyramid.findItems(series, firstItem,
+                            lastItem, (int) Math.ceil(pixels));
+                }
+                if (candidates != null) {
+                    items = RendererUtils.findDecimatedItems(dataset, series,
+                            candidates, xAxis, dataArea, getDomainAxisEdge());
+                }
+                else {
+                    items = RendererUtils.findDecimatedItems(dataset, series,
+                            firstItem, lastItem, xAxis, dataArea,
+                            getDomainAxisEdge());
+                }
+                decimatedItems[series] = items;
+            }
+        }
+        state.setItemIndices(items);
+        state.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+        if (items == null) {
+            for (int item = firstItem; item <= lastItem; item++) {
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+        }
+        else {
+            for (int item : items) {
+                renderer.drawItem(g2, state, dataArea, info, this, xAxis,
+                        yAxis, dataset, series, item, crosshairState, pass);
+            }
+        }
+        state.endSeriesPass(dataset, series, firstItem, lastItem, pass,
+                passCount);
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -4141,27 +4684,27 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         }
 
         // iterate through the datasets that map to the axis and get the union
-        // of the ranges.
+        // of the ranges (the bounds for each dataset are cached until the
+        // dataset or renderer changes)
         for (XYDataset<S> d : mappedDatasets) {
             if (d != null) {
                 XYItemRenderer r = getRendererForDataset(d);
                 if (isDomainAxis) {
-                    if (r != null) {
-                        result = Range.combine(result, r.findDomainBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtils.findDomainBounds(d));
-                    }
+                    result = Range.combine(result,
+                            this.dataBoundsCache.getDomainBounds(d, r,
+                            () -> r != null ? r.findDomainBounds(d)
+                                    : DatasetUtils.findDomainBounds(d)));
                 }
                 else {
-                    if (r != null) {
-                        result = Range.combine(result, r.findRangeBounds(d));
-                    }
-                    else {
-                        result = Range.combine(result,
-                                DatasetUtils.findRangeBounds(d));
-                    }
+                    // the renderer filters by the domain axis for its index
+                    int index = r != null ? getIndexOf(r) : indexOf(d);
+                    ValueAxis xAxis = index >= 0
+                            ? getDomainAxisForDataset(index) : null;
+                    Range xRange = xAxis != null ? xAxis.getRange() : null;
+                    result = Range.combine(result,
+                            this.dataBoundsCache.getRangeBounds(d, r, xRange,
+                            () -> r != null ? r.findRangeBounds(d)
+                                    : DatasetUtils.findRangeBounds(d)));
                 }
                 if (r != null) {
                     for (XYAnnotation annotation : r.getAnnotations()) {
@@ -4213,6 +4756,28 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     @Override
     public void datasetChanged(DatasetChangeEvent event) {
+        // events forwarded by a wrapper dataset carry the wrapped dataset,
+        // which is not a key in the bounds cache
+        SeriesChangeInfo info = event.getInfo();
+        if (!(event.getDataset() instanceof XYDataset)
+                || !isMapped((XYDataset<?>) event.getDataset())) {
+            this.dataBoundsCache.clear();
+        }
+        else if (info != null
+                && info.getType() == SeriesChangeType.ITEMS_ADDED) {
+            this.dataBoundsCache.itemsAdded((XYDataset<?>) event.getDataset(),
+                    event.getSeries(), info.getFirstItem(),
+                    info.getLastItem());
+        }
+        else if (info != null
+                && (info.getType() == SeriesChangeType.ITEMS_REMOVED
+                || info.getType() == SeriesChangeType.ITEMS_SHIFTED)) {
+            this.dataBoundsCache.itemsRemoved(
+                    (XYDataset<?>) event.getDataset(), event.getSeries());
+        }
+        else {
+            this.dataBoundsCache.invalidate((XYDataset<?>) event.getDataset());
+        }
         configureDomainAxes();
         configureRangeAxes();
         if (getParent() != null) {
@@ -4221,6 +4786,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         else {
             PlotChangeEvent e = new PlotChangeEvent(this);
             e.setType(ChartChangeEventType.DATASET_UPDATED);
+            e.setDatasetChangeEvent(event);
             notifyListeners(e);
         }
     }
@@ -4232,6 +4798,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
      */
     @Override
     public void rendererChanged(RendererChangeEvent event) {
+        this.dataBoundsCache.clear();
         // if the event was caused by a change to series visibility, then
         // the axis ranges might need updating...
         if (event.getSeriesVisibilityChanged()) {
@@ -5154,6 +5721,12 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         if (!Objects.equals(this.shadowGenerator, that.shadowGenerator)) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
+        if (this.itemEntityLimit != that.itemEntityLimit) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -5214,6 +5787,8 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         hash = 43 * hash + this.weight;
         hash = 43 * hash + Objects.hashCode(this.fixedLegendItems);
         hash = 43 * hash + Objects.hashCode(this.shadowGenerator);
+        hash = 43 * hash + (this.parallelRendering ? 1 : 0);
+        hash = 43 * hash + this.itemEntityLimit;
         return hash;
     }
 
@@ -5259,6 +5834,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
         clone.datasetToRangeAxesMap = new TreeMap<>();
         clone.datasetToRangeAxesMap.putAll(this.datasetToRangeAxesMap);
 
+        clone.dataBoundsCache = new XYDataBoundsCache();
         clone.renderers = CloneUtils.cloneMapValues(this.renderers);
         for (XYItemRenderer renderer : clone.renderers.values()) {
             if (renderer != null) {
@@ -5362,6 +5938,7 @@ public class XYPlot<S extends Comparable<S>> extends Plot
 
         this.domainZeroBaselineStroke = SerialUtils.readStroke(stream);
         this.domainZeroBaselinePaint = SerialUtils.readPaint(stream);
+        this.dataBoundsCache = new XYDataBoundsCache();
 
         // register the plot as a listener with its axes, datasets, and
         // renderers...
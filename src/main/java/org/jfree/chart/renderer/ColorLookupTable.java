@@ -0,0 +1,214 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ColorLookupTable.java
+ * ---------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.Paint;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A primitive view of a {@link PaintScale} that returns packed ARGB colors
+ * (in the format used by {@code BufferedImage.TYPE_INT_ARGB}) instead of
+ * {@code Paint} objects.  This is used to write colors for large grids of
+ * values directly into an image raster, rather than filling a shape per
+ * value.  A table is a snapshot of the scale: later changes to the scale
+ * are not reflected in the table.
+ *
+ * @since 2.0.0
+ */
+public abstract class ColorLookupTable {
+
+    /**
+     * Creates a new table.
+     */
+    protected ColorLookupTable() {
+        // nothing to do
+    }
+
+    /**
+     * Creates a table that returns the colors of the specified paint scale,
+     * or returns {@code null} if the scale is not supported.  A
+     * {@link LookupPaintScale} is supported if all its paints are instances
+     * of {@code Color}, and a {@link GrayPaintScale} is always supported.
+     *
+     * @param scale  the paint scale ({@code null} not permitted).
+     *
+     * @return The table (possibly {@code null}).
+     */
+    public static ColorLookupTable of(PaintScale scale) {
+        Args.nullNotPermitted(scale, "scale");
+        if (scale instanceof LookupPaintScale) {
+            LookupPaintScale lps = (LookupPaintScale) scale;
+            if (!(lps.getDefaultPaint() instanceof Color)) {
+                return null;
+            }
+            Paint[] paints = lps.getLookupPaints();
+            int[] colors = new int[paints.length];
+            for (int i = 0; i < paints.length; i++) {
+                if (!(paints[i] instanceof Color)) {
+                    return null;
+                }
+                colors[i] = ((Color) paints[i]).getRGB();
+            }
+            return new Lookup(lps.getLowerBound(), lps.getUpperBound(),
+                    ((Color) lps.getDefaultPaint()).getRGB(),
+                    lps.getLookupValues(), colors);
+        }
+        if (scale instanceof GrayPaintScale) {
+            GrayPaintScale gps = (GrayPaintScale) scale;
+            return new Gray(gps.getLowerBound(), gps.getUpperBound(),
+                    gps.getAlpha());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the packed ARGB color for a value.  This is the same color
+     * as the paint returned by the paint scale's {@code getPaint()} method.
+     *
+     * @param value  the value.
+     *
+     * @return The color.
+     */
+    public abstract int getARGB(double value);
+
+    /**
+     * A table for a {@link LookupPaintScale}.
+     */
+    private static final class Lookup extends ColorLookupTable {
+
+        /** The lower bound of the scale. */
+        private final double lowerBound;
+
+        /** The upper bound of the scale. */
+        private final double upperBound;
+
+        /** The default color. */
+        private final int defaultColor;
+
+        /** The lookup values in ascending order. */
+        private final double[] values;
+
+        /** The colors for the lookup values. */
+        private final int[] colors;
+
+        /**
+         * Creates a new table.
+         *
+         * @param lowerBound  the lower bound.
+         * @param upperBound  the upper bound.
+         * @param defaultColor  the default color.
+         * @param values  the lookup values.
+         * @param colors  the colors.
+         */
+        Lookup(double lowerBound, double upperBound, int defaultColor,
+                double[] values, int[] colors) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.defaultColor = defaultColor;
+            this.values = values;
+            this.colors = colors;
+        }
+
+        /**
+         * Returns the packed ARGB color for a value.
+         *
+         * @param value  the value.
+         *
+         * @return The color.
+         */
+        @Override
+        public int getARGB(double value) {
+            if (value < this.lowerBound || value > this.upperBound) {
+                return this.defaultColor;
+            }
+            int index = LookupPaintScale.lookupIndex(this.values, value);
+            return index >= 0 ? this.colors[index] : this.defaultColor;
+        }
+
+    }
+
+    /**
+     * A table for a {@link GrayPaintScale}.
+     */
+    private static final class Gray extends ColorLookupTable {
+
+        /** The lower bound of the scale. */
+        private final double lowerBound;
+
+        /** The upper bound of the scale. */
+        private final double upperBound;
+
+        /** The 256 gray levels. */
+        private final int[] colors;
+
+        /**
+         * Creates a new table.
+         *
+         * @param lowerBound  the lower bound.
+         * @param upperBound  the upper bound.
+         * @param alpha  the alpha transparency (0-255).
+         */
+        Gray(double lowerBound, double upperBound, int alpha) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            this.colors = new int[256];
+            for (int g = 0; g < 256; g++) {
+                this.colors[g] = alpha << 24 | g << 16 | g << 8 | g;
+            }
+        }
+
+        /**
+         * Returns the packed ARGB color for a value.
+         *
+         * @param value  the value.
+         *
+         * @return The color.
+         */
+        @Override
+        public int getARGB(double value) {
+            double v = Math.max(value, this.lowerBound);
+            v = Math.min(v, this.upperBound);
+            int g = (int) ((v - this.lowerBound) / (this.upperBound
+                    - this.lowerBound) * 255.0);
+            return this.colors[g];
+        }
+
+    }
+
+}
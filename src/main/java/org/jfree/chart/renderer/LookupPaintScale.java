@@ -170,6 +170,15 @@ public class LookupPaintScale
     /** The lookup table. */
     private List lookupTable;
 
+    /**
+     * The values from the lookup table in ascending order (created from the
+     * lookup table when required, {@code null} if not yet created).
+     */
+    private transient double[] lookupValues;
+
+    /** The paints corresponding to {@link #lookupValues}. */
+    private transient Paint[] lookupPaints;
+
     /**
      * Creates a new paint scale.
      */
@@ -248,6 +257,80 @@ public class LookupPaintScale
         else {
             this.lookupTable.add(-(index + 1), item);
         }
+        this.lookupValues = null;
+        this.lookupPaints = null;
+    }
+
+    /**
+     * Creates the primitive copy of the lookup table, if necessary.
+     */
+    private void updateLookupArrays() {
+        if (this.lookupValues != null) {
+            return;
+        }
+        int count = this.lookupTable.size();
+        double[] values = new double[count];
+        Paint[] paints = new Paint[count];
+        for (int i = 0; i < count; i++) {
+            PaintItem item = (PaintItem) this.lookupTable.get(i);
+            values[i] = item.value;
+            paints[i] = item.paint;
+        }
+        this.lookupPaints = paints;
+        this.lookupValues = values;
+    }
+
+    /**
+     * Returns the values in the lookup table, in ascending order.
+     *
+     * @return The values (never {@code null}, do not modify).
+     */
+    double[] getLookupValues() {
+        updateLookupArrays();
+        return this.lookupValues;
+    }
+
+    /**
+     * Returns the paints in the lookup table, in the same order as
+     * {@link #getLookupValues()}.
+     *
+     * @return The paints (never {@code null}, do not modify).
+     */
+    Paint[] getLookupPaints() {
+        updateLookupArrays();
+        return this.lookupPaints;
+    }
+
+    /**
+     * Returns the index of the lookup table entry for a value that lies
+     * within the bounds of the scale, or {@code -1} if the default paint
+     * applies.  This is shared with {@link ColorLookupTable}.
+     *
+     * @param values  the lookup table values in ascending order.
+     * @param value  the value.
+     *
+     * @return The index, or {@code -1}.
+     */
+    static int lookupIndex(double[] values, double value) {
+        int count = values.length;
+        if (count == 0 || value < values[0]) {
+            return -1;
+        }
+        int low = 0;
+        int high = count - 1;
+        while (high - low > 1) {
+            int current = (low + high) >>> 1;
+            if (value >= values[current]) {
+                low = current;
+            }
+            else {
+                high = current;
+            }
+        }
+        if (high > low && value < values[high]) {
+            return low;
+        }
+        return high;
     }
 
     /**
@@ -270,37 +353,11 @@ public class LookupPaintScale
             return this.defaultPaint;
         }
 
-        int count = this.lookupTable.size();
-        if (count == 0) {
-            return this.defaultPaint;
-        }
-
-        // handle special case where value is less that item zero
-        PaintItem item = (PaintItem) this.lookupTable.get(0);
-        if (value < item.value) {
-            return this.defaultPaint;
-        }
-
-        // for value in bounds, do the lookup...
-        int low = 0;
-        int high = this.lookupTable.size() - 1;
-        while (high - low > 1) {
-            int current = (low + high) / 2;
-            item = (PaintItem) this.lookupTable.get(current);
-            if (value >= item.value) {
-                low = current;
-            }
-            else {
-                high = current;
-            }
-        }
-        if (high > low) {
-            item = (PaintItem) this.lookupTable.get(high);
-            if (value < item.value) {
-                item = (PaintItem) this.lookupTable.get(low);
-            }
-        }
-        return (item != null ? item.paint : this.defaultPaint);
+        // for value in bounds, do the lookup (a binary search over a
+        // primitive copy of the table)...
+        updateLookupArrays();
+        int index = lookupIndex(this.lookupValues, value);
+        return (index >= 0 ? this.lookupPaints[index] : this.defaultPaint);
     }
 
 
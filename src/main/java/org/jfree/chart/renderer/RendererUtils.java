@@ -36,6 +36,11 @@
 
 package org.jfree.chart.renderer;
 
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
@@ -251,4 +256,195 @@ public class RendererUtils {
         return new int[] {i0, i1};
     }
 
+    /**
+     * Finds the items in a range of a series that need to be drawn to
+     * represent the series at the resolution of the output device.  Items
+     * are grouped by the pixel column (along the domain axis) that they fall
+     * into and, for each column, only the first item, the items with the
+     * lowest and highest y-values and the last item are retained, so that
+     * lines drawn through the retained items cover the same pixels as lines
+     * through all the items (in particular, spikes are never lost).  Items
+     * with a {@code NaN} x or y-value are always retained, so that gaps in
+     * the series are preserved.
+     * <p>
+     * This requires the x-values in the dataset to be ordered; if the
+     * dataset does not report an ascending or descending domain order,
+     * this method returns {@code null} to indicate that all the items should
+     * be drawn.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param firstItem  the index of the first item to consider.
+     * @param lastItem  the index of the last item to consider.
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param xEdge  the domain axis edge ({@code null} not permitted).
+     *
+     * @return The indices of the retained items in ascending order (possibly
+     *     {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis xAxis, Rectangle2D dataArea,
+            RectangleEdge xEdge) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(xAxis, "xAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        Args.nullNotPermitted(xEdge, "xEdge");
+        return decimate(dataset, series, firstItem, lastItem, null, xAxis,
+                dataArea, xEdge);
+    }
+
+    /**
+     * Finds the items, from a subset of the items in a series, that need to
+     * be drawn to represent the series at the resolution of the output
+     * device.  This is the same as
+     * {@link #findDecimatedItems(XYDataset, int, int, int, ValueAxis,
+     * Rectangle2D, RectangleEdge)} except that only the specified items are
+     * considered (typically the items selected by an
+     * {@link org.jfree.data.xy.XYPyramid}).
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     * @param items  the indices of the items to consider, in ascending order
+     *     ({@code null} not permitted).
+     * @param xAxis  the domain axis ({@code null} not permitted).
+     * @param dataArea  the data area ({@code null} not permitted).
+     * @param xEdge  the domain axis edge ({@code null} not permitted).
+     *
+     * @return The indices of the retained items in ascending order (possibly
+     *     {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public static int[] findDecimatedItems(XYDataset dataset, int series,
+            int[] items, ValueAxis xAxis, Rectangle2D dataArea,
+            RectangleEdge xEdge) {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(items, "items");
+        Args.nullNotPermitted(xAxis, "xAxis");
+        Args.nullNotPermitted(dataArea, "dataArea");
+        Args.nullNotPermitted(xEdge, "xEdge");
+        return decimate(dataset, series, 0, items.length - 1, items, xAxis,
+                dataArea, xEdge);
+    }
+
+    /**
+     * Performs the decimation for the findDecimatedItems() methods.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param first  the first position to consider.
+     * @param last  the last position to consider.
+     * @param items  the item index for each position ({@code null} if the
+     *     positions are the item indices).
+     * @param xAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param xEdge  the domain axis edge.
+     *
+     * @return The indices of the retained items (possibly {@code null}).
+     */
+    private static int[] decimate(XYDataset dataset, int series, int first,
+            int last, int[] items, ValueAxis xAxis, Rectangle2D dataArea,
+            RectangleEdge xEdge) {
+        DomainOrder order = dataset.getDomainOrder();
+        if (order != DomainOrder.ASCENDING && order != DomainOrder.DESCENDING) {
+            return null;
+        }
+        if (last < first) {
+            return new int[0];
+        }
+        int[] result = new int[Math.min(last - first + 1, 256)];
+        int count = 0;
+        boolean open = false;
+        double column = 0.0;
+        int firstInColumn = 0;
+        int lastInColumn = 0;
+        int low = 0;
+        int high = 0;
+        double lowY = 0.0;
+        double highY = 0.0;
+        for (int p = first; p <= last; p++) {
+            int item = items == null ? p : items[p];
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            double c = Double.NaN;
+            if (!Double.isNaN(x) && !Double.isNaN(y)) {
+                c = Math.floor(xAxis.valueToJava2D(x, dataArea, xEdge));
+            }
+            if (open && c == column) {
+                lastInColumn = item;
+                if (y < lowY) {
+                    low = item;
+                    lowY = y;
+                }
+                if (y > highY) {
+                    high = item;
+                    highY = y;
+                }
+                continue;
+            }
+            if (result.length - count < 5) {
+                result = Arrays.copyOf(result, result.length * 2);
+            }
+            if (open) {
+                count = addColumnItems(result, count, firstInColumn, low,
+                        high, lastInColumn);
+            }
+            if (Double.isNaN(c)) {
+                result[count++] = item;
+                open = false;
+            }
+            else {
+                open = true;
+                column = c;
+                firstInColumn = item;
+                lastInColumn = item;
+                low = item;
+                high = item;
+                lowY = y;
+                highY = y;
+            }
+        }
+        if (open) {
+            if (result.length - count < 4) {
+                result = Arrays.copyOf(result, count + 4);
+            }
+            count = addColumnItems(result, count, firstInColumn, low, high,
+                    lastInColumn);
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Adds the retained items for one pixel column to an array, in ascending
+     * order and without duplicates.
+     *
+     * @param result  the array (must have space for four more items).
+     * @param count  the number of items already in the array.
+     * @param first  the first item in the column.
+     * @param low  the item with the lowest y-value.
+     * @param high  the item with the highest y-value.
+     * @param last  the last item in the column.
+     *
+     * @return The new number of items in the array.
+     */
+    private static int addColumnItems(int[] result, int count, int first,
+            int low, int high, int last) {
+        result[count++] = first;
+        int a = Math.min(low, high);
+        int b = Math.max(low, high);
+        if (a != first) {
+            result[count++] = a;
+        }
+        if (b != a && b != first) {
+            result[count++] = b;
+        }
+        if (last != b && last != first) {
+            result[count++] = last;
+        }
+        return count;
+    }
+
 }
@@ -67,7 +67,10 @@ import org.jfree.chart.legend.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
 import org.jfree.chart.annotations.XYAnnotation;
 import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.ItemEntityFactory;
+import org.jfree.chart.entity.LazyEntityCollection;
 import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.AnnotationChangeListener;
@@ -96,6 +99,7 @@ import org.jfree.chart.urls.XYURLGenerator;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetUtils;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYItemKey;
@@ -155,6 +159,12 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
     /** The legend item URL generator. */
     private XYSeriesLabelGenerator legendItemURLGenerator;
 
+    /**
+     * The factory used to create item entities for a
+     * {@link LazyEntityCollection} (created when first required).
+     */
+    private transient ItemEntityFactory entityFactory;
+
     /**
      * Creates a renderer where the tooltip generator and the URL generator are
      * both {@code null}.
@@ -1369,6 +1379,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         clone.legendItemURLGenerator = CloneUtils.clone(this.legendItemURLGenerator);
         clone.foregroundAnnotations = CloneUtils.cloneList(this.foregroundAnnotations);
         clone.backgroundAnnotations = CloneUtils.cloneList(this.backgroundAnnotations);
+        clone.entityFactory = null;
         return clone;
     }
 
@@ -1586,6 +1597,8 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
      *         {@code hotspot} is {@code null}).
      * @param entityY  the entity y-coordinate (in Java2D space, only used if 
      *         {@code hotspot} is {@code null}).
+     *
+     * @see XYPlot#setItemEntityLimit(int)
      */
     protected void addEntity(EntityCollection entities, Shape hotspot,
             XYDataset dataset, int series, int item, double entityX, 
@@ -1594,14 +1607,75 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         if (!getItemCreateEntity(series, item)) {
             return;
         }
+        XYPlot p = getPlot();
+        if (p != null && !p.reserveItemEntity()) {
+            return;
+        }
 
         // if not hotspot is provided, we create a default based on the 
         // provided data coordinates (which are already in Java2D space)
+        double r = getDefaultEntityRadius();
+        double w = r * 2;
+        if (entities instanceof LazyEntityCollection) {
+            // record the item, the entity is created only when required
+            if (this.entityFactory == null) {
+                this.entityFactory = new ItemEntityFactory() {
+                    @Override
+                    public ChartEntity createItemEntity(Shape area,
+                            Dataset d, int s, int i) {
+                        return AbstractXYItemRenderer.this.createItemEntity(
+                                area, (XYDataset) d, s, i);
+                    }
+
+                    @Override
+                    public boolean isItemUnchanged(Dataset d, int s, int i,
+                            double xValue, double yValue) {
+                        XYDataset xyd = (XYDataset) d;
+                        return s < xyd.getSeriesCount()
+                                && i < xyd.getItemCount(s)
+                                && Double.compare(xValue,
+                                        xyd.getXValue(s, i)) == 0
+                                && Double.compare(yValue,
+                                        xyd.getYValue(s, i)) == 0;
+                    }
+                };
+            }
+            LazyEntityCollection lazy = (LazyEntityCollection) entities;
+            double xValue = dataset.getXValue(series, item);
+            double yValue = dataset.getYValue(series, item);
+            if (hotspot == null) {
+                lazy.addItem(this.entityFactory, dataset, series, item,
+                        xValue, yValue, entityX - r, entityY - r, w, w);
+            }
+            else {
+                lazy.addItem(this.entityFactory, dataset, series, item,
+                        xValue, yValue, hotspot);
+            }
+            return;
+        }
         if (hotspot == null) {
-            double r = getDefaultEntityRadius();
-            double w = r * 2;
             hotspot = new Ellipse2D.Double(entityX - r, entityY - r, w, w);
         }
+        entities.add(createItemEntity(hotspot, dataset, series, item));
+    }
+
+    /**
+     * Creates the entity for a data item, including its tool tip and URL.
+     * When the entities are recorded in a {@link LazyEntityCollection}, this
+     * method is called when the entity is first requested (which can be
+     * after the chart has been drawn).
+     *
+     * @param hotspot  the entity area ({@code null} not permitted).
+     * @param dataset  the dataset.
+     * @param series  the series.
+     * @param item  the item.
+     *
+     * @return The entity.
+     *
+     * @since 2.0.0
+     */
+    protected ChartEntity createItemEntity(Shape hotspot, XYDataset dataset,
+            int series, int item) {
         String tip = null;
         XYToolTipGenerator generator = getToolTipGenerator(series, item);
         if (generator != null) {
@@ -1611,9 +1685,7 @@ public abstract class AbstractXYItemRenderer extends AbstractRenderer
         if (getURLGenerator() != null) {
             url = getURLGenerator().generateURL(dataset, series, item);
         }
-        XYItemEntity entity = new XYItemEntity(hotspot, dataset, series, item,
-                tip, url);
-        entities.add(entity);
+        return new XYItemEntity(hotspot, dataset, series, item, tip, url);
     }
 
     /**
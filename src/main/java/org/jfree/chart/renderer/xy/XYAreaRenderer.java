@@ -162,6 +162,13 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
      */
     private GradientPaintTransformer gradientTransformer;
 
+    /**
+     * A flag that controls whether or not the items in each series are
+     * decimated (only the items needed to represent the series at the
+     * resolution of the output device are drawn).
+     */
+    private boolean useDecimation;
+
     /**
      * Constructs a new renderer.
      */
@@ -222,6 +229,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         this.legendArea = area;
         this.useFillPaint = false;
         this.gradientTransformer = new StandardGradientPaintTransformer();
+        this.useDecimation = false;
     }
 
     /**
@@ -319,6 +327,40 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the items in each series
+     * are decimated.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the items in each series
+     * are decimated, and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  When this flag is set (and the dataset reports
+     * that its x-values are ordered), the area is built from the first,
+     * last, lowest and highest items in each pixel column only.
+     *
+     * @param use  the new flag value.
+     *
+     * @see #getUseDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean use) {
+        if (this.useDecimation != use) {
+            this.useDecimation = use;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the gradient paint transformer.
      *
@@ -361,6 +403,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // in the rendering process, there is special handling for item
         // zero, so we can't support processing of visible data items only
         state.setProcessVisibleItemsOnly(false);
+        state.setUseDecimation(this.useDecimation);
         return state;
     }
 
@@ -453,8 +496,10 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         // get the previous point and the next point so we can calculate a
         // "hot spot" for the area (used by the chart entity)...
         int itemCount = dataset.getItemCount(series);
-        double x0 = dataset.getXValue(series, Math.max(item - 1, 0));
-        double y0 = dataset.getYValue(series, Math.max(item - 1, 0));
+        int previous = Math.max(state.getPreviousItemIndex(item), 0);
+        int next = Math.min(state.getNextItemIndex(item), itemCount - 1);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0)) {
             y0 = 0.0;
         }
@@ -463,10 +508,8 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         double transY0 = rangeAxis.valueToJava2D(y0, dataArea,
                 plot.getRangeAxisEdge());
 
-        double x2 = dataset.getXValue(series, Math.min(item + 1,
-                itemCount - 1));
-        double y2 = dataset.getYValue(series, Math.min(item + 1,
-                itemCount - 1));
+        double x2 = dataset.getXValue(series, next);
+        double y2 = dataset.getYValue(series, next);
         if (Double.isNaN(y2)) {
             y2 = 0.0;
         }
@@ -665,6 +708,9 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         if (this.useFillPaint != that.useFillPaint) {
             return false;
         }
+        if (this.useDecimation != that.useDecimation) {
+            return false;
+        }
         if (!this.gradientTransformer.equals(that.gradientTransformer)) {
             return false;
         }
@@ -686,6 +732,7 @@ public class XYAreaRenderer extends AbstractXYItemRenderer
         result = HashUtils.hashCode(result, this.plotLines);
         result = HashUtils.hashCode(result, this.plotShapes);
         result = HashUtils.hashCode(result, this.useFillPaint);
+        result = HashUtils.hashCode(result, this.useDecimation);
         return result;
     }
 
@@ -38,7 +38,10 @@ package org.jfree.chart.renderer.xy;
 
 import java.awt.Graphics2D;
 import java.awt.Paint;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.io.Serializable;
 
 import org.jfree.chart.axis.ValueAxis;
@@ -48,9 +51,11 @@ import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.ColorLookupTable;
 import org.jfree.chart.renderer.LookupPaintScale;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.api.RectangleAnchor;
+import org.jfree.chart.api.RectangleEdge;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.data.Range;
@@ -66,10 +71,62 @@ import org.jfree.data.xy.XYZDataset;
  * demo collection:
  * <br><br>
  * <img src="doc-files/XYBlockRendererSample.png" alt="XYBlockRendererSample.png">
+ * <p>
+ * For large regular grids, the renderer can be switched to a rasterized
+ * mode (see {@link #setRasterized(boolean)}) in which the colors for a
+ * whole series are written into an image that is drawn once, instead of
+ * filling a rectangle per item.
  */
 public class XYBlockRenderer extends AbstractXYItemRenderer
         implements XYItemRenderer, Cloneable, PublicCloneable, Serializable {
 
+    /**
+     * The maximum ratio of image pixels to items for the rasterized mode
+     * (grids that are sparser than this are drawn block by block).
+     */
+    private static final int MAX_PIXELS_PER_ITEM = 4;
+
+    /**
+     * A state object used by this renderer.
+     */
+    static class XYBlockRendererState extends XYItemRendererState {
+
+        /** Is the current series pass still to start drawing? */
+        boolean pending;
+
+        /** Has the current series pass been drawn as an image? */
+        boolean rasterized;
+
+        /**
+         * Creates a new state.
+         *
+         * @param info  the plot rendering info.
+         */
+        XYBlockRendererState(PlotRenderingInfo info) {
+            super(info);
+        }
+
+        /**
+         * Records the start of a series pass.
+         *
+         * @param dataset  the dataset.
+         * @param series  the series index.
+         * @param firstItem  the index of the first item in the series.
+         * @param lastItem  the index of the last item in the series.
+         * @param pass  the pass index.
+         * @param passCount  the number of passes.
+         */
+        @Override
+        public void startSeriesPass(XYDataset dataset, int series,
+                int firstItem, int lastItem, int pass, int passCount) {
+            super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
+                    passCount);
+            this.pending = true;
+            this.rasterized = false;
+        }
+
+    }
+
     /**
      * The block width (defaults to 1.0).
      */
@@ -104,6 +161,12 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
      */
     private boolean useOutlinePaint;
 
+    /**
+     * A flag that controls whether each series is drawn as a single image
+     * when possible.
+     */
+    private boolean rasterized;
+
     /**
      * Creates a new {@code XYBlockRenderer} instance with default
      * attributes.
@@ -281,6 +344,48 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         fireChangeEvent();
     }
 
+    /**
+     * Returns {@code true} if the renderer draws each series as a single
+     * image when possible, and {@code false} if it always fills a rectangle
+     * for each item.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     *
+     * @see #setRasterized(boolean)
+     */
+    public boolean isRasterized() {
+        return this.rasterized;
+    }
+
+    /**
+     * Sets the flag that controls whether each series is drawn as a single
+     * image, and sends a {@link RendererChangeEvent} to all registered
+     * listeners.  When the flag is set, a series from an
+     * {@link XYZDataset} whose x- and y-values lie on a regular grid (with
+     * the block width and height as the spacing) is drawn by writing the
+     * packed colors from a {@link ColorLookupTable} into an image, one pixel
+     * per block, and drawing that image scaled to the data area.  Block
+     * outlines, item labels, crosshair values and entities are not created
+     * for a series drawn in this way.  Series that are not on a regular
+     * grid, paint scales that are not supported by
+     * {@link ColorLookupTable#of(PaintScale)} and non-linear axes fall back
+     * to drawing a rectangle per item.
+     *
+     * @param flag  the flag.
+     *
+     * @since 2.0.0
+     *
+     * @see #isRasterized()
+     */
+    public void setRasterized(boolean flag) {
+        if (this.rasterized != flag) {
+            this.rasterized = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Updates the offsets to take into account the block width, height and
      * anchor.
@@ -376,6 +481,25 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Initialises the renderer and returns a state object that will be
+     * passed to subsequent calls to the drawItem method.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the area inside the axes.
+     * @param plot  the plot.
+     * @param dataset  the dataset.
+     * @param info  an optional info collection object to return data back
+     *              to the caller.
+     *
+     * @return A state object.
+     */
+    @Override
+    public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, XYDataset dataset, PlotRenderingInfo info) {
+        return new XYBlockRendererState(info);
+    }
+
     /**
      * Draws the block representing the specified item.
      *
@@ -398,6 +522,20 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        if (this.rasterized && state instanceof XYBlockRendererState) {
+            XYBlockRendererState s = (XYBlockRendererState) state;
+            if (s.pending) {
+                s.pending = false;
+                s.rasterized = s.getItemIndices() == null
+                        && drawSeriesImage(g2, dataArea, plot, domainAxis,
+                        rangeAxis, dataset, series, s.getFirstItemIndex(),
+                        s.getLastItemIndex());
+            }
+            if (s.rasterized) {
+                return;
+            }
+        }
+
         double x = dataset.getXValue(series, item);
         double y = dataset.getYValue(series, item);
         double z = 0.0;
@@ -457,6 +595,130 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
 
     }
 
+    /**
+     * Draws the items from {@code firstItem} to {@code lastItem} in a series
+     * as a single image, if the items lie on a regular grid, the paint
+     * scale is supported by {@link ColorLookupTable} and both axes are
+     * linear.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the data area.
+     * @param plot  the plot.
+     * @param domainAxis  the x-axis.
+     * @param rangeAxis  the y-axis.
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the index of the first item.
+     * @param lastItem  the index of the last item.
+     *
+     * @return A boolean indicating whether the items were drawn.
+     */
+    private boolean drawSeriesImage(Graphics2D g2, Rectangle2D dataArea,
+            XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+            XYDataset dataset, int series, int firstItem, int lastItem) {
+        if (!(dataset instanceof XYZDataset) || lastItem < firstItem) {
+            return false;
+        }
+        ColorLookupTable table = ColorLookupTable.of(this.paintScale);
+        if (table == null) {
+            return false;
+        }
+        XYZDataset xyz = (XYZDataset) dataset;
+        double xMin = Double.POSITIVE_INFINITY;
+        double xMax = Double.NEGATIVE_INFINITY;
+        double yMin = Double.POSITIVE_INFINITY;
+        double yMax = Double.NEGATIVE_INFINITY;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = xyz.getXValue(series, item);
+            double y = xyz.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                return false;
+            }
+            xMin = Math.min(xMin, x);
+            xMax = Math.max(xMax, x);
+            yMin = Math.min(yMin, y);
+            yMax = Math.max(yMax, y);
+        }
+        double columns = Math.rint((xMax - xMin) / this.blockWidth) + 1;
+        double rows = Math.rint((yMax - yMin) / this.blockHeight) + 1;
+        long itemCount = lastItem - firstItem + 1L;
+        if (!(columns * rows <= Math.min(MAX_PIXELS_PER_ITEM * itemCount,
+                Integer.MAX_VALUE - 8))) {
+            return false;
+        }
+        int w = (int) columns;
+        int h = (int) rows;
+
+        // the Java2D coordinates of the grid edges, provided the axes are
+        // linear over the grid
+        RectangleEdge xEdge = plot.getDomainAxisEdge();
+        RectangleEdge yEdge = plot.getRangeAxisEdge();
+        double x0 = xMin + this.xOffset;
+        double x1 = x0 + w * this.blockWidth;
+        double y0 = yMin + this.yOffset;
+        double y1 = y0 + h * this.blockHeight;
+        double xx0 = domainAxis.valueToJava2D(x0, dataArea, xEdge);
+        double xx1 = domainAxis.valueToJava2D(x1, dataArea, xEdge);
+        double yy0 = rangeAxis.valueToJava2D(y0, dataArea, yEdge);
+        double yy1 = rangeAxis.valueToJava2D(y1, dataArea, yEdge);
+        double xxMid = domainAxis.valueToJava2D((x0 + x1) / 2.0, dataArea,
+                xEdge);
+        double yyMid = rangeAxis.valueToJava2D((y0 + y1) / 2.0, dataArea,
+                yEdge);
+        if (!(Math.abs(xxMid - (xx0 + xx1) / 2.0) < 0.5)
+                || !(Math.abs(yyMid - (yy0 + yy1) / 2.0) < 0.5)) {
+            return false;
+        }
+
+        // image row 0 holds the highest y-values
+        int[] pixels = new int[w * h];
+        double tolerance = 1.0E-6;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double cx = (xyz.getXValue(series, item) - xMin) / this.blockWidth;
+            double cy = (xyz.getYValue(series, item) - yMin)
+                    / this.blockHeight;
+            double col = Math.rint(cx);
+            double row = Math.rint(cy);
+            if (Math.abs(cx - col) > tolerance
+                    || Math.abs(cy - row) > tolerance) {
+                return false;
+            }
+            pixels[(h - 1 - (int) row) * w + (int) col] = table.getARGB(
+                    xyz.getZValue(series, item));
+        }
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        image.getRaster().setDataElements(0, 0, w, h, pixels);
+
+        double sx = (xx1 - xx0) / w;
+        double sy = (yy0 - yy1) / h;
+        AffineTransform transform;
+        if (plot.getOrientation() == PlotOrientation.HORIZONTAL) {
+            transform = new AffineTransform(0.0, sx, sy, 0.0, yy1, xx0);
+        }
+        else {
+            transform = new AffineTransform(sx, 0.0, 0.0, sy, xx0, yy1);
+        }
+        Object hint = g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        try {
+            g2.drawImage(image, transform, null);
+        }
+        finally {
+            if (hint != null) {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, hint);
+            }
+            else {
+                // there is no method to remove a single hint
+                RenderingHints hints = g2.getRenderingHints();
+                hints.remove(RenderingHints.KEY_INTERPOLATION);
+                g2.setRenderingHints(hints);
+            }
+        }
+        return true;
+    }
+
     /**
      * Tests this {@code XYBlockRenderer} for equality with an arbitrary
      * object.  This method returns {@code true} if and only if:
@@ -498,6 +760,9 @@ public class XYBlockRenderer extends AbstractXYItemRenderer
         if (this.useOutlinePaint != that.useOutlinePaint) {
             return false;
         }
+        if (this.rasterized != that.rasterized) {
+            return false;
+        }
         return super.equals(obj);
     }
 
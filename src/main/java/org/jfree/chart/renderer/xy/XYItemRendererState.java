@@ -49,6 +49,7 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.geom.Line2D;
+import java.util.Arrays;
 
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.chart.plot.XYPlot;
@@ -88,6 +89,22 @@ public class XYItemRendererState extends RendererState {
      */
     private boolean processVisibleItemsOnly;
 
+    /**
+     * A flag that controls whether the plot should pass only the items that
+     * are needed to represent each series at the resolution of the output
+     * device.
+     *
+     * @since 2.0.0
+     */
+    private boolean useDecimation;
+
+    /**
+     * The indices of the items (in ascending order) that the plot will pass
+     * to the renderer in the current series pass, or {@code null} if all
+     * items from the first to the last item index are passed.
+     */
+    private int[] itemIndices;
+
     /**
      * Creates a new state.
      *
@@ -126,6 +143,108 @@ public class XYItemRendererState extends RendererState {
         this.processVisibleItemsOnly = flag;
     }
 
+    /**
+     * Returns the flag that controls whether the plot passes only the items
+     * in each series that are needed to represent the series at the
+     * resolution of the output device (typically, the first, last, lowest
+     * and highest items in each pixel column).  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @since 2.0.0
+     *
+     * @see #setUseDecimation(boolean)
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether the plot passes only the items
+     * in each series that are needed to represent the series at the
+     * resolution of the output device.  Renderers that set this flag must
+     * use {@link #getPreviousItemIndex(int)} and
+     * {@link #getNextItemIndex(int)} to find neighbouring items.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean flag) {
+        this.useDecimation = flag;
+    }
+
+    /**
+     * Returns the indices of the items that will be passed to the renderer
+     * in the current series pass, or {@code null} if all the items from the
+     * first to the last item index will be passed.
+     *
+     * @return The item indices (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public int[] getItemIndices() {
+        return this.itemIndices;
+    }
+
+    /**
+     * Sets the indices of the items that will be passed to the renderer in
+     * the next series pass.  This is called by the {@link XYPlot} before
+     * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
+     *
+     * @param indices  the item indices in ascending order ({@code null}
+     *     permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setItemIndices(int[] indices) {
+        this.itemIndices = indices;
+    }
+
+    /**
+     * Returns the index of the item that is drawn before the specified item
+     * in the current series pass.  This is {@code item - 1} unless only
+     * some of the items are being passed to the renderer.
+     *
+     * @param item  the item index.
+     *
+     * @return The index of the previous item (may be {@code -1}).
+     *
+     * @since 2.0.0
+     */
+    public int getPreviousItemIndex(int item) {
+        if (this.itemIndices != null) {
+            int i = Arrays.binarySearch(this.itemIndices, item);
+            if (i > 0) {
+                return this.itemIndices[i - 1];
+            }
+        }
+        return item - 1;
+    }
+
+    /**
+     * Returns the index of the item that is drawn after the specified item
+     * in the current series pass.  This is {@code item + 1} unless only
+     * some of the items are being passed to the renderer.
+     *
+     * @param item  the item index.
+     *
+     * @return The index of the next item (this may be beyond the last item
+     *     in the series).
+     *
+     * @since 2.0.0
+     */
+    public int getNextItemIndex(int item) {
+        if (this.itemIndices != null) {
+            int i = Arrays.binarySearch(this.itemIndices, item);
+            if (i >= 0 && i < this.itemIndices.length - 1) {
+                return this.itemIndices[i + 1];
+            }
+        }
+        return item + 1;
+    }
+
     /**
      * Returns the first item index (this is updated with each call to
      * {@link #startSeriesPass(XYDataset, int, int, int, int, int)}.
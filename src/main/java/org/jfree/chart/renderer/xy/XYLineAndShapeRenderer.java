@@ -136,6 +136,13 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the items in each series are
+     * decimated (only the items needed to represent the series at the
+     * resolution of the output device are drawn).
+     */
+    private boolean useDecimation;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -166,6 +173,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.useDecimation = false;
     }
 
     /**
@@ -196,6 +204,43 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not the items in each series
+     * are decimated.  The default value is {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setUseDecimation(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean getUseDecimation() {
+        return this.useDecimation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the items in each series
+     * are decimated, and sends a {@link RendererChangeEvent} to all
+     * registered listeners.  When this flag is set (and the dataset reports
+     * that its x-values are ordered), only the first, last, lowest and
+     * highest items in each pixel column are drawn, so that the cost of
+     * drawing a series depends on the width of the plot rather than the
+     * number of items.  Shapes, item labels and entities are generated for
+     * the items that are drawn.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getUseDecimation()
+     *
+     * @since 2.0.0
+     */
+    public void setUseDecimation(boolean flag) {
+        if (this.useDecimation != flag) {
+            this.useDecimation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -672,7 +717,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
     @Override
     public XYItemRendererState initialise(Graphics2D g2, Rectangle2D dataArea,
             XYPlot plot, XYDataset data, PlotRenderingInfo info) {
-        return new State(info);
+        State state = new State(info);
+        state.setUseDecimation(this.useDecimation);
+        return state;
     }
 
     /**
@@ -781,7 +828,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                    ValueAxis domainAxis,
                                    ValueAxis rangeAxis,
                                    Rectangle2D dataArea) {
-        if (item == 0) {
+        int previous = state.getPreviousItemIndex(item);
+        if (previous < 0) {
             return;
         }
 
@@ -792,8 +840,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             return;
         }
 
-        double x0 = dataset.getXValue(series, item - 1);
-        double y0 = dataset.getYValue(series, item - 1);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0) || Double.isNaN(x0)) {
             return;
         }
@@ -1135,6 +1183,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.useDecimation != that.useDecimation) {
+            return false;
+        }
         return true;
     }
 
@@ -1151,6 +1202,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         result = 31 * result + (useFillPaint ? 1 : 0);
         result = 31 * result + (useOutlinePaint ? 1 : 0);
         result = 31 * result + (drawSeriesLineAsPath ? 1 : 0);
+        result = 31 * result + (useDecimation ? 1 : 0);
         return result;
     }
 
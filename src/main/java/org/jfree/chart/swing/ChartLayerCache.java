@@ -0,0 +1,422 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChartLayerCache.java
+ * --------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LazyEntityCollection;
+import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.PlotChangeEvent;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.DatasetRenderingOrder;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * A cache of chart layers used by {@link ChartPanel} when its layered buffer
+ * is enabled.  An {@link XYPlot} is drawn as a base layer (the chart with
+ * the plot background, gridlines, axes, titles and legends), one layer for
+ * each dataset and a foreground layer (annotations, markers, crosshairs and
+ * the plot outline), each into its own image.  A change to the items in one
+ * dataset that does not change the axis ranges then invalidates only that
+ * dataset's layer (and the small foreground layer), and the layers are
+ * composited into the panel's buffer.
+ */
+final class ChartLayerCache {
+
+    /** The base layer. */
+    private BufferedImage base;
+
+    /** The dataset layers, by dataset index. */
+    private final Map<Integer, BufferedImage> datasetLayers;
+
+    /** The foreground layer. */
+    private BufferedImage foreground;
+
+    /** The dataset layers that must be redrawn. */
+    private final Set<Integer> dirtyLayers;
+
+    /** A flag indicating that all the layers must be redrawn. */
+    private boolean allDirty;
+
+    /** The data area recorded when the base layer was drawn. */
+    private Rectangle2D dataArea;
+
+    /** The entities recorded when the base layer was drawn. */
+    private EntityCollection baseEntities;
+
+    /** The entities for each dataset layer, by dataset index. */
+    private final Map<Integer, EntityCollection> layerEntities;
+
+    /** The datasets that contain data, by dataset index. */
+    private final Set<Integer> foundData;
+
+    /**
+     * Creates a new cache, with all layers invalid.
+     */
+    ChartLayerCache() {
+        this.datasetLayers = new HashMap<>();
+        this.dirtyLayers = new HashSet<>();
+        this.layerEntities = new HashMap<>();
+        this.foundData = new HashSet<>();
+        this.allDirty = true;
+    }
+
+    /**
+     * Returns {@code true} if the chart can be drawn in layers.  Only a
+     * plain {@link XYPlot} without a shadow generator is supported (combined
+     * plots draw their subplots themselves).
+     *
+     * @param chart  the chart ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    static boolean isSupported(JFreeChart chart) {
+        if (chart == null) {
+            return false;
+        }
+        Plot plot = chart.getPlot();
+        return plot instanceof XYPlot
+                && !(plot instanceof CombinedDomainXYPlot)
+                && !(plot instanceof CombinedRangeXYPlot)
+                && ((XYPlot) plot).getShadowGenerator() == null;
+    }
+
+    /**
+     * Marks all the layers as invalid.
+     */
+    void invalidateAll() {
+        this.allDirty = true;
+        this.dirtyLayers.clear();
+    }
+
+    /**
+     * Returns {@code true} if any layer must be redrawn.
+     *
+     * @return A boolean.
+     */
+    boolean isDirty() {
+        return this.allDirty || !this.dirtyLayers.isEmpty();
+    }
+
+    /**
+     * Returns {@code true} if some (but not all) of the layers must be
+     * redrawn.
+     *
+     * @return A boolean.
+     */
+    boolean isPartiallyDirty() {
+        return !this.allDirty && !this.dirtyLayers.isEmpty();
+    }
+
+    /**
+     * Handles a chart change event by marking the affected layers as
+     * invalid.  Only a change to the items in a dataset can be limited to
+     * one layer; any other change invalidates all the layers.  Note that if
+     * a change in the data also changes the axis ranges, the axes send their
+     * own (general) change events.
+     *
+     * @param chart  the chart.
+     * @param event  the event.
+     *
+     * @return {@code true} if the event invalidates only some of the layers,
+     *     and {@code false} if the whole chart must be redrawn.
+     */
+    boolean chartChanged(JFreeChart chart, ChartChangeEvent event) {
+        if (this.allDirty || !isSupported(chart)
+                || !(event instanceof PlotChangeEvent)) {
+            this.allDirty = true;
+            return false;
+        }
+        PlotChangeEvent pce = (PlotChangeEvent) event;
+        DatasetChangeEvent dce = pce.getDatasetChangeEvent();
+        if (pce.getPlot() != chart.getPlot() || dce == null
+                || dce.getInfo() == null
+                || dce.getInfo().getType() == SeriesChangeType.SERIES_ADDED
+                || dce.getInfo().getType() == SeriesChangeType.SERIES_REMOVED) {
+            this.allDirty = true;
+            return false;
+        }
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        boolean found = false;
+        for (int index : plot.getDatasets().keySet()) {
+            if (plot.getDataset(index) == dce.getDataset()) {
+                this.dirtyLayers.add(index);
+                found = true;
+            }
+        }
+        if (!found) {
+            this.allDirty = true;
+        }
+        return found;
+    }
+
+    /**
+     * Redraws the invalid layers and composites all the layers into the
+     * target image.
+     *
+     * @param chart  the chart (must be supported, see
+     *     {@link #isSupported(JFreeChart)}).
+     * @param target  the target image.
+     * @param width  the width of the target image in pixels.
+     * @param height  the height of the target image in pixels.
+     * @param gc  the graphics configuration used to create the layer images.
+     * @param transform  the transform from chart space to image space.
+     * @param area  the area in which the chart is drawn (in chart space).
+     * @param info  the rendering info ({@code null} permitted).
+     */
+    void draw(JFreeChart chart, Image target, int width, int height,
+            GraphicsConfiguration gc, AffineTransform transform,
+            Rectangle2D area, ChartRenderingInfo info) {
+        XYPlot<?> plot = (XYPlot<?>) chart.getPlot();
+        if (this.base == null || this.base.getWidth() != width
+                || this.base.getHeight() != height) {
+            this.base = gc.createCompatibleImage(width, height,
+                    Transparency.TRANSLUCENT);
+            this.foreground = gc.createCompatibleImage(width, height,
+                    Transparency.TRANSLUCENT);
+            this.datasetLayers.clear();
+            this.allDirty = true;
+        }
+        if (this.allDirty) {
+            ChartRenderingInfo baseInfo = info != null ? info
+                    : new ChartRenderingInfo();
+            Graphics2D g2 = createGraphics(this.base, transform);
+            g2.setRenderingHint(XYPlot.KEY_SEPARATE_DATA_LAYERS, Boolean.TRUE);
+            chart.draw(g2, area, null, baseInfo);
+            g2.dispose();
+            this.dataArea = baseInfo.getPlotInfo().getDataArea();
+            this.baseEntities = copy(baseInfo.getEntityCollection());
+            this.datasetLayers.keySet().retainAll(plot.getDatasets().keySet());
+            this.layerEntities.clear();
+            this.foundData.clear();
+            this.dirtyLayers.clear();
+            this.dirtyLayers.addAll(plot.getDatasets().keySet());
+        }
+        for (int index : this.dirtyLayers) {
+            BufferedImage image = this.datasetLayers.get(index);
+            if (image == null) {
+                image = gc.createCompatibleImage(width, height,
+                        Transparency.TRANSLUCENT);
+                this.datasetLayers.put(index, image);
+            }
+            ChartRenderingInfo layerInfo = createInfo(info);
+            Graphics2D g2 = createGraphics(image, transform);
+            g2.addRenderingHints(chart.getRenderingHints());
+            boolean found = plot.drawDatasetLayer(g2, this.dataArea, index,
+                    layerInfo != null ? layerInfo.getPlotInfo() : null);
+            g2.dispose();
+            if (found) {
+                this.foundData.add(index);
+            }
+            else {
+                this.foundData.remove(index);
+            }
+            if (layerInfo != null) {
+                this.layerEntities.put(index, layerInfo.getEntityCollection());
+            }
+        }
+
+        // the foreground is cheap to draw, and depends on the data (the
+        // "no data" message)
+        ChartRenderingInfo foregroundInfo = createInfo(info);
+        Graphics2D fg2 = createGraphics(this.foreground, transform);
+        fg2.addRenderingHints(chart.getRenderingHints());
+        plot.drawForegroundLayer(fg2, this.dataArea,
+                !this.foundData.isEmpty(), foregroundInfo != null
+                ? foregroundInfo.getPlotInfo() : null);
+        fg2.dispose();
+
+        List<Integer> order = datasetOrder(plot);
+        if (info != null && info.getEntityCollection() != null) {
+            EntityCollection entities = info.getEntityCollection();
+            if (!this.allDirty) {
+                entities.clear();
+                addAll(entities, this.baseEntities);
+            }
+            for (int index : order) {
+                addAll(entities, this.layerEntities.get(index));
+            }
+            addAll(entities, foregroundInfo.getEntityCollection());
+        }
+        this.allDirty = false;
+        this.dirtyLayers.clear();
+
+        Graphics2D g2 = (Graphics2D) target.getGraphics();
+        g2.setComposite(AlphaComposite.Src);
+        g2.drawImage(this.base, 0, 0, null);
+        g2.setComposite(AlphaComposite.SrcOver);
+        for (int index : order) {
+            BufferedImage image = this.datasetLayers.get(index);
+            if (image != null) {
+                g2.drawImage(image, 0, 0, null);
+            }
+        }
+        g2.drawImage(this.foreground, 0, 0, null);
+        g2.dispose();
+    }
+
+    /**
+     * Returns the indices of the plot's datasets in rendering order.
+     *
+     * @param plot  the plot.
+     *
+     * @return The dataset indices.
+     */
+    private static List<Integer> datasetOrder(XYPlot<?> plot) {
+        List<Integer> result = new ArrayList<>();
+        for (int index : plot.getDatasets().keySet()) {
+            if (plot.getDataset(index) != null) {
+                result.add(index);
+            }
+        }
+        Collections.sort(result);
+        if (plot.getDatasetRenderingOrder() == DatasetRenderingOrder.REVERSE) {
+            Collections.reverse(result);
+        }
+        return result;
+    }
+
+    /**
+     * Creates a graphics context for a layer image, after clearing the
+     * image.
+     *
+     * @param image  the image.
+     * @param transform  the transform from chart space to image space.
+     *
+     * @return The graphics context.
+     */
+    private static Graphics2D createGraphics(BufferedImage image,
+            AffineTransform transform) {
+        Graphics2D g2 = image.createGraphics();
+        Composite saved = g2.getComposite();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2.setComposite(saved);
+        g2.transform(transform);
+        return g2;
+    }
+
+    /**
+     * Creates a rendering info object to collect the entities for one
+     * layer, or returns {@code null} if entities are not being collected.
+     *
+     * @param info  the rendering info for the chart ({@code null}
+     *     permitted).
+     *
+     * @return The rendering info for a layer (possibly {@code null}).
+     */
+    private ChartRenderingInfo createInfo(ChartRenderingInfo info) {
+        if (info == null || info.getEntityCollection() == null) {
+            return null;
+        }
+        ChartRenderingInfo result = new ChartRenderingInfo(
+                createCollection(info.getEntityCollection()));
+        PlotRenderingInfo plotInfo = result.getPlotInfo();
+        plotInfo.setPlotArea(info.getPlotInfo().getPlotArea());
+        plotInfo.setDataArea(this.dataArea);
+        return result;
+    }
+
+    /**
+     * Returns a copy of an entity collection.
+     *
+     * @param entities  the entities ({@code null} permitted).
+     *
+     * @return The copy (possibly {@code null}).
+     */
+    private static EntityCollection copy(EntityCollection entities) {
+        if (entities == null) {
+            return null;
+        }
+        EntityCollection result = createCollection(entities);
+        result.addAll(entities);
+        return result;
+    }
+
+    /**
+     * Creates an empty entity collection for the entities of one layer,
+     * preserving lazy entity creation if the target collection supports it.
+     *
+     * @param target  the collection that the entities will be added to.
+     *
+     * @return A new collection.
+     */
+    private static EntityCollection createCollection(EntityCollection target) {
+        if (target instanceof LazyEntityCollection) {
+            return new LazyEntityCollection();
+        }
+        return new StandardEntityCollection();
+    }
+
+    /**
+     * Adds entities to a collection.
+     *
+     * @param target  the target collection.
+     * @param entities  the entities to add ({@code null} permitted).
+     */
+    private static void addAll(EntityCollection target,
+            EntityCollection entities) {
+        if (entities != null) {
+            target.addAll(entities);
+        }
+    }
+
+}
@@ -114,6 +114,7 @@ import org.jfree.chart.swing.editor.ChartEditor;
 import org.jfree.chart.swing.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.IndexedEntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
@@ -285,6 +286,12 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
     /** The width of the chart buffer. */
     protected int chartBufferWidth;
 
+    /**
+     * The layers of the chart when the layered buffer is enabled
+     * ({@code null} otherwise).
+     */
+    private transient ChartLayerCache layerCache;
+
     /**
      * The minimum width for drawing a chart (uses scaling for smaller widths).
      */
@@ -593,7 +600,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         setChart(chart);
         this.chartMouseListeners = new EventListenerList();
-        this.info = new ChartRenderingInfo();
+        this.info = new ChartRenderingInfo(new IndexedEntityCollection());
         setPreferredSize(new Dimension(width, height));
         this.useBuffer = useBuffer;
         this.refreshBuffer = false;
@@ -1391,6 +1398,43 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the flag that controls whether or not the offscreen buffer is
+     * built from separately cached layers.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayeredBuffer(boolean)
+     * @since 2.0.0
+     */
+    public boolean isLayeredBuffer() {
+        return this.layerCache != null;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the offscreen buffer is
+     * built from separately cached layers.  When this is enabled (and the
+     * panel uses a buffer), a chart with an XY plot is drawn as a
+     * base layer (background, axes, titles and legends), one layer per
+     * dataset and a foreground layer (annotations, markers, crosshairs), and
+     * a change to the items in one dataset that leaves the axis ranges
+     * unchanged redraws only that dataset's layer.  This speeds up charts
+     * where one series changes frequently, at the cost of one image per
+     * layer.  Other charts are drawn as usual.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setLayeredBuffer(boolean flag) {
+        if (flag == isLayeredBuffer()) {
+            return;
+        }
+        this.layerCache = flag ? new ChartLayerCache() : null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1471,10 +1515,42 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                 this.refreshBuffer = true;
             }
 
+            // can the chart be drawn in separately cached layers?  (the
+            // crosshairs are only updated from an anchor point by a full
+            // redraw)
+            boolean layered = this.layerCache != null && this.anchor == null
+                    && ChartLayerCache.isSupported(this.chart);
+            if (layered) {
+                if (this.refreshBuffer) {
+                    this.refreshBuffer = false;
+                    this.layerCache.invalidateAll();
+                }
+                if (this.layerCache.isDirty()) {
+                    AffineTransform tx = AffineTransform.getScaleInstance(
+                            globalScaleX, globalScaleY);
+                    Rectangle2D drawArea = chartArea;
+                    if (scale) {
+                        tx.scale(this.scaleX, this.scaleY);
+                    }
+                    else {
+                        drawArea = new Rectangle2D.Double(0, 0,
+                                available.getWidth(), available.getHeight());
+                    }
+                    this.layerCache.draw(this.chart, this.chartBuffer,
+                            this.chartBufferWidth, this.chartBufferHeight,
+                            g2.getDeviceConfiguration(), tx, drawArea,
+                            this.info);
+                }
+            }
+
             // do we need to redraw the buffer?
-            if (this.refreshBuffer) {
+            else if (this.refreshBuffer || (this.layerCache != null
+                    && this.layerCache.isPartiallyDirty())) {
 
                 this.refreshBuffer = false; // clear the flag
+                if (this.layerCache != null) {
+                    this.layerCache.invalidateAll();
+                }
 
                 // scale graphics of the buffer to the same value as global
                 // Swing graphics - this allow to paint all elements as usual
@@ -1545,7 +1621,10 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (this.layerCache == null
+                || !this.layerCache.chartChanged(this.chart, event)) {
+            this.refreshBuffer = true;
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -28,9 +28,7 @@
 
 package org.jfree.chart.text;
 
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
-import java.awt.geom.Rectangle2D;
 
 /**
  * A {@link TextMeasurer} based on a {@link Graphics2D}.
@@ -60,10 +58,8 @@ public class G2TextMeasurer implements TextMeasurer {
      */
     @Override
     public float getStringWidth(String text, int start, int end) {
-        FontMetrics fm = this.g2.getFontMetrics();
-        Rectangle2D bounds = TextUtils.getTextBounds(text.substring(start, end),
-                this.g2, fm);
-        float result = (float) bounds.getWidth();
+        float result = (float) TextUtils.measure(text.substring(start, end),
+                this.g2.getFont(), this.g2).width;
         return result;
     }
     
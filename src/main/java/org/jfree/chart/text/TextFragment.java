@@ -30,11 +30,8 @@ package org.jfree.chart.text;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
-import java.awt.font.LineMetrics;
-import java.awt.geom.Rectangle2D;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
@@ -186,9 +183,9 @@ public class TextFragment implements Serializable {
      * @return The width and height of the text.
      */
     public Size2D calculateDimensions(Graphics2D g2) {
-        FontMetrics fm = g2.getFontMetrics(this.font);
-        Rectangle2D bounds = TextUtils.getTextBounds(this.text, g2, fm);
-        Size2D result = new Size2D(bounds.getWidth(), bounds.getHeight());
+        TextMeasurementCache.Measurement m = TextUtils.measure(this.text,
+                this.font, g2);
+        Size2D result = new Size2D(m.width, m.height);
         return result;
     }
     
@@ -203,19 +200,19 @@ public class TextFragment implements Serializable {
      */
     public float calculateBaselineOffset(Graphics2D g2, TextAnchor anchor) {
         float result = 0.0f;
-        FontMetrics fm = g2.getFontMetrics(this.font);
-        LineMetrics lm = fm.getLineMetrics("ABCxyz", g2);
+        TextMeasurementCache.Measurement lm = TextUtils.measure("ABCxyz",
+                this.font, g2);
         if (anchor.isTop()) {
-            result = lm.getAscent();
+            result = lm.ascent;
         }
         else if (anchor.isHalfAscent()) {
-            result = lm.getAscent() / 2.0f;
+            result = lm.ascent / 2.0f;
         }
         else if (anchor.isVerticalCenter()) {
-            result = lm.getAscent() / 2.0f - lm.getDescent() / 2.0f;
+            result = lm.ascent / 2.0f - lm.descent / 2.0f;
         }
         else if (anchor.isBottom()) {
-            result = -lm.getDescent() - lm.getLeading();
+            result = -lm.descent - lm.leading;
         }
         return result;                                             
     }
@@ -0,0 +1,254 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * TextMeasurementCache.java
+ * -------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.font.FontRenderContext;
+import java.awt.font.LineMetrics;
+import java.awt.geom.Rectangle2D;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A bounded, least-recently-used cache of text measurements, used by
+ * {@link TextUtils} (and so by {@link TextFragment}, {@link TextLine},
+ * {@link TextBlock} and {@link G2TextMeasurer}).  Charts measure the same
+ * strings (tick labels, titles, legend items) with the same fonts every time
+ * they are drawn, and the measurements depend only on the text, the font,
+ * the font render context and the type of graphics device, which together
+ * form the cache key.
+ */
+final class TextMeasurementCache {
+
+    /** The maximum number of entries. */
+    private final int maxSize;
+
+    /** The entries, in access order. */
+    private final Map<Key, Measurement> entries;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize  the maximum number of entries.
+     */
+    TextMeasurementCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<Key, Measurement>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, Measurement> eldest) {
+                return size() > TextMeasurementCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return The maximum number of entries.
+     */
+    int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Returns the number of entries in the cache.
+     *
+     * @return The number of entries.
+     */
+    synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Removes all entries from the cache.
+     */
+    synchronized void clear() {
+        this.entries.clear();
+    }
+
+    /**
+     * Returns the measurement for a string, measuring it if it is not
+     * already in the cache.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     * @param fm  the font metrics for the font, or {@code null} if they
+     *     should be obtained from the graphics device when required.
+     *
+     * @return The measurement.
+     */
+    Measurement get(String text, Font font, Graphics2D g2, FontMetrics fm) {
+        Key key = new Key(text, font, g2.getFontRenderContext(),
+                g2.getClass());
+        Measurement result;
+        synchronized (this) {
+            result = this.entries.get(key);
+        }
+        if (result == null) {
+            result = new Measurement(text, font, g2,
+                    fm != null ? fm : g2.getFontMetrics(font));
+            synchronized (this) {
+                this.entries.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The measurements for a string.
+     */
+    static final class Measurement {
+
+        /** The x-coordinate of the text bounds. */
+        final double x;
+
+        /** The y-coordinate of the text bounds. */
+        final double y;
+
+        /** The width of the text bounds. */
+        final double width;
+
+        /** The height of the text bounds. */
+        final double height;
+
+        /** The ascent from the line metrics. */
+        final float ascent;
+
+        /** The descent from the line metrics. */
+        final float descent;
+
+        /** The leading from the line metrics. */
+        final float leading;
+
+        /**
+         * Measures a string.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param g2  the graphics device.
+         * @param fm  the font metrics for the font.
+         */
+        Measurement(String text, Font font, Graphics2D g2, FontMetrics fm) {
+            Rectangle2D bounds = TextUtils.measureTextBounds(text, g2, fm);
+            this.x = bounds.getX();
+            this.y = bounds.getY();
+            this.width = bounds.getWidth();
+            this.height = bounds.getHeight();
+            LineMetrics metrics = font.getLineMetrics(text,
+                    g2.getFontRenderContext());
+            this.ascent = metrics.getAscent();
+            this.descent = metrics.getDescent();
+            this.leading = metrics.getLeading();
+        }
+
+        /**
+         * Returns a new rectangle with the text bounds.
+         *
+         * @return The text bounds.
+         */
+        Rectangle2D getBounds() {
+            return new Rectangle2D.Double(this.x, this.y, this.width,
+                    this.height);
+        }
+
+    }
+
+    /**
+     * A cache key.
+     */
+    private static final class Key {
+
+        /** The text. */
+        private final String text;
+
+        /** The font. */
+        private final Font font;
+
+        /** The font render context. */
+        private final FontRenderContext frc;
+
+        /** The class of the graphics device. */
+        private final Class<?> deviceClass;
+
+        /** The hash code. */
+        private final int hash;
+
+        /**
+         * Creates a new key.
+         *
+         * @param text  the text.
+         * @param font  the font.
+         * @param frc  the font render context.
+         * @param deviceClass  the class of the graphics device.
+         */
+        Key(String text, Font font, FontRenderContext frc,
+                Class<?> deviceClass) {
+            this.text = text;
+            this.font = font;
+            this.frc = frc;
+            this.deviceClass = deviceClass;
+            this.hash = Objects.hash(text, font, frc, deviceClass);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.hash == that.hash && this.text.equals(that.text)
+                    && this.font.equals(that.font)
+                    && this.frc.equals(that.frc)
+                    && this.deviceClass == that.deviceClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
@@ -33,7 +33,6 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.Shape;
-import java.awt.font.FontRenderContext;
 import java.awt.font.LineMetrics;
 import java.awt.font.TextLayout;
 import java.awt.geom.AffineTransform;
@@ -69,6 +68,13 @@ public class TextUtils {
      */
     private static boolean useFontMetricsGetStringBounds = false;
 
+    /** The default maximum number of entries in the measurement cache. */
+    private static final int DEFAULT_MEASUREMENT_CACHE_SIZE = 2048;
+
+    /** The text measurement cache ({@code null} if disabled). */
+    private static volatile TextMeasurementCache measurementCache
+            = new TextMeasurementCache(DEFAULT_MEASUREMENT_CACHE_SIZE);
+
     /**
      * Private constructor prevents object creation.
      */
@@ -257,6 +263,26 @@ public class TextUtils {
     public static Rectangle2D getTextBounds(String text, Graphics2D g2, 
             FontMetrics fm) {
 
+        TextMeasurementCache cache = measurementCache;
+        if (text != null && cache != null) {
+            return cache.get(text, fm.getFont(), g2, fm).getBounds();
+        }
+        return measureTextBounds(text, g2, fm);
+    }
+
+    /**
+     * Measures the bounds for the specified text (without using the
+     * measurement cache).
+     *
+     * @param text  the text.
+     * @param g2  the graphics context (not {@code null}).
+     * @param fm  the font metrics (not {@code null}).
+     *
+     * @return The text bounds.
+     */
+    static Rectangle2D measureTextBounds(String text, Graphics2D g2,
+            FontMetrics fm) {
+
         Rectangle2D bounds;
         if (TextUtils.useFontMetricsGetStringBounds) {
             bounds = fm.getStringBounds(text, g2);
@@ -276,6 +302,26 @@ public class TextUtils {
         return bounds;
     }
 
+    /**
+     * Returns the measurements for a string, from the measurement cache if
+     * it is enabled.
+     *
+     * @param text  the text ({@code null} not permitted).
+     * @param font  the font ({@code null} not permitted).
+     * @param g2  the graphics device ({@code null} not permitted).
+     *
+     * @return The measurements.
+     */
+    static TextMeasurementCache.Measurement measure(String text, Font font,
+            Graphics2D g2) {
+        TextMeasurementCache cache = measurementCache;
+        if (cache != null) {
+            return cache.get(text, font, g2, null);
+        }
+        return new TextMeasurementCache.Measurement(text, font, g2,
+                g2.getFontMetrics(font));
+    }
+
 
     /**
      * Returns the bounds of an aligned string.
@@ -352,16 +398,13 @@ public class TextUtils {
             String text, TextAnchor anchor, Rectangle2D textBounds) {
 
         float[] result = new float[3];
-        FontRenderContext frc = g2.getFontRenderContext();
-        Font f = g2.getFont();
-        FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMeasurementCache.Measurement m = measure(text, g2.getFont(), g2);
+        Rectangle2D bounds = m.getBounds();
+        float ascent = m.ascent;
         result[2] = -ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = m.descent;
+        float leading = m.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
@@ -380,7 +423,7 @@ public class TextUtils {
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -descent - leading;
         }
         if (textBounds != null) {
             textBounds.setRect(bounds);
@@ -567,34 +610,30 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        Font f = g2.getFont();
-        FontMetrics fm = g2.getFontMetrics(f);
-        Rectangle2D bounds = getTextBounds(text, g2, fm);
-        LineMetrics metrics = f.getLineMetrics(text, frc);
-        float ascent = metrics.getAscent();
+        TextMeasurementCache.Measurement m = measure(text, g2.getFont(), g2);
+        float ascent = m.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = m.descent;
+        float leading = m.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
         if (anchor.isHorizontalCenter()) {
-            xAdj = (float) -bounds.getWidth() / 2.0f;
+            xAdj = (float) -m.width / 2.0f;
         } else if (anchor.isRight()) {
-            xAdj = (float) -bounds.getWidth();
+            xAdj = (float) -m.width;
         }
 
         if (anchor.isTop()) {
-            yAdj = -descent - leading + (float) bounds.getHeight();
+            yAdj = -descent - leading + (float) m.height;
         } else if (anchor.isHalfAscent()) {
             yAdj = halfAscent;
         } else if (anchor.isVerticalCenter()) {
-            yAdj = -descent - leading + (float) (bounds.getHeight() / 2.0);
+            yAdj = -descent - leading + (float) (m.height / 2.0);
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = -metrics.getDescent() - metrics.getLeading();
+            yAdj = -descent - leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -617,35 +656,32 @@ public class TextUtils {
             String text, TextAnchor anchor) {
 
         float[] result = new float[2];
-        FontRenderContext frc = g2.getFontRenderContext();
-        LineMetrics metrics = g2.getFont().getLineMetrics(text, frc);
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
-        float ascent = metrics.getAscent();
+        TextMeasurementCache.Measurement m = measure(text, g2.getFont(), g2);
+        float ascent = m.ascent;
         float halfAscent = ascent / 2.0f;
-        float descent = metrics.getDescent();
-        float leading = metrics.getLeading();
+        float descent = m.descent;
+        float leading = m.leading;
         float xAdj = 0.0f;
         float yAdj = 0.0f;
 
         if (anchor.isLeft()) {
             xAdj = 0.0f;
         } else if (anchor.isHorizontalCenter()) {
-            xAdj = (float) bounds.getWidth() / 2.0f;
+            xAdj = (float) m.width / 2.0f;
         } else if (anchor.isRight()) {
-            xAdj = (float) bounds.getWidth();
+            xAdj = (float) m.width;
         }
 
         if (anchor.isTop()) {
-            yAdj = descent + leading - (float) bounds.getHeight();
+            yAdj = descent + leading - (float) m.height;
         } else if (anchor.isVerticalCenter()) {
-            yAdj = descent + leading - (float) (bounds.getHeight() / 2.0);
+            yAdj = descent + leading - (float) (m.height / 2.0);
         } else if (anchor.isHalfAscent()) {
             yAdj = -halfAscent;
         } else if (anchor.isBaseline()) {
             yAdj = 0.0f;
         } else if (anchor.isBottom()) {
-            yAdj = metrics.getDescent() + metrics.getLeading();
+            yAdj = descent + leading;
         }
         result[0] = xAdj;
         result[1] = yAdj;
@@ -675,8 +711,7 @@ public class TextUtils {
         if ((text == null) || (text.equals(""))) {
             return null;
         }
-        FontMetrics fm = g2.getFontMetrics();
-        Rectangle2D bounds = TextUtils.getTextBounds(text, g2, fm);
+        Rectangle2D bounds = measure(text, g2.getFont(), g2).getBounds();
         AffineTransform translate = AffineTransform.getTranslateInstance(
                 textX, textY);
         Shape translatedBounds = translate.createTransformedShape(bounds);
@@ -707,6 +742,51 @@ public class TextUtils {
      */
     public static void setUseFontMetricsGetStringBounds(boolean use) {
         useFontMetricsGetStringBounds = use;
+        TextMeasurementCache cache = measurementCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries in the text measurement cache.
+     * The default value is 2048.
+     *
+     * @return The maximum number of entries (zero if the cache is disabled).
+     *
+     * @see #setTextMeasurementCacheSize(int)
+     * @since 2.0.0
+     */
+    public static int getTextMeasurementCacheSize() {
+        TextMeasurementCache cache = measurementCache;
+        return cache != null ? cache.getMaxSize() : 0;
+    }
+
+    /**
+     * Sets the maximum number of entries in the text measurement cache (a
+     * new, empty cache is created).  Text measurements (the string bounds
+     * and line metrics, for a given string, font, font render context and
+     * type of graphics device) are cached because charts measure the same
+     * tick labels, titles and legend items every time they are drawn.  The
+     * least recently used entries are discarded when the cache is full.
+     *
+     * @param size  the maximum number of entries (zero to disable the
+     *     cache).
+     *
+     * @since 2.0.0
+     */
+    public static void setTextMeasurementCacheSize(int size) {
+        Args.requireNonNegative(size, "size");
+        measurementCache = size > 0 ? new TextMeasurementCache(size) : null;
+    }
+
+    /**
+     * Returns the text measurement cache (for testing).
+     *
+     * @return The cache ({@code null} if disabled).
+     */
+    static TextMeasurementCache getTextMeasurementCache() {
+        return measurementCache;
     }
 
     /**
@@ -41,14 +41,19 @@ import java.awt.Rectangle;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import javax.imageio.ImageIO;
 import org.jfree.chart.Drawable;
 import org.jfree.chart.internal.Args;
@@ -98,10 +103,11 @@ public class ExportUtils {
     }
 
     /**
-     * Writes the current content to the specified file in SVG format.  This 
-     * will only work when the JFreeSVG library is found on the classpath.
-     * Reflection is used to ensure there is no compile-time dependency on
-     * JFreeSVG.
+     * Writes the current content to the specified file in SVG format.  When
+     * the JFreeSVG library is found on the classpath it is used to create the
+     * output (reflection is used to ensure there is no compile-time
+     * dependency on JFreeSVG), otherwise the output is written by a
+     * {@link StreamingSVGGraphics2D}.
      * 
      * @param drawable  the drawable ({@code null} not permitted).
      * @param w  the chart width.
@@ -109,12 +115,17 @@ public class ExportUtils {
      * @param file  the output file ({@code null} not permitted).
      */
     public static void writeAsSVG(Drawable drawable, int w, int h, File file) {
-        if (!ExportUtils.isJFreeSVGAvailable()) {
-            throw new IllegalStateException(
-                    "JFreeSVG is not present on the classpath.");
-        }
         Args.nullNotPermitted(drawable, "drawable");
         Args.nullNotPermitted(file, "file");
+        if (!ExportUtils.isJFreeSVGAvailable()) {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new FileOutputStream(file), StandardCharsets.UTF_8))) {
+                writeAsSVG(drawable, w, h, writer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return;
+        }
         try {
             Class<?> svg2Class = Class.forName(
                     "org.jfree.graphics2d.svg.SVGGraphics2D");
@@ -136,6 +147,30 @@ public class ExportUtils {
         }
     }
 
+    /**
+     * Writes the current content to a writer in SVG format, using a
+     * {@link StreamingSVGGraphics2D} (no additional library is required).
+     * The elements are written as they are drawn.  The writer is flushed
+     * but not closed.
+     *
+     * @param drawable  the drawable ({@code null} not permitted).
+     * @param w  the chart width.
+     * @param h  the chart height.
+     * @param writer  the writer ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 2.0.0
+     */
+    public static void writeAsSVG(Drawable drawable, int w, int h,
+            Writer writer) throws IOException {
+        Args.nullNotPermitted(drawable, "drawable");
+        Args.nullNotPermitted(writer, "writer");
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(writer, w, h);
+        drawable.draw(g2, new Rectangle2D.Double(0, 0, w, h));
+        g2.finish();
+    }
+
     /**
      * Writes a {@link Drawable} to the specified file in PDF format.  This 
      * will only work when the OrsonPDF library is found on the classpath.
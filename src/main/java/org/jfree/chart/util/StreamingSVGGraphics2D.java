@@ -0,0 +1,1930 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * StreamingSVGGraphics2D.java
+ * ---------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.GradientPaint;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.LinearGradientPaint;
+import java.awt.MultipleGradientPaint;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.RadialGradientPaint;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ColorModel;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.WritableRaster;
+import java.awt.image.renderable.RenderableImage;
+import java.io.IOException;
+import java.io.Writer;
+import java.text.AttributedCharacterIterator;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jfree.chart.ChartHints;
+import org.jfree.chart.encoders.FastPNGEncoder;
+import org.jfree.chart.internal.Args;
+
+/**
+ * A {@code Graphics2D} implementation that writes SVG elements to a
+ * {@code Writer} as they are drawn, so that a chart can be exported to SVG
+ * without any additional library and without building the document in
+ * memory.  To reduce the size of the output:
+ * <ul>
+ * <li>consecutive line segments drawn with the same style, where each
+ * segment starts at the end of the previous one, are written as a single
+ * path;</li>
+ * <li>a shape that is filled or drawn with a plain colour more than once at
+ * different locations (for example, the item shapes of a series) is
+ * defined once, with its style, and then referenced with {@code <use>}
+ * elements;</li>
+ * <li>filling a shape and then drawing its outline is written as a single
+ * element.</li>
+ * </ul>
+ * The document is completed by calling {@link #finish()}.  Instances
+ * returned by {@link #create()} write to the same document.  Errors writing
+ * to the output are reported by {@link #finish()}.
+ * <p>
+ * The {@link ChartHints#KEY_BEGIN_ELEMENT} and
+ * {@link ChartHints#KEY_END_ELEMENT} hints are written as groups
+ * ({@code <g>} elements) with an {@code id} and a {@code data-ref}
+ * attribute.
+ *
+ * @see ExportUtils#writeAsSVG(org.jfree.chart.Drawable, int, int, Writer)
+ *
+ * @since 2.0.0
+ */
+public class StreamingSVGGraphics2D extends Graphics2D {
+
+    /** The maximum length of the path data for a shape that is reused. */
+    private static final int MAX_SHARED_PATH_LENGTH = 512;
+
+    /** The maximum number of distinct shapes tracked for reuse. */
+    private static final int MAX_SHARED_SHAPES = 4096;
+
+    /** The first attribute for drawing (rather than filling) shapes. */
+    private static final String FILL_NONE = " fill=\"none\"";
+
+    /** The document that this instance writes to. */
+    private final Document document;
+
+    /** The current paint. */
+    private Paint paint = Color.BLACK;
+
+    /** The current color. */
+    private Color color = Color.BLACK;
+
+    /** The background color. */
+    private Color background = Color.BLACK;
+
+    /** The current font. */
+    private Font font = new Font("SansSerif", Font.PLAIN, 12);
+
+    /** The current stroke. */
+    private Stroke stroke = new BasicStroke(1.0f);
+
+    /** The current composite. */
+    private Composite composite = AlphaComposite.SrcOver;
+
+    /** The current transform. */
+    private AffineTransform transform = new AffineTransform();
+
+    /** The transform attribute for the current transform (cached). */
+    private String transformAttribute;
+
+    /** The current clip (in device space), or {@code null}. */
+    private Shape clip;
+
+    /** The id of the clip path for the current clip (cached). */
+    private String clipId;
+
+    /** The rendering hints. */
+    private final RenderingHints hints;
+
+    /**
+     * Creates a new instance and writes the start of the SVG document.
+     * Coordinates are written with (at most) two decimal places.
+     *
+     * @param writer  the writer ({@code null} not permitted).
+     * @param width  the width of the document.
+     * @param height  the height of the document.
+     */
+    public StreamingSVGGraphics2D(Writer writer, double width,
+            double height) {
+        this(writer, width, height, 2);
+    }
+
+    /**
+     * Creates a new instance and writes the start of the SVG document.
+     *
+     * @param writer  the writer ({@code null} not permitted).
+     * @param width  the width of the document.
+     * @param height  the height of the document.
+     * @param decimalPlaces  the maximum number of decimal places for the
+     *     coordinates (0 to 6).
+     */
+    public StreamingSVGGraphics2D(Writer writer, double width, double height,
+            int decimalPlaces) {
+        Args.nullNotPermitted(writer, "writer");
+        if (decimalPlaces < 0 || decimalPlaces > 6) {
+            throw new IllegalArgumentException(
+                    "Requires 'decimalPlaces' in the range 0 to 6.");
+        }
+        this.document = new Document(writer, decimalPlaces);
+        this.hints = new RenderingHints(RenderingHints.KEY_ANTIALIASING,
+                RenderingHints.VALUE_ANTIALIAS_ON);
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        sb.append("<svg xmlns=\"http://www.w3.org/2000/svg\" ");
+        sb.append("xmlns:xlink=\"http://www.w3.org/1999/xlink\" width=\"");
+        this.document.number(sb, width).append("\" height=\"");
+        this.document.number(sb, height).append("\" viewBox=\"0 0 ");
+        this.document.number(sb, width).append(' ');
+        this.document.number(sb, height).append("\">\n");
+        this.document.write(sb);
+    }
+
+    /**
+     * Creates a new instance with the same state as {@code parent}, writing
+     * to the same document.
+     *
+     * @param parent  the parent.
+     */
+    private StreamingSVGGraphics2D(StreamingSVGGraphics2D parent) {
+        this.document = parent.document;
+        this.paint = parent.paint;
+        this.color = parent.color;
+        this.background = parent.background;
+        this.font = parent.font;
+        this.stroke = parent.stroke;
+        this.composite = parent.composite;
+        this.transform = new AffineTransform(parent.transform);
+        this.transformAttribute = parent.transformAttribute;
+        this.clip = parent.clip;
+        this.clipId = parent.clipId;
+        this.hints = (RenderingHints) parent.hints.clone();
+    }
+
+    /**
+     * Completes the document (closing any open groups) and flushes the
+     * writer.  Nothing can be drawn after this method is called.
+     *
+     * @throws IOException if there was a problem writing to the output
+     *     (here or in any earlier drawing operation).
+     */
+    public void finish() throws IOException {
+        this.document.finish();
+    }
+
+    /**
+     * Returns {@code true} if the document has been completed.
+     *
+     * @return A boolean.
+     */
+    public boolean isFinished() {
+        return this.document.finished;
+    }
+
+    /**
+     * Returns the number of distinct shapes that have been written once
+     * and then reused with {@code <use>} elements.
+     *
+     * @return The shape count.
+     */
+    public int getSharedShapeCount() {
+        return this.document.sharedShapeCount;
+    }
+
+    /**
+     * Returns a new graphics instance that writes to the same document.
+     *
+     * @return A new graphics instance.
+     */
+    @Override
+    public Graphics create() {
+        return new StreamingSVGGraphics2D(this);
+    }
+
+    /**
+     * Does nothing (the document is completed by {@link #finish()}).
+     */
+    @Override
+    public void dispose() {
+        // nothing to do
+    }
+
+    @Override
+    public void draw(Shape s) {
+        if (!(this.stroke instanceof BasicStroke)) {
+            fill(this.stroke.createStrokedShape(s));
+            return;
+        }
+        if (s instanceof Line2D) {
+            Line2D line = (Line2D) s;
+            drawLine(line.getX1(), line.getY1(), line.getX2(), line.getY2());
+            return;
+        }
+        writeShape(s, false);
+    }
+
+    @Override
+    public void fill(Shape s) {
+        writeShape(s, true);
+    }
+
+    /**
+     * Draws a line, extending the previous path if the line continues from
+     * the end of the last line that was drawn with the same style.
+     *
+     * @param x1  the x-coordinate of the start point.
+     * @param y1  the y-coordinate of the start point.
+     * @param x2  the x-coordinate of the end point.
+     * @param y2  the y-coordinate of the end point.
+     */
+    private void drawLine(double x1, double y1, double x2, double y2) {
+        if (!(this.stroke instanceof BasicStroke)) {
+            fill(this.stroke.createStrokedShape(
+                    new Line2D.Double(x1, y1, x2, y2)));
+            return;
+        }
+        Document doc = this.document;
+        String clipRef = clipId();
+        if (this.paint instanceof Color) {
+            String style = style(false) + renderingAttribute()
+                    + transformAttribute();
+            if (!doc.extendPath(style, clipRef, x1, y1, x2, y2)) {
+                doc.flushPending();
+                doc.selectClip(clipRef);
+                doc.startPath(style, clipRef, x1, y1, x2, y2);
+            }
+            return;
+        }
+        doc.flushPending();
+        doc.selectClip(clipRef);
+        String style = style(false) + renderingAttribute();
+        StringBuilder sb = new StringBuilder(96);
+        sb.append("<path d=\"M");
+        doc.number(sb, x1).append(' ');
+        doc.number(sb, y1).append('L');
+        doc.number(sb, x2).append(' ');
+        doc.number(sb, y2).append('"').append(style);
+        sb.append(transformAttribute()).append("/>\n");
+        doc.write(sb);
+    }
+
+    /**
+     * Writes a shape, reusing an earlier definition of the same shape where
+     * possible.  A filled shape is held back until the next operation, so
+     * that drawing the outline of the same shape (as renderers do for item
+     * shapes) can be combined into a single element.
+     *
+     * @param s  the shape.
+     * @param fill  fill the shape (or draw the outline)?
+     */
+    private void writeShape(Shape s, boolean fill) {
+        Document doc = this.document;
+        String clipRef = clipId();
+        String style = style(fill);
+        if (fill && windingRule(s) == PathIterator.WIND_EVEN_ODD) {
+            style += " fill-rule=\"evenodd\"";
+        }
+        String rendering = renderingAttribute();
+        String transformAttr = transformAttribute();
+        if (s instanceof Rectangle2D) {
+            doc.flushPending();
+            doc.selectClip(clipRef);
+            Rectangle2D r = (Rectangle2D) s;
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("<rect x=\"");
+            doc.number(sb, r.getX()).append("\" y=\"");
+            doc.number(sb, r.getY()).append("\" width=\"");
+            doc.number(sb, r.getWidth()).append("\" height=\"");
+            doc.number(sb, r.getHeight()).append('"').append(style);
+            sb.append(rendering).append(transformAttr).append("/>\n");
+            doc.write(sb);
+            return;
+        }
+        String key = null;
+        Rectangle2D bounds = null;
+        if (this.paint instanceof Color) {
+            bounds = s.getBounds2D();
+            key = doc.pathData(new StringBuilder(64), s, -bounds.getX(),
+                    -bounds.getY()).toString();
+            if (key.length() > MAX_SHARED_PATH_LENGTH) {
+                key = null;
+            }
+        }
+        if (key != null && !fill && doc.completeShape(key, bounds.getX(),
+                bounds.getY(), style, rendering, transformAttr, clipRef)) {
+            return;
+        }
+        doc.flushPending();
+        doc.selectClip(clipRef);
+        if (key != null && fill) {
+            doc.startShape(s, key, bounds.getX(), bounds.getY(), style,
+                    rendering, transformAttr, clipRef);
+        }
+        else if (key != null) {
+            doc.writeShape(s, key, bounds.getX(), bounds.getY(),
+                    style + rendering, transformAttr);
+        }
+        else {
+            doc.writeShape(s, null, 0.0, 0.0, style + rendering,
+                    transformAttr);
+        }
+    }
+
+    /**
+     * Returns the winding rule for a shape.
+     *
+     * @param s  the shape.
+     *
+     * @return The winding rule.
+     */
+    private static int windingRule(Shape s) {
+        if (s instanceof Path2D) {
+            return ((Path2D) s).getWindingRule();
+        }
+        if (s instanceof Rectangle2D || s instanceof Ellipse2D) {
+            return PathIterator.WIND_NON_ZERO;
+        }
+        return s.getPathIterator(null).getWindingRule();
+    }
+
+    /**
+     * Returns the presentation attributes for filling or drawing with the
+     * current paint, stroke and composite.  For gradient paints this writes
+     * the gradient definition (if it has not already been written).
+     *
+     * @param fill  fill (or draw)?
+     *
+     * @return The attributes (with a leading space).
+     */
+    private String style(boolean fill) {
+        StringBuilder sb = new StringBuilder(64);
+        Document doc = this.document;
+        String target = fill ? "fill" : "stroke";
+        if (!fill) {
+            sb.append(FILL_NONE);
+        }
+        sb.append(' ').append(target).append("=\"");
+        double opacity = compositeAlpha();
+        if (this.paint instanceof Color) {
+            Color c = (Color) this.paint;
+            appendColor(sb, c).append('"');
+            opacity *= c.getAlpha() / 255.0;
+        }
+        else {
+            String id = gradientId(this.paint);
+            if (id != null) {
+                sb.append("url(#").append(id).append(")\"");
+            }
+            else {
+                sb.append("#000000\"");
+            }
+        }
+        if (opacity < 1.0) {
+            sb.append(' ').append(target).append("-opacity=\"");
+            doc.number(sb, opacity, 3).append('"');
+        }
+        if (!fill) {
+            BasicStroke bs = (BasicStroke) this.stroke;
+            float width = bs.getLineWidth();
+            if (width != 1.0f) {
+                sb.append(" stroke-width=\"");
+                doc.number(sb, width > 0.0f ? width : 1.0).append('"');
+            }
+            if (bs.getEndCap() == BasicStroke.CAP_ROUND) {
+                sb.append(" stroke-linecap=\"round\"");
+            }
+            else if (bs.getEndCap() == BasicStroke.CAP_SQUARE) {
+                sb.append(" stroke-linecap=\"square\"");
+            }
+            if (bs.getLineJoin() == BasicStroke.JOIN_ROUND) {
+                sb.append(" stroke-linejoin=\"round\"");
+            }
+            else if (bs.getLineJoin() == BasicStroke.JOIN_BEVEL) {
+                sb.append(" stroke-linejoin=\"bevel\"");
+            }
+            else if (bs.getMiterLimit() != 4.0f) {
+                sb.append(" stroke-miterlimit=\"");
+                doc.number(sb, bs.getMiterLimit()).append('"');
+            }
+            float[] dash = bs.getDashArray();
+            if (dash != null && dash.length > 0) {
+                sb.append(" stroke-dasharray=\"");
+                for (int i = 0; i < dash.length; i++) {
+                    if (i > 0) {
+                        sb.append(',');
+                    }
+                    doc.number(sb, dash[i]);
+                }
+                sb.append('"');
+                if (bs.getDashPhase() != 0.0f) {
+                    sb.append(" stroke-dashoffset=\"");
+                    doc.number(sb, bs.getDashPhase()).append('"');
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns the shape rendering attribute for the current antialiasing
+     * hint (an empty string unless antialiasing is switched off).
+     *
+     * @return The attribute (with a leading space).
+     */
+    private String renderingAttribute() {
+        if (RenderingHints.VALUE_ANTIALIAS_OFF.equals(
+                this.hints.get(RenderingHints.KEY_ANTIALIASING))) {
+            return " shape-rendering=\"crispEdges\"";
+        }
+        return "";
+    }
+
+    /**
+     * Returns the alpha value from the current composite.
+     *
+     * @return The alpha value.
+     */
+    private double compositeAlpha() {
+        if (this.composite instanceof AlphaComposite) {
+            return ((AlphaComposite) this.composite).getAlpha();
+        }
+        return 1.0;
+    }
+
+    /**
+     * Appends a color in hex format ({@code #rrggbb}).
+     *
+     * @param sb  the string builder.
+     * @param c  the color.
+     *
+     * @return The string builder.
+     */
+    private static StringBuilder appendColor(StringBuilder sb, Color c) {
+        String hex = Integer.toHexString(c.getRGB() & 0xFFFFFF);
+        sb.append('#');
+        for (int i = hex.length(); i < 6; i++) {
+            sb.append('0');
+        }
+        return sb.append(hex);
+    }
+
+    /**
+     * Returns the id of the gradient definition for a paint, writing the
+     * definition if it has not already been written.
+     *
+     * @param p  the paint.
+     *
+     * @return The id, or {@code null} if the paint is not supported.
+     */
+    private String gradientId(Paint p) {
+        Document doc = this.document;
+        StringBuilder sb = new StringBuilder(256);
+        String element;
+        if (p instanceof GradientPaint) {
+            GradientPaint gp = (GradientPaint) p;
+            element = "linearGradient";
+            sb.append(" gradientUnits=\"userSpaceOnUse\" x1=\"");
+            doc.number(sb, gp.getPoint1().getX()).append("\" y1=\"");
+            doc.number(sb, gp.getPoint1().getY()).append("\" x2=\"");
+            doc.number(sb, gp.getPoint2().getX()).append("\" y2=\"");
+            doc.number(sb, gp.getPoint2().getY()).append('"');
+            if (gp.isCyclic()) {
+                sb.append(" spreadMethod=\"reflect\"");
+            }
+            sb.append('>');
+            appendStop(sb, 0.0f, gp.getColor1());
+            appendStop(sb, 1.0f, gp.getColor2());
+        }
+        else if (p instanceof LinearGradientPaint) {
+            LinearGradientPaint lgp = (LinearGradientPaint) p;
+            element = "linearGradient";
+            sb.append(" gradientUnits=\"userSpaceOnUse\" x1=\"");
+            doc.number(sb, lgp.getStartPoint().getX()).append("\" y1=\"");
+            doc.number(sb, lgp.getStartPoint().getY()).append("\" x2=\"");
+            doc.number(sb, lgp.getEndPoint().getX()).append("\" y2=\"");
+            doc.number(sb, lgp.getEndPoint().getY()).append('"');
+            appendGradientStops(sb, lgp);
+        }
+        else if (p instanceof RadialGradientPaint) {
+            RadialGradientPaint rgp = (RadialGradientPaint) p;
+            element = "radialGradient";
+            sb.append(" gradientUnits=\"userSpaceOnUse\" cx=\"");
+            doc.number(sb, rgp.getCenterPoint().getX()).append("\" cy=\"");
+            doc.number(sb, rgp.getCenterPoint().getY()).append("\" r=\"");
+            doc.number(sb, rgp.getRadius()).append("\" fx=\"");
+            doc.number(sb, rgp.getFocusPoint().getX()).append("\" fy=\"");
+            doc.number(sb, rgp.getFocusPoint().getY()).append('"');
+            appendGradientStops(sb, rgp);
+        }
+        else {
+            return null;
+        }
+        sb.append("</").append(element).append('>');
+        return doc.definitionId("<" + element, sb.toString());
+    }
+
+    /**
+     * Appends the spread method, transform and stops for a gradient.
+     *
+     * @param sb  the string builder.
+     * @param p  the paint.
+     */
+    private void appendGradientStops(StringBuilder sb,
+            MultipleGradientPaint p) {
+        if (p.getCycleMethod() == MultipleGradientPaint.CycleMethod.REFLECT) {
+            sb.append(" spreadMethod=\"reflect\"");
+        }
+        else if (p.getCycleMethod()
+                == MultipleGradientPaint.CycleMethod.REPEAT) {
+            sb.append(" spreadMethod=\"repeat\"");
+        }
+        AffineTransform t = p.getTransform();
+        if (!t.isIdentity()) {
+            sb.append(" gradientTransform=\"");
+            appendMatrix(sb, t).append('"');
+        }
+        sb.append('>');
+        float[] fractions = p.getFractions();
+        Color[] colors = p.getColors();
+        for (int i = 0; i < fractions.length; i++) {
+            appendStop(sb, fractions[i], colors[i]);
+        }
+    }
+
+    /**
+     * Appends a gradient stop.
+     *
+     * @param sb  the string builder.
+     * @param offset  the offset.
+     * @param c  the color.
+     */
+    private void appendStop(StringBuilder sb, float offset, Color c) {
+        sb.append("<stop offset=\"");
+        this.document.number(sb, offset, 4).append("\" stop-color=\"");
+        appendColor(sb, c).append('"');
+        if (c.getAlpha() < 255) {
+            sb.append(" stop-opacity=\"");
+            this.document.number(sb, c.getAlpha() / 255.0, 3).append('"');
+        }
+        sb.append("/>");
+    }
+
+    /**
+     * Appends a transform in SVG matrix format.
+     *
+     * @param sb  the string builder.
+     * @param t  the transform.
+     *
+     * @return The string builder.
+     */
+    private StringBuilder appendMatrix(StringBuilder sb, AffineTransform t) {
+        Document doc = this.document;
+        sb.append("matrix(");
+        doc.number(sb, t.getScaleX(), 6).append(' ');
+        doc.number(sb, t.getShearY(), 6).append(' ');
+        doc.number(sb, t.getShearX(), 6).append(' ');
+        doc.number(sb, t.getScaleY(), 6).append(' ');
+        doc.number(sb, t.getTranslateX()).append(' ');
+        doc.number(sb, t.getTranslateY()).append(')');
+        return sb;
+    }
+
+    /**
+     * Returns the transform attribute for the current transform (an empty
+     * string for the identity transform).
+     *
+     * @return The attribute (with a leading space).
+     */
+    private String transformAttribute() {
+        if (this.transformAttribute == null) {
+            if (this.transform.isIdentity()) {
+                this.transformAttribute = "";
+            }
+            else {
+                StringBuilder sb = new StringBuilder(" transform=\"");
+                appendMatrix(sb, this.transform).append('"');
+                this.transformAttribute = sb.toString();
+            }
+        }
+        return this.transformAttribute;
+    }
+
+    /**
+     * Returns the id of the clip path for the current clip, writing the
+     * clip path if it has not already been written.
+     *
+     * @return The id, or {@code null} if there is no clip.
+     */
+    private String clipId() {
+        if (this.clip == null) {
+            return null;
+        }
+        if (this.clipId == null) {
+            Document doc = this.document;
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("><path d=\"");
+            doc.pathData(sb, this.clip, 0.0, 0.0).append('"');
+            if (windingRule(this.clip) == PathIterator.WIND_EVEN_ODD) {
+                sb.append(" clip-rule=\"evenodd\"");
+            }
+            sb.append("/></clipPath>");
+            this.clipId = doc.definitionId("<clipPath", sb.toString());
+        }
+        return this.clipId;
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        drawString(str, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        Args.nullNotPermitted(str, "str");
+        if (str.isEmpty()) {
+            return;
+        }
+        if (this.font.isTransformed() || this.font.hasLayoutAttributes()) {
+            fill(this.font.createGlyphVector(getFontRenderContext(), str)
+                    .getOutline(x, y));
+            return;
+        }
+        Document doc = this.document;
+        doc.flushPending();
+        doc.selectClip(clipId());
+        String style = style(true);
+        StringBuilder sb = new StringBuilder(128 + str.length());
+        sb.append("<text x=\"");
+        doc.number(sb, x).append("\" y=\"");
+        doc.number(sb, y).append("\" font-family=\"");
+        appendEscaped(sb, fontFamily(this.font)).append("\" font-size=\"");
+        doc.number(sb, this.font.getSize2D()).append('"');
+        if (this.font.isBold()) {
+            sb.append(" font-weight=\"bold\"");
+        }
+        if (this.font.isItalic()) {
+            sb.append(" font-style=\"italic\"");
+        }
+        sb.append(style).append(transformAttribute()).append('>');
+        appendEscaped(sb, str).append("</text>\n");
+        doc.write(sb);
+    }
+
+    /**
+     * Returns the SVG font family for a font (the logical Java font names
+     * are mapped to the generic CSS families).
+     *
+     * @param f  the font.
+     *
+     * @return The font family.
+     */
+    private static String fontFamily(Font f) {
+        String family = f.getFamily();
+        switch (family) {
+            case Font.SANS_SERIF:
+            case Font.DIALOG:
+                return "sans-serif";
+            case Font.SERIF:
+                return "serif";
+            case Font.MONOSPACED:
+            case Font.DIALOG_INPUT:
+                return "monospace";
+            default:
+                return family;
+        }
+    }
+
+    /**
+     * Appends text with the XML special characters escaped (and characters
+     * that are not permitted in XML removed).
+     *
+     * @param sb  the string builder.
+     * @param text  the text.
+     *
+     * @return The string builder.
+     */
+    private static StringBuilder appendEscaped(StringBuilder sb,
+            String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&':
+                    sb.append("&amp;");
+                    break;
+                case '<':
+                    sb.append("&lt;");
+                    break;
+                case '>':
+                    sb.append("&gt;");
+                    break;
+                case '"':
+                    sb.append("&quot;");
+                    break;
+                case '\'':
+                    sb.append("&apos;");
+                    break;
+                default:
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb;
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x,
+            int y) {
+        drawString(iterator, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x,
+            float y) {
+        if (iterator.getBeginIndex() == iterator.getEndIndex()) {
+            return;
+        }
+        TextLayout layout = new TextLayout(iterator, getFontRenderContext());
+        fill(layout.getOutline(AffineTransform.getTranslateInstance(x, y)));
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector g, float x, float y) {
+        fill(g.getOutline(x, y));
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform,
+            ImageObserver obs) {
+        AffineTransform saved = getTransform();
+        if (xform != null) {
+            transform(xform);
+        }
+        boolean result = drawImage(img, 0, 0, obs);
+        setTransform(saved);
+        return result;
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x,
+            int y) {
+        BufferedImage image = op != null ? op.filter(img, null) : img;
+        drawImage(image, x, y, null);
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        BufferedImage image;
+        if (img instanceof BufferedImage) {
+            image = (BufferedImage) img;
+        }
+        else {
+            ColorModel cm = img.getColorModel();
+            WritableRaster raster = img.copyData(null)
+                    .createWritableTranslatedChild(0, 0);
+            image = new BufferedImage(cm, raster, cm.isAlphaPremultiplied(),
+                    null);
+        }
+        drawImage(image, xform, null);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img,
+            AffineTransform xform) {
+        drawRenderedImage(img.createDefaultRendering(), xform);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y,
+            ImageObserver observer) {
+        int w = img.getWidth(observer);
+        int h = img.getHeight(observer);
+        if (w < 0 || h < 0) {
+            return false;
+        }
+        return drawImage(img, x, y, w, h, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height,
+            ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img, observer);
+        if (image == null) {
+            return false;
+        }
+        byte[] png;
+        try {
+            png = new FastPNGEncoder().encode(image);
+        }
+        catch (IOException e) {
+            // the encoder writes to memory, so this is not expected
+            throw new IllegalStateException(e);
+        }
+        Document doc = this.document;
+        doc.flushPending();
+        doc.selectClip(clipId());
+        StringBuilder sb = new StringBuilder(png.length * 4 / 3 + 256);
+        sb.append("<image x=\"").append(x).append("\" y=\"").append(y);
+        sb.append("\" width=\"").append(width).append("\" height=\"");
+        sb.append(height).append("\" preserveAspectRatio=\"none\"");
+        double alpha = compositeAlpha();
+        if (alpha < 1.0) {
+            sb.append(" opacity=\"");
+            doc.number(sb, alpha, 3).append('"');
+        }
+        sb.append(" xlink:href=\"data:image/png;base64,");
+        sb.append(Base64.getEncoder().encodeToString(png)).append('"');
+        sb.append(transformAttribute()).append("/>\n");
+        doc.write(sb);
+        return true;
+    }
+
+    /**
+     * Returns an image as a {@code BufferedImage}.
+     *
+     * @param img  the image.
+     * @param observer  the image observer.
+     *
+     * @return The image (or {@code null} if its size is not known yet).
+     */
+    private static BufferedImage toBufferedImage(Image img,
+            ImageObserver observer) {
+        if (img instanceof BufferedImage) {
+            return (BufferedImage) img;
+        }
+        int w = img.getWidth(observer);
+        int h = img.getHeight(observer);
+        if (w <= 0 || h <= 0) {
+            return null;
+        }
+        BufferedImage image = new BufferedImage(w, h,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.drawImage(img, 0, 0, observer);
+        g2.dispose();
+        return image;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor,
+            ImageObserver observer) {
+        int w = img.getWidth(observer);
+        int h = img.getHeight(observer);
+        if (w < 0 || h < 0) {
+            return false;
+        }
+        return drawImage(img, x, y, w, h, bgcolor, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height,
+            Color bgcolor, ImageObserver observer) {
+        Paint saved = getPaint();
+        setPaint(bgcolor);
+        fillRect(x, y, width, height);
+        setPaint(saved);
+        return drawImage(img, x, y, width, height, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+            int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+        BufferedImage image = toBufferedImage(img, observer);
+        if (image == null) {
+            return false;
+        }
+        int sx = Math.max(0, Math.min(sx1, sx2));
+        int sy = Math.max(0, Math.min(sy1, sy2));
+        int sw = Math.min(Math.abs(sx2 - sx1), image.getWidth() - sx);
+        int sh = Math.min(Math.abs(sy2 - sy1), image.getHeight() - sy);
+        if (sw <= 0 || sh <= 0) {
+            return true;
+        }
+        return drawImage(image.getSubimage(sx, sy, sw, sh),
+                Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1),
+                Math.abs(dy2 - dy1), observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2,
+            int sx1, int sy1, int sx2, int sy2, Color bgcolor,
+            ImageObserver observer) {
+        Paint saved = getPaint();
+        setPaint(bgcolor);
+        fillRect(Math.min(dx1, dx2), Math.min(dy1, dy2), Math.abs(dx2 - dx1),
+                Math.abs(dy2 - dy1));
+        setPaint(saved);
+        return drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2,
+                observer);
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        Shape shape = onStroke ? this.stroke.createStrokedShape(s) : s;
+        return this.transform.createTransformedShape(shape).intersects(rect);
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return this.document.measureGraphics().getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        Args.nullNotPermitted(comp, "comp");
+        this.composite = comp;
+    }
+
+    @Override
+    public Composite getComposite() {
+        return this.composite;
+    }
+
+    @Override
+    public void setPaint(Paint paint) {
+        if (paint == null) {
+            return;
+        }
+        this.paint = paint;
+        if (paint instanceof Color) {
+            this.color = (Color) paint;
+        }
+    }
+
+    @Override
+    public Paint getPaint() {
+        return this.paint;
+    }
+
+    @Override
+    public Color getColor() {
+        return this.color;
+    }
+
+    @Override
+    public void setColor(Color c) {
+        if (c == null) {
+            return;
+        }
+        this.color = c;
+        this.paint = c;
+    }
+
+    @Override
+    public void setBackground(Color color) {
+        if (color == null) {
+            return;
+        }
+        this.background = color;
+    }
+
+    @Override
+    public Color getBackground() {
+        return this.background;
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        Args.nullNotPermitted(s, "s");
+        this.stroke = s;
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return this.stroke;
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return this.hints.get(hintKey);
+    }
+
+    /**
+     * Sets a rendering hint.  The {@link ChartHints#KEY_BEGIN_ELEMENT} and
+     * {@link ChartHints#KEY_END_ELEMENT} hints open and close a group in
+     * the output.
+     *
+     * @param hintKey  the hint key.
+     * @param hintValue  the hint value.
+     */
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey,
+            Object hintValue) {
+        if (ChartHints.KEY_BEGIN_ELEMENT.equals(hintKey)) {
+            String id = null;
+            String ref = null;
+            if (hintValue instanceof String) {
+                id = (String) hintValue;
+            }
+            else if (hintValue instanceof Map) {
+                Map<?, ?> m = (Map<?, ?>) hintValue;
+                id = (String) m.get("id");
+                ref = (String) m.get("ref");
+            }
+            StringBuilder sb = new StringBuilder("<g");
+            if (id != null) {
+                appendEscaped(sb.append(" id=\""), id).append('"');
+            }
+            if (ref != null) {
+                appendEscaped(sb.append(" data-ref=\""), ref).append('"');
+            }
+            this.document.beginGroup(sb.append(">\n"));
+        }
+        else if (ChartHints.KEY_END_ELEMENT.equals(hintKey)) {
+            this.document.endGroup();
+        }
+        else {
+            this.hints.put(hintKey, hintValue);
+        }
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> hints) {
+        this.hints.clear();
+        addRenderingHints(hints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> hints) {
+        for (Map.Entry<?, ?> entry : hints.entrySet()) {
+            setRenderingHint((RenderingHints.Key) entry.getKey(),
+                    entry.getValue());
+        }
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return (RenderingHints) this.hints.clone();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        translate((double) x, (double) y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        AffineTransform t = getTransform();
+        t.translate(tx, ty);
+        setTransform(t);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        AffineTransform t = getTransform();
+        t.rotate(theta);
+        setTransform(t);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        AffineTransform t = getTransform();
+        t.rotate(theta, x, y);
+        setTransform(t);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        AffineTransform t = getTransform();
+        t.scale(sx, sy);
+        setTransform(t);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        AffineTransform t = getTransform();
+        t.shear(shx, shy);
+        setTransform(t);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        AffineTransform t = getTransform();
+        t.concatenate(tx);
+        setTransform(t);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        this.transform = tx != null ? new AffineTransform(tx)
+                : new AffineTransform();
+        this.transformAttribute = null;
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform(this.transform);
+    }
+
+    @Override
+    public void setPaintMode() {
+        // XOR mode is not supported, so there is nothing to do
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+        // XOR mode is not supported in SVG output
+    }
+
+    @Override
+    public Font getFont() {
+        return this.font;
+    }
+
+    @Override
+    public void setFont(Font font) {
+        if (font == null) {
+            return;
+        }
+        this.font = font;
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return this.document.measureGraphics().getFontMetrics(f);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        Graphics2D g2 = this.document.measureGraphics();
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                this.hints.get(RenderingHints.KEY_FRACTIONALMETRICS) != null
+                ? this.hints.get(RenderingHints.KEY_FRACTIONALMETRICS)
+                : RenderingHints.VALUE_FRACTIONALMETRICS_DEFAULT);
+        return g2.getFontRenderContext();
+    }
+
+    /**
+     * Converts a shape to device space (an axis-aligned rectangle stays a
+     * rectangle).
+     *
+     * @param s  the shape (in user space).
+     *
+     * @return The shape in device space.
+     */
+    private Shape toDevice(Shape s) {
+        int rotation = AffineTransform.TYPE_QUADRANT_ROTATION
+                | AffineTransform.TYPE_GENERAL_ROTATION
+                | AffineTransform.TYPE_GENERAL_TRANSFORM;
+        if (s instanceof Rectangle2D
+                && (this.transform.getType() & rotation) == 0) {
+            return this.transform.createTransformedShape(s).getBounds2D();
+        }
+        return this.transform.createTransformedShape(s);
+    }
+
+    @Override
+    public Shape getClip() {
+        if (this.clip == null) {
+            return null;
+        }
+        try {
+            AffineTransform inverse = this.transform.createInverse();
+            if (this.clip instanceof Rectangle2D && (inverse.getType()
+                    & (AffineTransform.TYPE_QUADRANT_ROTATION
+                    | AffineTransform.TYPE_GENERAL_ROTATION
+                    | AffineTransform.TYPE_GENERAL_TRANSFORM)) == 0) {
+                return inverse.createTransformedShape(this.clip)
+                        .getBounds2D();
+            }
+            return inverse.createTransformedShape(this.clip);
+        }
+        catch (NoninvertibleTransformException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void setClip(Shape clip) {
+        this.clip = clip != null ? toDevice(clip) : null;
+        this.clipId = null;
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        setClip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clip(Shape s) {
+        if (this.clip == null) {
+            setClip(s);
+            return;
+        }
+        Shape device = toDevice(s);
+        if (this.clip instanceof Rectangle2D
+                && device instanceof Rectangle2D) {
+            Rectangle2D r = new Rectangle2D.Double();
+            Rectangle2D.intersect((Rectangle2D) this.clip,
+                    (Rectangle2D) device, r);
+            if (r.getWidth() < 0.0 || r.getHeight() < 0.0) {
+                r.setRect(r.getX(), r.getY(), Math.max(0.0, r.getWidth()),
+                        Math.max(0.0, r.getHeight()));
+            }
+            this.clip = r;
+        }
+        else {
+            Area area = new Area(this.clip);
+            area.intersect(new Area(device));
+            this.clip = new Path2D.Double(area);
+        }
+        this.clipId = null;
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        clip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        Shape c = getClip();
+        return c != null ? c.getBounds() : null;
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx,
+            int dy) {
+        // not supported for vector output
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        drawLine((double) x1, (double) y1, (double) x2, (double) y2);
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        fill(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height) {
+        draw(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        Paint savedPaint = getPaint();
+        Composite savedComposite = getComposite();
+        setPaint(this.background);
+        setComposite(AlphaComposite.Src);
+        fillRect(x, y, width, height);
+        setPaint(savedPaint);
+        setComposite(savedComposite);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height,
+            int arcWidth, int arcHeight) {
+        draw(new RoundRectangle2D.Double(x, y, width, height, arcWidth,
+                arcHeight));
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height,
+            int arcWidth, int arcHeight) {
+        fill(new RoundRectangle2D.Double(x, y, width, height, arcWidth,
+                arcHeight));
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        draw(new Ellipse2D.Double(x, y, width, height));
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        fill(new Ellipse2D.Double(x, y, width, height));
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle,
+            int arcAngle) {
+        draw(new Arc2D.Double(x, y, width, height, startAngle, arcAngle,
+                Arc2D.OPEN));
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle,
+            int arcAngle) {
+        fill(new Arc2D.Double(x, y, width, height, startAngle, arcAngle,
+                Arc2D.PIE));
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints < 2) {
+            return;
+        }
+        Path2D path = new Path2D.Double();
+        path.moveTo(xPoints[0], yPoints[0]);
+        for (int i = 1; i < nPoints; i++) {
+            path.lineTo(xPoints[i], yPoints[i]);
+        }
+        draw(path);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        draw(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        fill(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    /**
+     * The output state shared by a graphics instance and the instances
+     * created from it.
+     */
+    private static final class Document {
+
+        /** Powers of ten for number formatting. */
+        private static final long[] POWERS = {1L, 10L, 100L, 1000L, 10000L,
+                100000L, 1000000L};
+
+        /** The output. */
+        private final Writer writer;
+
+        /** The number of decimal places for coordinates. */
+        private final int decimalPlaces;
+
+        /** The first exception thrown by the writer, if any. */
+        private IOException error;
+
+        /** Has the document been completed? */
+        private boolean finished;
+
+        /** The next id for a definition. */
+        private int nextId;
+
+        /** Definition ids, keyed by the definition content. */
+        private final Map<String, String> definitions = new HashMap<>();
+
+        /**
+         * Shape path data (relative to the shape bounds) and style mapped to
+         * the id of the definition, or to an empty string for a shape that
+         * has been seen once.
+         */
+        private final Map<String, String> shapes = new HashMap<>();
+
+        /** The number of shapes that have been defined for reuse. */
+        private int sharedShapeCount;
+
+        /** The id of the clip path for the open clip group, if any. */
+        private String openClip;
+
+        /** The number of open element groups. */
+        private int groupDepth;
+
+        /** The path data for the pending polyline, or {@code null}. */
+        private StringBuilder path;
+
+        /** The attributes for the pending polyline. */
+        private String pathStyle;
+
+        /** The clip id for the pending polyline. */
+        private String pathClip;
+
+        /** The x-coordinate of the end of the pending polyline. */
+        private double pathX;
+
+        /** The y-coordinate of the end of the pending polyline. */
+        private double pathY;
+
+        /** The pending filled shape, or {@code null}. */
+        private Shape shape;
+
+        /** The path data for the pending shape (relative to its bounds). */
+        private String shapeKey;
+
+        /** The x-coordinate of the bounds of the pending shape. */
+        private double shapeX;
+
+        /** The y-coordinate of the bounds of the pending shape. */
+        private double shapeY;
+
+        /** The fill attributes for the pending shape. */
+        private String shapeStyle;
+
+        /** The shape rendering attribute for the pending shape. */
+        private String shapeRendering;
+
+        /** The transform attribute for the pending shape. */
+        private String shapeTransform;
+
+        /** The clip id for the pending shape. */
+        private String shapeClip;
+
+        /** A graphics target used for font measurement. */
+        private Graphics2D measureGraphics;
+
+        /**
+         * Creates a new document.
+         *
+         * @param writer  the writer.
+         * @param decimalPlaces  the number of decimal places.
+         */
+        Document(Writer writer, int decimalPlaces) {
+            this.writer = writer;
+            this.decimalPlaces = decimalPlaces;
+        }
+
+        /**
+         * Returns a graphics target for font measurement.
+         *
+         * @return The graphics target.
+         */
+        Graphics2D measureGraphics() {
+            if (this.measureGraphics == null) {
+                BufferedImage image = new BufferedImage(1, 1,
+                        BufferedImage.TYPE_INT_ARGB);
+                this.measureGraphics = image.createGraphics();
+            }
+            return this.measureGraphics;
+        }
+
+        /**
+         * Writes to the output.
+         *
+         * @param text  the text.
+         */
+        void write(CharSequence text) {
+            if (this.finished) {
+                throw new IllegalStateException(
+                        "The SVG document is finished.");
+            }
+            if (this.error != null) {
+                return;
+            }
+            try {
+                this.writer.append(text);
+            }
+            catch (IOException e) {
+                this.error = e;
+            }
+        }
+
+        /**
+         * Appends a coordinate value.
+         *
+         * @param sb  the string builder.
+         * @param value  the value.
+         *
+         * @return The string builder.
+         */
+        StringBuilder number(StringBuilder sb, double value) {
+            return number(sb, value, this.decimalPlaces);
+        }
+
+        /**
+         * Appends a number with at most the specified number of decimal
+         * places (and no trailing zeros).
+         *
+         * @param sb  the string builder.
+         * @param value  the value.
+         * @param dp  the maximum number of decimal places (0 to 6).
+         *
+         * @return The string builder.
+         */
+        StringBuilder number(StringBuilder sb, double value, int dp) {
+            long scale = POWERS[dp];
+            double scaled = Math.rint(value * scale);
+            if (Double.isNaN(scaled) || Math.abs(scaled) >= 1.0e15) {
+                return sb.append(Double.isNaN(value) ? 0.0 : value);
+            }
+            long n = (long) scaled;
+            if (n < 0) {
+                sb.append('-');
+                n = -n;
+            }
+            sb.append(n / scale);
+            long fraction = n % scale;
+            if (fraction != 0) {
+                sb.append('.');
+                long divisor = scale / 10;
+                while (fraction != 0) {
+                    sb.append((char) ('0' + fraction / divisor));
+                    fraction %= divisor;
+                    divisor /= 10;
+                }
+            }
+            return sb;
+        }
+
+        /**
+         * Appends the SVG path data for a shape.
+         *
+         * @param sb  the string builder.
+         * @param s  the shape.
+         * @param dx  the offset for the x-coordinates.
+         * @param dy  the offset for the y-coordinates.
+         *
+         * @return The string builder.
+         */
+        StringBuilder pathData(StringBuilder sb, Shape s, double dx,
+                double dy) {
+            double[] c = new double[6];
+            PathIterator iterator = s.getPathIterator(null);
+            while (!iterator.isDone()) {
+                int type = iterator.currentSegment(c);
+                switch (type) {
+                    case PathIterator.SEG_MOVETO:
+                        sb.append('M');
+                        point(sb, c[0] + dx, c[1] + dy);
+                        break;
+                    case PathIterator.SEG_LINETO:
+                        sb.append('L');
+                        point(sb, c[0] + dx, c[1] + dy);
+                        break;
+                    case PathIterator.SEG_QUADTO:
+                        sb.append('Q');
+                        point(sb, c[0] + dx, c[1] + dy).append(' ');
+                        point(sb, c[2] + dx, c[3] + dy);
+                        break;
+                    case PathIterator.SEG_CUBICTO:
+                        sb.append('C');
+                        point(sb, c[0] + dx, c[1] + dy).append(' ');
+                        point(sb, c[2] + dx, c[3] + dy).append(' ');
+                        point(sb, c[4] + dx, c[5] + dy);
+                        break;
+                    default:
+                        sb.append('Z');
+                }
+                iterator.next();
+            }
+            return sb;
+        }
+
+        /**
+         * Appends a point.
+         *
+         * @param sb  the string builder.
+         * @param x  the x-coordinate.
+         * @param y  the y-coordinate.
+         *
+         * @return The string builder.
+         */
+        private StringBuilder point(StringBuilder sb, double x, double y) {
+            number(sb, x).append(' ');
+            return number(sb, y);
+        }
+
+        /**
+         * Returns the id for a definition (a gradient or clip path),
+         * writing the definition if it has not already been written.
+         *
+         * @param start  the start of the element (up to the id attribute).
+         * @param rest  the rest of the element (after the id attribute).
+         *
+         * @return The id.
+         */
+        String definitionId(String start, String rest) {
+            String key = start + rest;
+            String id = this.definitions.get(key);
+            if (id == null) {
+                id = "_" + this.nextId++;
+                this.definitions.put(key, id);
+                flushPending();
+                write("<defs>" + start + " id=\"" + id + "\"" + rest
+                        + "</defs>\n");
+            }
+            return id;
+        }
+
+        /**
+         * Returns the id of the definition for a shape that has already
+         * been written at least once with the same style, writing the
+         * definition when the shape is seen for the second time.  Returns
+         * {@code null} the first time a shape is seen.
+         *
+         * @param key  the path data for the shape, relative to its bounds.
+         * @param style  the style attributes.
+         *
+         * @return The id, or {@code null}.
+         */
+        private String sharedShapeId(String key, String style) {
+            String mapKey = key + style;
+            String id = this.shapes.get(mapKey);
+            if (id == null) {
+                if (this.shapes.size() < MAX_SHARED_SHAPES) {
+                    this.shapes.put(mapKey, "");
+                }
+                return null;
+            }
+            if (id.isEmpty()) {
+                id = "_" + this.nextId++;
+                this.shapes.put(mapKey, id);
+                this.sharedShapeCount++;
+                write("<defs><path id=\"" + id + "\" d=\"" + key + "\""
+                        + style + "/></defs>\n");
+            }
+            return id;
+        }
+
+        /**
+         * Writes a shape, as a reference to a shared definition if the
+         * shape has been seen before (the clip group must already be
+         * selected).
+         *
+         * @param s  the shape.
+         * @param key  the path data relative to the shape bounds
+         *     ({@code null} if the shape cannot be shared).
+         * @param x  the x-coordinate of the shape bounds.
+         * @param y  the y-coordinate of the shape bounds.
+         * @param style  the style attributes.
+         * @param transform  the transform attribute.
+         */
+        void writeShape(Shape s, String key, double x, double y,
+                String style, String transform) {
+            String id = key != null ? sharedShapeId(key, style) : null;
+            StringBuilder sb = new StringBuilder(128);
+            if (id != null) {
+                sb.append("<use xlink:href=\"#").append(id).append("\" x=\"");
+                number(sb, x).append("\" y=\"");
+                number(sb, y).append('"');
+            }
+            else {
+                sb.append("<path d=\"");
+                pathData(sb, s, 0.0, 0.0).append('"').append(style);
+            }
+            sb.append(transform).append("/>\n");
+            write(sb);
+        }
+
+        /**
+         * Holds back a filled shape, so that it can be combined with an
+         * outline of the same shape (the clip group must already be
+         * selected).
+         *
+         * @param s  the shape.
+         * @param key  the path data relative to the shape bounds.
+         * @param x  the x-coordinate of the shape bounds.
+         * @param y  the y-coordinate of the shape bounds.
+         * @param style  the fill attributes.
+         * @param rendering  the shape rendering attribute.
+         * @param transform  the transform attribute.
+         * @param clip  the clip id.
+         */
+        void startShape(Shape s, String key, double x, double y,
+                String style, String rendering, String transform,
+                String clip) {
+            this.shape = s;
+            this.shapeKey = key;
+            this.shapeX = x;
+            this.shapeY = y;
+            this.shapeStyle = style;
+            this.shapeRendering = rendering;
+            this.shapeTransform = transform;
+            this.shapeClip = clip;
+        }
+
+        /**
+         * Writes the pending filled shape combined with its outline, if the
+         * outline is for the same shape at the same location.
+         *
+         * @param key  the path data relative to the shape bounds.
+         * @param x  the x-coordinate of the shape bounds.
+         * @param y  the y-coordinate of the shape bounds.
+         * @param style  the stroke attributes (starting with
+         *     {@code fill="none"}).
+         * @param rendering  the shape rendering attribute.
+         * @param transform  the transform attribute.
+         * @param clip  the clip id.
+         *
+         * @return A boolean indicating whether the outline was written.
+         */
+        boolean completeShape(String key, double x, double y, String style,
+                String rendering, String transform, String clip) {
+            if (this.shape == null || this.shapeX != x || this.shapeY != y
+                    || !this.shapeKey.equals(key)
+                    || !this.shapeRendering.equals(rendering)
+                    || !this.shapeTransform.equals(transform)
+                    || !Objects.equals(this.shapeClip, clip)) {
+                return false;
+            }
+            Shape s = this.shape;
+            this.shape = null;
+            String combined = this.shapeStyle
+                    + style.substring(FILL_NONE.length()) + rendering;
+            writeShape(s, key, x, y, combined, transform);
+            return true;
+        }
+
+        /**
+         * Extends the pending polyline, if the style and clip match and the
+         * line starts at the end of the polyline.
+         *
+         * @param style  the style attributes.
+         * @param clip  the clip id.
+         * @param x1  the x-coordinate of the start of the line.
+         * @param y1  the y-coordinate of the start of the line.
+         * @param x2  the x-coordinate of the end of the line.
+         * @param y2  the y-coordinate of the end of the line.
+         *
+         * @return A boolean indicating whether the line was added.
+         */
+        boolean extendPath(String style, String clip, double x1, double y1,
+                double x2, double y2) {
+            if (this.path == null || this.pathX != x1 || this.pathY != y1
+                    || !this.pathStyle.equals(style)
+                    || !Objects.equals(this.pathClip, clip)) {
+                return false;
+            }
+            this.path.append('L');
+            point(this.path, x2, y2);
+            this.pathX = x2;
+            this.pathY = y2;
+            return true;
+        }
+
+        /**
+         * Starts a new polyline (the clip group must already be selected).
+         *
+         * @param style  the style attributes.
+         * @param clip  the clip id.
+         * @param x1  the x-coordinate of the start of the line.
+         * @param y1  the y-coordinate of the start of the line.
+         * @param x2  the x-coordinate of the end of the line.
+         * @param y2  the y-coordinate of the end of the line.
+         */
+        void startPath(String style, String clip, double x1, double y1,
+                double x2, double y2) {
+            this.path = new StringBuilder(256);
+            this.path.append('M');
+            point(this.path, x1, y1).append('L');
+            point(this.path, x2, y2);
+            this.pathStyle = style;
+            this.pathClip = clip;
+            this.pathX = x2;
+            this.pathY = y2;
+        }
+
+        /**
+         * Writes the pending polyline or filled shape, if there is one.
+         */
+        void flushPending() {
+            if (this.shape != null) {
+                Shape s = this.shape;
+                this.shape = null;
+                writeShape(s, this.shapeKey, this.shapeX, this.shapeY,
+                        this.shapeStyle + this.shapeRendering,
+                        this.shapeTransform);
+            }
+            if (this.path != null) {
+                StringBuilder sb = this.path;
+                this.path = null;
+                write(new StringBuilder(sb.length() + 96).append("<path d=\"")
+                        .append(sb).append('"').append(this.pathStyle)
+                        .append("/>\n"));
+            }
+        }
+
+        /**
+         * Ensures that the open clip group is the one for the specified
+         * clip.
+         *
+         * @param clip  the clip id ({@code null} for no clip).
+         */
+        void selectClip(String clip) {
+            if (Objects.equals(clip, this.openClip)) {
+                return;
+            }
+            flushPending();
+            if (this.openClip != null) {
+                write("</g>\n");
+            }
+            if (clip != null) {
+                write("<g clip-path=\"url(#" + clip + ")\">\n");
+            }
+            this.openClip = clip;
+        }
+
+        /**
+         * Opens an element group.
+         *
+         * @param start  the start tag.
+         */
+        void beginGroup(CharSequence start) {
+            flushPending();
+            selectClip(null);
+            write(start);
+            this.groupDepth++;
+        }
+
+        /**
+         * Closes the current element group, if there is one.
+         */
+        void endGroup() {
+            flushPending();
+            selectClip(null);
+            if (this.groupDepth > 0) {
+                write("</g>\n");
+                this.groupDepth--;
+            }
+        }
+
+        /**
+         * Completes the document.
+         *
+         * @throws IOException if there was a problem writing the output.
+         */
+        void finish() throws IOException {
+            if (this.finished) {
+                return;
+            }
+            flushPending();
+            selectClip(null);
+            while (this.groupDepth > 0) {
+                endGroup();
+            }
+            write("</svg>\n");
+            this.finished = true;
+            if (this.measureGraphics != null) {
+                this.measureGraphics.dispose();
+            }
+            if (this.error == null) {
+                try {
+                    this.writer.flush();
+                }
+                catch (IOException e) {
+                    this.error = e;
+                }
+            }
+            if (this.error != null) {
+                throw this.error;
+            }
+        }
+
+    }
+
+}
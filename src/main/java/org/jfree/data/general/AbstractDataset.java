@@ -62,6 +62,18 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /** 
+     * The dispatcher used to deliver change events ({@code null} to notify
+     * listeners immediately).
+     */
+    private transient DatasetChangeDispatcher changeDispatcher;
+
+    /** 
+     * The target passed to the dispatcher (created on demand, so that each
+     * clone has its own target).
+     */
+    private transient DatasetChangeListener dispatchTarget;
+
     /**
      * Constructs a dataset.
      */
@@ -97,6 +109,34 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         }    
     }
     
+    /**
+     * Returns the dispatcher used to deliver change events to the registered
+     * listeners.  The default value is {@code null}.
+     *
+     * @return The dispatcher (possibly {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeDispatcher getChangeDispatcher() {
+        return this.changeDispatcher;
+    }
+
+    /**
+     * Sets the dispatcher used to deliver change events to the registered
+     * listeners.  If this is {@code null}, the listeners are notified
+     * immediately when the dataset changes.  A dispatcher such as
+     * {@link CoalescingDatasetChangeDispatcher} can be used to reduce the
+     * cost of frequent updates.  The dispatcher is shared with clones of
+     * this dataset, but is not serialized.
+     *
+     * @param dispatcher  the dispatcher ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    public void setChangeDispatcher(DatasetChangeDispatcher dispatcher) {
+        this.changeDispatcher = dispatcher;
+    }
+
     /**
      * Registers an object to receive notification of changes to the dataset.
      *
@@ -153,15 +193,52 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     }
 
     /**
-     * Notifies all registered listeners that the dataset has changed.
+     * Notifies all registered listeners that one series in the dataset has
+     * changed, provided that the {@code notify} flag has not been set to
+     * {@code false}.  The event carries the details of the change so that
+     * listeners can update their state incrementally.
+     *
+     * @param series  the index of the series that changed.
+     * @param info  details of the change ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    protected void fireDatasetChanged(int series, SeriesChangeInfo info) {
+        if (this.notify) {
+            notifyListeners(new DatasetChangeEvent(this, this, series, info));
+        }
+    }
+
+    /**
+     * Notifies all registered listeners that the dataset has changed.  If a
+     * change dispatcher has been set, the event is passed to the dispatcher
+     * which may deliver it later (possibly merged with other events).
      *
      * @param event  contains information about the event that triggered the
      *               notification.
      *
      * @see #addChangeListener(DatasetChangeListener)
      * @see #removeChangeListener(DatasetChangeListener)
+     * @see #setChangeDispatcher(DatasetChangeDispatcher)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        DatasetChangeDispatcher dispatcher = this.changeDispatcher;
+        if (dispatcher == null) {
+            deliver(event);
+            return;
+        }
+        if (this.dispatchTarget == null) {
+            this.dispatchTarget = this::deliver;
+        }
+        dispatcher.dispatch(event, this.dispatchTarget);
+    }
+
+    /**
+     * Sends an event to all registered listeners.
+     *
+     * @param event  the event.
+     */
+    private void deliver(DatasetChangeEvent event) {
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
@@ -185,6 +262,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
     public Object clone() throws CloneNotSupportedException {
         AbstractDataset clone = (AbstractDataset) super.clone();
         clone.listenerList = new EventListenerList();
+        clone.dispatchTarget = null;
         return clone;
     }
 
@@ -98,13 +98,40 @@ public abstract class AbstractSeriesDataset<S extends Comparable<S>>
     }
 
     /**
-     * Called when a series belonging to the dataset changes.
+     * Returns the index of the specified series object in the dataset, or
+     * -1.  Series are compared by identity (several series in a dataset can
+     * have the same key, or be equal).  This default implementation returns
+     * -1, subclasses that hold {@link Series} objects should override it.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The index (or -1 if the series is not found).
+     */
+    protected int indexOfSeries(Object series) {
+        return -1;
+    }
+
+    /**
+     * Called when a series belonging to the dataset changes.  If the event
+     * carries details of the change, they are passed on (with the index of
+     * the series, see {@link #indexOfSeries(Object)}) in the dataset change
+     * event.
      *
      * @param event  information about the change.
      */
     @Override
     public void seriesChanged(SeriesChangeEvent event) {
-        fireDatasetChanged();
+        SeriesChangeInfo info = event.getInfo();
+        int series = -1;
+        if (info != null && event.getSource() instanceof Series) {
+            series = indexOfSeries(event.getSource());
+        }
+        if (series >= 0) {
+            fireDatasetChanged(series, info);
+        }
+        else {
+            fireDatasetChanged();
+        }
     }
 
 }
@@ -0,0 +1,252 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------------
+ * CoalescingDatasetChangeDispatcher.java
+ * --------------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.awt.EventQueue;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import javax.swing.Timer;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A dataset change dispatcher that holds back events and delivers them in
+ * batches, merging all the events for each dataset in a batch into a single
+ * event.  When the first event of a batch arrives, a task that delivers the
+ * batch is passed to an {@link Executor}, so the executor determines the
+ * length of the batch: {@code EventQueue::invokeLater} gives one batch per
+ * pass of the Swing event dispatch thread, while a timer gives one batch per
+ * time window.
+ * <p>
+ * A merged event keeps the series index and change details (see
+ * {@link DatasetChangeEvent#getInfo()}) when all the events in the batch
+ * describe items added (contiguously) or items updated in the same series,
+ * so that listeners can still update their state incrementally.  Otherwise
+ * the merged event describes an unknown change.
+ * <p>
+ * This replaces the common pattern of calling {@code setNotify(false)}
+ * before a burst of updates and {@code setNotify(true)} afterwards, and
+ * works for updates that arrive continuously.  Note that the listeners are
+ * called on the thread used by the executor.  One dispatcher can be shared
+ * by any number of datasets.
+ *
+ * @since 2.0.0
+ */
+public class CoalescingDatasetChangeDispatcher
+        implements DatasetChangeDispatcher {
+
+    /** The executor used to deliver each batch. */
+    private final Executor executor;
+
+    /** The pending events, by target, in order of arrival. */
+    private final Map<DatasetChangeListener, DatasetChangeEvent> pending;
+
+    /**
+     * Creates a new dispatcher that delivers events on the Swing event
+     * dispatch thread, at most once per time window.
+     *
+     * @param windowMillis  the length of the time window in milliseconds
+     *     (if this is zero, the events are delivered on the next pass of the
+     *     event dispatch thread).
+     */
+    public CoalescingDatasetChangeDispatcher(int windowMillis) {
+        this(swingExecutor(windowMillis));
+    }
+
+    /**
+     * Creates a new dispatcher.
+     *
+     * @param executor  the executor used to deliver each batch of events
+     *     ({@code null} not permitted).
+     */
+    public CoalescingDatasetChangeDispatcher(Executor executor) {
+        Args.nullNotPermitted(executor, "executor");
+        this.executor = executor;
+        this.pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Returns an executor that runs tasks on the Swing event dispatch
+     * thread after a delay.
+     *
+     * @param delay  the delay in milliseconds.
+     *
+     * @return The executor.
+     */
+    private static Executor swingExecutor(int delay) {
+        Args.requireNonNegative(delay, "delay");
+        if (delay == 0) {
+            return EventQueue::invokeLater;
+        }
+        return task -> {
+            Timer timer = new Timer(delay, e -> task.run());
+            timer.setRepeats(false);
+            timer.start();
+        };
+    }
+
+    /**
+     * Adds an event to the current batch, merging it with any pending event
+     * for the same target.
+     *
+     * @param event  the event ({@code null} not permitted).
+     * @param target  the target ({@code null} not permitted).
+     */
+    @Override
+    public void dispatch(DatasetChangeEvent event,
+            DatasetChangeListener target) {
+        Args.nullNotPermitted(event, "event");
+        Args.nullNotPermitted(target, "target");
+        boolean first;
+        synchronized (this.pending) {
+            first = this.pending.isEmpty();
+            DatasetChangeEvent previous = this.pending.get(target);
+            this.pending.put(target, previous == null ? event
+                    : merge(previous, event));
+        }
+        if (first) {
+            this.executor.execute(this::flush);
+        }
+    }
+
+    /**
+     * Returns the number of targets with an event waiting to be delivered.
+     *
+     * @return The number of pending events.
+     */
+    public int getPendingCount() {
+        synchronized (this.pending) {
+            return this.pending.size();
+        }
+    }
+
+    /**
+     * Delivers all the pending events immediately, on the calling thread.
+     */
+    public void flush() {
+        List<Map.Entry<DatasetChangeListener, DatasetChangeEvent>> batch;
+        synchronized (this.pending) {
+            batch = new ArrayList<>(this.pending.entrySet());
+            this.pending.clear();
+        }
+        for (Map.Entry<DatasetChangeListener, DatasetChangeEvent> entry
+                : batch) {
+            entry.getKey().datasetChanged(entry.getValue());
+        }
+    }
+
+    /**
+     * Merges two events for the same target.
+     *
+     * @param e1  the earlier event.
+     * @param e2  the later event.
+     *
+     * @return The merged event.
+     */
+    static DatasetChangeEvent merge(DatasetChangeEvent e1,
+            DatasetChangeEvent e2) {
+        SeriesChangeInfo info = null;
+        if (e1.getDataset() == e2.getDataset() && e1.getInfo() != null
+                && e2.getInfo() != null && e1.getSeries() == e2.getSeries()) {
+            info = merge(e1.getInfo(), e2.getInfo());
+        }
+        if (info != null) {
+            return new DatasetChangeEvent(e2.getSource(), e2.getDataset(),
+                    e2.getSeries(), info);
+        }
+        return new DatasetChangeEvent(e2.getSource(), e2.getDataset());
+    }
+
+    /**
+     * Merges two consecutive changes to the same series, where possible.
+     *
+     * @param i1  the earlier change.
+     * @param i2  the later change.
+     *
+     * @return The merged change, or {@code null} if the changes cannot be
+     *     described by a single change.
+     */
+    private static SeriesChangeInfo merge(SeriesChangeInfo i1,
+            SeriesChangeInfo i2) {
+        if (i2.getType() == SeriesChangeType.ITEMS_SHIFTED
+                && (i1.getType() == SeriesChangeType.ITEMS_ADDED
+                || i1.getType() == SeriesChangeType.ITEMS_SHIFTED)) {
+            // the window slid again: the items appended earlier move down
+            // by the later removal count (and some may have been removed)
+            int r2 = i2.getRemovedCount();
+            if (i2.getFirstItem() == i1.getLastItem() - r2 + 1) {
+                return SeriesChangeInfo.itemsShifted(
+                        i1.getRemovedCount() + r2,
+                        Math.max(0, i1.getFirstItem() - r2),
+                        i2.getLastItem());
+            }
+            return null;
+        }
+        if (i1.getType() == SeriesChangeType.ITEMS_SHIFTED
+                && i2.getType() == SeriesChangeType.ITEMS_ADDED) {
+            if (i2.getFirstItem() == i1.getLastItem() + 1) {
+                int added = i2.getLastItem() - i2.getFirstItem() + 1;
+                return SeriesChangeInfo.itemsShifted(i1.getRemovedCount(),
+                        i1.getFirstItem(), i1.getLastItem() + added);
+            }
+            return null;
+        }
+        if (i1.getType() != i2.getType()) {
+            return null;
+        }
+        if (i1.getType() == SeriesChangeType.ITEMS_ADDED) {
+            // the new items must be inserted in (or next to) the range of
+            // items added earlier
+            if (i2.getFirstItem() >= i1.getFirstItem()
+                    && i2.getFirstItem() <= i1.getLastItem() + 1) {
+                int added = i2.getLastItem() - i2.getFirstItem() + 1;
+                return SeriesChangeInfo.itemsAdded(i1.getFirstItem(),
+                        i1.getLastItem() + added);
+            }
+        }
+        else if (i1.getType() == SeriesChangeType.ITEMS_UPDATED) {
+            return SeriesChangeInfo.itemsUpdated(
+                    Math.min(i1.getFirstItem(), i2.getFirstItem()),
+                    Math.max(i1.getLastItem(), i2.getLastItem()));
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,65 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DatasetChangeDispatcher.java
+ * ----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * An object that delivers dataset change events on behalf of one or more
+ * datasets.  A dispatcher can be installed on a dataset with
+ * {@link AbstractDataset#setChangeDispatcher(DatasetChangeDispatcher)} to
+ * control when (and how often) the dataset's listeners are notified of
+ * changes, for example to merge the events generated by a high rate of
+ * updates into a single event per frame.
+ *
+ * @see CoalescingDatasetChangeDispatcher
+ *
+ * @since 2.0.0
+ */
+public interface DatasetChangeDispatcher {
+
+    /**
+     * Delivers an event to a target, either immediately or later.  A dataset
+     * always passes the same target object, which notifies all the
+     * dataset's registered listeners, so implementations can use the target
+     * to identify the dataset.
+     *
+     * @param event  the event ({@code null} not permitted).
+     * @param target  the target that notifies the dataset's listeners
+     *     ({@code null} not permitted).
+     */
+    void dispatch(DatasetChangeEvent event, DatasetChangeListener target);
+
+}
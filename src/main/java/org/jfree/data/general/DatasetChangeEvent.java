@@ -57,6 +57,12 @@ public class DatasetChangeEvent extends java.util.EventObject {
      */
     private final Dataset dataset;
 
+    /** The index of the series that changed (-1 if not known). */
+    private final int series;
+
+    /** Details of the change ({@code null} if not known). */
+    private final SeriesChangeInfo info;
+
     /**
      * Constructs a new event.  The source is either the dataset or the
      * {@link org.jfree.chart.plot.Plot} class.  The dataset can be
@@ -68,8 +74,30 @@ public class DatasetChangeEvent extends java.util.EventObject {
      *                 permitted).
      */
     public DatasetChangeEvent(Object source, Dataset dataset) {
+        this(source, dataset, -1, null);
+    }
+
+    /**
+     * Constructs a new event with details of a change to one series in the
+     * dataset.  Listeners can use the details to update their state
+     * incrementally, while listeners that ignore them still see an ordinary
+     * change event.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event ({@code null}
+     *                 permitted).
+     * @param series  the index of the series that changed (-1 if not known).
+     * @param info  details of the change ({@code null} permitted, meaning
+     *     that any part of the dataset might have changed).
+     *
+     * @since 2.0.0
+     */
+    public DatasetChangeEvent(Object source, Dataset dataset, int series,
+            SeriesChangeInfo info) {
         super(source);
         this.dataset = dataset;
+        this.series = series;
+        this.info = info;
     }
 
     /**
@@ -83,4 +111,28 @@ public class DatasetChangeEvent extends java.util.EventObject {
         return this.dataset;
     }
 
+    /**
+     * Returns the index of the series that changed, if it is known.
+     *
+     * @return The series index (-1 if not known).
+     *
+     * @since 2.0.0
+     */
+    public int getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the details of the change to the series returned by
+     * {@link #getSeries()}, if they are known.
+     *
+     * @return The details (possibly {@code null}, in which case listeners
+     *     should assume that any part of the dataset might have changed).
+     *
+     * @since 2.0.0
+     */
+    public SeriesChangeInfo getInfo() {
+        return this.series >= 0 ? this.info : null;
+    }
+
 }
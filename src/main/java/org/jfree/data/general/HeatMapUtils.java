@@ -39,6 +39,7 @@ package org.jfree.data.general;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.image.BufferedImage;
+import org.jfree.chart.renderer.ColorLookupTable;
 import org.jfree.chart.renderer.PaintScale;
 import org.jfree.chart.internal.Args;
 import org.jfree.data.xy.XYDataset;
@@ -96,6 +97,9 @@ public abstract class HeatMapUtils {
 
     /**
      * Creates an image that displays the values from the specified dataset.
+     * If the paint scale is supported by {@link ColorLookupTable}, the
+     * colors are written directly into the image raster, otherwise a
+     * rectangle is filled for each value.
      *
      * @param dataset  the dataset ({@code null} not permitted).
      * @param paintScale  the paint scale for the z-values ({@code null}
@@ -112,6 +116,19 @@ public abstract class HeatMapUtils {
         int yCount = dataset.getYSampleCount();
         BufferedImage image = new BufferedImage(xCount, yCount,
                 BufferedImage.TYPE_INT_ARGB);
+        ColorLookupTable table = ColorLookupTable.of(paintScale);
+        if (table != null) {
+            int[] pixels = new int[xCount * yCount];
+            for (int yIndex = 0; yIndex < yCount; yIndex++) {
+                int offset = (yCount - yIndex - 1) * xCount;
+                for (int xIndex = 0; xIndex < xCount; xIndex++) {
+                    pixels[offset + xIndex] = table.getARGB(
+                            dataset.getZValue(xIndex, yIndex));
+                }
+            }
+            image.getRaster().setDataElements(0, 0, xCount, yCount, pixels);
+            return image;
+        }
         Graphics2D g2 = image.createGraphics();
         for (int xIndex = 0; xIndex < xCount; xIndex++) {
             for (int yIndex = 0; yIndex < yCount; yIndex++) {
@@ -0,0 +1,424 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * MinMaxTracker.java
+ * ------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.function.IntToDoubleFunction;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Tracks the minimum and maximum of a sequence of values held by a series,
+ * ignoring {@code Double.NaN} values.  The owner reports each change to the
+ * sequence (items added, removed or changed) and the tracker updates the
+ * bounds incrementally where it can.  When a change makes the cached bounds
+ * unreliable (for example, removing the current maximum), the bounds are
+ * recalculated from the owner's values the next time they are requested.
+ * <p>
+ * In sliding window mode (used when a series has a maximum item count or
+ * maximum item age) the tracker also maintains a pair of monotonic deques,
+ * so that adding items at the end of the sequence and removing items from
+ * the start of the sequence update the bounds in amortized constant time.
+ * Any other kind of change suspends the deques until the next
+ * recalculation.  The deques can, in the worst case (monotonic data), hold
+ * one entry per item, which is why this mode is not enabled by default.
+ *
+ * @since 2.0.0
+ */
+public class MinMaxTracker {
+
+    /** The function that returns the value for an item index. */
+    private final IntToDoubleFunction values;
+
+    /** The number of items in the sequence. */
+    private int count;
+
+    /** The minimum value (Double.NaN if there is none). */
+    private double min;
+
+    /** The maximum value (Double.NaN if there is none). */
+    private double max;
+
+    /** A flag indicating that the bounds must be recalculated. */
+    private boolean stale;
+
+    /** A flag that controls whether the deques are maintained. */
+    private boolean slidingWindow;
+
+    /** A flag indicating that the deques match the current sequence. */
+    private boolean dequesValid;
+
+    /** The sequence number for the item at index 0. */
+    private long headSeq;
+
+    /** The candidates for the minimum value (ascending values). */
+    private final MonotonicDeque minDeque;
+
+    /** The candidates for the maximum value (descending values). */
+    private final MonotonicDeque maxDeque;
+
+    /**
+     * Creates a new tracker for an empty sequence.
+     *
+     * @param values  a function that returns the value for an item index,
+     *     used when the bounds need to be recalculated ({@code null} not
+     *     permitted).
+     */
+    public MinMaxTracker(IntToDoubleFunction values) {
+        Args.nullNotPermitted(values, "values");
+        this.values = values;
+        this.minDeque = new MonotonicDeque(false);
+        this.maxDeque = new MonotonicDeque(true);
+        clear();
+    }
+
+    /**
+     * Returns the flag that controls whether or not the tracker maintains
+     * deques for sliding window updates.
+     *
+     * @return A boolean.
+     */
+    public boolean isSlidingWindow() {
+        return this.slidingWindow;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the tracker maintains
+     * deques so that adding items at the end of the sequence and removing
+     * items from the start are handled in amortized constant time.
+     *
+     * @param slidingWindow  the new flag value.
+     */
+    public void setSlidingWindow(boolean slidingWindow) {
+        if (this.slidingWindow == slidingWindow) {
+            return;
+        }
+        this.slidingWindow = slidingWindow;
+        this.minDeque.clear();
+        this.maxDeque.clear();
+        this.headSeq = 0L;
+        this.dequesValid = slidingWindow && this.count == 0;
+    }
+
+    /**
+     * Returns the number of items in the tracked sequence.
+     *
+     * @return The item count.
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the minimum value in the sequence, ignoring {@code Double.NaN}
+     * values.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is none).
+     */
+    public double getMin() {
+        if (this.stale) {
+            recalculate();
+        }
+        return this.min;
+    }
+
+    /**
+     * Returns the maximum value in the sequence, ignoring {@code Double.NaN}
+     * values.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is none).
+     */
+    public double getMax() {
+        if (this.stale) {
+            recalculate();
+        }
+        return this.max;
+    }
+
+    /**
+     * Resets the tracker to an empty sequence.
+     */
+    public final void clear() {
+        this.count = 0;
+        this.min = Double.NaN;
+        this.max = Double.NaN;
+        this.stale = false;
+        this.minDeque.clear();
+        this.maxDeque.clear();
+        this.headSeq = 0L;
+        this.dequesValid = this.slidingWindow;
+    }
+
+    /**
+     * Resets the tracker for a sequence with the specified number of items,
+     * after a change that cannot be described item by item.  The bounds will
+     * be recalculated when next requested.
+     *
+     * @param count  the number of items in the sequence.
+     */
+    public void reset(int count) {
+        Args.requireNonNegative(count, "count");
+        this.count = count;
+        this.stale = true;
+        this.dequesValid = false;
+    }
+
+    /**
+     * Records that an item has been inserted into the sequence.
+     *
+     * @param index  the index of the new item.
+     * @param value  the value of the new item.
+     */
+    public void itemAdded(int index, double value) {
+        this.count++;
+        if (!this.stale) {
+            include(value);
+        }
+        if (this.dequesValid) {
+            if (index == this.count - 1) {
+                long seq = this.headSeq + index;
+                this.minDeque.addLast(seq, value);
+                this.maxDeque.addLast(seq, value);
+            }
+            else {
+                this.dequesValid = false;
+            }
+        }
+    }
+
+    /**
+     * Records that an item has been removed from the sequence.
+     *
+     * @param index  the index that the item had before it was removed.
+     * @param value  the value of the removed item.
+     */
+    public void itemRemoved(int index, double value) {
+        this.count--;
+        if (this.count == 0) {
+            clear();
+            return;
+        }
+        if (this.dequesValid && index == 0) {
+            this.headSeq++;
+            this.minDeque.removeBefore(this.headSeq);
+            this.maxDeque.removeBefore(this.headSeq);
+            this.min = this.minDeque.firstValue();
+            this.max = this.maxDeque.firstValue();
+            this.stale = false;
+            return;
+        }
+        this.dequesValid = false;
+        if (!this.stale && !Double.isNaN(value)
+                && (value <= this.min || value >= this.max)) {
+            this.stale = true;
+        }
+    }
+
+    /**
+     * Records that the value of an item in the sequence has changed.
+     *
+     * @param index  the item index.
+     * @param oldValue  the old value.
+     * @param newValue  the new value.
+     */
+    public void itemChanged(int index, double oldValue, double newValue) {
+        this.dequesValid = false;
+        if (this.stale) {
+            return;
+        }
+        if (!Double.isNaN(oldValue)
+                && (oldValue <= this.min || oldValue >= this.max)) {
+            this.stale = true;
+        }
+        else {
+            include(newValue);
+        }
+    }
+
+    /**
+     * Updates the cached bounds to include the specified value.
+     *
+     * @param value  the value.
+     */
+    private void include(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        if (Double.isNaN(this.min) || value < this.min) {
+            this.min = value;
+        }
+        if (Double.isNaN(this.max) || value > this.max) {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Recalculates the bounds (and, in sliding window mode, the deques) by
+     * iterating over all the values in the sequence.
+     */
+    private void recalculate() {
+        this.min = Double.NaN;
+        this.max = Double.NaN;
+        this.minDeque.clear();
+        this.maxDeque.clear();
+        this.headSeq = 0L;
+        for (int i = 0; i < this.count; i++) {
+            double value = this.values.applyAsDouble(i);
+            include(value);
+            if (this.slidingWindow) {
+                this.minDeque.addLast(i, value);
+                this.maxDeque.addLast(i, value);
+            }
+        }
+        this.dequesValid = this.slidingWindow;
+        this.stale = false;
+    }
+
+    /**
+     * A double-ended queue of (sequence number, value) pairs in which the
+     * values are kept in monotonic order, so that the first entry is always
+     * the extreme value for the items that have not yet been removed.
+     */
+    private static final class MonotonicDeque {
+
+        /** Keep descending values (for the maximum)? */
+        private final boolean descending;
+
+        /** The sequence numbers (circular buffer). */
+        private long[] seqs;
+
+        /** The values (circular buffer). */
+        private double[] vals;
+
+        /** The buffer index of the first entry. */
+        private int head;
+
+        /** The number of entries. */
+        private int size;
+
+        /**
+         * Creates a new deque.
+         *
+         * @param descending  keep descending values?
+         */
+        MonotonicDeque(boolean descending) {
+            this.descending = descending;
+            this.seqs = new long[8];
+            this.vals = new double[8];
+        }
+
+        /**
+         * Removes all entries.
+         */
+        void clear() {
+            this.head = 0;
+            this.size = 0;
+        }
+
+        /**
+         * Adds an entry for a new item at the end of the sequence, first
+         * removing entries that can no longer be the extreme value.
+         *
+         * @param seq  the sequence number.
+         * @param value  the value (NaN is ignored).
+         */
+        void addLast(long seq, double value) {
+            if (Double.isNaN(value)) {
+                return;
+            }
+            int mask = this.seqs.length - 1;
+            while (this.size > 0) {
+                double last = this.vals[(this.head + this.size - 1) & mask];
+                if (this.descending ? last <= value : last >= value) {
+                    this.size--;
+                }
+                else {
+                    break;
+                }
+            }
+            if (this.size == this.seqs.length) {
+                grow();
+                mask = this.seqs.length - 1;
+            }
+            int i = (this.head + this.size) & mask;
+            this.seqs[i] = seq;
+            this.vals[i] = value;
+            this.size++;
+        }
+
+        /**
+         * Removes entries with sequence numbers less than {@code seq}.
+         *
+         * @param seq  the sequence number of the first remaining item.
+         */
+        void removeBefore(long seq) {
+            int mask = this.seqs.length - 1;
+            while (this.size > 0 && this.seqs[this.head] < seq) {
+                this.head = (this.head + 1) & mask;
+                this.size--;
+            }
+        }
+
+        /**
+         * Returns the value of the first entry.
+         *
+         * @return The value ({@code Double.NaN} if the deque is empty).
+         */
+        double firstValue() {
+            return this.size > 0 ? this.vals[this.head] : Double.NaN;
+        }
+
+        /**
+         * Doubles the capacity of the buffers (which is always a power of
+         * two).
+         */
+        private void grow() {
+            int capacity = this.seqs.length;
+            long[] s = new long[capacity * 2];
+            double[] v = new double[capacity * 2];
+            for (int j = 0; j < this.size; j++) {
+                int i = (this.head + j) & (capacity - 1);
+                s[j] = this.seqs[i];
+                v[j] = this.vals[i];
+            }
+            this.seqs = s;
+            this.vals = v;
+            this.head = 0;
+        }
+
+    }
+
+}
@@ -224,6 +224,21 @@ public abstract class Series<K extends Comparable<K>>
         }
     }
 
+    /**
+     * Signals to registered listeners that the series has been changed,
+     * with details of the change so that listeners can update their state
+     * incrementally.
+     *
+     * @param info  details of the change ({@code null} permitted).
+     *
+     * @since 2.0.0
+     */
+    protected void fireSeriesChanged(SeriesChangeInfo info) {
+        if (this.notify) {
+            notifyListeners(new SeriesChangeEvent(this, info));
+        }
+    }
+
     /**
      * Sends a change event to all registered listeners.
      *
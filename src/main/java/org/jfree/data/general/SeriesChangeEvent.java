@@ -52,13 +52,42 @@ public class SeriesChangeEvent extends EventObject implements Serializable {
     /** For serialization. */
     private static final long serialVersionUID = 1593866085210089052L;
 
+    /** Details of the change ({@code null} if not known). */
+    private final SeriesChangeInfo info;
+
     /**
      * Constructs a new event.
      *
      * @param source  the source of the change event.
      */
     public SeriesChangeEvent(Object source) {
+        this(source, null);
+    }
+
+    /**
+     * Constructs a new event with details of the change.
+     *
+     * @param source  the source of the change event.
+     * @param info  details of the change ({@code null} permitted, meaning
+     *     that any part of the series might have changed).
+     *
+     * @since 2.0.0
+     */
+    public SeriesChangeEvent(Object source, SeriesChangeInfo info) {
         super(source);
+        this.info = info;
+    }
+
+    /**
+     * Returns the details of the change, if they are known.
+     *
+     * @return The details (possibly {@code null}, in which case listeners
+     *     should assume that any part of the series might have changed).
+     *
+     * @since 2.0.0
+     */
+    public SeriesChangeInfo getInfo() {
+        return this.info;
     }
 
 }
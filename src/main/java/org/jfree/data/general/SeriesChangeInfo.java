@@ -0,0 +1,328 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeInfo.java
+ * ---------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.io.Serializable;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A description of a change to a series, carried by a
+ * {@link SeriesChangeEvent} or a {@link DatasetChangeEvent} so that listeners
+ * can update derived state (for example, cached data bounds) incrementally.
+ * The change applies to a contiguous range of items: for
+ * {@link SeriesChangeType#ITEMS_ADDED} and
+ * {@link SeriesChangeType#ITEMS_UPDATED} the item indices refer to the series
+ * after the change, and for {@link SeriesChangeType#ITEMS_REMOVED} they refer
+ * to the series before the change.  Instances of this class are immutable.
+ *
+ * @since 2.0.0
+ */
+public final class SeriesChangeInfo implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3318740437734263620L;
+
+    /** Describes a series being added to a dataset. */
+    private static final SeriesChangeInfo SERIES_ADDED = new SeriesChangeInfo(
+            SeriesChangeType.SERIES_ADDED, -1, -1);
+
+    /** Describes a series being removed from a dataset. */
+    private static final SeriesChangeInfo SERIES_REMOVED
+            = new SeriesChangeInfo(SeriesChangeType.SERIES_REMOVED, -1, -1);
+
+    /** The type of change. */
+    private final SeriesChangeType type;
+
+    /** The index of the first item affected (-1 if not applicable). */
+    private final int firstItem;
+
+    /** The index of the last item affected (-1 if not applicable). */
+    private final int lastItem;
+
+    /** The number of items removed from the start of the series. */
+    private final int removedCount;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change ({@code null} not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     */
+    private SeriesChangeInfo(SeriesChangeType type, int firstItem,
+            int lastItem) {
+        this(type, firstItem, lastItem, 0);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type  the type of change ({@code null} not permitted).
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     * @param removedCount  the number of items removed from the start of
+     *     the series.
+     */
+    private SeriesChangeInfo(SeriesChangeType type, int firstItem,
+            int lastItem, int removedCount) {
+        this.type = type;
+        this.firstItem = firstItem;
+        this.lastItem = lastItem;
+        this.removedCount = removedCount;
+    }
+
+    /**
+     * Returns an instance describing items added to a series.
+     *
+     * @param firstItem  the index of the first new item.
+     * @param lastItem  the index of the last new item.
+     *
+     * @return The change info.
+     */
+    public static SeriesChangeInfo itemsAdded(int firstItem, int lastItem) {
+        return items(SeriesChangeType.ITEMS_ADDED, firstItem, lastItem);
+    }
+
+    /**
+     * Returns an instance describing items removed from a series.
+     *
+     * @param firstItem  the index (before removal) of the first item removed.
+     * @param lastItem  the index (before removal) of the last item removed.
+     *
+     * @return The change info.
+     */
+    public static SeriesChangeInfo itemsRemoved(int firstItem, int lastItem) {
+        return items(SeriesChangeType.ITEMS_REMOVED, firstItem, lastItem);
+    }
+
+    /**
+     * Returns an instance describing updates to the values of items in a
+     * series.
+     *
+     * @param firstItem  the index of the first updated item.
+     * @param lastItem  the index of the last updated item.
+     *
+     * @return The change info.
+     */
+    public static SeriesChangeInfo itemsUpdated(int firstItem, int lastItem) {
+        return items(SeriesChangeType.ITEMS_UPDATED, firstItem, lastItem);
+    }
+
+    /**
+     * Returns an instance describing items removed from the start of a
+     * series followed by items appended to the end of the series.
+     *
+     * @param removedCount  the number of items removed from the start of
+     *     the series (&gt; 0), including any appended items that were
+     *     removed again before the change was reported.
+     * @param firstItem  the index (after the change) of the first appended
+     *     item.
+     * @param lastItem  the index (after the change) of the last appended
+     *     item.
+     *
+     * @return The change info.
+     *
+     * @see #getRemovedCount()
+     */
+    public static SeriesChangeInfo itemsShifted(int removedCount,
+            int firstItem, int lastItem) {
+        if (removedCount <= 0) {
+            throw new IllegalArgumentException("Requires 'removedCount' > 0.");
+        }
+        Args.requireNonNegative(firstItem, "firstItem");
+        if (lastItem < firstItem) {
+            throw new IllegalArgumentException(
+                    "Requires 'lastItem' >= 'firstItem'.");
+        }
+        return new SeriesChangeInfo(SeriesChangeType.ITEMS_SHIFTED,
+                firstItem, lastItem, removedCount);
+    }
+
+    /**
+     * Returns an instance describing one item added to a series, after
+     * which some items were removed from the start of the series (for
+     * example, to respect the maximum item count).  If no items were
+     * removed this is the same as {@link #itemsAdded(int, int)}.  If items
+     * were removed and the new item was not appended to the end of the
+     * series, or was itself removed, the change cannot be described by a
+     * single instance and this method returns {@code null}.
+     *
+     * @param position  the index at which the item was added.
+     * @param itemCount  the number of items in the series after the item
+     *     was added but before any items were removed.
+     * @param removedCount  the number of items removed from the start of
+     *     the series.
+     *
+     * @return The change info (possibly {@code null}).
+     */
+    public static SeriesChangeInfo itemAdded(int position, int itemCount,
+            int removedCount) {
+        if (removedCount == 0) {
+            return itemsAdded(position, position);
+        }
+        if (position == itemCount - 1 && removedCount < itemCount) {
+            return itemsShifted(removedCount, position - removedCount,
+                    position - removedCount);
+        }
+        return null;
+    }
+
+    /**
+     * Returns an instance describing a series added to a dataset.
+     *
+     * @return The change info.
+     */
+    public static SeriesChangeInfo seriesAdded() {
+        return SERIES_ADDED;
+    }
+
+    /**
+     * Returns an instance describing a series removed from a dataset.
+     *
+     * @return The change info.
+     */
+    public static SeriesChangeInfo seriesRemoved() {
+        return SERIES_REMOVED;
+    }
+
+    /**
+     * Creates an instance for a change to a range of items.
+     *
+     * @param type  the type of change.
+     * @param firstItem  the index of the first item affected.
+     * @param lastItem  the index of the last item affected.
+     *
+     * @return The change info.
+     */
+    private static SeriesChangeInfo items(SeriesChangeType type,
+            int firstItem, int lastItem) {
+        Args.requireNonNegative(firstItem, "firstItem");
+        if (lastItem < firstItem) {
+            throw new IllegalArgumentException(
+                    "Requires 'lastItem' >= 'firstItem'.");
+        }
+        return new SeriesChangeInfo(type, firstItem, lastItem);
+    }
+
+    /**
+     * Returns the type of change.
+     *
+     * @return The type (never {@code null}).
+     */
+    public SeriesChangeType getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the index of the first item affected by the change.
+     *
+     * @return The item index (-1 for a change to a whole series).
+     */
+    public int getFirstItem() {
+        return this.firstItem;
+    }
+
+    /**
+     * Returns the index of the last item affected by the change.
+     *
+     * @return The item index (-1 for a change to a whole series).
+     */
+    public int getLastItem() {
+        return this.lastItem;
+    }
+
+    /**
+     * Returns the number of items removed from the start of the series
+     * for a change of type {@link SeriesChangeType#ITEMS_SHIFTED} (the
+     * first and last item indices then refer to the appended items, after
+     * the removal).  For other types of change this is zero.
+     *
+     * @return The number of items removed.
+     */
+    public int getRemovedCount() {
+        return this.removedCount;
+    }
+
+    /**
+     * Tests this instance for equality with an arbitrary object.
+     *
+     * @param obj  the object ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof SeriesChangeInfo)) {
+            return false;
+        }
+        SeriesChangeInfo that = (SeriesChangeInfo) obj;
+        return this.type == that.type && this.firstItem == that.firstItem
+                && this.lastItem == that.lastItem
+                && this.removedCount == that.removedCount;
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = this.type.hashCode();
+        result = 31 * result + this.firstItem;
+        result = 31 * result + this.lastItem;
+        result = 31 * result + this.removedCount;
+        return result;
+    }
+
+    /**
+     * Returns a string representing this instance, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "SeriesChangeInfo[" + this.type + ", " + this.firstItem + ", "
+                + this.lastItem + ", " + this.removedCount + "]";
+    }
+
+}
@@ -0,0 +1,71 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * SeriesChangeType.java
+ * ---------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+/**
+ * The type of change described by a {@link SeriesChangeInfo}.
+ *
+ * @since 2.0.0
+ */
+public enum SeriesChangeType {
+
+    /** Items have been added to a series. */
+    ITEMS_ADDED,
+
+    /** Items have been removed from a series. */
+    ITEMS_REMOVED,
+
+    /** The values of existing items in a series have been updated. */
+    ITEMS_UPDATED,
+
+    /**
+     * Items have been removed from the start of a series and items have
+     * been appended to the end (for example, a series with a maximum item
+     * count that is used as a sliding window).
+     *
+     * @since 2.0.0
+     */
+    ITEMS_SHIFTED,
+
+    /** A series has been added to a dataset. */
+    SERIES_ADDED,
+
+    /** A series has been removed from a dataset. */
+    SERIES_REMOVED
+
+}
@@ -0,0 +1,958 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * BinaryDatasetUtils.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.time.ColumnarTimeSeries;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.ColumnarXYSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Utility methods that write datasets in a compact, versioned binary format
+ * and read them back.  The format is much smaller and faster to read than
+ * Java serialization or XML, which makes it suitable for caching large
+ * datasets on disk.
+ * <p>
+ * A file starts with the magic bytes {@code "JFDS"}, a format version, the
+ * dataset type and a flags byte, followed by the series (or, for category
+ * datasets, the row and column keys and a row-major table of values).
+ * Series and category keys are written as strings, so they are read back
+ * as {@code String} keys.  Time values are written as delta-of-delta
+ * encoded variable length integers, so regular time series need about one
+ * byte per time value.  Other values are written either as raw 8-byte
+ * doubles or, if compression is requested, with the XOR encoding described
+ * in "Gorilla: A Fast, Scalable, In-Memory Time Series Database" (Pelkonen
+ * et al., 2015), which works well for values that change slowly or
+ * repeat.  Both encodings are lossless (including {@code NaN} payloads).
+ * <p>
+ * The {@link #read(Path)} method memory-maps the file and decodes the
+ * values directly into primitive arrays, creating a
+ * {@link ColumnarXYSeries} or {@link ColumnarTimeSeries} for each series.
+ *
+ * @since 2.0.0
+ */
+public class BinaryDatasetUtils {
+
+    /** The magic bytes at the start of the format ("JFDS"). */
+    private static final int MAGIC = 0x4A464453;
+
+    /** The current format version. */
+    public static final int VERSION = 1;
+
+    /** The type code for an {@link XYSeriesCollection}. */
+    private static final int TYPE_XY_SERIES_COLLECTION = 1;
+
+    /** The type code for a {@link TimeSeriesCollection}. */
+    private static final int TYPE_TIME_SERIES_COLLECTION = 2;
+
+    /** The type code for a {@link DefaultXYDataset}. */
+    private static final int TYPE_XY_DATASET = 3;
+
+    /** The type code for a {@link DefaultCategoryDataset}. */
+    private static final int TYPE_CATEGORY_DATASET = 4;
+
+    /** The flag that indicates compressed values. */
+    private static final int FLAG_COMPRESSED = 1;
+
+    /** The column encoding for raw 8-byte doubles. */
+    private static final int ENCODING_RAW = 0;
+
+    /** The column encoding for XOR compressed doubles. */
+    private static final int ENCODING_XOR = 1;
+
+    private BinaryDatasetUtils() {
+        // no requirement to instantiate
+    }
+
+    /**
+     * Writes an {@link XYSeriesCollection} to an output stream.  The
+     * auto-sort, duplicate x-values and maximum item count settings of each
+     * series are written as well.  The stream is flushed but not closed.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * @param compress  compress the x- and y-values?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeXYSeriesCollection(XYSeriesCollection<?> dataset,
+            OutputStream out, boolean compress) throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(out, "out");
+        DataOutputStream data = open(out, TYPE_XY_SERIES_COLLECTION,
+                compress);
+        writeVarLong(data, dataset.getSeriesCount());
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            XYSeries<?> series = dataset.getSeries(s);
+            int count = series.getItemCount();
+            writeString(data, series.getKey().toString());
+            data.writeBoolean(series.getAutoSort());
+            data.writeBoolean(series.getAllowDuplicateXValues());
+            writeVarLong(data, series.getMaximumItemCount());
+            writeVarLong(data, count);
+            double[] x = new double[count];
+            double[] y = new double[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = series.getX(i).doubleValue();
+                Number yy = series.getY(i);
+                y[i] = yy != null ? yy.doubleValue() : Double.NaN;
+            }
+            writeDoubles(data, x, count, compress);
+            writeDoubles(data, y, count, compress);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a {@link TimeSeriesCollection} to an output stream.  The time
+     * period class, the maximum item count and the first millisecond of
+     * each time period (in the specified time zone, which is also written)
+     * are written for each series.  A series without a time period class
+     * is read back as a series of {@link Millisecond} periods.  The stream is flushed but not closed.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * @param compress  compress the values?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeTimeSeriesCollection(
+            TimeSeriesCollection<?> dataset, TimeZone zone, OutputStream out,
+            boolean compress) throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(out, "out");
+        DataOutputStream data = open(out, TYPE_TIME_SERIES_COLLECTION,
+                compress);
+        writeString(data, zone.getID());
+        Calendar calendar = Calendar.getInstance(zone);
+        writeVarLong(data, dataset.getSeriesCount());
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            TimeSeries<?> series = dataset.getSeries(s);
+            int count = series.getItemCount();
+            writeString(data, series.getKey().toString());
+            writeString(data, series.getTimePeriodClass() != null
+                    ? series.getTimePeriodClass().getSimpleName() : "");
+            writeVarLong(data, series.getMaximumItemCount());
+            writeVarLong(data, count);
+            long[] t = new long[count];
+            double[] v = new double[count];
+            for (int i = 0; i < count; i++) {
+                t[i] = series.getMillisecond(i, TimePeriodAnchor.START,
+                        calendar);
+                v[i] = series.getYValue(i);
+            }
+            writeTimes(data, t, count);
+            writeDoubles(data, v, count, compress);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes an {@link XYDataset} (typically a {@link DefaultXYDataset}) to
+     * an output stream.  The stream is flushed but not closed.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * @param compress  compress the x- and y-values?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeXYDataset(XYDataset<?> dataset, OutputStream out,
+            boolean compress) throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(out, "out");
+        DataOutputStream data = open(out, TYPE_XY_DATASET, compress);
+        writeVarLong(data, dataset.getSeriesCount());
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            int count = dataset.getItemCount(s);
+            writeString(data, dataset.getSeriesKey(s).toString());
+            writeVarLong(data, count);
+            double[] x = new double[count];
+            double[] y = new double[count];
+            for (int i = 0; i < count; i++) {
+                x[i] = dataset.getXValue(s, i);
+                y[i] = dataset.getYValue(s, i);
+            }
+            writeDoubles(data, x, count, compress);
+            writeDoubles(data, y, count, compress);
+        }
+        data.flush();
+    }
+
+    /**
+     * Writes a {@link CategoryDataset} to an output stream.  The row keys,
+     * the column keys and then the values (row by row, with {@code null}
+     * written as {@code NaN}) are written.  The stream is flushed but not
+     * closed.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     * @param compress  compress the values?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeCategoryDataset(CategoryDataset<?, ?> dataset,
+            OutputStream out, boolean compress) throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(out, "out");
+        DataOutputStream data = open(out, TYPE_CATEGORY_DATASET, compress);
+        int rows = dataset.getRowCount();
+        int columns = dataset.getColumnCount();
+        writeVarLong(data, rows);
+        for (int r = 0; r < rows; r++) {
+            writeString(data, dataset.getRowKey(r).toString());
+        }
+        writeVarLong(data, columns);
+        for (int c = 0; c < columns; c++) {
+            writeString(data, dataset.getColumnKey(c).toString());
+        }
+        double[] values = new double[rows * columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                Number n = dataset.getValue(r, c);
+                values[r * columns + c] = n != null ? n.doubleValue()
+                        : Double.NaN;
+            }
+        }
+        writeDoubles(data, values, values.length, compress);
+        data.flush();
+    }
+
+    /**
+     * Reads a dataset from a file, which is memory-mapped.  The type of the
+     * dataset depends on the method that wrote it: an
+     * {@code XYSeriesCollection<String>} (of {@link ColumnarXYSeries}), a
+     * {@code TimeSeriesCollection<String>} (of {@link ColumnarTimeSeries}),
+     * a {@code DefaultXYDataset<String>} or a
+     * {@code DefaultCategoryDataset<String, String>}.
+     *
+     * @param file  the file ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the file is not in
+     *     a supported format.
+     */
+    public static Dataset read(Path file) throws IOException {
+        Args.nullNotPermitted(file, "file");
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large: " + size + " bytes.");
+            }
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Reads a dataset from an input stream (see {@link #read(Path)} for the
+     * type of dataset returned).  The stream is read to the end but not
+     * closed.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     a supported format.
+     */
+    public static Dataset read(InputStream in) throws IOException {
+        Args.nullNotPermitted(in, "in");
+        return read(ByteBuffer.wrap(in.readAllBytes()));
+    }
+
+    /**
+     * Reads a dataset from the remaining bytes of a buffer (see
+     * {@link #read(Path)} for the type of dataset returned).
+     *
+     * @param buffer  the buffer ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if the input is not in a supported format.
+     */
+    public static Dataset read(ByteBuffer buffer) throws IOException {
+        Args.nullNotPermitted(buffer, "buffer");
+        ByteBuffer in = buffer.slice();
+        try {
+            if (in.remaining() < 7 || in.getInt() != MAGIC) {
+                throw new IOException("Not a binary dataset.");
+            }
+            int version = in.get() & 0xFF;
+            if (version > VERSION) {
+                throw new IOException("Unsupported format version "
+                        + version + ".");
+            }
+            int type = in.get();
+            in.get(); // flags (each column records its own encoding)
+            switch (type) {
+                case TYPE_XY_SERIES_COLLECTION:
+                    return readXYSeriesCollection(in);
+                case TYPE_TIME_SERIES_COLLECTION:
+                    return readTimeSeriesCollection(in);
+                case TYPE_XY_DATASET:
+                    return readXYDataset(in);
+                case TYPE_CATEGORY_DATASET:
+                    return readCategoryDataset(in);
+                default:
+                    throw new IOException("Unknown dataset type " + type
+                            + ".");
+            }
+        }
+        catch (BufferUnderflowException e) {
+            throw new IOException("Unexpected end of input.", e);
+        }
+    }
+
+    /**
+     * Reads the body of an {@link XYSeriesCollection}.
+     *
+     * @param in  the input.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static XYSeriesCollection<String> readXYSeriesCollection(
+            ByteBuffer in) throws IOException {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        int seriesCount = readCount(in, 1);
+        for (int s = 0; s < seriesCount; s++) {
+            String key = readString(in);
+            boolean autoSort = in.get() != 0;
+            boolean allowDuplicateXValues = in.get() != 0;
+            int maximumItemCount = readCount(in);
+            int count = readCount(in);
+            double[] x = readDoubles(in, count);
+            double[] y = readDoubles(in, count);
+            ColumnarXYSeries<String> series = new ColumnarXYSeries<>(key,
+                    autoSort, allowDuplicateXValues, count);
+            series.setMaximumItemCount(maximumItemCount);
+            for (int i = 0; i < count; i++) {
+                series.add(x[i], y[i], false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads the body of a {@link TimeSeriesCollection}.
+     *
+     * @param in  the input.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static TimeSeriesCollection<String> readTimeSeriesCollection(
+            ByteBuffer in) throws IOException {
+        TimeZone zone = TimeZone.getTimeZone(readString(in));
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(
+                zone);
+        int seriesCount = readCount(in, 1);
+        for (int s = 0; s < seriesCount; s++) {
+            String key = readString(in);
+            String periodName = readString(in);
+            Class periodClass = periodName.isEmpty() ? Millisecond.class
+                    : periodClass(periodName);
+            int maximumItemCount = readCount(in);
+            int count = readCount(in);
+            long[] t = readTimes(in, count);
+            double[] v = readDoubles(in, count);
+            ColumnarTimeSeries<String> series = new ColumnarTimeSeries<>(key,
+                    periodClass, zone, Locale.getDefault());
+            series.setMaximumItemCount(maximumItemCount);
+            for (int i = 0; i < count; i++) {
+                series.add(t[i], v[i], false);
+            }
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads the body of a {@link DefaultXYDataset}.
+     *
+     * @param in  the input.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static DefaultXYDataset<String> readXYDataset(ByteBuffer in)
+            throws IOException {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        int seriesCount = readCount(in, 1);
+        for (int s = 0; s < seriesCount; s++) {
+            String key = readString(in);
+            int count = readCount(in);
+            double[] x = readDoubles(in, count);
+            double[] y = readDoubles(in, count);
+            dataset.addSeries(key, new double[][] {x, y});
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads the body of a {@link DefaultCategoryDataset}.
+     *
+     * @param in  the input.
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static DefaultCategoryDataset<String, String> readCategoryDataset(
+            ByteBuffer in) throws IOException {
+        String[] rowKeys = new String[readCount(in, 1)];
+        for (int r = 0; r < rowKeys.length; r++) {
+            rowKeys[r] = readString(in);
+        }
+        String[] columnKeys = new String[readCount(in, 1)];
+        for (int c = 0; c < columnKeys.length; c++) {
+            columnKeys[c] = readString(in);
+        }
+        long cellCount = (long) rowKeys.length * columnKeys.length;
+        if (cellCount > Integer.MAX_VALUE) {
+            throw new IOException("Invalid count " + cellCount
+                    + " at offset " + in.position() + ".");
+        }
+        double[] values = readDoubles(in, (int) cellCount);
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        for (int r = 0; r < rowKeys.length; r++) {
+            for (int c = 0; c < columnKeys.length; c++) {
+                double v = values[r * columnKeys.length + c];
+                dataset.addValue(Double.isNaN(v) ? null : v, rowKeys[r],
+                        columnKeys[c]);
+            }
+        }
+        return dataset;
+    }
+
+    /**
+     * Wraps an output stream and writes the header.
+     *
+     * @param out  the output stream.
+     * @param type  the dataset type.
+     * @param compress  the compression flag.
+     *
+     * @return The data output stream.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static DataOutputStream open(OutputStream out, int type,
+            boolean compress) throws IOException {
+        DataOutputStream data = new DataOutputStream(
+                new BufferedOutputStream(out, 1 << 16));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(type);
+        data.writeByte(compress ? FLAG_COMPRESSED : 0);
+        return data;
+    }
+
+    /**
+     * Writes a non-negative number as a variable length integer, seven bits
+     * per byte with the high bit set on all but the last byte.
+     *
+     * @param out  the output.
+     * @param value  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeVarLong(DataOutputStream out, long value)
+            throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a variable length integer written by
+     * {@link #writeVarLong(DataOutputStream, long)}.
+     *
+     * @param in  the input.
+     *
+     * @return The value.
+     *
+     * @throws IOException if the value is too long.
+     */
+    private static long readVarLong(ByteBuffer in) throws IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return result;
+            }
+        }
+        throw new IOException("Malformed variable length integer at offset "
+                + (in.position() - 1) + ".");
+    }
+
+    /**
+     * Reads a count (or other non-negative {@code int}).
+     *
+     * @param in  the input.
+     *
+     * @return The count.
+     *
+     * @throws IOException if the value is not a valid count.
+     */
+    private static int readCount(ByteBuffer in) throws IOException {
+        long count = readVarLong(in);
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IOException("Invalid count " + count + " at offset "
+                    + in.position() + ".");
+        }
+        return (int) count;
+    }
+
+    /**
+     * Reads a count of items that each take at least {@code minBytes} bytes
+     * of the input, and checks that enough input remains (so that a corrupt
+     * count does not cause a huge allocation).
+     *
+     * @param in  the input.
+     * @param minBytes  the minimum number of bytes per item.
+     *
+     * @return The count.
+     *
+     * @throws IOException if the value is not a valid count.
+     */
+    private static int readCount(ByteBuffer in, int minBytes)
+            throws IOException {
+        int count = readCount(in);
+        requireRemaining(in, (long) count * minBytes);
+        return count;
+    }
+
+    /**
+     * Checks that at least the specified number of bytes remain in the
+     * input.
+     *
+     * @param in  the input.
+     * @param byteCount  the number of bytes required.
+     *
+     * @throws IOException if fewer bytes remain.
+     */
+    private static void requireRemaining(ByteBuffer in, long byteCount)
+            throws IOException {
+        if (byteCount > in.remaining()) {
+            throw new IOException("Unexpected end of input at offset "
+                    + in.position() + ".");
+        }
+    }
+
+    /**
+     * Writes a string as a length followed by UTF-8 bytes.
+     *
+     * @param out  the output.
+     * @param s  the string.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeString(DataOutputStream out, String s)
+            throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by
+     * {@link #writeString(DataOutputStream, String)}.
+     *
+     * @param in  the input.
+     *
+     * @return The string.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static String readString(ByteBuffer in) throws IOException {
+        byte[] bytes = new byte[readCount(in, 1)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes time values as a delta-of-delta sequence of zig-zag encoded
+     * variable length integers.
+     *
+     * @param out  the output.
+     * @param t  the time values.
+     * @param count  the number of values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeTimes(DataOutputStream out, long[] t, int count)
+            throws IOException {
+        long previous = 0;
+        long delta = 0;
+        for (int i = 0; i < count; i++) {
+            long d = t[i] - previous;
+            writeVarLong(out, (d - delta) << 1 ^ (d - delta) >> 63);
+            previous = t[i];
+            delta = d;
+        }
+    }
+
+    /**
+     * Reads time values written by
+     * {@link #writeTimes(DataOutputStream, long[], int)}.
+     *
+     * @param in  the input.
+     * @param count  the number of values.
+     *
+     * @return The time values.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static long[] readTimes(ByteBuffer in, int count)
+            throws IOException {
+        // each value takes at least one byte
+        requireRemaining(in, count);
+        long[] t = new long[count];
+        long previous = 0;
+        long delta = 0;
+        for (int i = 0; i < count; i++) {
+            long zigzag = readVarLong(in);
+            delta += zigzag >>> 1 ^ -(zigzag & 1);
+            previous += delta;
+            t[i] = previous;
+        }
+        return t;
+    }
+
+    /**
+     * Writes a column of doubles, preceded by its encoding.
+     *
+     * @param out  the output.
+     * @param values  the values.
+     * @param count  the number of values.
+     * @param compress  use the XOR encoding?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeDoubles(DataOutputStream out, double[] values,
+            int count, boolean compress) throws IOException {
+        if (!compress) {
+            out.writeByte(ENCODING_RAW);
+            for (int i = 0; i < count; i++) {
+                out.writeLong(Double.doubleToRawLongBits(values[i]));
+            }
+            return;
+        }
+        BitWriter bits = new BitWriter(count * 2 + 16);
+        long previous = 0;
+        int previousLeading = -1;
+        int previousTrailing = 0;
+        for (int i = 0; i < count; i++) {
+            long v = Double.doubleToRawLongBits(values[i]);
+            if (i == 0) {
+                bits.write(v, 64);
+            }
+            else {
+                long xor = v ^ previous;
+                if (xor == 0) {
+                    bits.write(0, 1);
+                }
+                else {
+                    int leading = Math.min(Long.numberOfLeadingZeros(xor), 31);
+                    int trailing = Long.numberOfTrailingZeros(xor);
+                    if (previousLeading >= 0 && leading >= previousLeading
+                            && trailing >= previousTrailing) {
+                        // reuse the previous block of meaningful bits
+                        bits.write(0b10, 2);
+                        bits.write(xor >>> previousTrailing,
+                                64 - previousLeading - previousTrailing);
+                    }
+                    else {
+                        int length = 64 - leading - trailing;
+                        bits.write(0b11, 2);
+                        bits.write(leading, 5);
+                        bits.write(length - 1, 6);
+                        bits.write(xor >>> trailing, length);
+                        previousLeading = leading;
+                        previousTrailing = trailing;
+                    }
+                }
+            }
+            previous = v;
+        }
+        out.writeByte(ENCODING_XOR);
+        writeVarLong(out, bits.getByteCount());
+        out.write(bits.getBytes(), 0, bits.getByteCount());
+    }
+
+    /**
+     * Reads a column of doubles written by
+     * {@link #writeDoubles(DataOutputStream, double[], int, boolean)}.
+     *
+     * @param in  the input.
+     * @param count  the number of values.
+     *
+     * @return The values.
+     *
+     * @throws IOException if the input is not valid.
+     */
+    private static double[] readDoubles(ByteBuffer in, int count)
+            throws IOException {
+        int encoding = in.get();
+        if (encoding == ENCODING_RAW) {
+            requireRemaining(in, (long) count * 8);
+            double[] result = new double[count];
+            in.asDoubleBuffer().get(result);
+            in.position(in.position() + count * 8);
+            return result;
+        }
+        if (encoding != ENCODING_XOR) {
+            throw new IOException("Unknown encoding " + encoding
+                    + " at offset " + (in.position() - 1) + ".");
+        }
+        int byteCount = readCount(in);
+        requireRemaining(in, byteCount);
+        // each value takes at least one bit
+        if (count > (long) byteCount * 8) {
+            throw new IOException("Corrupt compressed values.");
+        }
+        double[] result = new double[count];
+        BitReader bits = new BitReader(in, in.position(), byteCount);
+        long previous = 0;
+        int leading = 0;
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            if (i == 0) {
+                previous = bits.read(64);
+            }
+            else if (bits.read(1) != 0) {
+                if (bits.read(1) != 0) {
+                    leading = (int) bits.read(5);
+                    length = (int) bits.read(6) + 1;
+                }
+                int trailing = 64 - leading - length;
+                if (trailing < 0) {
+                    throw new IOException("Corrupt compressed values.");
+                }
+                previous ^= bits.read(length) << trailing;
+            }
+            result[i] = Double.longBitsToDouble(previous);
+        }
+        in.position(in.position() + byteCount);
+        return result;
+    }
+
+    /**
+     * Returns the time period class with the specified simple name.
+     *
+     * @param name  the name (for example "Day").
+     *
+     * @return The class.
+     *
+     * @throws IOException if there is no such time period class.
+     */
+    private static Class periodClass(String name) throws IOException {
+        try {
+            Class c = Class.forName(RegularTimePeriod.class.getPackage()
+                    .getName() + "." + name);
+            if (RegularTimePeriod.class.isAssignableFrom(c)) {
+                return c;
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // fall through
+        }
+        throw new IOException("Unknown time period class '" + name + "'.");
+    }
+
+    /**
+     * A growable sequence of bits, written most significant bit first.
+     */
+    private static final class BitWriter {
+
+        /** The bytes. */
+        private byte[] bytes;
+
+        /** The number of bits written. */
+        private long bitCount;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param capacity  the initial capacity in bytes.
+         */
+        BitWriter(int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        /**
+         * Writes the low bits of a value.
+         *
+         * @param value  the value.
+         * @param n  the number of bits (0 to 64).
+         */
+        void write(long value, int n) {
+            int needed = (int) ((this.bitCount + n + 7) >>> 3);
+            if (needed > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes,
+                        Math.max(needed, this.bytes.length * 2));
+            }
+            while (n > 0) {
+                int index = (int) (this.bitCount >>> 3);
+                int free = 8 - (int) (this.bitCount & 7);
+                int take = Math.min(free, n);
+                int chunk = (int) (value >>> (n - take)) & ((1 << take) - 1);
+                this.bytes[index] |= (byte) (chunk << (free - take));
+                this.bitCount += take;
+                n -= take;
+            }
+        }
+
+        /**
+         * Returns the number of bytes used.
+         *
+         * @return The number of bytes.
+         */
+        int getByteCount() {
+            return (int) ((this.bitCount + 7) >>> 3);
+        }
+
+        /**
+         * Returns the underlying byte array (which may be longer than
+         * {@link #getByteCount()}).
+         *
+         * @return The bytes.
+         */
+        byte[] getBytes() {
+            return this.bytes;
+        }
+
+    }
+
+    /**
+     * Reads bits, most significant bit first, from a region of a buffer.
+     */
+    private static final class BitReader {
+
+        /** The buffer. */
+        private final ByteBuffer buffer;
+
+        /** The offset of the first byte. */
+        private final int start;
+
+        /** The number of bits available. */
+        private final long limit;
+
+        /** The number of bits read. */
+        private long bitCount;
+
+        /**
+         * Creates a new reader.
+         *
+         * @param buffer  the buffer.
+         * @param start  the offset of the first byte.
+         * @param byteCount  the number of bytes.
+         */
+        BitReader(ByteBuffer buffer, int start, int byteCount) {
+            this.buffer = buffer;
+            this.start = start;
+            this.limit = (long) byteCount << 3;
+        }
+
+        /**
+         * Reads the specified number of bits.
+         *
+         * @param n  the number of bits (1 to 64).
+         *
+         * @return The bits (in the low bits of the result).
+         *
+         * @throws IOException if there are not enough bits.
+         */
+        long read(int n) throws IOException {
+            if (this.bitCount + n > this.limit) {
+                throw new IOException("Corrupt compressed values.");
+            }
+            long result = 0;
+            while (n > 0) {
+                int index = this.start + (int) (this.bitCount >>> 3);
+                int available = 8 - (int) (this.bitCount & 7);
+                int take = Math.min(available, n);
+                int b = this.buffer.get(index) & ((1 << available) - 1);
+                result = result << take | b >>> (available - take);
+                this.bitCount += take;
+                n -= take;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,1041 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * CSVReader.java
+ * --------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.time.ColumnarTimeSeries;
+import org.jfree.data.xy.ColumnarXYSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+
+/**
+ * A reader for large CSV files containing numeric columns.  Unlike
+ * {@link CSV}, which creates a {@code String} for every field and a
+ * {@code Double} for every value, this reader parses numbers directly from
+ * the bytes of the input into primitive arrays, which can then be added to
+ * an {@link XYSeries} (ideally a {@link ColumnarXYSeries}), a
+ * {@link ColumnarTimeSeries} or a {@link DefaultXYDataset} without creating
+ * an object per value.
+ * <p>
+ * Files are memory-mapped and, if the parallel flag is set, split into
+ * chunks at line boundaries that are parsed concurrently on the common
+ * {@link ForkJoinPool}.  Input streams are read sequentially.
+ * <p>
+ * The input must use an ASCII compatible encoding (such as UTF-8).  A field
+ * may be surrounded by white space and text delimiters, but quoted fields
+ * must not contain line breaks.  Empty fields, and fields missing at the
+ * end of a line, are read as {@code Double.NaN}.  A field that starts with
+ * a date in the form {@code yyyy-MM-dd} is read as a date-time
+ * ({@code yyyy-MM-dd[( |T)HH:mm[:ss[.SSS]]][Z|+HH:mm|-HH:mm]}) and
+ * converted to milliseconds since 1-Jan-1970 UTC, using the reader's time
+ * zone when no offset is given.  Other fields that are not valid numbers
+ * cause a {@code NumberFormatException}.
+ *
+ * @since 2.0.0
+ */
+public class CSVReader {
+
+    /** The number of bytes per chunk above which files are split. */
+    private static final long MIN_PARALLEL_CHUNK = 1L << 20;
+
+    /**
+     * The maximum number of bytes per chunk (each chunk is mapped
+     * separately, and a mapping is limited to 2GB).
+     */
+    private static final long MAX_CHUNK = 1L << 28;
+
+    /** The size of the buffer used for input streams. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The largest mantissa that can be converted exactly. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** The powers of ten that are exactly representable as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The field delimiter. */
+    private final byte fieldDelimiter;
+
+    /** The text delimiter. */
+    private final byte textDelimiter;
+
+    /** The number of header lines to skip. */
+    private int headerLines;
+
+    /** The time zone for date-times without an offset. */
+    private TimeZone timeZone;
+
+    /** Parse chunks of files in parallel? */
+    private boolean parallel;
+
+    /**
+     * Creates a new reader where the field delimiter is a comma and the
+     * text delimiter is a double-quote, skipping one header line.
+     */
+    public CSVReader() {
+        this(',', '"');
+    }
+
+    /**
+     * Creates a new reader with the specified field and text delimiters,
+     * skipping one header line.
+     *
+     * @param fieldDelimiter  the field delimiter (usually a comma,
+     *     semi-colon, colon, tab or space).
+     * @param textDelimiter  the text delimiter (usually a single or double
+     *     quote).
+     */
+    public CSVReader(char fieldDelimiter, char textDelimiter) {
+        if (fieldDelimiter > 127 || textDelimiter > 127) {
+            throw new IllegalArgumentException(
+                    "Requires ASCII delimiters.");
+        }
+        this.fieldDelimiter = (byte) fieldDelimiter;
+        this.textDelimiter = (byte) textDelimiter;
+        this.headerLines = 1;
+        this.timeZone = TimeZone.getDefault();
+        this.parallel = true;
+    }
+
+    /**
+     * Returns the number of lines skipped at the start of the input.  The
+     * default value is 1.
+     *
+     * @return The number of header lines.
+     */
+    public int getHeaderLines() {
+        return this.headerLines;
+    }
+
+    /**
+     * Sets the number of lines skipped at the start of the input.
+     *
+     * @param lines  the number of lines (zero or more).
+     */
+    public void setHeaderLines(int lines) {
+        Args.requireNonNegative(lines, "lines");
+        this.headerLines = lines;
+    }
+
+    /**
+     * Returns the time zone used for date-times that have no offset.  The
+     * default is the default time zone of the JVM.
+     *
+     * @return The time zone (never {@code null}).
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used for date-times that have no offset.
+     *
+     * @param zone  the time zone ({@code null} not permitted).
+     */
+    public void setTimeZone(TimeZone zone) {
+        Args.nullNotPermitted(zone, "zone");
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the flag that controls whether large files are split into
+     * chunks that are parsed in parallel.  The default value is
+     * {@code true}.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets the flag that controls whether large files are split into chunks
+     * that are parsed in parallel (on the common {@link ForkJoinPool}).
+     *
+     * @param parallel  the new flag value.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Reads the specified columns from a file.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param columns  the (zero-based) indices of the columns to read.
+     *
+     * @return An array containing one array of values for each of the
+     *     requested columns, in the order requested.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public double[][] readColumns(Path file, int... columns)
+            throws IOException {
+        Args.nullNotPermitted(file, "file");
+        Parser parser = new Parser(columns);
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.READ)) {
+            long size = channel.size();
+            long start = 0L;
+            for (int i = 0; i < this.headerLines; i++) {
+                start = nextLine(channel, start, size);
+            }
+            long[] bounds = chunkBounds(channel, start, size);
+            int chunkCount = bounds.length - 1;
+            Columns[] parts = new Columns[chunkCount];
+            if (this.parallel && chunkCount > 1) {
+                List<Callable<Columns>> tasks = new ArrayList<>(chunkCount);
+                for (int i = 0; i < chunkCount; i++) {
+                    long from = bounds[i];
+                    long to = bounds[i + 1];
+                    tasks.add(() -> parser.parse(channel, from, to));
+                }
+                List<Future<Columns>> futures
+                        = ForkJoinPool.commonPool().invokeAll(tasks);
+                for (int i = 0; i < chunkCount; i++) {
+                    try {
+                        parts[i] = futures.get(i).get();
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while reading.",
+                                e);
+                    }
+                    catch (ExecutionException e) {
+                        Throwable cause = e.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        throw new IOException(cause);
+                    }
+                }
+            }
+            else {
+                for (int i = 0; i < chunkCount; i++) {
+                    parts[i] = parser.parse(channel, bounds[i],
+                            bounds[i + 1]);
+                }
+            }
+            return Columns.concatenate(parts, columns.length);
+        }
+    }
+
+    /**
+     * Reads the specified columns from an input stream.  The stream is read
+     * sequentially and is not closed.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     * @param columns  the (zero-based) indices of the columns to read.
+     *
+     * @return An array containing one array of values for each of the
+     *     requested columns, in the order requested.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public double[][] readColumns(InputStream in, int... columns)
+            throws IOException {
+        Args.nullNotPermitted(in, "in");
+        Parser parser = new Parser(columns);
+        Columns result = new Columns(columns.length);
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int filled = 0;
+        int skip = this.headerLines;
+        long offset = 0L;
+        int n = in.read(buffer);
+        while (n >= 0) {
+            filled += n;
+            int end = filled;
+            while (end > 0 && buffer[end - 1] != '\n') {
+                end--;
+            }
+            if (end > 0) {
+                // parse the complete lines and keep the remainder
+                skip = parser.parseLines(ByteBuffer.wrap(buffer), 0, end,
+                        offset, skip, result);
+                System.arraycopy(buffer, end, buffer, 0, filled - end);
+                filled -= end;
+                offset += end;
+            }
+            else if (filled == buffer.length) {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            n = in.read(buffer, filled, buffer.length - filled);
+        }
+        parser.parseLines(ByteBuffer.wrap(buffer), 0, filled, offset, skip,
+                result);
+        return result.toArrays();
+    }
+
+    /**
+     * Reads x- and y-values from two columns of a file and adds them to a
+     * series, then sends a single change event to the series' listeners.
+     * For a {@link ColumnarXYSeries} the storage is allocated once, in
+     * advance.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param series  the series ({@code null} not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumn  the index of the column containing the y-values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void readInto(Path file, XYSeries<?> series, int xColumn,
+            int yColumn) throws IOException {
+        Args.nullNotPermitted(series, "series");
+        double[][] data = readColumns(file, xColumn, yColumn);
+        double[] x = data[0];
+        double[] y = data[1];
+        if (series instanceof ColumnarXYSeries) {
+            ((ColumnarXYSeries<?>) series).ensureCapacity(
+                    series.getItemCount() + x.length);
+        }
+        try {
+            for (int i = 0; i < x.length; i++) {
+                series.add(x[i], y[i], false);
+            }
+        }
+        finally {
+            series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Reads times and values from two columns of a file and adds them to a
+     * series, then sends a single change event to the series' listeners.
+     * The time column can contain either date-times or numbers of
+     * milliseconds since 1-Jan-1970 UTC, and rows without a time are
+     * ignored.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param series  the series ({@code null} not permitted).
+     * @param timeColumn  the index of the column containing the times.
+     * @param valueColumn  the index of the column containing the values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public void readInto(Path file, ColumnarTimeSeries<?> series,
+            int timeColumn, int valueColumn) throws IOException {
+        Args.nullNotPermitted(series, "series");
+        double[][] data = readColumns(file, timeColumn, valueColumn);
+        double[] t = data[0];
+        double[] v = data[1];
+        try {
+            for (int i = 0; i < t.length; i++) {
+                if (!Double.isNaN(t[i])) {
+                    series.add((long) t[i], v[i], false);
+                }
+            }
+        }
+        finally {
+            series.fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Reads one column of x-values and one or more columns of y-values from
+     * a file and adds a series to a dataset for each y-column.  The series
+     * share a single array of x-values.
+     *
+     * @param <S>  the type for the series keys.
+     * @param file  the file ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param seriesKeys  the series keys, one for each y-column
+     *     ({@code null} not permitted).
+     * @param xColumn  the index of the column containing the x-values.
+     * @param yColumns  the indices of the columns containing the y-values.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public <S extends Comparable<S>> void readInto(Path file,
+            DefaultXYDataset<S> dataset, List<S> seriesKeys, int xColumn,
+            int... yColumns) throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(seriesKeys, "seriesKeys");
+        if (seriesKeys.size() != yColumns.length) {
+            throw new IllegalArgumentException(
+                    "Requires one series key per y-column.");
+        }
+        int[] columns = new int[yColumns.length + 1];
+        columns[0] = xColumn;
+        System.arraycopy(yColumns, 0, columns, 1, yColumns.length);
+        double[][] data = readColumns(file, columns);
+        for (int i = 0; i < yColumns.length; i++) {
+            dataset.addSeries(seriesKeys.get(i),
+                    new double[][] {data[0], data[i + 1]});
+        }
+    }
+
+    /**
+     * Returns the offsets of the chunks that a range of a file is split
+     * into, each ending at a line boundary.
+     *
+     * @param channel  the file channel.
+     * @param start  the start of the range.
+     * @param end  the end of the range.
+     *
+     * @return The chunk boundaries (the first is {@code start} and the
+     *     last is {@code end}).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private long[] chunkBounds(FileChannel channel, long start, long end)
+            throws IOException {
+        long length = end - start;
+        long count = (length + MAX_CHUNK - 1) / MAX_CHUNK;
+        if (this.parallel) {
+            long useful = Math.min(length / MIN_PARALLEL_CHUNK,
+                    ForkJoinPool.getCommonPoolParallelism() * 4L);
+            count = Math.max(count, useful);
+        }
+        int n = (int) Math.max(1L, count);
+        long[] bounds = new long[n + 1];
+        bounds[0] = start;
+        for (int i = 1; i < n; i++) {
+            long nominal = start + length * i / n;
+            bounds[i] = Math.max(bounds[i - 1],
+                    nextLine(channel, nominal - 1, end));
+        }
+        bounds[n] = end;
+        return bounds;
+    }
+
+    /**
+     * Returns the offset of the start of the line following the specified
+     * position (or the end of the file if there is no following line).
+     *
+     * @param channel  the file channel.
+     * @param position  the position.
+     * @param end  the end of the file.
+     *
+     * @return The offset of the next line.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static long nextLine(FileChannel channel, long position,
+            long end) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        long p = Math.max(0L, position);
+        while (p < end) {
+            buffer.clear();
+            int n = channel.read(buffer, p);
+            if (n <= 0) {
+                break;
+            }
+            for (int i = 0; i < n; i++) {
+                if (buffer.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += n;
+        }
+        return end;
+    }
+
+    /**
+     * Parses lines into columns.  An instance is created for each read and
+     * shared by the tasks that parse each chunk.
+     */
+    private class Parser {
+
+        /** The output column for each field index (-1 if not read). */
+        private final int[] slots;
+
+        /** The number of output columns. */
+        private final int columnCount;
+
+        /** The rules for the time zone. */
+        private final ZoneRules rules;
+
+        /**
+         * Creates a parser for the specified columns.
+         *
+         * @param columns  the column indices.
+         */
+        Parser(int[] columns) {
+            Args.nullNotPermitted(columns, "columns");
+            int max = -1;
+            for (int c : columns) {
+                Args.requireNonNegative(c, "column");
+                max = Math.max(max, c);
+            }
+            this.slots = new int[max + 1];
+            Arrays.fill(this.slots, -1);
+            for (int i = 0; i < columns.length; i++) {
+                if (this.slots[columns[i]] >= 0) {
+                    throw new IllegalArgumentException(
+                            "Requires distinct column indices.");
+                }
+                this.slots[columns[i]] = i;
+            }
+            this.columnCount = columns.length;
+            this.rules = CSVReader.this.timeZone.toZoneId().getRules();
+        }
+
+        /**
+         * Maps and parses a chunk of a file.
+         *
+         * @param channel  the file channel.
+         * @param from  the start of the chunk.
+         * @param to  the end of the chunk.
+         *
+         * @return The values.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        Columns parse(FileChannel channel, long from, long to)
+                throws IOException {
+            Columns result = new Columns(this.columnCount);
+            if (to > from) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                        from, to - from);
+                parseLines(buffer, 0, (int) (to - from), from, 0, result);
+            }
+            return result;
+        }
+
+        /**
+         * Parses the lines in a range of a buffer.
+         *
+         * @param b  the buffer.
+         * @param from  the start of the range.
+         * @param to  the end of the range.
+         * @param offset  the offset of the buffer in the input (for error
+         *     messages).
+         * @param skip  the number of lines to skip.
+         * @param result  the columns to append the values to.
+         *
+         * @return The number of lines that remain to be skipped.
+         */
+        int parseLines(ByteBuffer b, int from, int to, long offset, int skip,
+                Columns result) {
+            int lineStart = from;
+            while (lineStart < to) {
+                int lineEnd = lineStart;
+                while (lineEnd < to && b.get(lineEnd) != '\n') {
+                    lineEnd++;
+                }
+                int next = lineEnd + 1;
+                if (lineEnd > lineStart && b.get(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                if (skip > 0) {
+                    skip--;
+                }
+                else if (lineEnd > lineStart) {
+                    parseLine(b, lineStart, lineEnd, offset, result);
+                }
+                lineStart = next;
+            }
+            return skip;
+        }
+
+        /**
+         * Parses one line.
+         *
+         * @param b  the buffer.
+         * @param start  the start of the line.
+         * @param end  the end of the line (excluding line terminators).
+         * @param offset  the offset of the buffer in the input.
+         * @param result  the columns to append the values to.
+         */
+        private void parseLine(ByteBuffer b, int start, int end, long offset,
+                Columns result) {
+            result.startRow();
+            int field = 0;
+            int fieldStart = start;
+            boolean quoted = false;
+            for (int i = start; i <= end; i++) {
+                byte c = i < end ? b.get(i) : fieldDelimiter;
+                if (c == textDelimiter) {
+                    quoted = !quoted;
+                }
+                else if (c == fieldDelimiter && (!quoted || i == end)) {
+                    if (field < this.slots.length) {
+                        int slot = this.slots[field];
+                        if (slot >= 0) {
+                            result.set(slot, parseField(b, fieldStart, i,
+                                    offset));
+                        }
+                    }
+                    else {
+                        break;
+                    }
+                    field++;
+                    fieldStart = i + 1;
+                    quoted = false;
+                }
+            }
+        }
+
+        /**
+         * Parses a field, ignoring white space and text delimiters around
+         * the value.
+         *
+         * @param b  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         * @param offset  the offset of the buffer in the input.
+         *
+         * @return The value.
+         */
+        private double parseField(ByteBuffer b, int start, int end,
+                long offset) {
+            while (start < end && isSpace(b.get(start))) {
+                start++;
+            }
+            while (end > start && isSpace(b.get(end - 1))) {
+                end--;
+            }
+            if (start < end && b.get(start) == textDelimiter) {
+                start++;
+            }
+            if (end > start && b.get(end - 1) == textDelimiter) {
+                end--;
+            }
+            if (start == end) {
+                return Double.NaN;
+            }
+            if (end - start >= 10 && b.get(start + 4) == '-'
+                    && isDigit(b.get(start)) && isDigit(b.get(start + 3))) {
+                return parseDateTime(b, start, end, offset);
+            }
+            return parseNumber(b, start, end, offset);
+        }
+
+        /**
+         * Parses a date-time, returning milliseconds since 1-Jan-1970 UTC.
+         *
+         * @param b  the buffer.
+         * @param start  the start of the field.
+         * @param end  the end of the field.
+         * @param offset  the offset of the buffer in the input.
+         *
+         * @return The millisecond.
+         */
+        private double parseDateTime(ByteBuffer b, int start, int end,
+                long offset) {
+            int year = digits(b, start, 4, end, offset);
+            int month = digits(b, start + 5, 2, end, offset);
+            int day = digits(b, start + 8, 2, end, offset);
+            int i = start + 10;
+            long millis = 0L;
+            if (i < end && (b.get(i) == 'T' || b.get(i) == ' ')) {
+                millis += digits(b, i + 1, 2, end, offset) * 3600000L;
+                expect(b, i + 3, ':', end, offset);
+                millis += digits(b, i + 4, 2, end, offset) * 60000L;
+                i += 6;
+                if (i < end && b.get(i) == ':') {
+                    millis += digits(b, i + 1, 2, end, offset) * 1000L;
+                    i += 3;
+                    if (i < end && b.get(i) == '.') {
+                        i++;
+                        int scale = 100;
+                        while (i < end && isDigit(b.get(i))) {
+                            millis += (b.get(i) - '0') * scale;
+                            scale /= 10;
+                            i++;
+                        }
+                    }
+                }
+            }
+            long local = daysFromCivil(year, month, day) * 86400000L + millis;
+            int zoneOffset;
+            if (i == end) {
+                if (this.rules.isFixedOffset()) {
+                    zoneOffset = this.rules.getOffset(
+                            Instant.EPOCH).getTotalSeconds();
+                }
+                else {
+                    LocalDateTime dt = LocalDateTime.ofEpochSecond(
+                            Math.floorDiv(local, 1000L), 0, ZoneOffset.UTC);
+                    zoneOffset = this.rules.getOffset(dt).getTotalSeconds();
+                }
+            }
+            else if (b.get(i) == 'Z' && i + 1 == end) {
+                zoneOffset = 0;
+            }
+            else if (b.get(i) == '+' || b.get(i) == '-') {
+                int sign = b.get(i) == '-' ? -1 : 1;
+                int hours = digits(b, i + 1, 2, end, offset);
+                int minutes = 0;
+                int j = i + 3;
+                if (j < end && b.get(j) == ':') {
+                    j++;
+                }
+                if (j < end) {
+                    minutes = digits(b, j, 2, end, offset);
+                    j += 2;
+                }
+                if (j != end) {
+                    throw invalid(b, start, end, offset);
+                }
+                zoneOffset = sign * (hours * 3600 + minutes * 60);
+            }
+            else {
+                throw invalid(b, start, end, offset);
+            }
+            return local - zoneOffset * 1000L;
+        }
+
+        /**
+         * Parses a fixed number of digits.
+         *
+         * @param b  the buffer.
+         * @param start  the position of the first digit.
+         * @param count  the number of digits.
+         * @param end  the end of the field.
+         * @param offset  the offset of the buffer in the input.
+         *
+         * @return The value.
+         */
+        private int digits(ByteBuffer b, int start, int count, int end,
+                long offset) {
+            if (start + count > end) {
+                throw invalid(b, start, end, offset);
+            }
+            int result = 0;
+            for (int i = start; i < start + count; i++) {
+                byte c = b.get(i);
+                if (!isDigit(c)) {
+                    throw invalid(b, start, end, offset);
+                }
+                result = result * 10 + (c - '0');
+            }
+            return result;
+        }
+
+        /**
+         * Checks that a character is present.
+         *
+         * @param b  the buffer.
+         * @param i  the position.
+         * @param c  the expected character.
+         * @param end  the end of the field.
+         * @param offset  the offset of the buffer in the input.
+         */
+        private void expect(ByteBuffer b, int i, char c, int end,
+                long offset) {
+            if (i >= end || b.get(i) != c) {
+                throw invalid(b, i, end, offset);
+            }
+        }
+
+    }
+
+    /**
+     * Parses a number.  Numbers with up to 18 significant digits and small
+     * exponents are converted exactly without creating any objects; other
+     * numbers (and values such as "NaN") are passed to
+     * {@link Double#parseDouble(String)}.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the field.
+     * @param end  the end of the field.
+     * @param offset  the offset of the buffer in the input.
+     *
+     * @return The value.
+     */
+    static double parseNumber(ByteBuffer b, int start, int end,
+            long offset) {
+        int i = start;
+        boolean negative = false;
+        byte c = b.get(i);
+        if (c == '-' || c == '+') {
+            negative = (c == '-');
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean any = false;
+        boolean exact = true;
+        while (i < end && isDigit(c = b.get(i))) {
+            if (mantissa != 0 || c != '0') {
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    digits++;
+                }
+                else {
+                    exact = false;
+                }
+            }
+            any = true;
+            i++;
+        }
+        if (i < end && b.get(i) == '.') {
+            i++;
+            while (i < end && isDigit(c = b.get(i))) {
+                if (mantissa != 0 || c != '0') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                    }
+                    else {
+                        exact = false;
+                    }
+                }
+                exponent--;
+                any = true;
+                i++;
+            }
+        }
+        if (any && i < end && (b.get(i) == 'e' || b.get(i) == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < end && (b.get(i) == '-' || b.get(i) == '+')) {
+                negativeExponent = (b.get(i) == '-');
+                i++;
+            }
+            int e = 0;
+            boolean anyExponent = false;
+            while (i < end && isDigit(c = b.get(i))) {
+                e = Math.min(e * 10 + (c - '0'), 10000);
+                anyExponent = true;
+                i++;
+            }
+            any = anyExponent;
+            exponent += negativeExponent ? -e : e;
+        }
+        if (any && i == end && exact) {
+            if (mantissa == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (mantissa <= MAX_EXACT_MANTISSA && exponent >= -22
+                    && exponent <= 22) {
+                double v = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent]
+                        : mantissa * POWERS_OF_TEN[exponent];
+                return negative ? -v : v;
+            }
+        }
+        String text = text(b, start, end);
+        try {
+            return Double.parseDouble(text);
+        }
+        catch (NumberFormatException e) {
+            throw invalid(b, start, end, offset);
+        }
+    }
+
+    /**
+     * Returns the number of days from 1-Jan-1970 to the specified date in
+     * the proleptic Gregorian calendar.
+     *
+     * @param year  the year.
+     * @param month  the month (1 to 12).
+     * @param day  the day of the month.
+     *
+     * @return The number of days.
+     */
+    static long daysFromCivil(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400L);
+        long yearOfEra = y - era * 400L;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5
+                + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                + dayOfYear;
+        return era * 146097L + dayOfEra - 719468L;
+    }
+
+    /**
+     * Returns {@code true} if a byte is an ASCII digit.
+     *
+     * @param c  the byte.
+     *
+     * @return A boolean.
+     */
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns {@code true} if a byte is a space or tab.
+     *
+     * @param c  the byte.
+     *
+     * @return A boolean.
+     */
+    private static boolean isSpace(byte c) {
+        return c == ' ' || c == '\t';
+    }
+
+    /**
+     * Returns the text in a range of a buffer.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the range.
+     * @param end  the end of the range.
+     *
+     * @return The text.
+     */
+    private static String text(ByteBuffer b, int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = b.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates an exception for an invalid field.
+     *
+     * @param b  the buffer.
+     * @param start  the start of the field.
+     * @param end  the end of the field.
+     * @param offset  the offset of the buffer in the input.
+     *
+     * @return The exception.
+     */
+    private static NumberFormatException invalid(ByteBuffer b, int start,
+            int end, long offset) {
+        return new NumberFormatException("Invalid value '"
+                + text(b, start, end) + "' at offset " + (offset + start)
+                + ".");
+    }
+
+    /**
+     * Growable primitive storage for the values parsed from a chunk.
+     */
+    private static class Columns {
+
+        /** The values for each column. */
+        private double[][] data;
+
+        /** The number of rows. */
+        private int rows;
+
+        /**
+         * Creates storage for the specified number of columns.
+         *
+         * @param columnCount  the number of columns.
+         */
+        Columns(int columnCount) {
+            this.data = new double[columnCount][1024];
+        }
+
+        /**
+         * Starts a new row, with all values initially {@code Double.NaN}.
+         */
+        void startRow() {
+            if (this.data.length > 0 && this.rows == this.data[0].length) {
+                for (int c = 0; c < this.data.length; c++) {
+                    this.data[c] = Arrays.copyOf(this.data[c],
+                            this.rows * 2);
+                }
+            }
+            for (double[] column : this.data) {
+                column[this.rows] = Double.NaN;
+            }
+            this.rows++;
+        }
+
+        /**
+         * Sets a value in the current row.
+         *
+         * @param column  the column.
+         * @param value  the value.
+         */
+        void set(int column, double value) {
+            this.data[column][this.rows - 1] = value;
+        }
+
+        /**
+         * Returns the values as arrays of the exact length.
+         *
+         * @return The values.
+         */
+        double[][] toArrays() {
+            double[][] result = new double[this.data.length][];
+            for (int c = 0; c < this.data.length; c++) {
+                result[c] = Arrays.copyOf(this.data[c], this.rows);
+            }
+            return result;
+        }
+
+        /**
+         * Concatenates the values from several chunks.
+         *
+         * @param parts  the chunks.
+         * @param columnCount  the number of columns.
+         *
+         * @return The values.
+         */
+        static double[][] concatenate(Columns[] parts, int columnCount) {
+            if (parts.length == 1) {
+                return parts[0].toArrays();
+            }
+            int total = 0;
+            for (Columns part : parts) {
+                total += part.rows;
+            }
+            double[][] result = new double[columnCount][total];
+            int position = 0;
+            for (Columns part : parts) {
+                for (int c = 0; c < columnCount; c++) {
+                    System.arraycopy(part.data[c], 0, result[c], position,
+                            part.rows);
+                }
+                position += part.rows;
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,824 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * JSONReader.java
+ * ---------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Reads JSON text as a stream of tokens (a "pull parser"), without building
+ * an object tree, so that large documents can be read into datasets with
+ * memory proportional to the data rather than to the text.  Numbers are
+ * converted directly to {@code double} values and {@code null} can be read
+ * as {@code Double.NaN} (see {@link #nextDouble()}).  Malformed input
+ * causes an {@code IOException} that reports the offset of the problem.
+ *
+ * @see JSONWriter
+ *
+ * @since 2.0.0
+ */
+public class JSONReader implements Closeable {
+
+    /** The types of token. */
+    public enum Token {
+
+        /** The start of an object. */
+        BEGIN_OBJECT,
+
+        /** The end of an object. */
+        END_OBJECT,
+
+        /** The start of an array. */
+        BEGIN_ARRAY,
+
+        /** The end of an array. */
+        END_ARRAY,
+
+        /** The name of an object member. */
+        NAME,
+
+        /** A string. */
+        STRING,
+
+        /** A number. */
+        NUMBER,
+
+        /** {@code true} or {@code false}. */
+        BOOLEAN,
+
+        /** {@code null}. */
+        NULL,
+
+        /** The end of the input. */
+        END_DOCUMENT
+
+    }
+
+    /** Scope: the top level, before the value. */
+    private static final int EMPTY_DOCUMENT = 0;
+
+    /** Scope: the top level, after the value. */
+    private static final int NONEMPTY_DOCUMENT = 1;
+
+    /** Scope: an array with no elements read yet. */
+    private static final int EMPTY_ARRAY = 2;
+
+    /** Scope: an array with at least one element read. */
+    private static final int NONEMPTY_ARRAY = 3;
+
+    /** Scope: an object with no members read yet. */
+    private static final int EMPTY_OBJECT = 4;
+
+    /** Scope: an object after a name has been read. */
+    private static final int DANGLING_NAME = 5;
+
+    /** Scope: an object with at least one member read. */
+    private static final int NONEMPTY_OBJECT = 6;
+
+    /** The powers of ten that are exactly representable as doubles. */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4,
+            1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+            1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The underlying reader. */
+    private final Reader in;
+
+    /** The input buffer. */
+    private final char[] buffer;
+
+    /** The position of the next character in the buffer. */
+    private int pos;
+
+    /** The number of characters in the buffer. */
+    private int limit;
+
+    /** The number of characters read before the buffer. */
+    private long consumed;
+
+    /** The scopes of the open arrays and objects. */
+    private int[] stack;
+
+    /** The number of scopes. */
+    private int depth;
+
+    /** The token that has been peeked, or {@code null}. */
+    private Token peeked;
+
+    /** A working buffer for strings and numbers. */
+    private final StringBuilder text;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param in  the underlying reader ({@code null} not permitted).
+     */
+    public JSONReader(Reader in) {
+        Args.nullNotPermitted(in, "in");
+        this.in = in;
+        this.buffer = new char[8192];
+        this.stack = new int[32];
+        this.stack[this.depth++] = EMPTY_DOCUMENT;
+        this.text = new StringBuilder();
+    }
+
+    /**
+     * Creates a new reader for UTF-8 text from an input stream.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     */
+    public JSONReader(InputStream in) {
+        this(toReader(in));
+    }
+
+    /**
+     * Returns a UTF-8 reader for an input stream.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     *
+     * @return The reader.
+     */
+    private static Reader toReader(InputStream in) {
+        Args.nullNotPermitted(in, "in");
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the type of the next token without consuming it.
+     *
+     * @return The token type (never {@code null}).
+     *
+     * @throws IOException if there is an I/O problem or the input is not
+     *     valid JSON.
+     */
+    public Token peek() throws IOException {
+        if (this.peeked != null) {
+            return this.peeked;
+        }
+        int scope = this.stack[this.depth - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                this.stack[this.depth - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return this.peeked = Token.END_ARRAY;
+                }
+                if (c != -1) {
+                    this.pos--;
+                }
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return this.peeked = Token.END_ARRAY;
+                }
+                if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return this.peeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected a name");
+                }
+                this.stack[this.depth - 1] = DANGLING_NAME;
+                return this.peeked = Token.NAME;
+            case DANGLING_NAME:
+                this.stack[this.depth - 1] = NONEMPTY_OBJECT;
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                break;
+            case EMPTY_DOCUMENT:
+                this.stack[this.depth - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                c = nextNonWhitespace();
+                if (c == -1) {
+                    return this.peeked = Token.END_DOCUMENT;
+                }
+                throw syntaxError("Expected the end of the input");
+        }
+        c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return this.peeked = Token.BEGIN_OBJECT;
+            case '[':
+                return this.peeked = Token.BEGIN_ARRAY;
+            case '"':
+                return this.peeked = Token.STRING;
+            case 't':
+            case 'f':
+                this.pos--;
+                return this.peeked = Token.BOOLEAN;
+            case 'n':
+                this.pos--;
+                return this.peeked = Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    this.pos--;
+                    return this.peeked = Token.NUMBER;
+                }
+                throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the current array or object has another
+     * element.
+     *
+     * @return A boolean.
+     *
+     * @throws IOException if there is an I/O problem or the input is not
+     *     valid JSON.
+     */
+    public boolean hasNext() throws IOException {
+        Token t = peek();
+        return t != Token.END_OBJECT && t != Token.END_ARRAY
+                && t != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an object.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not the start of an object.
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of the current object.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not the end of an object.
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        this.depth--;
+    }
+
+    /**
+     * Consumes the start of an array.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not the start of an array.
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of the current array.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not the end of an array.
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        this.depth--;
+    }
+
+    /**
+     * Consumes and returns the name of an object member.
+     *
+     * @return The name.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not a name.
+     */
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Consumes and returns a string value.  A number is returned as it
+     * appears in the input.
+     *
+     * @return The string.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not a string or number.
+     */
+    public String nextString() throws IOException {
+        Token t = peek();
+        if (t == Token.NUMBER) {
+            this.peeked = null;
+            readNumberText();
+            return this.text.toString();
+        }
+        expect(Token.STRING);
+        return readString();
+    }
+
+    /**
+     * Consumes and returns a number, or {@code Double.NaN} for
+     * {@code null}.
+     *
+     * @return The number.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not a number or {@code null}.
+     */
+    public double nextDouble() throws IOException {
+        if (peek() == Token.NULL) {
+            nextNull();
+            return Double.NaN;
+        }
+        expect(Token.NUMBER);
+        return readNumber();
+    }
+
+    /**
+     * Consumes and returns a boolean value.
+     *
+     * @return The value.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not a boolean.
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        if (peekChar() == 't') {
+            readLiteral("true");
+            return true;
+        }
+        readLiteral("false");
+        return false;
+    }
+
+    /**
+     * Consumes a {@code null} value.
+     *
+     * @throws IOException if there is an I/O problem or the next token is
+     *     not {@code null}.
+     */
+    public void nextNull() throws IOException {
+        expect(Token.NULL);
+        readLiteral("null");
+    }
+
+    /**
+     * Skips the next value, including any nested arrays and objects.
+     *
+     * @throws IOException if there is an I/O problem or the input is not
+     *     valid JSON.
+     */
+    public void skipValue() throws IOException {
+        int level = 0;
+        do {
+            switch (peek()) {
+                case BEGIN_OBJECT:
+                    beginObject();
+                    level++;
+                    break;
+                case BEGIN_ARRAY:
+                    beginArray();
+                    level++;
+                    break;
+                case END_OBJECT:
+                    endObject();
+                    level--;
+                    break;
+                case END_ARRAY:
+                    endArray();
+                    level--;
+                    break;
+                case NAME:
+                    nextName();
+                    break;
+                case STRING:
+                    nextString();
+                    break;
+                case NUMBER:
+                    nextDouble();
+                    break;
+                case BOOLEAN:
+                    nextBoolean();
+                    break;
+                case NULL:
+                    nextNull();
+                    break;
+                default:
+                    throw syntaxError("Unexpected end of input");
+            }
+        } while (level > 0);
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * Consumes the peeked token if it has the expected type.
+     *
+     * @param expected  the expected type.
+     *
+     * @throws IOException if the next token has a different type.
+     */
+    private void expect(Token expected) throws IOException {
+        Token t = peek();
+        if (t != expected) {
+            throw syntaxError("Expected " + expected + " but found " + t);
+        }
+        this.peeked = null;
+    }
+
+    /**
+     * Pushes a new scope.
+     *
+     * @param scope  the scope.
+     */
+    private void push(int scope) {
+        if (this.depth == this.stack.length) {
+            this.stack = Arrays.copyOf(this.stack, this.depth * 2);
+        }
+        this.stack[this.depth++] = scope;
+    }
+
+    /**
+     * Reads the rest of a string (after the opening quote).
+     *
+     * @return The string.
+     *
+     * @throws IOException if there is an I/O problem or the string is not
+     *     terminated.
+     */
+    private String readString() throws IOException {
+        this.text.setLength(0);
+        while (true) {
+            // copy runs of plain characters in one step
+            int start = this.pos;
+            while (this.pos < this.limit) {
+                char c = this.buffer[this.pos];
+                if (c == '"' || c == '\\') {
+                    break;
+                }
+                this.pos++;
+            }
+            this.text.append(this.buffer, start, this.pos - start);
+            if (this.pos == this.limit) {
+                if (!fill()) {
+                    throw syntaxError("Unterminated string");
+                }
+                continue;
+            }
+            char c = this.buffer[this.pos++];
+            if (c == '"') {
+                return this.text.toString();
+            }
+            int e = nextChar();
+            switch (e) {
+                case 'n':
+                    this.text.append('\n');
+                    break;
+                case 'r':
+                    this.text.append('\r');
+                    break;
+                case 't':
+                    this.text.append('\t');
+                    break;
+                case 'b':
+                    this.text.append('\b');
+                    break;
+                case 'f':
+                    this.text.append('\f');
+                    break;
+                case '"':
+                case '\\':
+                case '/':
+                    this.text.append((char) e);
+                    break;
+                case 'u':
+                    int v = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int d = Character.digit(nextChar(), 16);
+                        if (d < 0) {
+                            throw syntaxError("Invalid escape sequence");
+                        }
+                        v = v * 16 + d;
+                    }
+                    this.text.append((char) v);
+                    break;
+                default:
+                    throw syntaxError("Invalid escape sequence");
+            }
+        }
+    }
+
+    /**
+     * Reads the characters of a number into the working buffer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void readNumberText() throws IOException {
+        this.text.setLength(0);
+        while (true) {
+            int c = peekChar();
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.'
+                    || c == 'e' || c == 'E') {
+                this.text.append((char) c);
+                this.pos++;
+            }
+            else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reads a number.  Numbers with up to 18 significant digits and small
+     * exponents are converted exactly without creating any objects.
+     *
+     * @return The number.
+     *
+     * @throws IOException if there is an I/O problem or the number is not
+     *     valid.
+     */
+    private double readNumber() throws IOException {
+        readNumberText();
+        StringBuilder s = this.text;
+        if (!isValidNumber(s)) {
+            throw syntaxError("Invalid number '" + s + "'");
+        }
+        int n = s.length();
+        int i = 0;
+        boolean negative = s.charAt(0) == '-';
+        if (negative) {
+            i++;
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exponent = 0;
+        boolean exact = true;
+        boolean fraction = false;
+        boolean any = false;
+        for (; i < n; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                any = true;
+                if (mantissa != 0 || c != '0') {
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                    }
+                    else {
+                        exact = false;
+                    }
+                }
+                if (fraction) {
+                    exponent--;
+                }
+            }
+            else if (c == '.' && !fraction) {
+                fraction = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (i < n) {
+            // an exponent (or an invalid number)
+            exact = false;
+        }
+        if (any && exact) {
+            if (mantissa == 0) {
+                return negative ? -0.0 : 0.0;
+            }
+            if (mantissa <= (1L << 53) && exponent >= -22) {
+                double v = mantissa / POWERS_OF_TEN[-exponent];
+                return negative ? -v : v;
+            }
+        }
+        try {
+            return Double.parseDouble(s.toString());
+        }
+        catch (NumberFormatException e) {
+            throw syntaxError("Invalid number '" + s + "'");
+        }
+    }
+
+    /**
+     * Returns {@code true} if the text is a number in the JSON grammar (an
+     * optional minus sign, an integer part without leading zeros, an
+     * optional fraction and an optional exponent, see RFC 8259).
+     *
+     * @param s  the text.
+     *
+     * @return A boolean.
+     */
+    private static boolean isValidNumber(CharSequence s) {
+        int n = s.length();
+        int i = 0;
+        if (i < n && s.charAt(i) == '-') {
+            i++;
+        }
+        if (i < n && s.charAt(i) == '0') {
+            i++;
+        }
+        else {
+            int start = i;
+            i = skipDigits(s, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < n && s.charAt(i) == '.') {
+            int start = ++i;
+            i = skipDigits(s, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        if (i < n && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            if (i < n && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                i++;
+            }
+            int start = i;
+            i = skipDigits(s, i);
+            if (i == start) {
+                return false;
+            }
+        }
+        return i == n;
+    }
+
+    /**
+     * Returns the index of the first character that is not a digit, at or
+     * after the specified index.
+     *
+     * @param s  the text.
+     * @param i  the index.
+     *
+     * @return The index.
+     */
+    private static int skipDigits(CharSequence s, int i) {
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Reads a literal ({@code true}, {@code false} or {@code null}).
+     *
+     * @param literal  the expected literal.
+     *
+     * @throws IOException if there is an I/O problem or the input does not
+     *     match.
+     */
+    private void readLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (nextChar() != literal.charAt(i)) {
+                throw syntaxError("Expected '" + literal + "'");
+            }
+        }
+    }
+
+    /**
+     * Returns the next character that is not white space, consuming it.
+     *
+     * @return The character, or -1 at the end of the input.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int nextNonWhitespace() throws IOException {
+        while (true) {
+            if (this.pos == this.limit && !fill()) {
+                return -1;
+            }
+            char c = this.buffer[this.pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     *
+     * @return The character, or -1 at the end of the input.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private int peekChar() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            return -1;
+        }
+        return this.buffer[this.pos];
+    }
+
+    /**
+     * Returns the next character, consuming it.
+     *
+     * @return The character.
+     *
+     * @throws IOException if there is an I/O problem or the input ends.
+     */
+    private int nextChar() throws IOException {
+        if (this.pos == this.limit && !fill()) {
+            throw syntaxError("Unexpected end of input");
+        }
+        return this.buffer[this.pos++];
+    }
+
+    /**
+     * Refills the buffer.  This is only called when all the characters in
+     * the buffer have been consumed, except that the last character is kept
+     * so that a single character can always be pushed back.
+     *
+     * @return {@code false} at the end of the input.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private boolean fill() throws IOException {
+        int keep = this.limit > 0 ? 1 : 0;
+        if (keep > 0) {
+            this.buffer[0] = this.buffer[this.limit - 1];
+        }
+        this.consumed += this.limit - keep;
+        this.pos = keep;
+        this.limit = keep;
+        int n = this.in.read(this.buffer, keep, this.buffer.length - keep);
+        if (n <= 0) {
+            return false;
+        }
+        this.limit += n;
+        return true;
+    }
+
+    /**
+     * Creates an exception for malformed input.
+     *
+     * @param message  the message.
+     *
+     * @return The exception.
+     */
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at offset "
+                + (this.consumed + this.pos) + ".");
+    }
+
+}
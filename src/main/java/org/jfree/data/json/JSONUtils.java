@@ -40,13 +40,33 @@ import org.jfree.chart.internal.Args;
 import org.jfree.data.KeyedValues;
 import org.jfree.data.KeyedValues2D;
 import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
 import org.jfree.data.general.PieDataset;
 import org.jfree.data.json.impl.JSONValue;
+import org.jfree.data.time.ColumnarTimeSeries;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimePeriodAnchor;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYDataset;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
 import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
 
 /**
  * A utility class that can read and write data in specific JSON formats.
@@ -192,5 +212,429 @@ public class JSONUtils {
         }
         writer.write("}");    
     }
-    
+
+    /**
+     * Writes an {@link XYDataset} in JSON format to the supplied writer,
+     * reading the values through the primitive accessors and streaming them
+     * directly to the output.  The format is an object with a "series"
+     * member containing one object per series, with the series key and
+     * separate arrays of x- and y-values ({@code Double.NaN} is written as
+     * {@code null}).  For example:
+     * {@code {"series":[{"key":"S1","x":[1,2],"y":[3.5,null]}]}}
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param writer  the writer ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @see #readXYDataset(Reader)
+     *
+     * @since 2.0.0
+     */
+    public static void writeXYDataset(XYDataset<?> dataset, Writer writer)
+            throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        JSONWriter out = new JSONWriter(writer);
+        out.beginObject().name("series").beginArray();
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            int itemCount = dataset.getItemCount(s);
+            out.beginObject();
+            out.name("key").value(dataset.getSeriesKey(s).toString());
+            out.name("x").beginArray();
+            for (int i = 0; i < itemCount; i++) {
+                out.value(dataset.getXValue(s, i));
+            }
+            out.endArray().name("y").beginArray();
+            for (int i = 0; i < itemCount; i++) {
+                out.value(dataset.getYValue(s, i));
+            }
+            out.endArray().endObject();
+        }
+        out.endArray().endObject().flush();
+    }
+
+    /**
+     * Writes an {@link XYDataset} in JSON format (UTF-8 encoded) to the
+     * supplied output stream.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @see #writeXYDataset(XYDataset, Writer)
+     *
+     * @since 2.0.0
+     */
+    public static void writeXYDataset(XYDataset<?> dataset, OutputStream out)
+            throws IOException {
+        Args.nullNotPermitted(out, "out");
+        writeXYDataset(dataset, new OutputStreamWriter(out,
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a dataset in the format written by
+     * {@link #writeXYDataset(XYDataset, Writer)}.  The input is parsed as a
+     * stream of tokens and the values are stored in primitive arrays, so the
+     * memory used is proportional to the number of values.  Unknown members
+     * are ignored.
+     *
+     * @param reader  the reader ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     the expected format.
+     *
+     * @since 2.0.0
+     */
+    public static DefaultXYDataset<String> readXYDataset(Reader reader)
+            throws IOException {
+        JSONReader in = new JSONReader(reader);
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!in.nextName().equals("series")) {
+                in.skipValue();
+                continue;
+            }
+            in.beginArray();
+            while (in.hasNext()) {
+                String key = null;
+                double[] x = null;
+                double[] y = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    if (name.equals("key")) {
+                        key = in.nextString();
+                    }
+                    else if (name.equals("x")) {
+                        x = readValues(in);
+                    }
+                    else if (name.equals("y")) {
+                        y = readValues(in);
+                    }
+                    else {
+                        in.skipValue();
+                    }
+                }
+                in.endObject();
+                if (key == null || x == null || y == null
+                        || x.length != y.length) {
+                    throw new IOException("Each series requires a key and "
+                            + "x and y arrays of equal length.");
+                }
+                // DefaultXYDataset would replace the earlier series
+                if (dataset.indexOf(key) >= 0) {
+                    throw new IOException("Duplicate series key '" + key
+                            + "'.");
+                }
+                dataset.addSeries(key, new double[][] {x, y});
+            }
+            in.endArray();
+        }
+        in.endObject();
+        return dataset;
+    }
+
+    /**
+     * Reads a dataset (UTF-8 encoded) in the format written by
+     * {@link #writeXYDataset(XYDataset, Writer)}.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     the expected format.
+     *
+     * @since 2.0.0
+     */
+    public static DefaultXYDataset<String> readXYDataset(InputStream in)
+            throws IOException {
+        Args.nullNotPermitted(in, "in");
+        return readXYDataset(new InputStreamReader(in,
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a {@link TimeSeriesCollection} in JSON format to the supplied
+     * writer.  The format is an object with a "series" member containing one
+     * object per series, with the series key, the simple name of the time
+     * period class (for example "Day"), an array of times (the first
+     * millisecond of each time period, evaluated in the specified time zone)
+     * and an array of values ({@code null} for missing values).  For
+     * example:
+     * {@code {"series":[{"key":"S1","period":"Day","time":[0,86400000],
+     * "values":[1.5,null]}]}}
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param writer  the writer ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @see #readTimeSeriesCollection(Reader, TimeZone)
+     *
+     * @since 2.0.0
+     */
+    public static void writeTimeSeriesCollection(
+            TimeSeriesCollection<?> dataset, TimeZone zone, Writer writer)
+            throws IOException {
+        Args.nullNotPermitted(dataset, "dataset");
+        Args.nullNotPermitted(zone, "zone");
+        Calendar calendar = Calendar.getInstance(zone);
+        JSONWriter out = new JSONWriter(writer);
+        out.beginObject().name("series").beginArray();
+        for (int s = 0; s < dataset.getSeriesCount(); s++) {
+            TimeSeries<?> series = dataset.getSeries(s);
+            int itemCount = series.getItemCount();
+            out.beginObject();
+            out.name("key").value(series.getKey().toString());
+            if (series.getTimePeriodClass() != null) {
+                out.name("period").value(
+                        series.getTimePeriodClass().getSimpleName());
+            }
+            out.name("time").beginArray();
+            for (int i = 0; i < itemCount; i++) {
+                out.value(series.getMillisecond(i, TimePeriodAnchor.START,
+                        calendar));
+            }
+            out.endArray().name("values").beginArray();
+            for (int i = 0; i < itemCount; i++) {
+                out.value(series.getYValue(i));
+            }
+            out.endArray().endObject();
+        }
+        out.endArray().endObject().flush();
+    }
+
+    /**
+     * Writes a {@link TimeSeriesCollection} in JSON format (UTF-8 encoded)
+     * to the supplied output stream.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param out  the output stream ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @see #writeTimeSeriesCollection(TimeSeriesCollection, TimeZone, Writer)
+     *
+     * @since 2.0.0
+     */
+    public static void writeTimeSeriesCollection(
+            TimeSeriesCollection<?> dataset, TimeZone zone, OutputStream out)
+            throws IOException {
+        Args.nullNotPermitted(out, "out");
+        writeTimeSeriesCollection(dataset, zone, new OutputStreamWriter(out,
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a dataset in the format written by
+     * {@link #writeTimeSeriesCollection(TimeSeriesCollection, TimeZone,
+     * Writer)}.  Each series is read into a {@link ColumnarTimeSeries}, so
+     * no objects are created for the individual items.  If no time period
+     * class is specified, {@link Millisecond} is used.
+     *
+     * @param reader  the reader ({@code null} not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     the expected format.
+     *
+     * @since 2.0.0
+     */
+    public static TimeSeriesCollection<String> readTimeSeriesCollection(
+            Reader reader, TimeZone zone) throws IOException {
+        Args.nullNotPermitted(zone, "zone");
+        JSONReader in = new JSONReader(reader);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(
+                zone);
+        in.beginObject();
+        while (in.hasNext()) {
+            if (!in.nextName().equals("series")) {
+                in.skipValue();
+                continue;
+            }
+            in.beginArray();
+            while (in.hasNext()) {
+                String key = null;
+                Class periodClass = Millisecond.class;
+                double[] time = null;
+                double[] values = null;
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    if (name.equals("key")) {
+                        key = in.nextString();
+                    }
+                    else if (name.equals("period")) {
+                        periodClass = periodClass(in.nextString());
+                    }
+                    else if (name.equals("time")) {
+                        time = readValues(in);
+                    }
+                    else if (name.equals("values")) {
+                        values = readValues(in);
+                    }
+                    else {
+                        in.skipValue();
+                    }
+                }
+                in.endObject();
+                if (key == null || time == null || values == null
+                        || time.length != values.length) {
+                    throw new IOException("Each series requires a key and "
+                            + "time and values arrays of equal length.");
+                }
+                ColumnarTimeSeries<String> series = new ColumnarTimeSeries<>(
+                        key, periodClass, zone, Locale.getDefault());
+                for (int i = 0; i < time.length; i++) {
+                    series.add((long) time[i], values[i], false);
+                }
+                dataset.addSeries(series);
+            }
+            in.endArray();
+        }
+        in.endObject();
+        return dataset;
+    }
+
+    /**
+     * Reads a dataset (UTF-8 encoded) in the format written by
+     * {@link #writeTimeSeriesCollection(TimeSeriesCollection, TimeZone,
+     * Writer)}.
+     *
+     * @param in  the input stream ({@code null} not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     the expected format.
+     *
+     * @since 2.0.0
+     */
+    public static TimeSeriesCollection<String> readTimeSeriesCollection(
+            InputStream in, TimeZone zone) throws IOException {
+        Args.nullNotPermitted(in, "in");
+        return readTimeSeriesCollection(new InputStreamReader(in,
+                StandardCharsets.UTF_8), zone);
+    }
+
+    /**
+     * Reads a dataset in the format written by
+     * {@link #writeKeyedValues2D(KeyedValues2D, Writer)}, parsing the input
+     * as a stream of tokens.
+     *
+     * @param reader  the reader ({@code null} not permitted).
+     *
+     * @return The dataset.
+     *
+     * @throws IOException if there is an I/O problem or the input is not in
+     *     the expected format.
+     *
+     * @since 2.0.0
+     */
+    public static DefaultCategoryDataset<String, String> readKeyedValues2D(
+            Reader reader) throws IOException {
+        JSONReader in = new JSONReader(reader);
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        dataset.setNotify(false);
+        List<String> columnKeys = new ArrayList<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String name = in.nextName();
+            if (name.equals("columnKeys")) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    columnKeys.add(in.nextString());
+                }
+                in.endArray();
+            }
+            else if (name.equals("rows")) {
+                in.beginArray();
+                while (in.hasNext()) {
+                    in.beginArray();
+                    String rowKey = in.nextString();
+                    in.beginArray();
+                    int column = 0;
+                    while (in.hasNext()) {
+                        if (column >= columnKeys.size()) {
+                            throw new IOException(
+                                    "More values than column keys.");
+                        }
+                        double v = in.nextDouble();
+                        dataset.addValue(Double.isNaN(v) ? null : v, rowKey,
+                                columnKeys.get(column++));
+                    }
+                    in.endArray();
+                    in.endArray();
+                }
+                in.endArray();
+            }
+            else {
+                in.skipValue();
+            }
+        }
+        in.endObject();
+        dataset.setNotify(true);
+        return dataset;
+    }
+
+    /**
+     * Reads an array of numbers ({@code null} is read as
+     * {@code Double.NaN}).
+     *
+     * @param in  the reader.
+     *
+     * @return The numbers.
+     *
+     * @throws IOException if there is an I/O problem or the input is not an
+     *     array of numbers.
+     */
+    private static double[] readValues(JSONReader in) throws IOException {
+        double[] result = new double[256];
+        int count = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (count == result.length) {
+                result = Arrays.copyOf(result, count * 2);
+            }
+            result[count++] = in.nextDouble();
+        }
+        in.endArray();
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Returns the time period class with the specified simple name.
+     *
+     * @param name  the name (for example "Day").
+     *
+     * @return The class.
+     *
+     * @throws IOException if there is no such time period class.
+     */
+    private static Class periodClass(String name) throws IOException {
+        try {
+            Class c = Class.forName(RegularTimePeriod.class.getPackage()
+                    .getName() + "." + name);
+            if (RegularTimePeriod.class.isAssignableFrom(c)) {
+                return c;
+            }
+        }
+        catch (ClassNotFoundException e) {
+            // fall through
+        }
+        throw new IOException("Unknown time period class '" + name + "'.");
+    }
+
 }
@@ -0,0 +1,486 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------
+ * JSONWriter.java
+ * ---------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Writes JSON text as a stream of tokens, without building an object tree.
+ * Output is collected in an internal character buffer and passed to the
+ * underlying writer in large blocks.  Whole numbers are formatted without
+ * creating any objects, and {@code Double.NaN} and infinite values (which
+ * JSON cannot represent) are written as {@code null}.
+ * <p>
+ * Commas and colons are inserted automatically, so a JSON document is
+ * written with calls such as:
+ * <pre>
+ * writer.beginObject().name("x").beginArray().value(1.0).value(2.0)
+ *         .endArray().endObject().flush();</pre>
+ *
+ * @see JSONReader
+ *
+ * @since 2.0.0
+ */
+public class JSONWriter implements Closeable, Flushable {
+
+    /** The underlying writer. */
+    private final Writer out;
+
+    /** The output buffer. */
+    private final char[] buffer;
+
+    /** The number of characters in the buffer. */
+    private int count;
+
+    /**
+     * A flag for each open array or object, {@code true} once it has at
+     * least one element.
+     */
+    private boolean[] nonEmpty;
+
+    /** The number of open arrays and objects. */
+    private int depth;
+
+    /** Set after a name is written, until its value is written. */
+    private boolean afterName;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param out  the underlying writer ({@code null} not permitted).
+     */
+    public JSONWriter(Writer out) {
+        Args.nullNotPermitted(out, "out");
+        this.out = out;
+        this.buffer = new char[8192];
+        this.nonEmpty = new boolean[32];
+    }
+
+    /**
+     * Creates a new writer that writes UTF-8 to an output stream.
+     *
+     * @param out  the output stream ({@code null} not permitted).
+     */
+    public JSONWriter(OutputStream out) {
+        this(toWriter(out));
+    }
+
+    /**
+     * Returns a UTF-8 writer for an output stream.
+     *
+     * @param out  the output stream ({@code null} not permitted).
+     *
+     * @return The writer.
+     */
+    private static Writer toWriter(OutputStream out) {
+        Args.nullNotPermitted(out, "out");
+        return new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Starts an object.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    /**
+     * Ends the current object.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    /**
+     * Starts an array.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    /**
+     * Ends the current array.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    /**
+     * Writes the name for the next value in an object.
+     *
+     * @param name  the name ({@code null} not permitted).
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter name(String name) throws IOException {
+        Args.nullNotPermitted(name, "name");
+        beforeValue();
+        writeString(name);
+        write(':');
+        this.afterName = true;
+        return this;
+    }
+
+    /**
+     * Writes a string value.
+     *
+     * @param value  the value ({@code null} is written as {@code null}).
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    /**
+     * Writes a number.
+     *
+     * @param value  the value ({@code Double.NaN} and infinite values are
+     *     written as {@code null}).
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter value(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nullValue();
+        }
+        beforeValue();
+        long whole = (long) value;
+        if (whole == value && Math.abs(whole) < 1000000000000000L
+                && (whole != 0 || 1.0 / value > 0)) {
+            writeLong(whole);
+        }
+        else {
+            write(Double.toString(value));
+        }
+        return this;
+    }
+
+    /**
+     * Writes a whole number.
+     *
+     * @param value  the value.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter value(long value) throws IOException {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     *
+     * @param value  the value.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter value(boolean value) throws IOException {
+        beforeValue();
+        write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Writes {@code null}.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public JSONWriter nullValue() throws IOException {
+        beforeValue();
+        write("null");
+        return this;
+    }
+
+    /**
+     * Passes the buffered output to the underlying writer and flushes it.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        this.out.flush();
+    }
+
+    /**
+     * Flushes and closes the underlying writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Override
+    public void close() throws IOException {
+        flushBuffer();
+        this.out.close();
+    }
+
+    /**
+     * Opens an array or object.
+     *
+     * @param c  the opening character.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private JSONWriter open(char c) throws IOException {
+        beforeValue();
+        write(c);
+        if (this.depth == this.nonEmpty.length) {
+            this.nonEmpty = Arrays.copyOf(this.nonEmpty, this.depth * 2);
+        }
+        this.nonEmpty[this.depth++] = false;
+        return this;
+    }
+
+    /**
+     * Closes an array or object.
+     *
+     * @param c  the closing character.
+     *
+     * @return This writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private JSONWriter close(char c) throws IOException {
+        if (this.depth == 0 || this.afterName) {
+            throw new IllegalStateException("Nothing to close.");
+        }
+        this.depth--;
+        write(c);
+        return this;
+    }
+
+    /**
+     * Writes a comma if a value (or name) follows another in the current
+     * array or object.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void beforeValue() throws IOException {
+        if (this.afterName) {
+            this.afterName = false;
+            return;
+        }
+        if (this.depth > 0) {
+            if (this.nonEmpty[this.depth - 1]) {
+                write(',');
+            }
+            else {
+                this.nonEmpty[this.depth - 1] = true;
+            }
+        }
+    }
+
+    /**
+     * Writes a quoted and escaped string.
+     *
+     * @param s  the string.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeString(String s) throws IOException {
+        write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"':
+                    write("\\\"");
+                    break;
+                case '\\':
+                    write("\\\\");
+                    break;
+                case '\n':
+                    write("\\n");
+                    break;
+                case '\r':
+                    write("\\r");
+                    break;
+                case '\t':
+                    write("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        write("\\u");
+                        String hex = Integer.toHexString(c);
+                        for (int j = hex.length(); j < 4; j++) {
+                            write('0');
+                        }
+                        write(hex);
+                    }
+                    else {
+                        write(c);
+                    }
+            }
+        }
+        write('"');
+    }
+
+    /**
+     * Writes the digits of a whole number.
+     *
+     * @param value  the value.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(Long.toString(value));
+            return;
+        }
+        if (this.count + 20 > this.buffer.length) {
+            flushBuffer();
+        }
+        if (value < 0) {
+            this.buffer[this.count++] = '-';
+            value = -value;
+        }
+        int end = this.count + digitCount(value);
+        int i = end;
+        do {
+            this.buffer[--i] = (char) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        this.count = end;
+    }
+
+    /**
+     * Returns the number of decimal digits in a non-negative number.
+     *
+     * @param value  the value.
+     *
+     * @return The number of digits.
+     */
+    private static int digitCount(long value) {
+        int n = 1;
+        while (value >= 10) {
+            value /= 10;
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Writes a character to the buffer.
+     *
+     * @param c  the character.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void write(char c) throws IOException {
+        if (this.count == this.buffer.length) {
+            flushBuffer();
+        }
+        this.buffer[this.count++] = c;
+    }
+
+    /**
+     * Writes a string to the buffer.
+     *
+     * @param s  the string.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void write(String s) throws IOException {
+        int length = s.length();
+        if (this.count + length > this.buffer.length) {
+            flushBuffer();
+            if (length > this.buffer.length) {
+                this.out.write(s);
+                return;
+            }
+        }
+        s.getChars(0, length, this.buffer, this.count);
+        this.count += length;
+    }
+
+    /**
+     * Passes the buffered characters to the underlying writer.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private void flushBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+
+}
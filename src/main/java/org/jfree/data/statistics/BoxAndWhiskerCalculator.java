@@ -40,12 +40,14 @@ import org.jfree.chart.internal.Args;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 
 /**
  * A utility class that calculates the mean, median, quartiles Q1 and Q3, plus
  * a list of outlier values...all from an arbitrary list of
- * {@code Number} objects.
+ * {@code Number} objects or an array of values, or approximately from a
+ * {@link QuantileSketch}.
  */
 public abstract class BoxAndWhiskerCalculator {
 
@@ -85,22 +87,30 @@ public abstract class BoxAndWhiskerCalculator {
 
         Args.nullNotPermitted(values, "values");
 
-        List vlist;
         if (stripNullAndNaNItems) {
-            vlist = new ArrayList(values.size());
+            // find the quartiles by selection on a primitive copy, rather
+            // than by sorting the list
+            List<Number> numbers = new ArrayList<>(values.size());
+            double[] a = new double[values.size()];
+            int count = 0;
+            double sum = 0.0;
             for (Object obj : values) {
                 if (obj instanceof Number) {
                     Number n = (Number) obj;
                     double v = n.doubleValue();
                     if (!Double.isNaN(v)) {
-                        vlist.add(n);
+                        numbers.add(n);
+                        a[count++] = v;
+                        sum += v;
                     }
                 }
             }
+            double[] q = Statistics.selectQuartiles(a, 0, count - 1,
+                    false);
+            return createItem(sum / count, q, a, count, numbers);
         }
-        else {
-            vlist = values;
-        }
+
+        List vlist = values;
         Collections.sort(vlist);
 
         double mean = Statistics.calculateMean(vlist, false);
@@ -150,6 +160,145 @@ public abstract class BoxAndWhiskerCalculator {
 
     }
 
+    /**
+     * Calculates the statistics required for a {@link BoxAndWhiskerItem}
+     * from an array of values, in any order.  Any {@code Double.NaN} values
+     * are ignored.  The quartiles are found by selection rather than by
+     * sorting, so the running time is linear in the number of values, and if
+     * {@code copy} is {@code false} no working copy is allocated (the
+     * values in the array are reordered instead).
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param copy  a flag that controls whether the values are copied before
+     *     being reordered.
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 2.0.0
+     */
+    public static BoxAndWhiskerItem calculateBoxAndWhiskerStatistics(
+            double[] values, boolean copy) {
+        Args.nullNotPermitted(values, "values");
+        double[] a = copy ? values.clone() : values;
+        int count = 0;
+        double sum = 0.0;
+        for (double v : a) {
+            if (!Double.isNaN(v)) {
+                count++;
+                sum += v;
+            }
+        }
+        // this moves any NaN values to the end of the array
+        double[] q = Statistics.selectQuartiles(a, 0, a.length - 1, false);
+        return createItem(sum / count, q, a, count, null);
+    }
+
+    /**
+     * Returns a {@link BoxAndWhiskerItem} with approximate statistics for
+     * the values summarised by a sketch, which allows box-and-whisker items
+     * to be created for very large or streamed samples without retaining
+     * the values.  The mean, the minimum and the maximum are exact, the
+     * quartiles are estimates.  Since the sketch does not retain individual
+     * values, the regular range is approximated by clipping the range of
+     * the values to the outlier thresholds, and the list of outliers is
+     * empty.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     *
+     * @return A box-and-whisker item.
+     *
+     * @since 2.0.0
+     */
+    public static BoxAndWhiskerItem calculateApproximateStatistics(
+            QuantileSketch sketch) {
+        Args.nullNotPermitted(sketch, "sketch");
+        if (sketch.getCount() == 0) {
+            return createItem(Double.NaN, new double[] {Double.NaN,
+                    Double.NaN, Double.NaN}, new double[0], 0, null);
+        }
+        double q1 = sketch.getQuantile(0.25);
+        double median = sketch.getQuantile(0.5);
+        double q3 = sketch.getQuantile(0.75);
+        double min = sketch.getMinimum();
+        double max = sketch.getMaximum();
+        double interQuartileRange = q3 - q1;
+        double minRegularValue = Math.max(min,
+                q1 - interQuartileRange * 1.5);
+        double maxRegularValue = Math.min(max,
+                q3 + interQuartileRange * 1.5);
+        double minOutlier = Math.min(minRegularValue,
+                Math.max(min, q1 - interQuartileRange * 2.0));
+        double maxOutlier = Math.max(maxRegularValue,
+                Math.min(max, q3 + interQuartileRange * 2.0));
+        return new BoxAndWhiskerItem(sketch.getMean(), median, q1, q3,
+                minRegularValue, maxRegularValue, minOutlier, maxOutlier,
+                new ArrayList<>());
+    }
+
+    /**
+     * Creates a {@link BoxAndWhiskerItem} from the mean and quartiles of
+     * some values, finding the regular range and the outliers.
+     *
+     * @param mean  the mean.
+     * @param quartiles  the first quartile, median and third quartile.
+     * @param values  the values (not {@code Double.NaN}), in any order.
+     * @param count  the number of values.
+     * @param numbers  the values as numbers (in the same order as
+     *     {@code values}) to use for the outlier list, or {@code null}.
+     *
+     * @return A box-and-whisker item.
+     */
+    private static BoxAndWhiskerItem createItem(double mean,
+            double[] quartiles, double[] values, int count,
+            List<Number> numbers) {
+        double q1 = quartiles[0];
+        double q3 = quartiles[2];
+        double interQuartileRange = q3 - q1;
+
+        double upperOutlierThreshold = q3 + (interQuartileRange * 1.5);
+        double lowerOutlierThreshold = q1 - (interQuartileRange * 1.5);
+
+        double upperFaroutThreshold = q3 + (interQuartileRange * 2.0);
+        double lowerFaroutThreshold = q1 - (interQuartileRange * 2.0);
+
+        double minRegularValue = Double.POSITIVE_INFINITY;
+        double maxRegularValue = Double.NEGATIVE_INFINITY;
+        double minOutlier = Double.POSITIVE_INFINITY;
+        double maxOutlier = Double.NEGATIVE_INFINITY;
+        List<Number> outliers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            double value = numbers != null ? numbers.get(i).doubleValue()
+                    : values[i];
+            if (value > upperOutlierThreshold
+                    || value < lowerOutlierThreshold) {
+                outliers.add(numbers != null ? numbers.get(i) : value);
+                if (value > upperOutlierThreshold) {
+                    if (value > maxOutlier && value <= upperFaroutThreshold) {
+                        maxOutlier = value;
+                    }
+                }
+                else if (value < minOutlier
+                        && value >= lowerFaroutThreshold) {
+                    minOutlier = value;
+                }
+            }
+            else {
+                minRegularValue = Math.min(minRegularValue, value);
+                maxRegularValue = Math.max(maxRegularValue, value);
+            }
+        }
+        minOutlier = Math.min(minOutlier, minRegularValue);
+        maxOutlier = Math.max(maxOutlier, maxRegularValue);
+        // the values are not sorted, but the outliers are reported in
+        // ascending order
+        outliers.sort(Comparator.comparingDouble(Number::doubleValue));
+
+        return new BoxAndWhiskerItem(mean, quartiles[1], q1, q3,
+                minRegularValue, maxRegularValue, minOutlier, maxOutlier,
+                outliers);
+    }
+
     /**
      * Calculates the first quartile for a list of numbers in ascending order.
      * If the items in the list are not in ascending order, the result is
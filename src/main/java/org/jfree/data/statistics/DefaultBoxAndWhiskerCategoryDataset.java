@@ -111,6 +111,26 @@ public class DefaultBoxAndWhiskerCategoryDataset<R extends Comparable<R>,
         add(item, rowKey, columnKey);
     }
 
+    /**
+     * Adds a box-and-whisker item with approximate statistics for the values
+     * summarised by a sketch, so that items can be created from streamed
+     * samples without retaining the values.
+     *
+     * @param sketch  the sketch ({@code null} not permitted).
+     * @param rowKey  the row key ({@code null} not permitted).
+     * @param columnKey  the column key ({@code null} not permitted).
+     *
+     * @see BoxAndWhiskerCalculator#calculateApproximateStatistics(
+     *     QuantileSketch)
+     *
+     * @since 2.0.0
+     */
+    public void add(QuantileSketch sketch, R rowKey, C columnKey) {
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                .calculateApproximateStatistics(sketch);
+        add(item, rowKey, columnKey);
+    }
+
     /**
      * Adds a list of values relating to one Box and Whisker entity to the
      * table.  The various median values are calculated.
@@ -0,0 +1,261 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * MeanVarianceAccumulator.java
+ * ----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Accumulates the count, mean, variance, minimum and maximum of a sequence
+ * of values in a single pass, without storing the values.  The mean and
+ * variance are updated with Welford's method, and two accumulators (for
+ * example, for chunks of the data processed in parallel) can be combined
+ * with {@link #merge(MeanVarianceAccumulator)}.  {@code Double.NaN} values
+ * are ignored.
+ * <p>
+ * The class can be used to collect a (parallel) {@code DoubleStream}, see
+ * {@link #of(DoubleStream)}.
+ *
+ * @since 2.0.0
+ */
+public class MeanVarianceAccumulator implements DoubleConsumer, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -5586097432118227790L;
+
+    /** The number of values. */
+    private long count;
+
+    /** The mean. */
+    private double mean;
+
+    /** The sum of squared differences from the mean. */
+    private double m2;
+
+    /** The minimum value. */
+    private double minimum = Double.POSITIVE_INFINITY;
+
+    /** The maximum value. */
+    private double maximum = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates a new, empty, accumulator.
+     */
+    public MeanVarianceAccumulator() {
+        // nothing to do
+    }
+
+    /**
+     * Returns an accumulator containing the values in a stream (the stream
+     * can be parallel).
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The accumulator.
+     */
+    public static MeanVarianceAccumulator of(DoubleStream values) {
+        Args.nullNotPermitted(values, "values");
+        return values.collect(MeanVarianceAccumulator::new,
+                MeanVarianceAccumulator::add, MeanVarianceAccumulator::merge);
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value  the value ({@code Double.NaN} is ignored).
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.count++;
+        double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.m2 += delta * (value - this.mean);
+        if (value < this.minimum) {
+            this.minimum = value;
+        }
+        if (value > this.maximum) {
+            this.maximum = value;
+        }
+    }
+
+    /**
+     * Adds a value (the same as {@link #add(double)}).
+     *
+     * @param value  the value.
+     */
+    @Override
+    public void accept(double value) {
+        add(value);
+    }
+
+    /**
+     * Adds all the values in an array.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void addAll(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Adds the values in a range of an array.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param from  the index of the first value.
+     * @param to  the index after the last value.
+     */
+    public void addAll(double[] values, int from, int to) {
+        Args.nullNotPermitted(values, "values");
+        for (int i = from; i < to; i++) {
+            add(values[i]);
+        }
+    }
+
+    /**
+     * Adds the values from another accumulator to this one.
+     *
+     * @param other  the other accumulator ({@code null} not permitted).
+     *
+     * @return This accumulator.
+     */
+    public MeanVarianceAccumulator merge(MeanVarianceAccumulator other) {
+        Args.nullNotPermitted(other, "other");
+        if (other.count == 0) {
+            return this;
+        }
+        if (this.count == 0) {
+            this.count = other.count;
+            this.mean = other.mean;
+            this.m2 = other.m2;
+        }
+        else {
+            long n = this.count + other.count;
+            double delta = other.mean - this.mean;
+            this.mean += delta * other.count / n;
+            this.m2 += other.m2 + delta * delta
+                    * ((double) this.count * other.count / n);
+            this.count = n;
+        }
+        this.minimum = Math.min(this.minimum, other.minimum);
+        this.maximum = Math.max(this.maximum, other.maximum);
+        return this;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return The mean ({@code Double.NaN} if no values have been added).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.mean : Double.NaN;
+    }
+
+    /**
+     * Returns the sum of the values.
+     *
+     * @return The sum.
+     */
+    public double getSum() {
+        return this.mean * this.count;
+    }
+
+    /**
+     * Returns the sample variance of the values.
+     *
+     * @return The variance ({@code Double.NaN} if fewer than two values have
+     *     been added).
+     */
+    public double getVariance() {
+        return this.count > 1 ? this.m2 / (this.count - 1) : Double.NaN;
+    }
+
+    /**
+     * Returns the sample standard deviation of the values (as calculated by
+     * {@link Statistics#calculateStdDev(double[])}).
+     *
+     * @return The standard deviation ({@code Double.NaN} if fewer than two
+     *     values have been added).
+     */
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns the minimum value.
+     *
+     * @return The minimum ({@code Double.NaN} if no values have been added).
+     */
+    public double getMinimum() {
+        return this.count > 0 ? this.minimum : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value.
+     *
+     * @return The maximum ({@code Double.NaN} if no values have been added).
+     */
+    public double getMaximum() {
+        return this.count > 0 ? this.maximum : Double.NaN;
+    }
+
+    /**
+     * Returns a string representing the accumulator, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "MeanVarianceAccumulator[count=" + this.count + ", mean="
+                + getMean() + ", variance=" + getVariance() + "]";
+    }
+
+}
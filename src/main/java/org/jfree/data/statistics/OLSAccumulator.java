@@ -0,0 +1,264 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * OLSAccumulator.java
+ * -------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * Accumulates the sums required to fit a straight line {@code y = a + bx}
+ * to a sequence of (x, y) values using ordinary least squares, in a single
+ * pass and without storing the values.  The means and the sums of squares
+ * and products of the differences from the means are updated incrementally,
+ * relative to the first pair added (which avoids the loss of precision of
+ * the textbook formula for large x-values, such as dates in milliseconds),
+ * and two accumulators (for
+ * example, for chunks of the data processed in parallel) can be combined
+ * with {@link #merge(OLSAccumulator)}.  Pairs where either value is
+ * {@code Double.NaN} are ignored.
+ *
+ * @see Regression#getOLSRegression(double[], double[])
+ *
+ * @since 2.0.0
+ */
+public class OLSAccumulator implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 4330615587407349236L;
+
+    /** The number of (x, y) pairs. */
+    private long count;
+
+    /** The x-value of the first pair, subtracted from all x-values. */
+    private double shiftX;
+
+    /** The y-value of the first pair, subtracted from all y-values. */
+    private double shiftY;
+
+    /** The mean of the shifted x-values. */
+    private double meanX;
+
+    /** The mean of the shifted y-values. */
+    private double meanY;
+
+    /** The sum of squared differences of the x-values from their mean. */
+    private double sxx;
+
+    /** The sum of squared differences of the y-values from their mean. */
+    private double syy;
+
+    /** The sum of the products of the differences from the means. */
+    private double sxy;
+
+    /**
+     * Creates a new, empty, accumulator.
+     */
+    public OLSAccumulator() {
+        // nothing to do
+    }
+
+    /**
+     * Adds an (x, y) pair.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void add(double x, double y) {
+        if (Double.isNaN(x) || Double.isNaN(y)) {
+            return;
+        }
+        if (this.count == 0) {
+            this.shiftX = x;
+            this.shiftY = y;
+        }
+        x -= this.shiftX;
+        y -= this.shiftY;
+        this.count++;
+        double dx = x - this.meanX;
+        double dy = y - this.meanY;
+        this.meanX += dx / this.count;
+        this.meanY += dy / this.count;
+        this.sxx += dx * (x - this.meanX);
+        this.syy += dy * (y - this.meanY);
+        this.sxy += dx * (y - this.meanY);
+    }
+
+    /**
+     * Adds the pairs from two arrays of equal length.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     */
+    public void addAll(double[] xData, double[] yData) {
+        Args.nullNotPermitted(xData, "xData");
+        Args.nullNotPermitted(yData, "yData");
+        if (xData.length != yData.length) {
+            throw new IllegalArgumentException(
+                    "Array lengths must be equal.");
+        }
+        for (int i = 0; i < xData.length; i++) {
+            add(xData[i], yData[i]);
+        }
+    }
+
+    /**
+     * Adds the items in one series of a dataset.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     */
+    public void addAll(XYDataset dataset, int series) {
+        Args.nullNotPermitted(dataset, "dataset");
+        int n = dataset.getItemCount(series);
+        for (int i = 0; i < n; i++) {
+            add(dataset.getXValue(series, i), dataset.getYValue(series, i));
+        }
+    }
+
+    /**
+     * Adds the pairs from another accumulator to this one.
+     *
+     * @param other  the other accumulator ({@code null} not permitted).
+     *
+     * @return This accumulator.
+     */
+    public OLSAccumulator merge(OLSAccumulator other) {
+        Args.nullNotPermitted(other, "other");
+        if (other.count == 0) {
+            return this;
+        }
+        if (this.count == 0) {
+            this.count = other.count;
+            this.shiftX = other.shiftX;
+            this.shiftY = other.shiftY;
+            this.meanX = other.meanX;
+            this.meanY = other.meanY;
+            this.sxx = other.sxx;
+            this.syy = other.syy;
+            this.sxy = other.sxy;
+            return this;
+        }
+        long n = this.count + other.count;
+        double dx = other.meanX + (other.shiftX - this.shiftX) - this.meanX;
+        double dy = other.meanY + (other.shiftY - this.shiftY) - this.meanY;
+        double f = (double) this.count * other.count / n;
+        this.sxx += other.sxx + dx * dx * f;
+        this.syy += other.syy + dy * dy * f;
+        this.sxy += other.sxy + dx * dy * f;
+        this.meanX += dx * other.count / n;
+        this.meanY += dy * other.count / n;
+        this.count = n;
+        return this;
+    }
+
+    /**
+     * Returns the number of (x, y) pairs added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the slope ('b') of the fitted line.
+     *
+     * @return The slope ({@code Double.NaN} if fewer than two pairs have been
+     *     added, or all the x-values are equal).
+     */
+    public double getSlope() {
+        if (this.count < 2 || this.sxx == 0.0) {
+            return Double.NaN;
+        }
+        return this.sxy / this.sxx;
+    }
+
+    /**
+     * Returns the intercept ('a') of the fitted line.
+     *
+     * @return The intercept ({@code Double.NaN} if the slope is not
+     *     defined).
+     */
+    public double getIntercept() {
+        return getMeanY() - getSlope() * getMeanX();
+    }
+
+    /**
+     * Returns the parameters of the fitted line, in the same form as
+     * {@link Regression#getOLSRegression(double[][])}: the intercept ('a')
+     * in element 0 and the slope ('b') in element 1.
+     *
+     * @return The parameters.
+     */
+    public double[] getCoefficients() {
+        double b = getSlope();
+        return new double[] {getMeanY() - b * getMeanX(), b};
+    }
+
+    /**
+     * Returns the (Pearson) correlation coefficient of the x- and y-values.
+     *
+     * @return The correlation ({@code Double.NaN} if it is not defined).
+     */
+    public double getCorrelation() {
+        if (this.count < 2) {
+            return Double.NaN;
+        }
+        return this.sxy / Math.sqrt(this.sxx * this.syy);
+    }
+
+    /**
+     * Returns the mean of the x-values.
+     *
+     * @return The mean ({@code Double.NaN} if no pairs have been added).
+     */
+    public double getMeanX() {
+        return this.count > 0 ? this.shiftX + this.meanX : Double.NaN;
+    }
+
+    /**
+     * Returns the mean of the y-values.
+     *
+     * @return The mean ({@code Double.NaN} if no pairs have been added).
+     */
+    public double getMeanY() {
+        return this.count > 0 ? this.shiftY + this.meanY : Double.NaN;
+    }
+
+}
@@ -0,0 +1,528 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * QuantileSketch.java
+ * -------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.stream.DoubleStream;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * A compact, mergeable summary of a sequence of values that can estimate
+ * quantiles (such as the median and quartiles) without retaining the
+ * values.  This is a "merging t-digest": values are buffered, then sorted
+ * and merged into a bounded number of weighted centroids, with small
+ * centroids near the extremes and large centroids near the median, so that
+ * the relative accuracy is best for the tails of the distribution.  The
+ * number of centroids (and so the memory and accuracy) is controlled by the
+ * compression, which does not depend on the number of values.
+ * <p>
+ * The count, mean, minimum and maximum are exact.  Two sketches (for
+ * example, for chunks of the data processed in parallel) can be combined
+ * with {@link #merge(QuantileSketch)}, and
+ * {@link BoxAndWhiskerCalculator#calculateApproximateStatistics(
+ * QuantileSketch)} converts a sketch to a {@link BoxAndWhiskerItem}.
+ * {@code Double.NaN} values are ignored.
+ *
+ * @since 2.0.0
+ */
+public class QuantileSketch implements DoubleConsumer, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2407658226346722017L;
+
+    /** The default compression. */
+    public static final double DEFAULT_COMPRESSION = 100.0;
+
+    /** The compression. */
+    private final double compression;
+
+    /** The centroid means, in ascending order. */
+    private double[] means;
+
+    /** The centroid weights. */
+    private double[] weights;
+
+    /** The number of centroids. */
+    private int centroidCount;
+
+    /** The means of the buffered (not yet merged) centroids. */
+    private final double[] bufferMeans;
+
+    /** The weights of the buffered centroids. */
+    private final double[] bufferWeights;
+
+    /** The number of buffered centroids. */
+    private int bufferCount;
+
+    /** The total weight (the number of values). */
+    private double count;
+
+    /** The sum of the values. */
+    private double sum;
+
+    /** The minimum value. */
+    private double minimum = Double.POSITIVE_INFINITY;
+
+    /** The maximum value. */
+    private double maximum = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Creates a new sketch with the default compression.
+     */
+    public QuantileSketch() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Creates a new sketch.  Higher compressions give more accurate
+     * estimates and use more memory: the sketch holds at most about
+     * {@code compression} centroids once the buffer is merged.
+     *
+     * @param compression  the compression (at least 10).
+     */
+    public QuantileSketch(double compression) {
+        if (!(compression >= 10.0)) {
+            throw new IllegalArgumentException("Requires 'compression' >= 10.");
+        }
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression * Math.PI / 2.0) + 1;
+        this.means = new double[capacity];
+        this.weights = new double[capacity];
+        int bufferCapacity = (int) Math.ceil(compression * 5.0);
+        this.bufferMeans = new double[bufferCapacity];
+        this.bufferWeights = new double[bufferCapacity];
+    }
+
+    /**
+     * Returns a sketch containing the values in a stream (the stream can be
+     * parallel).
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The sketch.
+     */
+    public static QuantileSketch of(DoubleStream values) {
+        Args.nullNotPermitted(values, "values");
+        return values.collect(QuantileSketch::new, QuantileSketch::add,
+                QuantileSketch::merge);
+    }
+
+    /**
+     * Returns the compression.
+     *
+     * @return The compression.
+     */
+    public double getCompression() {
+        return this.compression;
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param value  the value ({@code Double.NaN} is ignored).
+     */
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        this.count++;
+        this.sum += value;
+        if (value < this.minimum) {
+            this.minimum = value;
+        }
+        if (value > this.maximum) {
+            this.maximum = value;
+        }
+        buffer(value, 1.0);
+    }
+
+    /**
+     * Adds a value (the same as {@link #add(double)}).
+     *
+     * @param value  the value.
+     */
+    @Override
+    public void accept(double value) {
+        add(value);
+    }
+
+    /**
+     * Adds all the values in an array.
+     *
+     * @param values  the values ({@code null} not permitted).
+     */
+    public void addAll(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        for (double v : values) {
+            add(v);
+        }
+    }
+
+    /**
+     * Adds the values summarised by another sketch to this one.  The other
+     * sketch is not modified.
+     *
+     * @param other  the other sketch ({@code null} not permitted).
+     *
+     * @return This sketch.
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        Args.nullNotPermitted(other, "other");
+        if (other.count == 0) {
+            return this;
+        }
+        this.count += other.count;
+        this.sum += other.sum;
+        this.minimum = Math.min(this.minimum, other.minimum);
+        this.maximum = Math.max(this.maximum, other.maximum);
+        for (int i = 0; i < other.centroidCount; i++) {
+            buffer(other.means[i], other.weights[i]);
+        }
+        for (int i = 0; i < other.bufferCount; i++) {
+            buffer(other.bufferMeans[i], other.bufferWeights[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of values added.
+     *
+     * @return The count.
+     */
+    public long getCount() {
+        return (long) this.count;
+    }
+
+    /**
+     * Returns the mean of the values.
+     *
+     * @return The mean ({@code Double.NaN} if no values have been added).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.sum / this.count : Double.NaN;
+    }
+
+    /**
+     * Returns the minimum value.
+     *
+     * @return The minimum ({@code Double.NaN} if no values have been added).
+     */
+    public double getMinimum() {
+        return this.count > 0 ? this.minimum : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum value.
+     *
+     * @return The maximum ({@code Double.NaN} if no values have been added).
+     */
+    public double getMaximum() {
+        return this.count > 0 ? this.maximum : Double.NaN;
+    }
+
+    /**
+     * Returns the number of centroids currently summarising the values
+     * (after merging any buffered values).
+     *
+     * @return The number of centroids.
+     */
+    public int getCentroidCount() {
+        flush();
+        return this.centroidCount;
+    }
+
+    /**
+     * Returns an estimate of a quantile of the values.
+     *
+     * @param q  the quantile (in the range 0.0 to 1.0).
+     *
+     * @return The estimate ({@code Double.NaN} if no values have been
+     *     added).
+     */
+    public double getQuantile(double q) {
+        if (!(q >= 0.0 && q <= 1.0)) {
+            throw new IllegalArgumentException(
+                    "Requires 'q' in the range 0.0 to 1.0.");
+        }
+        if (this.count == 0) {
+            return Double.NaN;
+        }
+        flush();
+        int n = this.centroidCount;
+        if (n == 1 || q == 0.0 || q == 1.0) {
+            if (q == 0.0) {
+                return this.minimum;
+            }
+            if (q == 1.0) {
+                return this.maximum;
+            }
+            return this.means[0];
+        }
+        // the target position, treating each centroid's weight as spread
+        // evenly around its mean
+        double target = q * this.count;
+        double w0 = this.weights[0];
+        if (target < w0 / 2.0) {
+            if (w0 == 1.0) {
+                return this.minimum;
+            }
+            return interpolate(this.minimum, this.means[0],
+                    target / (w0 / 2.0));
+        }
+        double cumulative = w0 / 2.0;
+        for (int i = 0; i < n - 1; i++) {
+            double step = (this.weights[i] + this.weights[i + 1]) / 2.0;
+            if (target < cumulative + step) {
+                if (this.weights[i] == 1.0 && target - cumulative < 0.5) {
+                    return this.means[i];
+                }
+                if (this.weights[i + 1] == 1.0
+                        && cumulative + step - target <= 0.5) {
+                    return this.means[i + 1];
+                }
+                return interpolate(this.means[i], this.means[i + 1],
+                        (target - cumulative) / step);
+            }
+            cumulative += step;
+        }
+        double wn = this.weights[n - 1];
+        if (wn == 1.0) {
+            return this.maximum;
+        }
+        return interpolate(this.means[n - 1], this.maximum,
+                (target - cumulative) / (wn / 2.0));
+    }
+
+    /**
+     * Returns a value between {@code a} and {@code b}.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     * @param f  the fraction of the distance from {@code a} to {@code b}.
+     *
+     * @return The interpolated value.
+     */
+    private static double interpolate(double a, double b, double f) {
+        return a + (b - a) * Math.min(1.0, Math.max(0.0, f));
+    }
+
+    /**
+     * Adds a centroid to the buffer, merging the buffer if it is full.
+     *
+     * @param mean  the mean.
+     * @param weight  the weight.
+     */
+    private void buffer(double mean, double weight) {
+        if (this.bufferCount == this.bufferMeans.length) {
+            flush();
+        }
+        this.bufferMeans[this.bufferCount] = mean;
+        this.bufferWeights[this.bufferCount] = weight;
+        this.bufferCount++;
+    }
+
+    /**
+     * Merges the buffered centroids into the centroid list, combining
+     * adjacent centroids as long as the size limit given by the scale
+     * function allows.
+     */
+    private void flush() {
+        if (this.bufferCount == 0) {
+            return;
+        }
+        sort(this.bufferMeans, this.bufferWeights, 0, this.bufferCount - 1);
+        // merge the two sorted lists into one working list
+        int total = this.centroidCount + this.bufferCount;
+        double[] m = new double[total];
+        double[] w = new double[total];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < total; k++) {
+            if (j >= this.bufferCount || (i < this.centroidCount
+                    && this.means[i] <= this.bufferMeans[j])) {
+                m[k] = this.means[i];
+                w[k] = this.weights[i];
+                i++;
+            }
+            else {
+                m[k] = this.bufferMeans[j];
+                w[k] = this.bufferWeights[j];
+                j++;
+            }
+        }
+        this.bufferCount = 0;
+
+        // compress
+        int out = 0;
+        double done = 0.0;
+        double limit = this.count * inverseScale(scale(0.0) + 1.0);
+        double mean = m[0];
+        double weight = w[0];
+        for (int k = 1; k < total; k++) {
+            double proposed = weight + w[k];
+            if (done + proposed <= limit) {
+                weight = proposed;
+                mean += (m[k] - mean) * w[k] / weight;
+            }
+            else {
+                out = store(out, mean, weight);
+                done += weight;
+                limit = this.count
+                        * inverseScale(scale(done / this.count) + 1.0);
+                mean = m[k];
+                weight = w[k];
+            }
+        }
+        this.centroidCount = store(out, mean, weight);
+    }
+
+    /**
+     * Stores a centroid, growing the arrays if necessary.
+     *
+     * @param index  the index.
+     * @param mean  the mean.
+     * @param weight  the weight.
+     *
+     * @return The next index.
+     */
+    private int store(int index, double mean, double weight) {
+        if (index == this.means.length) {
+            int capacity = index * 2;
+            this.means = Arrays.copyOf(this.means, capacity);
+            this.weights = Arrays.copyOf(this.weights, capacity);
+        }
+        this.means[index] = mean;
+        this.weights[index] = weight;
+        return index + 1;
+    }
+
+    /**
+     * The scale function, which maps a quantile to an index such that a
+     * centroid may span at most one unit of index.
+     *
+     * @param q  the quantile.
+     *
+     * @return The index.
+     */
+    private double scale(double q) {
+        return this.compression / (2.0 * Math.PI)
+                * Math.asin(2.0 * Math.min(1.0, q) - 1.0);
+    }
+
+    /**
+     * The inverse of {@link #scale(double)}.
+     *
+     * @param k  the index.
+     *
+     * @return The quantile.
+     */
+    private double inverseScale(double k) {
+        double angle = Math.min(k * 2.0 * Math.PI / this.compression,
+                Math.PI / 2.0);
+        return (Math.sin(angle) + 1.0) / 2.0;
+    }
+
+    /**
+     * Sorts a range of two parallel arrays by the values in the first.
+     *
+     * @param keys  the keys.
+     * @param values  the values.
+     * @param lo  the start index.
+     * @param hi  the end index (inclusive).
+     */
+    private static void sort(double[] keys, double[] values, int lo, int hi) {
+        while (hi - lo > 16) {
+            double pivot = keys[(lo + hi) >>> 1];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (keys[i] < pivot) {
+                    i++;
+                }
+                while (keys[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double t = keys[i];
+                    keys[i] = keys[j];
+                    keys[j] = t;
+                    t = values[i];
+                    values[i] = values[j];
+                    values[j] = t;
+                    i++;
+                    j--;
+                }
+            }
+            // recurse into the smaller part, loop on the larger
+            if (j - lo < hi - i) {
+                sort(keys, values, lo, j);
+                lo = i;
+            }
+            else {
+                sort(keys, values, i, hi);
+                hi = j;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            double k = keys[i];
+            double v = values[i];
+            int j = i - 1;
+            while (j >= lo && keys[j] > k) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+            keys[j + 1] = k;
+            values[j + 1] = v;
+        }
+    }
+
+    /**
+     * Returns a string representing the sketch, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "QuantileSketch[count=" + getCount() + ", compression="
+                + this.compression + "]";
+    }
+
+}
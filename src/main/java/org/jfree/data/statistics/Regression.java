@@ -131,6 +131,30 @@ public abstract class Regression {
 
     }
 
+    /**
+     * Returns the parameters 'a' and 'b' for an equation y = a + bx, fitted to
+     * the data in two arrays of equal length using ordinary least squares
+     * regression.  The result is returned as a double[], where result[0]
+     * --&gt; a, and result[1] --&gt; b.  The sums are accumulated relative
+     * to the running means (see {@link OLSAccumulator}), so the result
+     * remains accurate for large x-values such as dates in milliseconds.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     *
+     * @return The parameters.
+     *
+     * @since 2.0.0
+     */
+    public static double[] getOLSRegression(double[] xData, double[] yData) {
+        OLSAccumulator acc = new OLSAccumulator();
+        acc.addAll(xData, yData);
+        if (acc.getCount() < 2) {
+            throw new IllegalArgumentException("Not enough data.");
+        }
+        return acc.getCoefficients();
+    }
+
     /**
      * Returns the parameters 'a' and 'b' for an equation y = ax^b, fitted to
      * the data using a power regression equation.  The result is returned as
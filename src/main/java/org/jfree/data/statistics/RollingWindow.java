@@ -0,0 +1,359 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * RollingWindow.java
+ * ------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+
+/**
+ * Calculates statistics over a sliding window containing the most recent
+ * values added, with constant (amortised) cost for each value added.  The
+ * mean and standard deviation are updated incrementally (and recalculated
+ * from the window contents once per window length, to limit the rounding
+ * error), the minimum and maximum are tracked with monotonic queues, and
+ * the exponentially weighted moving average uses the smoothing factor
+ * {@code 2 / (size + 1)}.
+ *
+ * @since 2.0.0
+ */
+public class RollingWindow implements Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 2417983047736530172L;
+
+    /** The window size. */
+    private final int size;
+
+    /** The values in the window (a ring buffer indexed by sequence). */
+    private final double[] values;
+
+    /** The number of values added since the window was last cleared. */
+    private long added;
+
+    /** The number of values currently in the window. */
+    private int count;
+
+    /** The mean of the values in the window. */
+    private double mean;
+
+    /** The sum of squared differences from the mean. */
+    private double m2;
+
+    /** The number of updates since the mean was last recalculated. */
+    private int updates;
+
+    /** The sequence numbers of the candidate minimum values. */
+    private final long[] minQueue;
+
+    /** The index of the first entry in the minimum queue. */
+    private int minHead;
+
+    /** The number of entries in the minimum queue. */
+    private int minLength;
+
+    /** The sequence numbers of the candidate maximum values. */
+    private final long[] maxQueue;
+
+    /** The index of the first entry in the maximum queue. */
+    private int maxHead;
+
+    /** The number of entries in the maximum queue. */
+    private int maxLength;
+
+    /** The smoothing factor for the exponential average. */
+    private final double alpha;
+
+    /** The exponentially weighted moving average. */
+    private double exponentialMean;
+
+    /**
+     * Creates a new window.
+     *
+     * @param size  the number of values in the window (at least 1).
+     */
+    public RollingWindow(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Requires 'size' >= 1.");
+        }
+        this.size = size;
+        this.values = new double[size];
+        this.minQueue = new long[size];
+        this.maxQueue = new long[size];
+        this.alpha = 2.0 / (size + 1.0);
+        clear();
+    }
+
+    /**
+     * Returns the window size.
+     *
+     * @return The window size.
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of values currently in the window.
+     *
+     * @return The count (between 0 and the window size).
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns {@code true} if the window contains {@code size} values.
+     *
+     * @return A boolean.
+     */
+    public boolean isFull() {
+        return this.count == this.size;
+    }
+
+    /**
+     * Removes all values from the window.
+     */
+    public void clear() {
+        this.added = 0L;
+        this.count = 0;
+        this.mean = 0.0;
+        this.m2 = 0.0;
+        this.updates = 0;
+        this.minHead = 0;
+        this.minLength = 0;
+        this.maxHead = 0;
+        this.maxLength = 0;
+        this.exponentialMean = Double.NaN;
+    }
+
+    /**
+     * Adds a value to the window, removing the oldest value if the window
+     * is full.
+     *
+     * @param value  the value (must be finite).
+     */
+    public void add(double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Requires a finite 'value'.");
+        }
+        long seq = this.added;
+        int slot = (int) (seq % this.size);
+        long expired = seq - this.size;
+        if (this.minLength > 0 && this.minQueue[this.minHead] <= expired) {
+            this.minHead = (this.minHead + 1) % this.size;
+            this.minLength--;
+        }
+        if (this.maxLength > 0 && this.maxQueue[this.maxHead] <= expired) {
+            this.maxHead = (this.maxHead + 1) % this.size;
+            this.maxLength--;
+        }
+        if (this.count == this.size) {
+            double old = this.values[slot];
+            if (this.count == 1) {
+                this.count = 0;
+                this.mean = 0.0;
+                this.m2 = 0.0;
+            }
+            else {
+                this.count--;
+                double delta = old - this.mean;
+                this.mean -= delta / this.count;
+                this.m2 -= delta * (old - this.mean);
+            }
+        }
+        this.values[slot] = value;
+        this.added++;
+        this.count++;
+        double delta = value - this.mean;
+        this.mean += delta / this.count;
+        this.m2 += delta * (value - this.mean);
+        if (++this.updates >= this.size && this.count == this.size) {
+            recalculate();
+        }
+
+        while (this.minLength > 0 && this.values[(int) (this.minQueue[
+                (this.minHead + this.minLength - 1) % this.size]
+                % this.size)] >= value) {
+            this.minLength--;
+        }
+        this.minQueue[(this.minHead + this.minLength) % this.size] = seq;
+        this.minLength++;
+        while (this.maxLength > 0 && this.values[(int) (this.maxQueue[
+                (this.maxHead + this.maxLength - 1) % this.size]
+                % this.size)] <= value) {
+            this.maxLength--;
+        }
+        this.maxQueue[(this.maxHead + this.maxLength) % this.size] = seq;
+        this.maxLength++;
+
+        if (Double.isNaN(this.exponentialMean)) {
+            this.exponentialMean = value;
+        }
+        else {
+            this.exponentialMean += this.alpha
+                    * (value - this.exponentialMean);
+        }
+    }
+
+    /**
+     * Recalculates the mean and the sum of squared differences from the
+     * window contents.
+     */
+    private void recalculate() {
+        double sum = 0.0;
+        for (double v : this.values) {
+            sum += v;
+        }
+        double m = sum / this.size;
+        double squares = 0.0;
+        for (double v : this.values) {
+            squares += (v - m) * (v - m);
+        }
+        this.mean = m;
+        this.m2 = squares;
+        this.updates = 0;
+    }
+
+    /**
+     * Returns the mean of the values in the window.
+     *
+     * @return The mean ({@code Double.NaN} if the window is empty).
+     */
+    public double getMean() {
+        return this.count > 0 ? this.mean : Double.NaN;
+    }
+
+    /**
+     * Returns the sample standard deviation of the values in the window.
+     *
+     * @return The standard deviation ({@code Double.NaN} if the window
+     *     contains fewer than two values).
+     */
+    public double getStandardDeviation() {
+        if (this.count < 2) {
+            return Double.NaN;
+        }
+        return Math.sqrt(Math.max(0.0, this.m2) / (this.count - 1));
+    }
+
+    /**
+     * Returns the minimum of the values in the window.
+     *
+     * @return The minimum ({@code Double.NaN} if the window is empty).
+     */
+    public double getMinimum() {
+        if (this.minLength == 0) {
+            return Double.NaN;
+        }
+        return this.values[(int) (this.minQueue[this.minHead] % this.size)];
+    }
+
+    /**
+     * Returns the maximum of the values in the window.
+     *
+     * @return The maximum ({@code Double.NaN} if the window is empty).
+     */
+    public double getMaximum() {
+        if (this.maxLength == 0) {
+            return Double.NaN;
+        }
+        return this.values[(int) (this.maxQueue[this.maxHead] % this.size)];
+    }
+
+    /**
+     * Returns the exponentially weighted moving average of all the values
+     * added since the window was cleared (the first value is used as the
+     * initial average).
+     *
+     * @return The average ({@code Double.NaN} if no values have been
+     *     added).
+     */
+    public double getExponentialMean() {
+        return this.exponentialMean;
+    }
+
+    /**
+     * Returns the value of a statistic for the window.
+     *
+     * @param statistic  the statistic ({@code null} not permitted).
+     *
+     * @return The value (possibly {@code Double.NaN}).
+     */
+    public double getValue(RollingStatistic statistic) {
+        Args.nullNotPermitted(statistic, "statistic");
+        switch (statistic) {
+            case MEAN:
+                return getMean();
+            case MINIMUM:
+                return getMinimum();
+            case MAXIMUM:
+                return getMaximum();
+            case STANDARD_DEVIATION:
+                return getStandardDeviation();
+            default:
+                return getExponentialMean();
+        }
+    }
+
+    /**
+     * Returns the values in the window, oldest first.
+     *
+     * @return The values (a new array).
+     */
+    public double[] getValues() {
+        double[] result = new double[this.count];
+        long first = this.added - this.count;
+        for (int i = 0; i < this.count; i++) {
+            result[i] = this.values[(int) ((first + i) % this.size)];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a string representing the window, for debugging.
+     *
+     * @return A string.
+     */
+    @Override
+    public String toString() {
+        return "RollingWindow[size=" + this.size + ", values="
+                + Arrays.toString(getValues()) + "]";
+    }
+
+}
@@ -37,6 +37,7 @@
 package org.jfree.data.statistics;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -413,6 +414,373 @@ public abstract class Statistics {
                 * (n * sumY2 - sumY * sumY), 0.5);
     }
 
+    /**
+     * Returns the mean of an array of values.  This is equivalent to calling
+     * {@code calculateMean(values, true)}.
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The mean.
+     *
+     * @since 2.0.0
+     */
+    public static double calculateMean(double[] values) {
+        return calculateMean(values, true);
+    }
+
+    /**
+     * Returns the mean of an array of values.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param includeNaN  a flag that controls whether or not
+     *     {@code Double.NaN} values are included in the calculation (if any
+     *     are present in the array, the result is {@link Double#NaN}).
+     *
+     * @return The mean.
+     *
+     * @since 2.0.0
+     */
+    public static double calculateMean(double[] values, boolean includeNaN) {
+        Args.nullNotPermitted(values, "values");
+        double sum = 0.0;
+        int counter = 0;
+        for (double v : values) {
+            if (includeNaN || !Double.isNaN(v)) {
+                sum = sum + v;
+                counter++;
+            }
+        }
+        return sum / counter;
+    }
+
+    /**
+     * Returns the median of an array of values, in any order.  The array is
+     * not modified and {@code Double.NaN} values are ignored.  The median is
+     * found by selection rather than by sorting, so the running time is
+     * linear in the number of values.
+     *
+     * @param values  the values ({@code null} not permitted).
+     *
+     * @return The median ({@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    public static double selectMedian(double[] values) {
+        Args.nullNotPermitted(values, "values");
+        return selectMedian(values, 0, values.length - 1, true);
+    }
+
+    /**
+     * Returns the median of the values in a range of an array, in any order,
+     * ignoring {@code Double.NaN} values.  If {@code copy} is
+     * {@code false} the values within the range are reordered in place
+     * (which avoids allocating a working array).
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param start  the start index.
+     * @param end  the end index (inclusive).
+     * @param copy  a flag that controls whether the values are copied before
+     *     being reordered.
+     *
+     * @return The median ({@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    public static double selectMedian(double[] values, int start, int end,
+            boolean copy) {
+        Args.nullNotPermitted(values, "values");
+        double[] a = values;
+        if (copy) {
+            a = Arrays.copyOfRange(values, start, end + 1);
+            end = end - start;
+            start = 0;
+        }
+        int count = partitionNaN(a, start, end);
+        return median(a, start, count);
+    }
+
+    /**
+     * Returns the first quartile, median and third quartile of the values in
+     * a range of an array, in any order, ignoring {@code Double.NaN}
+     * values.  The quartiles have the same definition as in
+     * {@link BoxAndWhiskerCalculator}, but are found by selection rather
+     * than by sorting.  If {@code copy} is {@code false} the values
+     * within the range are reordered in place.
+     *
+     * @param values  the values ({@code null} not permitted).
+     * @param start  the start index.
+     * @param end  the end index (inclusive).
+     * @param copy  a flag that controls whether the values are copied before
+     *     being reordered.
+     *
+     * @return An array containing the first quartile, the median and the
+     *     third quartile (all {@code Double.NaN} if there are no values).
+     *
+     * @since 2.0.0
+     */
+    public static double[] selectQuartiles(double[] values, int start,
+            int end, boolean copy) {
+        Args.nullNotPermitted(values, "values");
+        double[] a = values;
+        if (copy) {
+            a = Arrays.copyOfRange(values, start, end + 1);
+            end = end - start;
+            start = 0;
+        }
+        int n = partitionNaN(a, start, end);
+        if (n == 0) {
+            return new double[] {Double.NaN, Double.NaN, Double.NaN};
+        }
+        // the order statistics (relative to start) that define each
+        // quartile, see BoxAndWhiskerCalculator.calculateQ1() and
+        // calculateQ3()
+        int m1 = (n % 2 == 1) ? n / 2 + 1 : n / 2;
+        int s3 = n / 2;
+        int m3 = n - s3;
+        int[] ranks = {(m1 - 1) / 2, m1 / 2, (n - 1) / 2, n / 2,
+                s3 + (m3 - 1) / 2, s3 + m3 / 2};
+        // ranks are non-decreasing, so each selection can be restricted to
+        // the part of the range to the right of the previous one
+        int lo = start;
+        for (int rank : ranks) {
+            int k = start + rank;
+            if (k >= lo) {
+                select(a, lo, start + n - 1, k);
+                lo = k + 1;
+            }
+        }
+        return new double[] {
+            (a[start + ranks[0]] + a[start + ranks[1]]) / 2.0,
+            (a[start + ranks[2]] + a[start + ranks[3]]) / 2.0,
+            (a[start + ranks[4]] + a[start + ranks[5]]) / 2.0};
+    }
+
+    /**
+     * Reorders the values in a range of an array so that the value at index
+     * {@code k} is the value that would be there if the range were sorted,
+     * with no greater values before it and no smaller values after it.  The
+     * range must not contain {@code Double.NaN}.
+     *
+     * @param a  the array.
+     * @param lo  the start index.
+     * @param hi  the end index (inclusive).
+     * @param k  the index to select ({@code lo <= k <= hi}).
+     *
+     * @return The selected value.
+     */
+    static double select(double[] a, int lo, int hi, int k) {
+        // quickselect with a median-of-three pivot, falling back to a sort
+        // if the partitions shrink too slowly
+        int budget = 2 * (32 - Integer.numberOfLeadingZeros(hi - lo + 1));
+        while (hi - lo > 16) {
+            if (budget-- == 0) {
+                Arrays.sort(a, lo, hi + 1);
+                return a[k];
+            }
+            int mid = (lo + hi) >>> 1;
+            if (a[mid] < a[lo]) {
+                swap(a, lo, mid);
+            }
+            if (a[hi] < a[lo]) {
+                swap(a, lo, hi);
+            }
+            if (a[hi] < a[mid]) {
+                swap(a, mid, hi);
+            }
+            double pivot = a[mid];
+            int i = lo;
+            int j = hi;
+            while (i <= j) {
+                while (a[i] < pivot) {
+                    i++;
+                }
+                while (a[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(a, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                hi = j;
+            }
+            else if (k >= i) {
+                lo = i;
+            }
+            else {
+                return a[k];
+            }
+        }
+        // insertion sort for short ranges
+        for (int i = lo + 1; i <= hi; i++) {
+            double v = a[i];
+            int j = i - 1;
+            while (j >= lo && a[j] > v) {
+                a[j + 1] = a[j];
+                j--;
+            }
+            a[j + 1] = v;
+        }
+        return a[k];
+    }
+
+    /**
+     * Swaps two elements of an array.
+     *
+     * @param a  the array.
+     * @param i  the index of the first element.
+     * @param j  the index of the second element.
+     */
+    private static void swap(double[] a, int i, int j) {
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    /**
+     * Moves any {@code Double.NaN} values in a range of an array to the end
+     * of the range.
+     *
+     * @param a  the array.
+     * @param start  the start index.
+     * @param end  the end index (inclusive).
+     *
+     * @return The number of values in the range that are not
+     *     {@code Double.NaN}.
+     */
+    private static int partitionNaN(double[] a, int start, int end) {
+        int last = end;
+        for (int i = end; i >= start; i--) {
+            if (Double.isNaN(a[i])) {
+                a[i] = a[last];
+                a[last] = Double.NaN;
+                last--;
+            }
+        }
+        return Math.max(0, last - start + 1);
+    }
+
+    /**
+     * Returns the median of {@code count} values (none of which is
+     * {@code Double.NaN}) starting at {@code start}, reordering them.
+     *
+     * @param a  the array.
+     * @param start  the start index.
+     * @param count  the number of values.
+     *
+     * @return The median.
+     */
+    private static double median(double[] a, int start, int count) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        int end = start + count - 1;
+        int k = start + count / 2;
+        double upper = select(a, start, end, k);
+        if (count % 2 == 1) {
+            return upper;
+        }
+        // after the selection the lower middle value is the maximum of the
+        // values before index k
+        double lower = a[start];
+        for (int i = start + 1; i < k; i++) {
+            lower = Math.max(lower, a[i]);
+        }
+        return (lower + upper) / 2.0;
+    }
+
+    /**
+     * Returns the standard deviation of an array of values.
+     *
+     * @param data  the data ({@code null} or zero length array not
+     *     permitted).
+     *
+     * @return The standard deviation of the values.
+     *
+     * @since 2.0.0
+     */
+    public static double calculateStdDev(double[] data) {
+        Args.nullNotPermitted(data, "data");
+        if (data.length == 0) {
+            throw new IllegalArgumentException("Zero length 'data' array.");
+        }
+        double avg = calculateMean(data);
+        double sum = 0.0;
+        for (double v : data) {
+            double diff = v - avg;
+            sum = sum + diff * diff;
+        }
+        return Math.sqrt(sum / (data.length - 1));
+    }
+
+    /**
+     * Fits a straight line to a set of (x, y) data, returning the slope and
+     * intercept.
+     *
+     * @param xData  the x-data ({@code null} not permitted).
+     * @param yData  the y-data ({@code null} not permitted).
+     *
+     * @return A double array with the intercept in [0] and the slope in [1].
+     *
+     * @since 2.0.0
+     */
+    public static double[] calculateLinearFit(double[] xData,
+            double[] yData) {
+        return accumulate(xData, yData).getCoefficients();
+    }
+
+    /**
+     * Finds the slope of a regression line using least squares.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     *
+     * @return The slope.
+     *
+     * @since 2.0.0
+     */
+    public static double calculateSlope(double[] xData, double[] yData) {
+        return accumulate(xData, yData).getSlope();
+    }
+
+    /**
+     * Calculates the correlation between two arrays of values.  Both arrays
+     * should contain the same number of items.
+     *
+     * @param data1  the first array ({@code null} not permitted).
+     * @param data2  the second array ({@code null} not permitted).
+     *
+     * @return The correlation.
+     *
+     * @since 2.0.0
+     */
+    public static double calculateCorrelation(double[] data1,
+            double[] data2) {
+        Args.nullNotPermitted(data1, "data1");
+        Args.nullNotPermitted(data2, "data2");
+        if (data1.length != data2.length) {
+            throw new IllegalArgumentException(
+                "'data1' and 'data2' arrays must have same length.");
+        }
+        return accumulate(data1, data2).getCorrelation();
+    }
+
+    /**
+     * Returns an accumulator containing the (x, y) pairs from two arrays.
+     *
+     * @param xData  the x-values ({@code null} not permitted).
+     * @param yData  the y-values ({@code null} not permitted).
+     *
+     * @return The accumulator.
+     */
+    private static OLSAccumulator accumulate(double[] xData, double[] yData) {
+        OLSAccumulator acc = new OLSAccumulator();
+        acc.addAll(xData, yData);
+        return acc;
+    }
+
     /**
      * Returns a data set for a moving average on the data set passed in.
      *
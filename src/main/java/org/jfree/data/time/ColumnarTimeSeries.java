@@ -0,0 +1,1166 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ColumnarTimeSeries.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A {@link TimeSeries} that stores its data in two parallel arrays of
+ * primitives: a {@code long[]} holding the first millisecond of each time
+ * period (evaluated in the time zone of the series) and a {@code double[]}
+ * holding the values.  Look-ups by time period use a primitive binary search
+ * and {@link RegularTimePeriod} instances are only created when a caller
+ * asks for them (for example, via {@link #getTimePeriod(int)}).
+ * <p>
+ * The time period class is fixed when the series is created.  Since there is
+ * no object to hold a {@code null} value, missing values are stored as
+ * {@code Double.NaN} and {@link #getValue(int)} returns {@code null} for
+ * those items.  Methods that return {@link TimeSeriesDataItem} instances
+ * create new items on each call.  The inherited {@link #data} list is not
+ * used and is always empty.
+ * <p>
+ * When the series is added to a {@link TimeSeriesCollection} that uses the
+ * same time zone, x-values are read directly from the arrays.
+ *
+ * @param <S>  the type for the series keys ({@code String} is commonly used).
+ *
+ * @since 2.0.0
+ */
+public class ColumnarTimeSeries<S extends Comparable<S>>
+        extends TimeSeries<S> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The default initial capacity for the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** The time period class for the series. */
+    private final Class<?> periodClass;
+
+    /**
+     * The length of each time period in milliseconds, or zero if the period
+     * length is not fixed (for example, {@link Day} which is affected by
+     * daylight saving changes).
+     */
+    private final long periodLength;
+
+    /** The time zone used to convert time periods to milliseconds. */
+    private final TimeZone zone;
+
+    /** The locale used to create time periods. */
+    private final Locale locale;
+
+    /** A calendar for the time zone and locale. */
+    private final Calendar calendar;
+
+    /** The first millisecond of each time period. */
+    private long[] millis;
+
+    /** The values ({@code Double.NaN} for missing values). */
+    private double[] values;
+
+    /** The array index of the first item in the series. */
+    private int start;
+
+    /** The number of items in the series. */
+    private int count;
+
+    /**
+     * Creates a new (empty) series for the specified time period class,
+     * using the default time zone and locale.
+     *
+     * @param name  the series name ({@code null} not permitted).
+     * @param periodClass  the time period class ({@code null} not
+     *     permitted).
+     */
+    public ColumnarTimeSeries(S name, Class<?> periodClass) {
+        this(name, periodClass, TimeZone.getDefault(), Locale.getDefault());
+    }
+
+    /**
+     * Creates a new (empty) series for the specified time period class.
+     *
+     * @param name  the series name ({@code null} not permitted).
+     * @param periodClass  the time period class ({@code null} not
+     *     permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     * @param locale  the locale ({@code null} not permitted).
+     */
+    public ColumnarTimeSeries(S name, Class<?> periodClass, TimeZone zone,
+            Locale locale) {
+        super(name);
+        Args.nullNotPermitted(periodClass, "periodClass");
+        Args.nullNotPermitted(zone, "zone");
+        Args.nullNotPermitted(locale, "locale");
+        if (!RegularTimePeriod.class.isAssignableFrom(periodClass)) {
+            throw new IllegalArgumentException(
+                    "The 'periodClass' must be a RegularTimePeriod subclass.");
+        }
+        this.periodClass = periodClass;
+        this.periodLength = fixedPeriodLength(periodClass);
+        this.zone = zone;
+        this.locale = locale;
+        this.calendar = Calendar.getInstance(zone, locale);
+        this.millis = new long[DEFAULT_CAPACITY];
+        this.values = new double[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Returns the length in milliseconds for time periods of the specified
+     * class, if this is fixed, or zero otherwise.
+     *
+     * @param c  the time period class.
+     *
+     * @return The length.
+     */
+    private static long fixedPeriodLength(Class<?> c) {
+        if (c == FixedMillisecond.class || c == Millisecond.class) {
+            return 1L;
+        }
+        else if (c == Second.class) {
+            return 1000L;
+        }
+        else if (c == Minute.class) {
+            return 60000L;
+        }
+        else if (c == Hour.class) {
+            return 3600000L;
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns the time zone used to convert time periods to milliseconds.
+     *
+     * @return The time zone (never {@code null}).
+     */
+    public TimeZone getTimeZone() {
+        return this.zone;
+    }
+
+    /**
+     * Returns the locale used to create time periods.
+     *
+     * @return The locale (never {@code null}).
+     */
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns a new list containing a copy of each of the data items in the
+     * series.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List<TimeSeriesDataItem> getItems() {
+        List<TimeSeriesDataItem> result = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++) {
+            result.add(getRawDataItem(i));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently contains more items, the oldest are removed.
+     *
+     * @param maximum  the maximum (requires &gt;= 0).
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        if (this.count > maximum) {
+            delete(0, this.count - maximum - 1);
+        }
+    }
+
+    /**
+     * Returns the range of y-values in the time series, or {@code null} if
+     * the series is empty.
+     *
+     * @return The range of y-values in the time series (possibly
+     *     {@code null}).
+     */
+    @Override
+    public Range findValueRange() {
+        if (this.count == 0) {
+            return null;
+        }
+        return new Range(getMinY(), getMaxY());
+    }
+
+    /**
+     * Finds the range of y-values that fall within the specified range of
+     * x-values.
+     *
+     * @param xRange  the subset of x-values to use ({@code null} not
+     *     permitted).
+     * @param xAnchor  the anchor point for the x-values ({@code null}
+     *     not permitted).
+     * @param zone  the time zone ({@code null} not permitted).
+     *
+     * @return The range of y-values.
+     */
+    @Override
+    public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor,
+            TimeZone zone) {
+        Args.nullNotPermitted(xRange, "xRange");
+        Args.nullNotPermitted(xAnchor, "xAnchor");
+        Args.nullNotPermitted(zone, "zone");
+        if (this.count == 0) {
+            return null;
+        }
+        return findValueRange(xRange, xAnchor, Calendar.getInstance(zone));
+    }
+
+    /**
+     * Finds the range of y-values that fall within the specified range of
+     * x-values.
+     *
+     * @param xRange  the subset of x-values to use ({@code null} not
+     *     permitted).
+     * @param xAnchor  the anchor point for the x-values ({@code null}
+     *     not permitted).
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return The range of y-values.
+     */
+    @Override
+    public Range findValueRange(Range xRange, TimePeriodAnchor xAnchor,
+            Calendar calendar) {
+        double lowY = Double.POSITIVE_INFINITY;
+        double highY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.count; i++) {
+            long x = getMillisecond(i, xAnchor, calendar);
+            if (xRange.contains(x)) {
+                double v = this.values[this.start + i];
+                if (!Double.isNaN(v)) {
+                    lowY = Math.min(lowY, v);
+                    highY = Math.max(highY, v);
+                }
+            }
+        }
+        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
+            if (lowY < highY) {
+                return new Range(lowY, highY);
+            } else {
+                return new Range(Double.NaN, Double.NaN);
+            }
+        }
+        return new Range(lowY, highY);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The data item.
+     */
+    @Override
+    public TimeSeriesDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(int index) {
+        return new TimeSeriesDataItem(getTimePeriod(index), getValue(index));
+    }
+
+    /**
+     * Returns a new data item for the specified period, or {@code null} if
+     * there is no such item in the series.
+     *
+     * @param period  the time period.
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            return getRawDataItem(index);
+        }
+        return null;
+    }
+
+    /**
+     * Returns the time period at the specified index.  A new instance is
+     * created each time this method is called.
+     *
+     * @param index  the index of the data item.
+     *
+     * @return The time period.
+     */
+    @Override
+    public RegularTimePeriod getTimePeriod(int index) {
+        return createPeriod(getFirstMillisecond(index));
+    }
+
+    /**
+     * Returns the first millisecond (in the time zone of this series) of the
+     * time period at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The first millisecond.
+     */
+    public long getFirstMillisecond(int index) {
+        checkIndex(index);
+        return this.millis[this.start + index];
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (possibly {@code null}).
+     */
+    @Override
+    public Number getValue(int index) {
+        double v = getYValue(index);
+        return Double.isNaN(v) ? null : v;
+    }
+
+    /**
+     * Returns the value at the specified index as a {@code double}
+     * primitive.
+     *
+     * @param index  the item index.
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.values[this.start + index];
+    }
+
+    /**
+     * Returns the millisecond corresponding to the specified anchor point of
+     * the time period at the specified index.  If the calendar uses the same
+     * time zone as this series, no objects are created.
+     *
+     * @param index  the item index.
+     * @param anchor  the anchor ({@code null} not permitted).
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return Milliseconds since the epoch.
+     */
+    @Override
+    public long getMillisecond(int index, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        long first = getFirstMillisecond(index);
+        if (!isCompatible(calendar)) {
+            return createPeriod(first).getMillisecond(anchor, calendar);
+        }
+        if (anchor == TimePeriodAnchor.START) {
+            return first;
+        }
+        if (this.periodLength > 0) {
+            long last = first + this.periodLength - 1;
+            return anchor == TimePeriodAnchor.END ? last
+                    : first + (last - first) / 2;
+        }
+        return createPeriod(first).getMillisecond(anchor, this.calendar);
+    }
+
+    /**
+     * Returns {@code true} if the specified calendar maps time periods to
+     * the same milliseconds as the calendar for this series.
+     *
+     * @param c  the calendar.
+     *
+     * @return A boolean.
+     */
+    private boolean isCompatible(Calendar c) {
+        if (c == this.calendar || this.periodClass == FixedMillisecond.class) {
+            return true;
+        }
+        TimeZone z = c.getTimeZone();
+        return (z == this.zone || z.equals(this.zone))
+                && c.getFirstDayOfWeek() == this.calendar.getFirstDayOfWeek()
+                && c.getMinimalDaysInFirstWeek()
+                == this.calendar.getMinimalDaysInFirstWeek();
+    }
+
+    /**
+     * Creates the time period that starts at the specified millisecond.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod createPeriod(long millisecond) {
+        if (this.periodClass == FixedMillisecond.class) {
+            return new FixedMillisecond(millisecond);
+        }
+        RegularTimePeriod result = RegularTimePeriod.createInstance(
+                this.periodClass, new Date(millisecond), this.zone,
+                this.locale);
+        if (result == null) {
+            throw new SeriesException("Unable to create an instance of "
+                    + this.periodClass.getName() + ".");
+        }
+        return result;
+    }
+
+    /**
+     * Returns the first millisecond of the time period that contains the
+     * specified millisecond.
+     *
+     * @param millisecond  the millisecond.
+     *
+     * @return The first millisecond of the time period.
+     */
+    private long periodStart(long millisecond) {
+        if (this.periodLength == 1L) {
+            return millisecond;
+        }
+        if (this.periodLength > 0) {
+            long local = millisecond + this.zone.getOffset(millisecond);
+            return millisecond - Math.floorMod(local, this.periodLength);
+        }
+        return createPeriod(millisecond).getFirstMillisecond(this.calendar);
+    }
+
+    /**
+     * Returns a number that can be used to calculate the difference (in
+     * time periods) between two items in the series.
+     *
+     * @param millisecond  the first millisecond of a time period.
+     *
+     * @return The serial index.
+     */
+    private long serialIndex(long millisecond) {
+        if (this.periodClass == FixedMillisecond.class) {
+            return millisecond;
+        }
+        if (this.periodLength > 0) {
+            long local = millisecond + this.zone.getOffset(millisecond);
+            return Math.floorDiv(local, this.periodLength);
+        }
+        return createPeriod(millisecond).getSerialIndex();
+    }
+
+    /**
+     * Checks that an item index is valid for this series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index
+                    + " out of bounds for " + this.count + " items.");
+        }
+    }
+
+    /**
+     * Checks that a time period has the correct class for this series and
+     * returns its first millisecond.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     *
+     * @return The first millisecond of the period.
+     */
+    private long toMillisecond(RegularTimePeriod period) {
+        Args.nullNotPermitted(period, "period");
+        if (!this.periodClass.equals(period.getClass())) {
+            throw new SeriesException("You are trying to add data where the "
+                    + "time period class is " + period.getClass().getName()
+                    + ", but the TimeSeries is expecting an instance of "
+                    + this.periodClass.getName() + ".");
+        }
+        return period.getFirstMillisecond(this.calendar);
+    }
+
+    /**
+     * Returns the index for the item (if any) that corresponds to a time
+     * period.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int getIndex(RegularTimePeriod period) {
+        Args.nullNotPermitted(period, "period");
+        if (!this.periodClass.equals(period.getClass())) {
+            return -1;
+        }
+        return indexOf(period.getFirstMillisecond(this.calendar));
+    }
+
+    /**
+     * Returns the index of the item whose time period starts at the specified
+     * millisecond or, if there is no such item, {@code -(insertionPoint + 1)}.
+     *
+     * @param firstMillisecond  the first millisecond of a time period.
+     *
+     * @return The index.
+     */
+    public int indexOf(long firstMillisecond) {
+        int low = 0;
+        int high = this.count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long m = this.millis[this.start + mid];
+            if (m < firstMillisecond) {
+                low = mid + 1;
+            }
+            else if (m > firstMillisecond) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (timeperiod, value) pair ({@code null} not permitted).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(TimeSeriesDataItem item, boolean notify) {
+        Args.nullNotPermitted(item, "item");
+        Number v = item.getValue();
+        add(toMillisecond(item.getPeriod()),
+                v != null ? v.doubleValue() : Double.NaN, notify, item);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period ({@code null} not permitted).
+     * @param value  the value.
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        add(toMillisecond(period), value, notify, period);
+    }
+
+    /**
+     * Adds a value for the time period containing the specified millisecond
+     * (evaluated in the time zone of this series) and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param millisecond  the millisecond.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     */
+    public void add(long millisecond, double value) {
+        add(millisecond, value, true);
+    }
+
+    /**
+     * Adds a value for the time period containing the specified millisecond
+     * (evaluated in the time zone of this series) and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  For
+     * {@link Millisecond}, {@link Second}, {@link Minute}, {@link Hour} and
+     * {@link FixedMillisecond} periods no objects are created.
+     *
+     * @param millisecond  the millisecond.
+     * @param value  the value ({@code Double.NaN} for a missing value).
+     * @param notify  notify listeners?
+     */
+    public void add(long millisecond, double value, boolean notify) {
+        add(periodStart(millisecond), value, notify, null);
+    }
+
+    /**
+     * Adds an item to the series.
+     *
+     * @param first  the first millisecond of the time period.
+     * @param value  the value.
+     * @param notify  notify listeners?
+     * @param source  the object to describe in the exception message if the
+     *     time period is a duplicate ({@code null} permitted).
+     */
+    private void add(long first, double value, boolean notify,
+            Object source) {
+        int position;
+        if (this.count == 0 || first > this.millis[this.start + this.count
+                - 1]) {
+            position = this.count;
+        }
+        else {
+            int index = indexOf(first);
+            if (index >= 0) {
+                Object period = source instanceof TimeSeriesDataItem
+                        ? ((TimeSeriesDataItem) source).getPeriod()
+                        : source != null ? source : createPeriod(first);
+                throw new SeriesException("You are attempting to add an "
+                        + "observation for the time period " + period
+                        + " but the series already contains an observation"
+                        + " for that time period. Duplicates are not "
+                        + "permitted.  Try using the addOrUpdate() method.");
+            }
+            position = -index - 1;
+        }
+        insert(position, first, value);
+        int count = this.count;
+        if (count > getMaximumItemCount()) {
+            removeFirst();
+        }
+        removeAgedItems(false);
+        SeriesChangeInfo info = SeriesChangeInfo.itemAdded(position, count,
+                count - this.count);
+        if (notify) {
+            fireSeriesChanged(info);
+        }
+    }
+
+    /**
+     * Makes room at the end of the arrays for one more item, either by
+     * compacting the arrays (reclaiming the space left by items removed from
+     * the front of the series) or by growing them.
+     */
+    private void ensureSpaceForOneMore() {
+        int length = this.millis.length;
+        if (this.start + this.count < length) {
+            return;
+        }
+        if (this.count + 1 <= length - (length >> 2)) {
+            System.arraycopy(this.millis, this.start, this.millis, 0,
+                    this.count);
+            System.arraycopy(this.values, this.start, this.values, 0,
+                    this.count);
+        }
+        else {
+            int capacity = Math.max(DEFAULT_CAPACITY, length + (length >> 1));
+            long[] m = new long[capacity];
+            double[] v = new double[capacity];
+            System.arraycopy(this.millis, this.start, m, 0, this.count);
+            System.arraycopy(this.values, this.start, v, 0, this.count);
+            this.millis = m;
+            this.values = v;
+        }
+        this.start = 0;
+    }
+
+    /**
+     * Inserts an item at the specified position and updates the cached
+     * bounds.
+     *
+     * @param position  the item index.
+     * @param first  the first millisecond of the time period.
+     * @param value  the value.
+     */
+    private void insert(int position, long first, double value) {
+        ensureSpaceForOneMore();
+        int i = this.start + position;
+        int tail = this.count - position;
+        if (tail > 0) {
+            System.arraycopy(this.millis, i, this.millis, i + 1, tail);
+            System.arraycopy(this.values, i, this.values, i + 1, tail);
+        }
+        this.millis[i] = first;
+        this.values[i] = value;
+        this.count++;
+        this.timePeriodClass = this.periodClass;
+        updateBoundsForAddedItem(position, value);
+    }
+
+    /**
+     * Removes the first item in the series (without sending a change event)
+     * and updates the cached bounds.
+     */
+    private void removeFirst() {
+        double v = this.values[this.start];
+        this.start++;
+        this.count--;
+        updateBoundsForRemovedItem(0, v);
+    }
+
+    /**
+     * Updates (changes) the value for a time period.  Throws a
+     * {@link SeriesException} if the period does not exist.
+     *
+     * @param period  the period ({@code null} not permitted).
+     * @param value  the value ({@code null} permitted).
+     */
+    @Override
+    public void update(RegularTimePeriod period, Number value) {
+        int index = getIndex(period);
+        if (index < 0) {
+            throw new SeriesException("There is no existing value for the "
+                    + "specified 'period'.");
+        }
+        update(index, value);
+    }
+
+    /**
+     * Updates (changes) the value of a data item.
+     *
+     * @param index  the index of the data item.
+     * @param value  the new value ({@code null} permitted).
+     */
+    @Override
+    public void update(int index, Number value) {
+        checkIndex(index);
+        setValue(index, value != null ? value.doubleValue() : Double.NaN);
+        fireSeriesChanged(SeriesChangeInfo.itemsUpdated(index, index));
+    }
+
+    /**
+     * Sets the value at the specified index and updates the cached bounds
+     * (no change event is sent).
+     *
+     * @param index  the item index.
+     * @param value  the new value.
+     */
+    private void setValue(int index, double value) {
+        int i = this.start + index;
+        double old = this.values[i];
+        this.values[i] = value;
+        updateBoundsForChangedItem(index, old, value);
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item ({@code null} not permitted).
+     *
+     * @return A copy of the overwritten data item, or {@code null} if no
+     *         item was overwritten.
+     */
+    @Override
+    public TimeSeriesDataItem addOrUpdate(TimeSeriesDataItem item) {
+        Args.nullNotPermitted(item, "item");
+        long first = toMillisecond(item.getPeriod());
+        Number v = item.getValue();
+        double value = v != null ? v.doubleValue() : Double.NaN;
+        TimeSeriesDataItem overwritten = null;
+        int index = indexOf(first);
+        if (index >= 0) {
+            overwritten = getRawDataItem(index);
+            setValue(index, value);
+        }
+        else {
+            insert(-index - 1, first, value);
+        }
+        int count = this.count;
+        if (count > getMaximumItemCount()) {
+            removeFirst();
+        }
+        removeAgedItems(false);
+        SeriesChangeInfo info;
+        if (index < 0) {
+            info = SeriesChangeInfo.itemAdded(-index - 1, count,
+                    count - this.count);
+        }
+        else if (this.count == count) {
+            info = SeriesChangeInfo.itemsUpdated(index, index);
+        }
+        else {
+            info = null;
+        }
+        fireSeriesChanged(info);
+        return overwritten;
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the youngest to
+     * the oldest record in the series does not exceed maximumItemAge time
+     * periods.  Oldest items will be removed if required.
+     *
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(boolean notify) {
+        if (this.count > 1 && getMaximumItemAge() < Long.MAX_VALUE) {
+            long latest = serialIndex(
+                    this.millis[this.start + this.count - 1]);
+            removeItemsOlderThan(latest, notify);
+        }
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the supplied
+     * time to the oldest record in the series does not exceed history count.
+     * The supplied time is converted to a time period using the time zone
+     * for this series.
+     *
+     * @param latest  the time to be compared against when aging data
+     *     (specified in milliseconds).
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(long latest, boolean notify) {
+        if (this.count > 0) {
+            removeItemsOlderThan(serialIndex(periodStart(latest)), notify);
+        }
+    }
+
+    /**
+     * Removes items from the start of the series that are more than the
+     * maximum item age older than the specified serial index.
+     *
+     * @param latest  the serial index of the latest time period.
+     * @param notify  notify listeners if items are removed?
+     */
+    private void removeItemsOlderThan(long latest, boolean notify) {
+        int removed = 0;
+        while (removed < this.count && latest - serialIndex(
+                this.millis[this.start + removed]) > getMaximumItemAge()) {
+            removed++;
+        }
+        if (removed > 0) {
+            for (int i = 0; i < removed; i++) {
+                updateBoundsForRemovedItem(0, this.values[this.start + i]);
+            }
+            this.start += removed;
+            this.count -= removed;
+            if (notify) {
+                fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0,
+                        removed - 1));
+            }
+        }
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.count > 0) {
+            int removed = this.count;
+            this.start = 0;
+            this.count = 0;
+            this.timePeriodClass = null;
+            resetBounds();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, removed - 1));
+        }
+    }
+
+    /**
+     * Deletes the data item for the given time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If there is no
+     * item with the specified time period, this method does nothing.
+     *
+     * @param period  the period of the item to delete ({@code null} not
+     *                permitted).
+     */
+    @Override
+    public void delete(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            double v = this.values[this.start + index];
+            removeRange(index, index + 1);
+            updateBoundsForRemovedItem(index, v);
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(index, index));
+        }
+    }
+
+    /**
+     * Deletes data from start until end index (end inclusive).
+     *
+     * @param start  the index of the first period to delete.
+     * @param end  the index of the last period to delete.
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void delete(int start, int end, boolean notify) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        checkIndex(start);
+        checkIndex(end);
+        if (start == 0) {
+            for (int i = 0; i <= end; i++) {
+                updateBoundsForRemovedItem(0, this.values[this.start + i]);
+            }
+            removeRange(start, end + 1);
+        }
+        else {
+            removeRange(start, end + 1);
+            resetBounds();
+        }
+        if (notify) {
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(start, end));
+        }
+    }
+
+    /**
+     * Removes the items from index {@code from} (inclusive) to {@code to}
+     * (exclusive) without updating the bounds.
+     *
+     * @param from  the first index.
+     * @param to  the end index.
+     */
+    private void removeRange(int from, int to) {
+        if (from == 0) {
+            this.start += to;
+        }
+        else {
+            int tail = this.count - to;
+            System.arraycopy(this.millis, this.start + to, this.millis,
+                    this.start + from, tail);
+            System.arraycopy(this.values, this.start + to, this.values,
+                    this.start + from, tail);
+        }
+        this.count -= to - from;
+        if (this.count == 0) {
+            this.timePeriodClass = null;
+        }
+    }
+
+    /**
+     * Returns a clone of the time series.
+     *
+     * @return A clone of the time series.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *         subclasses may differ.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        ColumnarTimeSeries<S> clone = (ColumnarTimeSeries) super.clone();
+        clone.millis = this.millis.clone();
+        clone.values = this.values.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the index of the first time period to copy.
+     * @param end  the index of the last time period to copy.
+     *
+     * @return A series containing a copy of this times series from start until
+     *         end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     * @throws IndexOutOfBoundsException if the series is not empty and
+     *     {@code end} is not a valid item index.
+     */
+    @Override
+    public TimeSeries<S> createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        if (start < 0) {
+            throw new IllegalArgumentException("Requires start >= 0.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        // fail in the same cases as the list-backed series, rather than
+        // copy unused capacity from the arrays
+        if (this.count > 0 && end >= this.count) {
+            throw new IndexOutOfBoundsException("Requires end < "
+                    + this.count + ".");
+        }
+        ColumnarTimeSeries<S> copy = createEmptyCopy();
+        if (this.count > 0) {
+            for (int index = start; index <= end; index++) {
+                int i = this.start + index;
+                copy.add(this.millis[i], this.values[i], false, null);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the first time period to copy ({@code null} not
+     *         permitted).
+     * @param end  the last time period to copy ({@code null} not permitted).
+     *
+     * @return A time series containing a copy of this time series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries<S> createCopy(RegularTimePeriod start,
+            RegularTimePeriod end) throws CloneNotSupportedException {
+        Args.nullNotPermitted(start, "start");
+        Args.nullNotPermitted(end, "end");
+        long startMillis = start.getFirstMillisecond(this.calendar);
+        long endMillis = end.getFirstMillisecond(this.calendar);
+        if (startMillis > endMillis) {
+            throw new IllegalArgumentException(
+                    "Requires start on or before end.");
+        }
+        int startIndex = indexOf(startMillis);
+        if (startIndex < 0) {
+            startIndex = -(startIndex + 1);
+        }
+        int endIndex = indexOf(endMillis);
+        if (endIndex < 0) {
+            endIndex = -(endIndex + 1) - 1;
+        }
+        if (startIndex >= this.count || endIndex < startIndex) {
+            return createEmptyCopy();
+        }
+        return createCopy(startIndex, endIndex);
+    }
+
+    /**
+     * Returns a copy of this series that contains no data items.
+     *
+     * @return A new series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @SuppressWarnings("unchecked")
+    private ColumnarTimeSeries<S> createEmptyCopy()
+            throws CloneNotSupportedException {
+        ColumnarTimeSeries<S> copy = (ColumnarTimeSeries) super.clone();
+        copy.millis = new long[DEFAULT_CAPACITY];
+        copy.values = new double[DEFAULT_CAPACITY];
+        copy.start = 0;
+        copy.count = 0;
+        copy.timePeriodClass = null;
+        copy.resetBounds();
+        return copy;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        resetBounds();
+    }
+
+    /**
+     * Tests the series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ColumnarTimeSeries)) {
+            return false;
+        }
+        ColumnarTimeSeries<?> that = (ColumnarTimeSeries) obj;
+        if (!this.periodClass.equals(that.periodClass)) {
+            return false;
+        }
+        if (!this.zone.equals(that.zone)) {
+            return false;
+        }
+        if (!this.locale.equals(that.locale)) {
+            return false;
+        }
+        if (this.count != that.count) {
+            return false;
+        }
+        int end = this.start + this.count;
+        int thatEnd = that.start + that.count;
+        if (!Arrays.equals(this.millis, this.start, end, that.millis,
+                that.start, thatEnd)) {
+            return false;
+        }
+        if (!Arrays.equals(this.values, this.start, end, that.values,
+                that.start, thatEnd)) {
+            return false;
+        }
+        return super.equals(obj);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return The hashcode
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
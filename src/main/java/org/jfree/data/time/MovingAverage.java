@@ -42,7 +42,11 @@ import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
 
 /**
- * A utility class for calculating moving averages of time series data.
+ * A utility class for calculating moving averages of time series data.  The
+ * methods in this class create a new series from the current source data;
+ * for a moving average (or other rolling statistic) that is updated as
+ * items are added to the source, see {@link RollingTimeSeriesStatistic}
+ * and {@link org.jfree.data.xy.RollingXYSeriesStatistic}.
  */
 public class MovingAverage {
 
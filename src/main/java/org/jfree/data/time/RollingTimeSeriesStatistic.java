@@ -0,0 +1,277 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * RollingTimeSeriesStatistic.java
+ * -------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.io.Serializable;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesChangeType;
+import org.jfree.data.statistics.RollingStatistic;
+import org.jfree.data.statistics.RollingWindow;
+
+/**
+ * Maintains a time series containing a rolling statistic (moving average,
+ * minimum, maximum, standard deviation or exponential average) of the
+ * values in a source {@link TimeSeries}, calculated over a fixed number of
+ * items (as in {@link MovingAverage#createPointMovingAverage(TimeSeries,
+ * Comparable, int)}).  The statistic is updated as items are appended to
+ * the source, with constant cost per item, so it can be shown alongside a
+ * series that is updated continuously.  The derived series has an item for
+ * each source item from the point where the window is full (items with a
+ * {@code null} value are skipped).
+ * <p>
+ * Items appended to the end of the source (including a source with a
+ * maximum item count or age, where the oldest items are removed at the same
+ * time) and items removed from the start of the source are handled
+ * incrementally, using the item positions in the change events.  Any other
+ * change, including a change event without details (as sent when
+ * notification is switched back on with {@code setNotify(true)}), causes
+ * the derived series to be recalculated.  If the values of existing source
+ * items are changed without a change event, call {@link #recalculate()}.
+ *
+ * @param <S>  the type for the series key.
+ *
+ * @since 2.0.0
+ */
+public class RollingTimeSeriesStatistic<S extends Comparable<S>>
+        implements SeriesChangeListener, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6012399238870418853L;
+
+    /** The source series. */
+    private final TimeSeries<S> source;
+
+    /** The derived series. */
+    private final TimeSeries<S> series;
+
+    /** The statistic. */
+    private final RollingStatistic statistic;
+
+    /** The window. */
+    private final RollingWindow window;
+
+    /**
+     * The number of source items (from the start of the source) that have
+     * been processed.
+     */
+    private int processed;
+
+    /**
+     * Creates a new instance that calculates the statistic for the items
+     * already in the source series, and registers as a listener to update
+     * it as the source changes.
+     *
+     * @param source  the source series ({@code null} not permitted).
+     * @param key  the key for the derived series ({@code null} not
+     *     permitted).
+     * @param statistic  the statistic ({@code null} not permitted).
+     * @param pointCount  the number of items in the window (at least 1).
+     */
+    public RollingTimeSeriesStatistic(TimeSeries<S> source, S key,
+            RollingStatistic statistic, int pointCount) {
+        Args.nullNotPermitted(source, "source");
+        Args.nullNotPermitted(key, "key");
+        Args.nullNotPermitted(statistic, "statistic");
+        this.source = source;
+        this.series = new TimeSeries<>(key);
+        this.statistic = statistic;
+        this.window = new RollingWindow(pointCount);
+        recalculate();
+        source.addChangeListener(this);
+    }
+
+    /**
+     * Returns the source series.
+     *
+     * @return The source series (never {@code null}).
+     */
+    public TimeSeries<S> getSource() {
+        return this.source;
+    }
+
+    /**
+     * Returns the derived series.  This series is updated automatically and
+     * should not be modified directly.
+     *
+     * @return The derived series (never {@code null}).
+     */
+    public TimeSeries<S> getSeries() {
+        return this.series;
+    }
+
+    /**
+     * Returns the statistic.
+     *
+     * @return The statistic (never {@code null}).
+     */
+    public RollingStatistic getStatistic() {
+        return this.statistic;
+    }
+
+    /**
+     * Returns the number of items in the window.
+     *
+     * @return The number of items in the window.
+     */
+    public int getPointCount() {
+        return this.window.getSize();
+    }
+
+    /**
+     * Stops listening for changes to the source series.  The derived series
+     * keeps its current items.
+     */
+    public void dispose() {
+        this.source.removeChangeListener(this);
+    }
+
+    /**
+     * Updates the derived series after a change to the source series.  The
+     * positions in the change details are compared with the number of
+     * source items processed, so that appended items are found even when
+     * they have the same values as the items before them.
+     *
+     * @param event  the event.
+     */
+    @Override
+    public void seriesChanged(SeriesChangeEvent event) {
+        SeriesChangeInfo info = event.getInfo();
+        int count = this.source.getItemCount();
+        if (info == null) {
+            recalculate();
+        }
+        else if (info.getType() == SeriesChangeType.ITEMS_ADDED
+                && info.getFirstItem() == this.processed
+                && info.getLastItem() == count - 1) {
+            append(info.getFirstItem(), info.getLastItem());
+        }
+        else if (info.getType() == SeriesChangeType.ITEMS_SHIFTED
+                && info.getFirstItem() == this.processed
+                - info.getRemovedCount()
+                && info.getLastItem() == count - 1) {
+            this.processed -= info.getRemovedCount();
+            append(info.getFirstItem(), info.getLastItem());
+        }
+        else if (info.getType() == SeriesChangeType.ITEMS_REMOVED
+                && info.getFirstItem() == 0
+                && info.getLastItem() < this.processed && count > 0) {
+            this.processed -= info.getLastItem() + 1;
+            trim();
+        }
+        else {
+            recalculate();
+        }
+    }
+
+    /**
+     * Recalculates the derived series from all the items in the source
+     * series.
+     */
+    public void recalculate() {
+        this.series.setNotify(false);
+        this.series.clear();
+        this.series.setMaximumItemCount(this.source.getMaximumItemCount());
+        this.window.clear();
+        this.processed = 0;
+        process(0, this.source.getItemCount() - 1, false);
+        this.series.setNotify(true);
+    }
+
+    /**
+     * Processes items appended to the end of the source.
+     *
+     * @param first  the index of the first new item.
+     * @param last  the index of the last new item.
+     */
+    private void append(int first, int last) {
+        boolean batch = (first < last);
+        if (batch) {
+            this.series.setNotify(false);
+        }
+        process(first, last, !batch);
+        trim();
+        if (batch) {
+            this.series.setNotify(true);
+        }
+    }
+
+    /**
+     * Processes a range of source items.
+     *
+     * @param first  the index of the first item.
+     * @param last  the index of the last item.
+     * @param notify  notify listeners to the derived series?
+     */
+    private void process(int first, int last, boolean notify) {
+        for (int i = first; i <= last; i++) {
+            RegularTimePeriod period = this.source.getTimePeriod(i);
+            Number value = this.source.getValue(i);
+            this.processed = i + 1;
+            if (value == null || !Double.isFinite(value.doubleValue())) {
+                continue;
+            }
+            this.window.add(value.doubleValue());
+            if (this.window.isFull()) {
+                double v = this.window.getValue(this.statistic);
+                this.series.add(period, Double.isNaN(v) ? null : v, notify);
+            }
+        }
+    }
+
+    /**
+     * Removes items from the start of the derived series that are before
+     * the first item in the source series.
+     */
+    private void trim() {
+        if (this.source.getItemCount() == 0) {
+            return;
+        }
+        RegularTimePeriod first = this.source.getTimePeriod(0);
+        int n = this.series.getIndex(first);
+        if (n < 0) {
+            n = -(n + 1);
+        }
+        if (n > 0) {
+            this.series.delete(0, n - 1);
+        }
+    }
+
+}
@@ -37,6 +37,8 @@
 
 package org.jfree.data.time;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -53,8 +55,10 @@ import java.util.TimeZone;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
+import org.jfree.data.general.MinMaxTracker;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesException;
 
 /**
@@ -87,19 +91,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     private long maximumItemAge;
 
-    /**
-     * The minimum y-value in the series.
-     * 
-     * @since 1.0.14
-     */
-    private double minY;
-
-    /**
-     * The maximum y-value in the series.
-     *
-     * @since 1.0.14
-     */
-    private double maxY;
+    /** Tracks the minimum and maximum y-values in the series. */
+    private transient MinMaxTracker yTracker;
 
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
@@ -114,8 +107,86 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         this.data = new ArrayList<>();
         this.maximumItemCount = Integer.MAX_VALUE;
         this.maximumItemAge = Long.MAX_VALUE;
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
+        createTracker();
+    }
+
+    /**
+     * Creates the tracker for the bounds of the y-values and resets it to
+     * match the current data items.
+     */
+    private void createTracker() {
+        this.yTracker = new MinMaxTracker(i -> getYValue(i));
+        updateSlidingWindow();
+        resetBounds();
+    }
+
+    /**
+     * Switches the y-value tracker into sliding window mode when the series
+     * has a maximum item count or age, since old items will then be
+     * removed from the start of the series as new items are added.
+     */
+    private void updateSlidingWindow() {
+        this.yTracker.setSlidingWindow(
+                this.maximumItemCount < Integer.MAX_VALUE
+                || this.maximumItemAge < Long.MAX_VALUE);
+    }
+
+    /**
+     * Resets the y-value tracker after a change to the data items that
+     * cannot be described item by item.
+     */
+    void resetBounds() {
+        int count = getItemCount();
+        if (count == 0) {
+            this.yTracker.clear();
+        }
+        else {
+            this.yTracker.reset(count);
+        }
+    }
+
+    /**
+     * Updates the y-value tracker for an item that has just been added.
+     *
+     * @param index  the index of the new item.
+     * @param y  the y-value added.
+     */
+    void updateBoundsForAddedItem(int index, double y) {
+        this.yTracker.itemAdded(index, y);
+    }
+
+    /**
+     * Updates the y-value tracker for an item that has just been removed.
+     *
+     * @param index  the index that the item had in the series.
+     * @param y  the y-value removed.
+     */
+    void updateBoundsForRemovedItem(int index, double y) {
+        this.yTracker.itemRemoved(index, y);
+    }
+
+    /**
+     * Updates the y-value tracker for an item with a value that has just
+     * been changed.
+     *
+     * @param index  the item index.
+     * @param oldY  the old y-value.
+     * @param newY  the new y-value.
+     */
+    void updateBoundsForChangedItem(int index, double oldY, double newY) {
+        this.yTracker.itemChanged(index, oldY, newY);
+    }
+
+    /**
+     * Returns the y-value for a data item as a double primitive.
+     *
+     * @param item  the data item ({@code null} not permitted).
+     *
+     * @return The y-value ({@code Double.NaN} for a {@code null} value).
+     */
+    private static double yValue(TimeSeriesDataItem item) {
+        Number value = item.getValue();
+        return value != null ? value.doubleValue() : Double.NaN;
     }
 
     /**
@@ -166,6 +237,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             throw new IllegalArgumentException("Negative 'maximum' argument.");
         }
         this.maximumItemCount = maximum;
+        updateSlidingWindow();
         int count = this.data.size();
         if (count > maximum) {
             delete(0, count - maximum - 1);
@@ -200,6 +272,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             throw new IllegalArgumentException("Negative 'periods' argument.");
         }
         this.maximumItemAge = periods;
+        updateSlidingWindow();
         removeAgedItems(true);  // remove old items and notify if necessary
     }
 
@@ -218,7 +291,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (this.data.isEmpty()) {
             return null;
         }
-        return new Range(this.minY, this.maxY);
+        return new Range(this.yTracker.getMin(), this.yTracker.getMax());
     }
     
     /**
@@ -317,7 +390,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @since 1.0.14
      */
     public double getMinY() {
-        return this.minY;
+        return this.yTracker.getMin();
     }
 
     /**
@@ -333,7 +406,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      * @since 1.0.14
      */
     public double getMaxY() {
-        return this.maxY;
+        return this.yTracker.getMax();
     }
 
     /**
@@ -503,6 +576,39 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         return getRawDataItem(index).getValue();
     }
 
+    /**
+     * Returns the value at the specified index as a {@code double} primitive.
+     *
+     * @param index  the index of a value.
+     *
+     * @return The value ({@code Double.NaN} if the value is {@code null}).
+     *
+     * @since 2.0.0
+     */
+    public double getYValue(int index) {
+        Number value = getRawDataItem(index).getValue();
+        return value != null ? value.doubleValue() : Double.NaN;
+    }
+
+    /**
+     * Returns the millisecond (relative to the epoch) corresponding to the
+     * specified {@code anchor} of the time period at the specified index,
+     * using the supplied {@code calendar}.
+     *
+     * @param index  the index of the data item.
+     * @param anchor  the anchor ({@code null} not permitted).
+     * @param calendar  the calendar ({@code null} not permitted).
+     *
+     * @return Milliseconds since the epoch.
+     *
+     * @since 2.0.0
+     */
+    public long getMillisecond(int index, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        return getRawDataItem(index).getPeriod().getMillisecond(anchor,
+                calendar);
+    }
+
     /**
      * Returns the value for a time period.  If there is no data item with the
      * specified period, this method will return {@code null}.
@@ -556,6 +662,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // make the change (if it's not a duplicate time period)...
         boolean added = false;
         int count = getItemCount();
+        int position = count;
         if (count == 0) {
             this.data.add(item);
             added = true;
@@ -569,7 +676,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             else {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
-                    this.data.add(-index - 1, item);
+                    position = -index - 1;
+                    this.data.add(position, item);
                     added = true;
                 }
                 else {
@@ -585,18 +693,21 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             }
         }
         if (added) {
-            updateBoundsForAddedItem(item);
+            updateBoundsForAddedItem(position, yValue(item));
+            int itemCount = getItemCount();
             // check if this addition will exceed the maximum item count...
-            if (getItemCount() > this.maximumItemCount) {
+            if (itemCount > this.maximumItemCount) {
                 TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
+                updateBoundsForRemovedItem(0, yValue(d));
             }
 
             removeAgedItems(false);  // remove old items if necessary, but
                                      // don't notify anyone, because that
                                      // happens next anyway...
+            SeriesChangeInfo info = SeriesChangeInfo.itemAdded(position,
+                    itemCount, itemCount - getItemCount());
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(info);
             }
         }
 
@@ -693,24 +804,10 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
      */
     public void update(int index, Number value) {
         TimeSeriesDataItem item = this.data.get(index);
-        boolean iterate = false;
-        Number oldYN = item.getValue();
-        if (oldYN != null) {
-            double oldY = oldYN.doubleValue();
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
-        }
+        double oldY = yValue(item);
         item.setValue(value);
-        if (iterate) {
-            updateMinMaxYByIteration();
-        }
-        else if (value != null) {
-            double yy = value.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, yy);
-            this.maxY = maxIgnoreNaN(this.maxY, yy);
-        }
-        fireSeriesChanged();
+        updateBoundsForChangedItem(index, oldY, yValue(item));
+        fireSeriesChanged(SeriesChangeInfo.itemsUpdated(index, index));
     }
 
     /**
@@ -796,39 +893,37 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (index >= 0) {
             TimeSeriesDataItem existing = this.data.get(index);
             overwritten = (TimeSeriesDataItem) existing.clone();
-            // figure out if we need to iterate through all the y-values
-            // to find the revised minY / maxY
-            boolean iterate = false;
-            Number oldYN = existing.getValue();
-            double oldY = oldYN != null ? oldYN.doubleValue() : Double.NaN;
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
+            double oldY = yValue(existing);
             existing.setValue(item.getValue());
-            if (iterate) {
-                updateMinMaxYByIteration();
-            }
-            else if (item.getValue() != null) {
-                double yy = item.getValue().doubleValue();
-                this.minY = minIgnoreNaN(this.minY, yy);
-                this.maxY = maxIgnoreNaN(this.maxY, yy);
-            }
+            updateBoundsForChangedItem(index, oldY, yValue(existing));
         }
         else {
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
-            updateBoundsForAddedItem(item);
+            updateBoundsForAddedItem(-index - 1, yValue(item));
+        }
+        int count = getItemCount();
 
-            // check if this addition will exceed the maximum item count...
-            if (getItemCount() > this.maximumItemCount) {
-                TimeSeriesDataItem d = this.data.remove(0);
-                updateBoundsForRemovedItem(d);
-            }
+        // check if this addition will exceed the maximum item count...
+        if (count > this.maximumItemCount) {
+            TimeSeriesDataItem d = this.data.remove(0);
+            updateBoundsForRemovedItem(0, yValue(d));
         }
         removeAgedItems(false);  // remove old items if necessary, but
                                  // don't notify anyone, because that
                                  // happens next anyway...
-        fireSeriesChanged();
+        SeriesChangeInfo info;
+        if (index < 0) {
+            info = SeriesChangeInfo.itemAdded(-index - 1, count,
+                    count - getItemCount());
+        }
+        else if (getItemCount() == count) {
+            info = SeriesChangeInfo.itemsUpdated(index, index);
+        }
+        else {
+            info = null;
+        }
+        fireSeriesChanged(info);
         return overwritten;
 
     }
@@ -846,16 +941,16 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         // count...
         if (getItemCount() > 1) {
             long latest = getTimePeriod(getItemCount() - 1).getSerialIndex();
-            boolean removed = false;
-            while ((latest - getTimePeriod(0).getSerialIndex())
+            int remove = 0;
+            while ((latest - getTimePeriod(remove).getSerialIndex())
                     > this.maximumItemAge) {
-                this.data.remove(0);
-                removed = true;
+                remove++;
             }
-            if (removed) {
-                updateMinMaxYByIteration();
+            if (remove > 0) {
+                removeFirstItems(remove);
                 if (notify) {
-                    fireSeriesChanged();
+                    fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0,
+                            remove - 1));
                 }
             }
         }
@@ -898,31 +993,45 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
 
         // check if there are any values earlier than specified by the history
         // count...
-        boolean removed = false;
-        while (getItemCount() > 0 && (index
-                - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
-            this.data.remove(0);
-            removed = true;
-        }
-        if (removed) {
-            updateMinMaxYByIteration();
+        int remove = 0;
+        int count = getItemCount();
+        while (remove < count && (index
+                - getTimePeriod(remove).getSerialIndex()) > this.maximumItemAge) {
+            remove++;
+        }
+        if (remove > 0) {
+            removeFirstItems(remove);
             if (notify) {
-                fireSeriesChanged();
+                fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0,
+                        remove - 1));
             }
         }
     }
 
+    /**
+     * Removes the specified number of items from the start of the series,
+     * updating the y-value bounds incrementally (no listeners are notified).
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirstItems(int count) {
+        for (int i = 0; i < count; i++) {
+            updateBoundsForRemovedItem(0, yValue(this.data.get(i)));
+        }
+        this.data.subList(0, count).clear();
+    }
+
     /**
      * Removes all data items from the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
      */
     public void clear() {
         if (this.data.size() > 0) {
+            int count = this.data.size();
             this.data.clear();
             this.timePeriodClass = null;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
-            fireSeriesChanged();
+            this.yTracker.clear();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, count - 1));
         }
     }
 
@@ -938,11 +1047,11 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         int index = getIndex(period);
         if (index >= 0) {
             TimeSeriesDataItem item = this.data.remove(index);
-            updateBoundsForRemovedItem(item);
+            updateBoundsForRemovedItem(index, yValue(item));
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
             }
-            fireSeriesChanged();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(index, index));
         }
     }
 
@@ -969,15 +1078,18 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (end < start) {
             throw new IllegalArgumentException("Requires start <= end.");
         }
-        for (int i = 0; i <= (end - start); i++) {
-            this.data.remove(start);
+        if (start == 0) {
+            removeFirstItems(end + 1);
+        }
+        else {
+            this.data.subList(start, end + 1).clear();
+            resetBounds();
         }
-        updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
         }
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(start, end));
         }
     }
 
@@ -1000,6 +1112,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     public Object clone() throws CloneNotSupportedException {
         TimeSeries<S> clone = (TimeSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.createTracker();
         return clone;
     }
 
@@ -1024,9 +1137,8 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
             throw new IllegalArgumentException("Requires start <= end.");
         }
         TimeSeries<S> copy = (TimeSeries) super.clone();
-        copy.minY = Double.NaN;
-        copy.maxY = Double.NaN;
         copy.data = new java.util.ArrayList();
+        copy.createTracker();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 TimeSeriesDataItem item = this.data.get(index);
@@ -1083,6 +1195,7 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (emptyRange) {
             TimeSeries<S> copy = (TimeSeries) super.clone();
             copy.data = new java.util.ArrayList();
+            copy.createTracker();
             return copy;
         }
         return createCopy(startIndex, endIndex);
@@ -1103,6 +1216,12 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
         if (!(obj instanceof TimeSeries)) {
             return false;
         }
+        // a columnar series stores its items in arrays rather than in the
+        // data list, and is only ever equal to another columnar series
+        if (obj instanceof ColumnarTimeSeries
+                && !(this instanceof ColumnarTimeSeries)) {
+            return false;
+        }
         TimeSeries<S> that = (TimeSeries) obj;
         if (!Objects.equals(this.timePeriodClass, that.timePeriodClass)) {
             return false;
@@ -1154,53 +1273,17 @@ public class TimeSeries<S extends Comparable<S>> extends Series<S>
     }
 
     /**
-     * Updates the cached values for the minimum and maximum data values.
-     *
-     * @param item  the item added ({@code null} not permitted).
-     *
-     * @since 1.0.14
-     */
-    private void updateBoundsForAddedItem(TimeSeriesDataItem item) {
-        Number yN = item.getValue();
-        if (item.getValue() != null) {
-            double y = yN.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, y);
-            this.maxY = maxIgnoreNaN(this.maxY, y);
-        }
-    }
-    
-    /**
-     * Updates the cached values for the minimum and maximum data values on
-     * the basis that the specified item has just been removed.
+     * Provides serialization support.
      *
-     * @param item  the item added ({@code null} not permitted).
-     *
-     * @since 1.0.14
-     */
-    private void updateBoundsForRemovedItem(TimeSeriesDataItem item) {
-        Number yN = item.getValue();
-        if (yN != null) {
-            double y = yN.doubleValue();
-            if (!Double.isNaN(y)) {
-                if (y <= this.minY || y >= this.maxY) {
-                    updateMinMaxYByIteration();
-                }
-            }
-        }
-    }
-
-    /**
-     * Finds the bounds of the x and y values for the series, by iterating
-     * through all the data items.
+     * @param stream  the input stream.
      *
-     * @since 1.0.14
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
      */
-    private void updateMinMaxYByIteration() {
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
-        for (TimeSeriesDataItem item : this.data) {
-            updateBoundsForAddedItem(item);
-        }
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        createTracker();
     }
 
     /**
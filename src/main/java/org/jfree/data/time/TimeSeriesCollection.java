@@ -43,11 +43,14 @@ import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.xy.*;
 
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyVetoException;
 import java.beans.VetoableChangeListener;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.*;
 
@@ -60,7 +63,7 @@ import java.util.*;
 public class TimeSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset
         implements XYDataset, IntervalXYDataset, DomainInfo, XYDomainInfo,
-        XYRangeInfo, VetoableChangeListener, Serializable {
+        XYRangeInfo, XYPyramidInfo, VetoableChangeListener, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = 834149929022371137L;
@@ -78,6 +81,15 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     private TimePeriodAnchor xPosition;
 
+    /**
+     * A flag that controls whether or not the collection maintains a
+     * multi-resolution index of its items.
+     */
+    private boolean pyramidEnabled;
+
+    /** The multi-resolution index ({@code null} if not enabled). */
+    private transient XYPyramid pyramid;
+
     /**
      * Constructs an empty dataset, tied to the default timezone.
      */
@@ -197,6 +209,24 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series object (compared by
+     * identity), or -1.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The index (or -1 if the series is not in the collection).
+     */
+    @Override
+    protected int indexOfSeries(Object series) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series.
      *
@@ -272,7 +302,8 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         Args.nullNotPermitted(series, "series");
         this.data.add(series);
         series.addChangeListener(this);
-        fireDatasetChanged();
+        fireDatasetChanged(this.data.size() - 1,
+                SeriesChangeInfo.seriesAdded());
     }
 
     /**
@@ -283,9 +314,17 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      */
     public void removeSeries(TimeSeries<S> series) {
         Args.nullNotPermitted(series, "series");
-        this.data.remove(series);
+        int index = this.data.indexOf(series);
+        if (index >= 0) {
+            this.data.remove(index);
+        }
         series.removeChangeListener(this);
-        fireDatasetChanged();
+        if (index >= 0) {
+            fireDatasetChanged(index, SeriesChangeInfo.seriesRemoved());
+        }
+        else {
+            fireDatasetChanged();
+        }
     }
 
     /**
@@ -341,8 +380,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     @Override
     public double getXValue(int series, int item) {
         TimeSeries<S> s = this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return getX(s, item, this.xPosition);
     }
 
     /**
@@ -356,8 +394,25 @@ public class TimeSeriesCollection<S extends Comparable<S>>
     @Override
     public Number getX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return getX(period);
+        return getX(ts, item, this.xPosition);
+    }
+
+    /**
+     * Returns the x-value for an item in a time series, using the specified
+     * anchor.  For a {@link ColumnarTimeSeries} in the same time zone as this
+     * collection, no objects are created.
+     *
+     * @param series  the time series ({@code null} not permitted).
+     * @param item  the item (zero-based index).
+     * @param anchor  the anchor ({@code null} not permitted).
+     *
+     * @return The x-value.
+     *
+     * @since 2.0.0
+     */
+    protected synchronized long getX(TimeSeries<S> series, int item,
+            TimePeriodAnchor anchor) {
+        return series.getMillisecond(item, anchor, this.workingCalendar);
     }
 
     /**
@@ -390,9 +445,9 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getFirstMillisecond(this.workingCalendar);
+        return getX(ts, item, TimePeriodAnchor.START);
     }
 
     /**
@@ -404,9 +459,9 @@ public class TimeSeriesCollection<S extends Comparable<S>>
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
         TimeSeries<S> ts = this.data.get(series);
-        return ts.getTimePeriod(item).getLastMillisecond(this.workingCalendar);
+        return getX(ts, item, TimePeriodAnchor.END);
     }
 
     /**
@@ -423,6 +478,20 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         return ts.getValue(item);
     }
 
+    /**
+     * Returns the y-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        TimeSeries<S> ts = this.data.get(series);
+        return ts.getYValue(item);
+    }
+
     /**
      * Returns the starting Y value for the specified series and item.
      *
@@ -527,16 +596,14 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         for (TimeSeries<S> series : this.data) {
             int count = series.getItemCount();
             if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
                 Range temp;
                 if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
+                    temp = new Range(getX(series, 0, this.xPosition),
+                            getX(series, count - 1, this.xPosition));
                 }
                 else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(getX(series, 0, TimePeriodAnchor.START),
+                            getX(series, count - 1, TimePeriodAnchor.END));
                 }
                 result = Range.combine(result, temp);
             }
@@ -563,16 +630,14 @@ public class TimeSeriesCollection<S extends Comparable<S>>
             TimeSeries<S> series = getSeries((S) seriesKey);
             int count = series.getItemCount();
             if (count > 0) {
-                RegularTimePeriod start = series.getTimePeriod(0);
-                RegularTimePeriod end = series.getTimePeriod(count - 1);
                 Range temp;
                 if (!includeInterval) {
-                    temp = new Range(getX(start), getX(end));
+                    temp = new Range(getX(series, 0, this.xPosition),
+                            getX(series, count - 1, this.xPosition));
                 }
                 else {
-                    temp = new Range(
-                            start.getFirstMillisecond(this.workingCalendar),
-                            end.getLastMillisecond(this.workingCalendar));
+                    temp = new Range(getX(series, 0, TimePeriodAnchor.START),
+                            getX(series, count - 1, TimePeriodAnchor.END));
                 }
                 result = Range.combine(result, temp);
             }
@@ -654,6 +719,66 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not the collection maintains
+     * a multi-resolution index of its items.  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isPyramidEnabled() {
+        return this.pyramidEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the collection maintains
+     * a multi-resolution index of its items (see {@link XYPyramid}) and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.  The
+     * index speeds up the rendering of series that have many more items than
+     * there are pixels available, at the cost of some additional memory.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setPyramidEnabled(boolean enabled) {
+        this.pyramidEnabled = enabled;
+        this.pyramid = enabled ? new XYPyramid(this) : null;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the multi-resolution index for the collection.
+     *
+     * @return The index ({@code null} if the index is not enabled).
+     *
+     * @see #setPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public XYPyramid getPyramid() {
+        return this.pyramid;
+    }
+
+    /**
+     * Updates the multi-resolution index (if there is one) and then
+     * notifies all registered listeners that the dataset has changed.
+     *
+     * @param event  contains information about the event.
+     */
+    @Override
+    protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.pyramid != null) {
+            this.pyramid.datasetChanged(event);
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Tests this time series collection for equality with another object.
      *
@@ -676,6 +801,9 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         if (!Objects.equals(this.data, that.data)) {
             return false;
         }
+        if (this.pyramidEnabled != that.pyramidEnabled) {
+            return false;
+        }
         return true;
     }
 
@@ -692,6 +820,7 @@ public class TimeSeriesCollection<S extends Comparable<S>>
                 ? this.workingCalendar.hashCode() : 0);
         result = 29 * result + (this.xPosition != null
                 ? this.xPosition.hashCode() : 0);
+        result = 29 * result + (this.pyramidEnabled ? 1 : 0);
         return result;
     }
 
@@ -708,7 +837,22 @@ public class TimeSeriesCollection<S extends Comparable<S>>
         TimeSeriesCollection clone = (TimeSeriesCollection) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
         clone.workingCalendar = (Calendar) this.workingCalendar.clone();
+        clone.pyramid = this.pyramidEnabled ? new XYPyramid(clone) : null;
         return clone;
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.pyramid = this.pyramidEnabled ? new XYPyramid(this) : null;
+    }
+
 }
@@ -0,0 +1,813 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ColumnarXYSeries.java
+ * ---------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its data in two growable arrays of
+ * {@code double} primitives (one for the x-values and one for the y-values)
+ * rather than in a list of {@link XYDataItem} objects.  This reduces the
+ * memory used per data item to roughly 16 bytes and means that the
+ * {@link #getXValue(int)} and {@link #getYValue(int)} methods (used by
+ * {@link XYSeriesCollection} when the series is being rendered) do not
+ * allocate any objects.
+ * <p>
+ * The sorting, duplicate x-value and maximum item count rules are identical
+ * to those of {@link XYSeries}.  Since there is no object to hold a
+ * {@code null} y-value, missing y-values are stored as {@code Double.NaN}
+ * and {@link #getY(int)} returns {@code null} for those items.  Methods that
+ * return {@link XYDataItem} instances create new items on each call, so
+ * changes to the returned items are not reflected in the series.  The
+ * inherited {@link #data} list is not used and is always empty.
+ *
+ * @param <K>  the type of the series key.
+ *
+ * @since 2.0.0
+ */
+public class ColumnarXYSeries<K extends Comparable<K>> extends XYSeries<K> {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 1L;
+
+    /** The default initial capacity for the arrays. */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values ({@code Double.NaN} for missing values). */
+    private double[] yValues;
+
+    /** The array index of the first item in the series. */
+    private int start;
+
+    /** The number of items in the series. */
+    private int count;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key ({@code null} not permitted).
+     */
+    public ColumnarXYSeries(K key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public ColumnarXYSeries(K key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public ColumnarXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        this(key, autoSort, allowDuplicateXValues, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new series that contains no data, with storage
+     * preallocated for the specified number of items.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     * @param initialCapacity  the initial capacity (must be non-negative).
+     */
+    public ColumnarXYSeries(K key, boolean autoSort,
+            boolean allowDuplicateXValues, int initialCapacity) {
+        super(key, autoSort, allowDuplicateXValues);
+        Args.requireNonNegative(initialCapacity, "initialCapacity");
+        this.xValues = new double[initialCapacity];
+        this.yValues = new double[initialCapacity];
+        this.start = 0;
+        this.count = 0;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns a new unmodifiable list containing a copy of each of the data
+     * items in the series.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List<XYDataItem> getItems() {
+        List<XYDataItem> result = new ArrayList<>(this.count);
+        for (int i = 0; i < this.count; i++) {
+            result.add(getRawDataItem(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Ensures that the series can hold at least the specified number of items
+     * without reallocating its storage.
+     *
+     * @param capacity  the required capacity.
+     */
+    public void ensureCapacity(int capacity) {
+        if (this.start + capacity > this.xValues.length) {
+            reallocate(Math.max(capacity, this.count));
+        }
+    }
+
+    /**
+     * Copies the items into new arrays with the specified capacity, starting
+     * at array index zero.
+     *
+     * @param capacity  the new capacity.
+     */
+    private void reallocate(int capacity) {
+        double[] x = new double[capacity];
+        double[] y = new double[capacity];
+        System.arraycopy(this.xValues, this.start, x, 0, this.count);
+        System.arraycopy(this.yValues, this.start, y, 0, this.count);
+        this.xValues = x;
+        this.yValues = y;
+        this.start = 0;
+    }
+
+    /**
+     * Makes room at the end of the arrays for one more item.  Items removed
+     * from the front of the series (when the maximum item count is reached)
+     * leave free space that is reclaimed here, either by compacting the
+     * arrays or, if they are more than three-quarters full, by growing them.
+     */
+    private void ensureSpaceForOneMore() {
+        int length = this.xValues.length;
+        if (this.start + this.count < length) {
+            return;
+        }
+        if (this.count + 1 <= length - (length >> 2)) {
+            System.arraycopy(this.xValues, this.start, this.xValues, 0,
+                    this.count);
+            System.arraycopy(this.yValues, this.start, this.yValues, 0,
+                    this.count);
+            this.start = 0;
+        }
+        else {
+            reallocate(Math.max(DEFAULT_CAPACITY, length + (length >> 1)));
+        }
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If items have to be removed as a result, a {@link SeriesChangeEvent}
+     * is sent to all registered listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.count - maximum;
+        if (remove > 0) {
+            this.start += remove;
+            this.count -= remove;
+            resetBounds();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, remove - 1));
+        }
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    @Override
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     * @param y  the y-value ({@code null} permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(Number x, Number y, boolean notify) {
+        Args.nullNotPermitted(x, "x");
+        add(x.doubleValue(), y != null ? y.doubleValue() : Double.NaN,
+                notify);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item ({@code null} not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        Args.nullNotPermitted(item, "item");
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds a data item to the series (in the correct position if the
+     * {@code autoSort} flag is set for the series) and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  No objects are
+     * created by this method unless the storage needs to grow.
+     *
+     * @param x  the x value.
+     * @param y  the y value ({@code Double.NaN} for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     {@code allowDuplicateXValues} flag is not set for this series.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        int position;
+        if (getAutoSort()) {
+            position = upperBound(x);
+            if (!getAllowDuplicateXValues() && position > 0
+                    && this.xValues[this.start + position - 1] == x) {
+                throw new SeriesException("X-value already exists.");
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            position = this.count;
+        }
+        insert(position, x, y);
+        int count = this.count;
+        if (count > getMaximumItemCount()) {
+            removeFirst();
+        }
+        SeriesChangeInfo info = SeriesChangeInfo.itemAdded(position, count,
+                count - this.count);
+        if (notify) {
+            fireSeriesChanged(info);
+        }
+    }
+
+    /**
+     * Inserts an item at the specified position and updates the cached
+     * bounds.
+     *
+     * @param position  the item index.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int position, double x, double y) {
+        ensureSpaceForOneMore();
+        int i = this.start + position;
+        int tail = this.count - position;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, i, this.xValues, i + 1, tail);
+            System.arraycopy(this.yValues, i, this.yValues, i + 1, tail);
+        }
+        this.xValues[i] = x;
+        this.yValues[i] = y;
+        this.count++;
+        updateBoundsForAddedItem(position, x, y);
+    }
+
+    /**
+     * Removes the first item in the series (without sending a change event)
+     * and updates the cached bounds.
+     */
+    private void removeFirst() {
+        double x = this.xValues[this.start];
+        double y = this.yValues[this.start];
+        this.start++;
+        this.count--;
+        updateBoundsForRemovedItem(0, x, y);
+    }
+
+    /**
+     * Returns the index of the first item with an x-value greater than
+     * {@code x}, assuming that the items are sorted.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index (in the range {@code 0} to {@code getItemCount()}).
+     */
+    private int upperBound(double x) {
+        int low = 0;
+        int high = this.count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.xValues[this.start + mid] <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        if (start < 0 || end >= this.count || start > end + 1) {
+            throw new IndexOutOfBoundsException("Invalid range [" + start
+                    + ", " + end + "] for " + this.count + " items.");
+        }
+        removeRange(start, end + 1);
+        resetBounds();
+        fireSeriesChanged(SeriesChangeInfo.itemsRemoved(start, end));
+    }
+
+    /**
+     * Removes the items from index {@code from} (inclusive) to {@code to}
+     * (exclusive) without updating the bounds.
+     *
+     * @param from  the first index.
+     * @param to  the end index.
+     */
+    private void removeRange(int from, int to) {
+        int removed = to - from;
+        if (from == 0) {
+            this.start += removed;
+        }
+        else {
+            int tail = this.count - to;
+            System.arraycopy(this.xValues, this.start + to, this.xValues,
+                    this.start + from, tail);
+            System.arraycopy(this.yValues, this.start + to, this.yValues,
+                    this.start + from, tail);
+        }
+        this.count -= removed;
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        checkIndex(index);
+        XYDataItem removed = getRawDataItem(index);
+        double x = getXValue(index);
+        double y = getYValue(index);
+        removeRange(index, index + 1);
+        updateBoundsForRemovedItem(index, x, y);
+        fireSeriesChanged(SeriesChangeInfo.itemsRemoved(index, index));
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.count > 0) {
+            int removed = this.count;
+            this.start = 0;
+            this.count = 0;
+            resetBounds();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, removed - 1));
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        return getRawDataItem(index);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        return new XYDataItem(getX(index), getY(index));
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never {@code null}).
+     */
+    @Override
+    public Number getX(int index) {
+        return getXValue(index);
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (possibly {@code null}).
+     */
+    @Override
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : y;
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.start + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.start + index];
+    }
+
+    /**
+     * Checks that an item index is valid for this series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException("Index " + index
+                    + " out of bounds for " + this.count + " items.");
+        }
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value ({@code null} permitted).
+     */
+    @Override
+    public void updateByIndex(int index, Number y) {
+        checkIndex(index);
+        setYValue(index, y != null ? y.doubleValue() : Double.NaN);
+        fireSeriesChanged(SeriesChangeInfo.itemsUpdated(index, index));
+    }
+
+    /**
+     * Sets the y-value at the specified index and updates the cached bounds
+     * (no change event is sent).
+     *
+     * @param index  the item index.
+     * @param y  the new y-value.
+     */
+    private void setYValue(int index, double y) {
+        int i = this.start + index;
+        double oldY = this.yValues[i];
+        this.yValues[i] = y;
+        updateBoundsForChangedItem(index, oldY, y);
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return A copy of the overwritten data item, or {@code null} if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y, true);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        SeriesChangeInfo info;
+        int index = indexOf(x);
+        if (index >= 0) {
+            overwritten = getRawDataItem(index);
+            setYValue(index, y);
+            info = SeriesChangeInfo.itemsUpdated(index, index);
+        }
+        else {
+            int position = getAutoSort() ? -index - 1 : this.count;
+            insert(position, x, y);
+            int count = this.count;
+            if (count > getMaximumItemCount()) {
+                removeFirst();
+            }
+            info = SeriesChangeInfo.itemAdded(position, count,
+                    count - this.count);
+        }
+        fireSeriesChanged(info);
+        return overwritten;
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item ({@code null} not permitted).
+     *
+     * @return A copy of the overwritten data item, or {@code null} if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        Args.nullNotPermitted(item, "item");
+        return addOrUpdate(item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value ({@code null} not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        Args.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the negative index encodes the insertion point in the
+     * same way as {@code Arrays.binarySearch()}, otherwise it is -1.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            int low = 0;
+            int high = this.count - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                double midX = this.xValues[this.start + mid];
+                if (midX < x) {
+                    low = mid + 1;
+                }
+                else if (midX > x) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+        else {
+            for (int i = 0; i < this.count; i++) {
+                if (this.xValues[this.start + i] == x) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        return new double[][] {
+            Arrays.copyOfRange(this.xValues, this.start,
+                    this.start + this.count),
+            Arrays.copyOfRange(this.yValues, this.start,
+                    this.start + this.count)};
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object clone() throws CloneNotSupportedException {
+        ColumnarXYSeries<K> clone = (ColumnarXYSeries) super.clone();
+        clone.xValues = this.xValues.clone();
+        clone.yValues = this.yValues.clone();
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     * @throws IndexOutOfBoundsException if the series is not empty and
+     *     {@code start} or {@code end} is not a valid item index.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public XYSeries<K> createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        // fail in the same cases as the list-backed series, rather than
+        // copy unused capacity from the arrays
+        if (this.count > 0 && (start < 0 || end >= this.count)) {
+            throw new IndexOutOfBoundsException("Requires start >= 0 and "
+                    + "end < " + this.count + ".");
+        }
+        ColumnarXYSeries<K> copy = (ColumnarXYSeries) super.clone();
+        int n = this.count > 0 ? Math.max(end - start + 1, 0) : 0;
+        copy.xValues = new double[Math.max(n, DEFAULT_CAPACITY)];
+        copy.yValues = new double[Math.max(n, DEFAULT_CAPACITY)];
+        if (n > 0) {
+            System.arraycopy(this.xValues, this.start + start, copy.xValues,
+                    0, n);
+            System.arraycopy(this.yValues, this.start + start, copy.yValues,
+                    0, n);
+        }
+        copy.start = 0;
+        copy.count = n;
+        copy.resetBounds();
+        return copy;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        resetBounds();
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             ({@code null} permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ColumnarXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        ColumnarXYSeries<?> that = (ColumnarXYSeries) obj;
+        if (this.count != that.count) {
+            return false;
+        }
+        int end = this.start + this.count;
+        int thatEnd = that.start + that.count;
+        if (!Arrays.equals(this.xValues, this.start, end, that.xValues,
+                that.start, thatEnd)) {
+            return false;
+        }
+        return Arrays.equals(this.yValues, this.start, end, that.yValues,
+                that.start, thatEnd);
+    }
+
+    /**
+     * Returns a hash code.  The inherited implementation samples the first,
+     * middle and last items through {@link #getRawDataItem(int)}, which this
+     * class overrides to read from the arrays, so the columnar values are
+     * included.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
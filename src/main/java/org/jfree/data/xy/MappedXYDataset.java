@@ -0,0 +1,831 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+
+/**
+ * An {@link IntervalXYDataset} where the x- and y-values of each series are
+ * read from a memory-mapped file, so that series larger than the Java heap
+ * can be plotted.  Values are read on demand, which means that only the
+ * pages of the file that are accessed are loaded into memory by the
+ * operating system.
+ * <p>
+ * Series files are created with one of the {@code writeSeries()} methods.
+ * A file holds a 64-byte header (item count, whether the x-values are in
+ * ascending order and the minimum and maximum x- and y-values) followed by
+ * the x-values and then the y-values as little-endian doubles.  Because the
+ * order and bounds are read from the header, the dataset can report its
+ * {@link DomainOrder} and bounds without reading the values; when the
+ * x-values are ascending, the renderers find the items in a zoomed window
+ * with a binary search (see
+ * {@link org.jfree.chart.renderer.RendererUtils}) and only touch the pages
+ * holding the visible items.
+ * <p>
+ * The start and end x-values are calculated from a fixed interval width,
+ * and the start and end y-values are the same as the y-value.  Files must
+ * not be modified while they are mapped.  This class is not serializable
+ * (the mappings cannot be written to a stream).
+ *
+ * @since 2.0.0
+ */
+public class MappedXYDataset<S extends Comparable<S>>
+        extends AbstractIntervalXYDataset<S>
+        implements IntervalXYDataset<S>, DomainInfo, RangeInfo {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3186503748241690817L;
+
+    /** The magic number at the start of a series file ("JFXM"). */
+    private static final int MAGIC = 0x4A46584D;
+
+    /** The file format version. */
+    private static final int VERSION = 1;
+
+    /** The size of the header in bytes. */
+    private static final int HEADER_SIZE = 64;
+
+    /** The flag that indicates ascending x-values. */
+    private static final int FLAG_ASCENDING = 1;
+
+    /**
+     * The number of values per mapped region, as a power of two (each
+     * mapping is limited to 2GB).
+     */
+    private static final int CHUNK_SHIFT = 27;
+
+    /** The mask for the index of a value in a mapped region. */
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    /** The size of the buffer used to write series files. */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** The series. */
+    private final List<MappedSeries<S>> series;
+
+    /** The interval delegate (used to calculate the start and end x-values). */
+    private final IntervalXYDelegate intervalDelegate;
+
+    /**
+     * Creates a new (empty) dataset.
+     */
+    public MappedXYDataset() {
+        this.series = new ArrayList<>();
+        this.intervalDelegate = new IntervalXYDelegate(this, false);
+    }
+
+    /**
+     * Writes a series file containing the specified values.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param x  the x-values ({@code null} not permitted).
+     * @param y  the y-values ({@code null} not permitted, must have the
+     *     same length as {@code x}).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeSeries(Path file, double[] x, double[] y)
+            throws IOException {
+        Args.nullNotPermitted(file, "file");
+        Args.nullNotPermitted(x, "x");
+        Args.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "Requires x and y arrays of the same length.");
+        }
+        write(file, x.length, i -> x[i], i -> y[i]);
+    }
+
+    /**
+     * Writes a series file containing the values of one series from a
+     * dataset.  The dataset is read twice (once for the x-values, once for
+     * the y-values) and the values are streamed to the file, so the source
+     * can itself be larger than the heap.
+     *
+     * @param file  the file ({@code null} not permitted).
+     * @param dataset  the dataset ({@code null} not permitted).
+     * @param series  the series index.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    public static void writeSeries(Path file, XYDataset<?> dataset,
+            int series) throws IOException {
+        Args.nullNotPermitted(file, "file");
+        Args.nullNotPermitted(dataset, "dataset");
+        write(file, dataset.getItemCount(series),
+                i -> dataset.getXValue(series, i),
+                i -> dataset.getYValue(series, i));
+    }
+
+    /**
+     * Writes a series file.
+     *
+     * @param file  the file.
+     * @param count  the number of items.
+     * @param x  a function returning the x-value for an item.
+     * @param y  a function returning the y-value for an item.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void write(Path file, int count, IntToDoubleFunction x,
+            IntToDoubleFunction y) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            channel.position(HEADER_SIZE);
+            double[] xBounds = writeColumn(channel, buffer, count, x);
+            double[] yBounds = writeColumn(channel, buffer, count, y);
+            buffer.clear();
+            buffer.putInt(MAGIC);
+            buffer.putInt(VERSION);
+            buffer.putLong(count);
+            buffer.putInt(xBounds[2] != 0.0 ? FLAG_ASCENDING : 0);
+            buffer.putInt(0);
+            buffer.putDouble(xBounds[0]);
+            buffer.putDouble(xBounds[1]);
+            buffer.putDouble(yBounds[0]);
+            buffer.putDouble(yBounds[1]);
+            while (buffer.position() < HEADER_SIZE) {
+                buffer.put((byte) 0);
+            }
+            buffer.flip();
+            channel.position(0);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+    }
+
+    /**
+     * Writes a column of values at the channel's current position.
+     *
+     * @param channel  the channel.
+     * @param buffer  the buffer.
+     * @param count  the number of values.
+     * @param values  a function returning the value for an item.
+     *
+     * @return The minimum and maximum values ({@code NaN} if there are no
+     *     values other than {@code NaN}) and 1.0 if the values are in
+     *     ascending order (or 0.0 otherwise).
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static double[] writeColumn(FileChannel channel,
+            ByteBuffer buffer, int count, IntToDoubleFunction values)
+            throws IOException {
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        boolean ascending = true;
+        double previous = Double.NEGATIVE_INFINITY;
+        buffer.clear();
+        for (int i = 0; i < count; i++) {
+            double v = values.applyAsDouble(i);
+            if (!(v >= previous)) {
+                ascending = false;
+            }
+            previous = v;
+            if (v < min) {
+                min = v;
+            }
+            if (v > max) {
+                max = v;
+            }
+            if (!buffer.hasRemaining()) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                buffer.clear();
+            }
+            buffer.putDouble(v);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        if (min > max) {
+            min = Double.NaN;
+            max = Double.NaN;
+        }
+        return new double[] {min, max, ascending ? 1.0 : 0.0};
+    }
+
+    /**
+     * Maps a series file and adds it to the dataset, then sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param key  the series key ({@code null} not permitted).
+     * @param file  the series file ({@code null} not permitted).
+     *
+     * @throws IOException if there is an I/O problem or the file is not a
+     *     valid series file.
+     */
+    public void addSeries(S key, Path file) throws IOException {
+        Args.nullNotPermitted(key, "key");
+        Args.nullNotPermitted(file, "file");
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + key);
+        }
+        this.series.add(new MappedSeries<>(key, file));
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series from the dataset and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.  The file is
+     * unmapped when the series is garbage collected.
+     *
+     * @param index  the series index.
+     */
+    public void removeSeries(int index) {
+        this.series.remove(index);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the file for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The file.
+     */
+    public Path getSeriesFile(int series) {
+        return this.series.get(series).file;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public S getSeriesKey(int series) {
+        return this.series.get(series).key;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.series.get(series).count;
+    }
+
+    /**
+     * Returns {@code DomainOrder.ASCENDING} if the x-values of every series
+     * are in ascending order, and {@code DomainOrder.NONE} otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        for (MappedSeries<S> s : this.series) {
+            if (!s.ascending) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series.get(series).x(item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series.get(series).y(item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return getXValue(series, item) - this.intervalDelegate
+                .getIntervalPositionFactor() * getIntervalWidth();
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return getStartXValue(series, item);
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return getStartXValue(series, item) + getIntervalWidth();
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return getEndXValue(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the interval width used to calculate the start and end
+     * x-values.  The default value is 1.0.
+     *
+     * @return The interval width.
+     */
+    public double getIntervalWidth() {
+        return this.intervalDelegate.getIntervalWidth();
+    }
+
+    /**
+     * Sets the interval width used to calculate the start and end x-values
+     * and sends a {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param width  the width (negative values not permitted).
+     */
+    public void setIntervalWidth(double width) {
+        if (width < 0.0) {
+            throw new IllegalArgumentException("Negative 'width' argument.");
+        }
+        this.intervalDelegate.setFixedIntervalWidth(width);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the interval position factor (0.0 to 1.0), which determines
+     * where the x-value lies within the interval.  The default value is
+     * 0.5.
+     *
+     * @return The interval position factor.
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalDelegate.getIntervalPositionFactor();
+    }
+
+    /**
+     * Sets the interval position factor and sends a
+     * {@link DatasetChangeEvent} to all registered listeners.
+     *
+     * @param factor  the factor (in the range 0.0 to 1.0).
+     */
+    public void setIntervalPositionFactor(double factor) {
+        this.intervalDelegate.setIntervalPositionFactor(factor);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (MappedSeries<S> s : this.series) {
+            if (!Double.isNaN(s.minX)) {
+                lower = Math.min(lower, s.minX);
+                upper = Math.max(upper, s.maxX);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        if (includeInterval) {
+            double start = getIntervalPositionFactor() * getIntervalWidth();
+            lower -= start;
+            upper += getIntervalWidth() - start;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  ignored, since the y-interval is the same as
+     *     the y-value.
+     *
+     * @return The minimum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  ignored, since the y-interval is the same as
+     *     the y-value.
+     *
+     * @return The maximum value ({@code Double.NaN} if there is no data).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset (read from the file
+     * headers, so no values are accessed).
+     *
+     * @param includeInterval  ignored, since the y-interval is the same as
+     *     the y-value.
+     *
+     * @return The range (or {@code null} if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (MappedSeries<S> s : this.series) {
+            if (!Double.isNaN(s.minY)) {
+                lower = Math.min(lower, s.minY);
+                upper = Math.max(upper, s.maxY);
+            }
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Always throws an exception, because the memory-mapped series cannot
+     * be serialized.
+     *
+     * @param stream  the output stream.
+     *
+     * @throws IOException always ({@code NotSerializableException}).
+     */
+    private void writeObject(ObjectOutputStream stream) throws IOException {
+        throw new NotSerializableException(getClass().getName());
+    }
+
+    /**
+     * A series backed by a memory-mapped file.
+     */
+    private static final class MappedSeries<S> {
+
+        /** The series key. */
+        private final S key;
+
+        /** The file. */
+        private final Path file;
+
+        /** The number of items. */
+        private final int count;
+
+        /** Are the x-values in ascending order? */
+        private final boolean ascending;
+
+        /** The minimum x-value. */
+        private final double minX;
+
+        /** The maximum x-value. */
+        private final double maxX;
+
+        /** The minimum y-value. */
+        private final double minY;
+
+        /** The maximum y-value. */
+        private final double maxY;
+
+        /** The mapped regions holding the x-values. */
+        private final DoubleBuffer[] x;
+
+        /** The mapped regions holding the y-values. */
+        private final DoubleBuffer[] y;
+
+        /**
+         * Maps a series file.
+         *
+         * @param key  the series key.
+         * @param file  the file.
+         *
+         * @throws IOException if there is an I/O problem or the file is not
+         *     a valid series file.
+         */
+        MappedSeries(S key, Path file) throws IOException {
+            this.key = key;
+            this.file = file;
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.READ)) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                        .order(ByteOrder.LITTLE_ENDIAN);
+                while (header.hasRemaining()
+                        && channel.read(header, header.position()) > 0) {
+                    // keep reading
+                }
+                header.flip();
+                if (header.remaining() < HEADER_SIZE
+                        || header.getInt() != MAGIC) {
+                    throw new IOException("Not a series file: " + file);
+                }
+                int version = header.getInt();
+                if (version > VERSION) {
+                    throw new IOException("Unsupported version " + version
+                            + ": " + file);
+                }
+                long n = header.getLong();
+                if (n < 0 || n > Integer.MAX_VALUE || channel.size()
+                        != HEADER_SIZE + n * 2 * Double.BYTES) {
+                    throw new IOException("Invalid series file: " + file);
+                }
+                this.count = (int) n;
+                this.ascending = (header.getInt() & FLAG_ASCENDING) != 0;
+                header.getInt();
+                this.minX = header.getDouble();
+                this.maxX = header.getDouble();
+                this.minY = header.getDouble();
+                this.maxY = header.getDouble();
+                this.x = map(channel, HEADER_SIZE, this.count);
+                this.y = map(channel, HEADER_SIZE
+                        + (long) this.count * Double.BYTES, this.count);
+            }
+        }
+
+        /**
+         * Maps a column of values in regions of up to 2^27 values.
+         *
+         * @param channel  the channel.
+         * @param position  the position of the first value.
+         * @param count  the number of values.
+         *
+         * @return The mapped regions.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        private static DoubleBuffer[] map(FileChannel channel, long position,
+                int count) throws IOException {
+            int chunks = (int) (((long) count + CHUNK_MASK) >>> CHUNK_SHIFT);
+            DoubleBuffer[] result = new DoubleBuffer[chunks];
+            for (int c = 0; c < chunks; c++) {
+                long first = (long) c << CHUNK_SHIFT;
+                long size = Math.min(count - first, 1L << CHUNK_SHIFT);
+                result[c] = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position + first * Double.BYTES,
+                        size * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                        .asDoubleBuffer();
+            }
+            return result;
+        }
+
+        /**
+         * Returns an x-value.
+         *
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        double x(int item) {
+            return this.x[item >>> CHUNK_SHIFT].get(item & CHUNK_MASK);
+        }
+
+        /**
+         * Returns a y-value.
+         *
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        double y(int item) {
+            return this.y[item >>> CHUNK_SHIFT].get(item & CHUNK_MASK);
+        }
+
+    }
+
+}
@@ -0,0 +1,708 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------
+ * XYPyramid.java
+ * --------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+
+import org.jfree.chart.internal.Args;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesChangeType;
+
+/**
+ * A multi-resolution index for the items in an {@link XYDataset}.  For each
+ * series, level {@code k} (for {@code k >= 1}) divides the items into
+ * buckets of {@code 2^k} consecutive items and records, for each bucket, the
+ * items with the lowest and highest y-values and the first and last gaps
+ * (items with a {@code NaN} x or y-value).  Each level is built from the
+ * level below it and there are half as many buckets at each level, so the
+ * index needs roughly 32 bytes per item in the series.
+ * <p>
+ * The {@link #findItems(int, int, int, int)} method uses the index to select,
+ * for a range of items, the first, lowest, highest and last item of each
+ * bucket at the coarsest level that still has the requested number of
+ * buckets.  Renderers can then draw a series with millions of items at a
+ * cost that depends only on the number of buckets (typically one or two per
+ * pixel) rather than on the number of items.  The first and last gaps in
+ * each bucket are also selected, so that lines are not drawn across gaps in
+ * the series.
+ * <p>
+ * The index is rebuilt lazily.  When registered as a listener on the
+ * dataset, a change event that describes the items changed in a series (see
+ * {@link DatasetChangeEvent#getInfo()}) invalidates only the buckets from
+ * the first changed item onwards, so that appending items to a series
+ * updates the index in time proportional to the number of new items.  Items
+ * removed from the start of a series (including the sliding window changes
+ * reported as {@link SeriesChangeType#ITEMS_SHIFTED}) are dropped from the
+ * index without rebuilding the remaining buckets.  Any other change event
+ * invalidates all the levels.
+ *
+ * @see XYPyramidInfo
+ *
+ * @since 2.0.0
+ */
+public class XYPyramid implements DatasetChangeListener {
+
+    /** The dataset. */
+    private final XYDataset dataset;
+
+    /** The index for each series (entries created on demand). */
+    private SeriesIndex[] series;
+
+    /**
+     * Creates a new index for the specified dataset.  The index does not
+     * register itself as a listener with the dataset.
+     *
+     * @param dataset  the dataset ({@code null} not permitted).
+     */
+    public XYPyramid(XYDataset dataset) {
+        Args.nullNotPermitted(dataset, "dataset");
+        this.dataset = dataset;
+        this.series = new SeriesIndex[0];
+    }
+
+    /**
+     * Returns the dataset that this index is built from.
+     *
+     * @return The dataset (never {@code null}).
+     */
+    public XYDataset getDataset() {
+        return this.dataset;
+    }
+
+    /**
+     * Invalidates the index for all series.  The index will be rebuilt when
+     * it is next used.
+     */
+    public synchronized void invalidate() {
+        this.series = new SeriesIndex[0];
+    }
+
+    /**
+     * Invalidates the index for one series, from the specified item
+     * onwards.  Call this method after items have been added to the end of
+     * a series (with the index of the first new item) or after any other
+     * change (with the index of the first item that has changed).
+     *
+     * @param series  the series index.
+     * @param fromItem  the index of the first item that has changed.
+     */
+    public synchronized void invalidate(int series, int fromItem) {
+        Args.requireNonNegative(series, "series");
+        Args.requireNonNegative(fromItem, "fromItem");
+        if (series < this.series.length && this.series[series] != null) {
+            this.series[series].invalidate(fromItem);
+        }
+    }
+
+    /**
+     * Updates the index for one series after items have been removed from
+     * the start of the series.  The buckets for the remaining items are
+     * kept, so that a series used as a sliding window (with items appended
+     * to the end and removed from the start) is updated in time
+     * proportional to the number of items appended.
+     *
+     * @param series  the series index.
+     * @param count  the number of items removed from the start of the
+     *     series.
+     */
+    public synchronized void removeFromStart(int series, int count) {
+        Args.requireNonNegative(series, "series");
+        Args.requireNonNegative(count, "count");
+        if (series < this.series.length && this.series[series] != null) {
+            this.series[series].removeFromStart(count);
+        }
+    }
+
+    /**
+     * Returns the number of levels (not including the items themselves)
+     * in the index for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The level count.
+     */
+    public synchronized int getLevelCount(int series) {
+        return getSeriesIndex(series).levelCount;
+    }
+
+    /**
+     * Returns the indices of the items in the range {@code firstItem} to
+     * {@code lastItem} (inclusive) that represent the range at the coarsest
+     * level of the index that has at least {@code minBuckets} buckets for
+     * the range.  For each bucket that lies entirely within the range, the
+     * first item, the items with the lowest and highest y-values, the first
+     * and last gaps and the last item are returned.  Buckets that are only
+     * partly within the range are split into smaller buckets, down to the
+     * individual items if necessary.
+     *
+     * @param series  the series index.
+     * @param firstItem  the index of the first item in the range.
+     * @param lastItem  the index of the last item in the range.
+     * @param minBuckets  the minimum number of buckets (for example, the
+     *     number of pixels available to draw the range).
+     *
+     * @return The item indices in ascending order, or {@code null} if no
+     *     level of the index is coarse enough to reduce the number of items.
+     */
+    public synchronized int[] findItems(int series, int firstItem,
+            int lastItem, int minBuckets) {
+        Args.requireNonNegative(firstItem, "firstItem");
+        SeriesIndex index = getSeriesIndex(series);
+        lastItem = Math.min(lastItem, index.end - index.origin - 1);
+        if (lastItem < firstItem) {
+            return new int[0];
+        }
+        int level = 0;
+        long n = lastItem - firstItem + 1;
+        while (level < index.levelCount
+                && (n >> (level + 1)) >= Math.max(minBuckets, 1)) {
+            level++;
+        }
+        if (level == 0) {
+            return null;
+        }
+        Collector collector = new Collector(
+                (int) Math.min(n, 8L * (n >> level) + 16), index.origin);
+        int first = index.origin + firstItem;
+        int last = index.origin + lastItem;
+        for (int b = first >> level; b <= last >> level; b++) {
+            index.collect(level, b, first, last, collector);
+        }
+        return collector.toArray();
+    }
+
+    /**
+     * Returns the (valid) index for a series, creating or updating it if
+     * necessary.
+     *
+     * @param series  the series index.
+     *
+     * @return The index for the series.
+     */
+    private SeriesIndex getSeriesIndex(int series) {
+        int seriesCount = this.dataset.getSeriesCount();
+        if (series < 0 || series >= seriesCount) {
+            throw new IllegalArgumentException("Invalid series index: "
+                    + series);
+        }
+        if (this.series.length != seriesCount) {
+            this.series = Arrays.copyOf(this.series, seriesCount);
+        }
+        if (this.series[series] == null) {
+            this.series[series] = new SeriesIndex(series);
+        }
+        SeriesIndex result = this.series[series];
+        result.update();
+        return result;
+    }
+
+    /**
+     * Receives notification of a change to the dataset, and invalidates the
+     * affected part of the index.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        SeriesChangeInfo info = event.getInfo();
+        if (info != null && info.getType() == SeriesChangeType.ITEMS_REMOVED
+                && info.getFirstItem() == 0) {
+            removeFromStart(event.getSeries(), info.getLastItem() + 1);
+        }
+        else if (info != null
+                && info.getType() != SeriesChangeType.SERIES_ADDED
+                && info.getType() != SeriesChangeType.SERIES_REMOVED) {
+            if (info.getType() == SeriesChangeType.ITEMS_SHIFTED) {
+                removeFromStart(event.getSeries(), info.getRemovedCount());
+            }
+            invalidate(event.getSeries(), info.getFirstItem());
+        }
+        else {
+            invalidate();
+        }
+    }
+
+    /**
+     * The levels of the index for one series.  Items are numbered from the
+     * first item indexed, so that the number of an item does not change when
+     * items are removed from the start of the series: the item at index
+     * {@code i} in the dataset is item {@code origin + i} in the index, and
+     * bucket {@code b} at level {@code k} covers the items {@code b << k} to
+     * {@code ((b + 1) << k) - 1}.  The arrays for level {@code k} hold the
+     * buckets from {@code base[k]} onwards; buckets before the one holding
+     * the {@code origin} item are discarded when the arrays are resized.
+     */
+    private final class SeriesIndex {
+
+        /**
+         * The item number at which the index is rebuilt from scratch, so
+         * that bucket limits cannot overflow.
+         */
+        private static final int MAX_ITEM = 1 << 30;
+
+        /** The series index. */
+        private final int series;
+
+        /** The number of the item at index 0 in the series. */
+        private int origin;
+
+        /**
+         * The number of the item after the last item in the series when the
+         * index was built.
+         */
+        private int end;
+
+        /** The number of levels that are in use. */
+        private int levelCount;
+
+        /** The number of the first item changed since the index was built. */
+        private int validTo;
+
+        /** The number of the first bucket in the arrays, per level. */
+        private int[] base;
+
+        /** The item with the lowest y-value in each bucket, per level. */
+        private int[][] lowItems;
+
+        /** The item with the highest y-value in each bucket, per level. */
+        private int[][] highItems;
+
+        /** The lowest y-value in each bucket, per level. */
+        private double[][] lowValues;
+
+        /** The highest y-value in each bucket, per level. */
+        private double[][] highValues;
+
+        /** The first gap in each bucket (-1 if none), per level. */
+        private int[][] firstGaps;
+
+        /** The last gap in each bucket (-1 if none), per level. */
+        private int[][] lastGaps;
+
+        /**
+         * Creates an (invalid) index for a series.
+         *
+         * @param series  the series index.
+         */
+        SeriesIndex(int series) {
+            this.series = series;
+            this.base = new int[1];
+            this.lowItems = new int[1][];
+            this.highItems = new int[1][];
+            this.lowValues = new double[1][];
+            this.highValues = new double[1][];
+            this.firstGaps = new int[1][];
+            this.lastGaps = new int[1][];
+            this.validTo = 0;
+        }
+
+        /**
+         * Invalidates the buckets that contain or follow an item.
+         *
+         * @param item  the item index.
+         */
+        void invalidate(int item) {
+            this.validTo = Math.min(this.validTo, this.origin + item);
+        }
+
+        /**
+         * Drops items from the start of the index.  The buckets that hold
+         * only items after the removed items remain valid, and the buckets
+         * that hold both are never used by
+         * {@link #collect(int, int, int, int, Collector)} (they are always
+         * split into smaller buckets), so no buckets need to be rebuilt.
+         *
+         * @param count  the number of items removed from the series.
+         */
+        void removeFromStart(int count) {
+            this.origin += count;
+        }
+
+        /**
+         * Rebuilds the buckets that have been invalidated or that cover
+         * items added since the index was last updated.
+         */
+        void update() {
+            int n = XYPyramid.this.dataset.getItemCount(this.series);
+            if ((long) this.origin + n > MAX_ITEM) {
+                this.origin = 0;
+                this.end = 0;
+                this.levelCount = 0;
+                this.validTo = 0;
+            }
+            int newEnd = this.origin + n;
+            if (newEnd == this.end && this.validTo >= newEnd) {
+                return;
+            }
+            // the bucket holding the last item may have gained or lost items
+            int from = Math.max(this.origin, Math.min(this.validTo,
+                    Math.min(newEnd - 1, this.end)));
+            int oldLevelCount = this.levelCount;
+            this.end = newEnd;
+            int levels = 0;
+            while (((n - 1) >> (levels + 1)) > 0) {
+                levels++;
+            }
+            ensureLevels(levels);
+            this.levelCount = levels;
+            for (int k = 1; k <= levels; k++) {
+                int lastBucket = (newEnd - 1) >> k;
+                int first;
+                if (k > oldLevelCount) {
+                    first = this.origin >> k;
+                    this.base[k] = first;
+                }
+                else {
+                    first = from >> k;
+                }
+                ensureCapacity(k, lastBucket);
+                for (int b = first; b <= lastBucket; b++) {
+                    if (k == 1) {
+                        buildFromItems(b);
+                    }
+                    else {
+                        buildFromBuckets(k, b);
+                    }
+                }
+            }
+            this.validTo = Integer.MAX_VALUE;
+        }
+
+        /**
+         * Builds a level 1 bucket from the items in the dataset.
+         *
+         * @param b  the bucket number.
+         */
+        private void buildFromItems(int b) {
+            XYDataset d = XYPyramid.this.dataset;
+            int start = Math.max(b << 1, this.origin);
+            int end = Math.min((b << 1) + 1, this.end - 1);
+            int low = -1;
+            int high = -1;
+            double lowY = Double.NaN;
+            double highY = Double.NaN;
+            int firstGap = -1;
+            int lastGap = -1;
+            for (int i = start; i <= end; i++) {
+                int item = i - this.origin;
+                double y = d.getYValue(this.series, item);
+                if (Double.isNaN(y) || Double.isNaN(d.getXValue(this.series,
+                        item))) {
+                    if (firstGap < 0) {
+                        firstGap = i;
+                    }
+                    lastGap = i;
+                    continue;
+                }
+                if (low < 0 || y < lowY) {
+                    low = i;
+                    lowY = y;
+                }
+                if (high < 0 || y > highY) {
+                    high = i;
+                    highY = y;
+                }
+            }
+            set(1, b, low, lowY, high, highY, firstGap, lastGap);
+        }
+
+        /**
+         * Builds a bucket from the (one or two) buckets below it.
+         *
+         * @param k  the level (&gt; 1).
+         * @param b  the bucket number.
+         */
+        private void buildFromBuckets(int k, int b) {
+            int[] lows = this.lowItems[k - 1];
+            int[] highs = this.highItems[k - 1];
+            double[] lowYs = this.lowValues[k - 1];
+            double[] highYs = this.highValues[k - 1];
+            int low = -1;
+            int high = -1;
+            double lowY = Double.NaN;
+            double highY = Double.NaN;
+            int firstGap = -1;
+            int lastGap = -1;
+            int c0 = Math.max(b << 1, this.origin >> (k - 1));
+            int c1 = Math.min((b << 1) + 1, (this.end - 1) >> (k - 1));
+            for (int c = c0; c <= c1; c++) {
+                int i = c - this.base[k - 1];
+                if (lows[i] >= 0 && (low < 0 || lowYs[i] < lowY)) {
+                    low = lows[i];
+                    lowY = lowYs[i];
+                }
+                if (highs[i] >= 0 && (high < 0 || highYs[i] > highY)) {
+                    high = highs[i];
+                    highY = highYs[i];
+                }
+                if (firstGap < 0) {
+                    firstGap = this.firstGaps[k - 1][i];
+                }
+                if (this.lastGaps[k - 1][i] >= 0) {
+                    lastGap = this.lastGaps[k - 1][i];
+                }
+            }
+            set(k, b, low, lowY, high, highY, firstGap, lastGap);
+        }
+
+        /**
+         * Stores the values for one bucket.
+         *
+         * @param k  the level.
+         * @param b  the bucket number.
+         * @param low  the item with the lowest y-value (-1 if none).
+         * @param lowY  the lowest y-value.
+         * @param high  the item with the highest y-value (-1 if none).
+         * @param highY  the highest y-value.
+         * @param firstGap  the first gap (-1 if none).
+         * @param lastGap  the last gap (-1 if none).
+         */
+        private void set(int k, int b, int low, double lowY, int high,
+                double highY, int firstGap, int lastGap) {
+            int i = b - this.base[k];
+            this.lowItems[k][i] = low;
+            this.lowValues[k][i] = lowY;
+            this.highItems[k][i] = high;
+            this.highValues[k][i] = highY;
+            this.firstGaps[k][i] = firstGap;
+            this.lastGaps[k][i] = lastGap;
+        }
+
+        /**
+         * Ensures that the arrays can hold the specified number of levels.
+         *
+         * @param levels  the number of levels.
+         */
+        private void ensureLevels(int levels) {
+            if (this.lowItems.length <= levels) {
+                this.base = Arrays.copyOf(this.base, levels + 1);
+                this.lowItems = Arrays.copyOf(this.lowItems, levels + 1);
+                this.highItems = Arrays.copyOf(this.highItems, levels + 1);
+                this.lowValues = Arrays.copyOf(this.lowValues, levels + 1);
+                this.highValues = Arrays.copyOf(this.highValues, levels + 1);
+                this.firstGaps = Arrays.copyOf(this.firstGaps, levels + 1);
+                this.lastGaps = Arrays.copyOf(this.lastGaps, levels + 1);
+            }
+        }
+
+        /**
+         * Ensures that a level can hold the buckets up to the specified
+         * bucket.  When the arrays are full, the buckets before the one
+         * holding the origin item are discarded, and the arrays are grown
+         * (with some spare capacity for appended items) only if that does
+         * not free at least half of the space.
+         *
+         * @param k  the level.
+         * @param lastBucket  the number of the last bucket.
+         */
+        private void ensureCapacity(int k, int lastBucket) {
+            int first = this.origin >> k;
+            if (this.lowItems[k] == null) {
+                int capacity = Math.max(lastBucket - first + 1, 8);
+                this.lowItems[k] = new int[capacity];
+                this.highItems[k] = new int[capacity];
+                this.lowValues[k] = new double[capacity];
+                this.highValues[k] = new double[capacity];
+                this.firstGaps[k] = new int[capacity];
+                this.lastGaps[k] = new int[capacity];
+                this.base[k] = first;
+                return;
+            }
+            int length = this.lowItems[k].length;
+            if (lastBucket - this.base[k] < length) {
+                return;
+            }
+            int dead = first - this.base[k];
+            int live = lastBucket - first + 1;
+            int capacity = length;
+            if (live > (length >> 1)) {
+                capacity = Math.max(live, length + (length >> 1));
+            }
+            this.lowItems[k] = move(this.lowItems[k], dead, capacity);
+            this.highItems[k] = move(this.highItems[k], dead, capacity);
+            this.lowValues[k] = move(this.lowValues[k], dead, capacity);
+            this.highValues[k] = move(this.highValues[k], dead, capacity);
+            this.firstGaps[k] = move(this.firstGaps[k], dead, capacity);
+            this.lastGaps[k] = move(this.lastGaps[k], dead, capacity);
+            this.base[k] = first;
+        }
+
+        /**
+         * Adds the items that represent a bucket (or the part of it within
+         * the range {@code firstItem} to {@code lastItem}) to a collector.
+         *
+         * @param k  the level (0 for an individual item).
+         * @param b  the bucket number.
+         * @param firstItem  the number of the first item in the range.
+         * @param lastItem  the number of the last item in the range.
+         * @param collector  the collector.
+         */
+        void collect(int k, int b, int firstItem, int lastItem,
+                Collector collector) {
+            int start = b << k;
+            int end = Math.min(((b + 1) << k) - 1, this.end - 1);
+            if (end < firstItem || start > lastItem) {
+                return;
+            }
+            if (k == 0) {
+                collector.add(start);
+                return;
+            }
+            if (start < firstItem || end > lastItem) {
+                collect(k - 1, b << 1, firstItem, lastItem, collector);
+                collect(k - 1, (b << 1) + 1, firstItem, lastItem, collector);
+                return;
+            }
+            int i = b - this.base[k];
+            collector.addSorted(start, this.lowItems[k][i],
+                    this.highItems[k][i], this.firstGaps[k][i],
+                    this.lastGaps[k][i], end);
+        }
+
+    }
+
+    /**
+     * Copies the elements of an array, after skipping the specified number
+     * of elements, to the start of an array with the specified length.
+     *
+     * @param array  the array.
+     * @param skip  the number of elements to skip (may exceed the length of
+     *     the array).
+     * @param length  the length of the result.
+     *
+     * @return The array (the same array if the length is unchanged).
+     */
+    private static int[] move(int[] array, int skip, int length) {
+        int[] result = length == array.length ? array : new int[length];
+        if (skip < array.length) {
+            System.arraycopy(array, skip, result, 0, array.length - skip);
+        }
+        return result;
+    }
+
+    /**
+     * Copies the elements of an array, after skipping the specified number
+     * of elements, to the start of an array with the specified length.
+     *
+     * @param array  the array.
+     * @param skip  the number of elements to skip (may exceed the length of
+     *     the array).
+     * @param length  the length of the result.
+     *
+     * @return The array (the same array if the length is unchanged).
+     */
+    private static double[] move(double[] array, int skip, int length) {
+        double[] result = length == array.length ? array : new double[length];
+        if (skip < array.length) {
+            System.arraycopy(array, skip, result, 0, array.length - skip);
+        }
+        return result;
+    }
+
+    /**
+     * Collects item indices in ascending order, ignoring duplicates.
+     */
+    private static final class Collector {
+
+        /** The item number for the item at index 0 in the series. */
+        private final int origin;
+
+        /** The items. */
+        private int[] items;
+
+        /** The number of items. */
+        private int count;
+
+        /**
+         * Creates a new collector.
+         *
+         * @param capacity  the initial capacity.
+         * @param origin  the item number for the item at index 0 in the
+         *     series (subtracted from the item numbers added).
+         */
+        Collector(int capacity, int origin) {
+            this.items = new int[Math.max(capacity, 4)];
+            this.origin = origin;
+        }
+
+        /**
+         * Adds an item, unless it is the same as the last item added.
+         *
+         * @param item  the item number.
+         */
+        void add(int item) {
+            int index = item - this.origin;
+            if (this.count > 0 && this.items[this.count - 1] == index) {
+                return;
+            }
+            if (this.count == this.items.length) {
+                this.items = Arrays.copyOf(this.items, this.count * 2);
+            }
+            this.items[this.count++] = index;
+        }
+
+        /**
+         * Adds a group of items in ascending order, ignoring negative values
+         * and duplicates.
+         *
+         * @param group  the items (all greater than the last item added,
+         *     except for negative values).
+         */
+        void addSorted(int... group) {
+            Arrays.sort(group);
+            for (int item : group) {
+                if (item >= 0) {
+                    add(item);
+                }
+            }
+        }
+
+        /**
+         * Returns the collected items.
+         *
+         * @return The items.
+         */
+        int[] toArray() {
+            return Arrays.copyOf(this.items, this.count);
+        }
+
+    }
+
+}
@@ -40,6 +40,8 @@
 
 package org.jfree.data.xy;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -49,8 +51,10 @@ import java.util.Objects;
 import org.jfree.chart.internal.Args;
 import org.jfree.chart.internal.CloneUtils;
 
+import org.jfree.data.general.MinMaxTracker;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesException;
 
 /**
@@ -85,17 +89,14 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     /** A flag that controls whether or not duplicate x-values are allowed. */
     private boolean allowDuplicateXValues;
 
-    /** The lowest x-value in the series, excluding Double.NaN values. */
-    private double minX;
-
-    /** The highest x-value in the series, excluding Double.NaN values. */
-    private double maxX;
-
-    /** The lowest y-value in the series, excluding Double.NaN values. */
-    private double minY;
+    /**
+     * Tracks the bounds of the x-values (only used when the series is not
+     * sorted, otherwise the bounds come from the first and last items).
+     */
+    private transient MinMaxTracker xTracker;
 
-    /** The highest y-value in the series, excluding Double.NaN values. */
-    private double maxY;
+    /** Tracks the bounds of the y-values. */
+    private transient MinMaxTracker yTracker;
 
     /**
      * Creates a new empty series.  By default, items added to the series will
@@ -135,10 +136,36 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         this.data = new java.util.ArrayList<>();
         this.autoSort = autoSort;
         this.allowDuplicateXValues = allowDuplicateXValues;
-        this.minX = Double.NaN;
-        this.maxX = Double.NaN;
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
+        createTrackers();
+    }
+
+    /**
+     * Creates the trackers for the bounds of the x and y-values, which are
+     * then reset to match the current data items.
+     */
+    private void createTrackers() {
+        this.xTracker = new MinMaxTracker(i -> getXValue(i));
+        this.yTracker = new MinMaxTracker(i -> getYValue(i));
+        boolean slidingWindow = this.maximumItemCount < Integer.MAX_VALUE;
+        this.xTracker.setSlidingWindow(slidingWindow && !this.autoSort);
+        this.yTracker.setSlidingWindow(slidingWindow);
+        resetBounds();
+    }
+
+    /**
+     * Resets the bounds trackers after a change to the data items that cannot
+     * be described item by item.
+     */
+    void resetBounds() {
+        int count = getItemCount();
+        if (count == 0) {
+            this.xTracker.clear();
+            this.yTracker.clear();
+        }
+        else {
+            this.xTracker.reset(count);
+            this.yTracker.reset(count);
+        }
     }
 
     /**
@@ -153,7 +180,17 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     public double getMinX() {
-        return this.minX;
+        if (this.autoSort) {
+            int count = getItemCount();
+            for (int i = 0; i < count; i++) {
+                double x = getXValue(i);
+                if (!Double.isNaN(x)) {
+                    return x;
+                }
+            }
+            return Double.NaN;
+        }
+        return this.xTracker.getMin();
     }
 
     /**
@@ -168,7 +205,16 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     public double getMaxX() {
-        return this.maxX;
+        if (this.autoSort) {
+            for (int i = getItemCount() - 1; i >= 0; i--) {
+                double x = getXValue(i);
+                if (!Double.isNaN(x)) {
+                    return x;
+                }
+            }
+            return Double.NaN;
+        }
+        return this.xTracker.getMax();
     }
 
     /**
@@ -183,7 +229,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     public double getMinY() {
-        return this.minY;
+        return this.yTracker.getMin();
     }
 
     /**
@@ -198,80 +244,47 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      * @since 1.0.13
      */
     public double getMaxY() {
-        return this.maxY;
+        return this.yTracker.getMax();
     }
 
     /**
-     * Updates the cached values for the minimum and maximum data values.
+     * Updates the bounds trackers for an item that has just been added.
      *
-     * @param item  the item added ({@code null} not permitted).
-     *
-     * @since 1.0.13
+     * @param index  the index of the new item.
+     * @param x  the x-value added.
+     * @param y  the y-value added.
      */
-    private void updateBoundsForAddedItem(XYDataItem item) {
-        double x = item.getXValue();
-        this.minX = minIgnoreNaN(this.minX, x);
-        this.maxX = maxIgnoreNaN(this.maxX, x);
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            this.minY = minIgnoreNaN(this.minY, y);
-            this.maxY = maxIgnoreNaN(this.maxY, y);
+    void updateBoundsForAddedItem(int index, double x, double y) {
+        if (!this.autoSort) {
+            this.xTracker.itemAdded(index, x);
         }
+        this.yTracker.itemAdded(index, y);
     }
 
     /**
-     * Updates the cached values for the minimum and maximum data values on
-     * the basis that the specified item has just been removed.
+     * Updates the bounds trackers for an item that has just been removed.
      *
-     * @param item  the item added ({@code null} not permitted).
-     *
-     * @since 1.0.13
+     * @param index  the index that the item had in the series.
+     * @param x  the x-value removed.
+     * @param y  the y-value removed.
      */
-    private void updateBoundsForRemovedItem(XYDataItem item) {
-        boolean itemContributesToXBounds = false;
-        boolean itemContributesToYBounds = false;
-        double x = item.getXValue();
-        if (!Double.isNaN(x)) {
-            if (x <= this.minX || x >= this.maxX) {
-                itemContributesToXBounds = true;
-            }
-        }
-        if (item.getY() != null) {
-            double y = item.getYValue();
-            if (!Double.isNaN(y)) {
-                if (y <= this.minY || y >= this.maxY) {
-                    itemContributesToYBounds = true;
-                }
-            }
-        }
-        if (itemContributesToYBounds) {
-            findBoundsByIteration();
-        }
-        else if (itemContributesToXBounds) {
-            if (getAutoSort()) {
-                this.minX = getX(0).doubleValue();
-                this.maxX = getX(getItemCount() - 1).doubleValue();
-            }
-            else {
-                findBoundsByIteration();
-            }
+    void updateBoundsForRemovedItem(int index, double x, double y) {
+        if (!this.autoSort) {
+            this.xTracker.itemRemoved(index, x);
         }
+        this.yTracker.itemRemoved(index, y);
     }
 
     /**
-     * Finds the bounds of the x and y values for the series, by iterating
-     * through all the data items.
+     * Updates the bounds trackers for an item with a y-value that has just
+     * been changed.
      *
-     * @since 1.0.13
+     * @param index  the item index.
+     * @param oldY  the old y-value.
+     * @param newY  the new y-value.
      */
-    private void findBoundsByIteration() {
-        this.minX = Double.NaN;
-        this.maxX = Double.NaN;
-        this.minY = Double.NaN;
-        this.maxY = Double.NaN;
-        for (XYDataItem item : this.data) {
-            updateBoundsForAddedItem(item);
-        }
+    void updateBoundsForChangedItem(int index, double oldY, double newY) {
+        this.yTracker.itemChanged(index, oldY, newY);
     }
 
     /**
@@ -345,11 +358,14 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void setMaximumItemCount(int maximum) {
         this.maximumItemCount = maximum;
+        boolean slidingWindow = maximum < Integer.MAX_VALUE;
+        this.xTracker.setSlidingWindow(slidingWindow && !this.autoSort);
+        this.yTracker.setSlidingWindow(slidingWindow);
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
-            findBoundsByIteration();
-            fireSeriesChanged();
+            resetBounds();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, remove - 1));
         }
     }
 
@@ -466,10 +482,12 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public void add(XYDataItem item, boolean notify) {
         Args.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
+        int position = this.data.size();
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
-                this.data.add(-index - 1, item);
+                position = -index - 1;
+                this.data.add(position, item);
             }
             else {
                 if (this.allowDuplicateXValues) {
@@ -479,6 +497,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
                             this.data.get(index)) == 0) {
                         index++;
                     }
+                    position = index;
                     if (index < this.data.size()) {
                         this.data.add(index, item);
                     }
@@ -502,13 +521,18 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             }
             this.data.add(item);
         }
-        updateBoundsForAddedItem(item);
-        if (getItemCount() > this.maximumItemCount) {
+        updateBoundsForAddedItem(position, item.getXValue(),
+                item.getYValue());
+        int count = getItemCount();
+        if (count > this.maximumItemCount) {
             XYDataItem removed = this.data.remove(0);
-            updateBoundsForRemovedItem(removed);
+            updateBoundsForRemovedItem(0, removed.getXValue(),
+                    removed.getYValue());
         }
+        SeriesChangeInfo info = SeriesChangeInfo.itemAdded(position, count,
+                count - getItemCount());
         if (notify) {
-            fireSeriesChanged();
+            fireSeriesChanged(info);
         }
     }
 
@@ -521,8 +545,8 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
-        findBoundsByIteration();
-        fireSeriesChanged();
+        resetBounds();
+        fireSeriesChanged(SeriesChangeInfo.itemsRemoved(start, end));
     }
 
     /**
@@ -535,8 +559,9 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = this.data.remove(index);
-        updateBoundsForRemovedItem(removed);
-        fireSeriesChanged();
+        updateBoundsForRemovedItem(index, removed.getXValue(),
+                removed.getYValue());
+        fireSeriesChanged(SeriesChangeInfo.itemsRemoved(index, index));
         return removed;
     }
 
@@ -560,12 +585,11 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void clear() {
         if (this.data.size() > 0) {
+            int count = this.data.size();
             this.data.clear();
-            this.minX = Double.NaN;
-            this.maxX = Double.NaN;
-            this.minY = Double.NaN;
-            this.maxY = Double.NaN;
-            fireSeriesChanged();
+            this.xTracker.clear();
+            this.yTracker.clear();
+            fireSeriesChanged(SeriesChangeInfo.itemsRemoved(0, count - 1));
         }
     }
 
@@ -617,41 +641,32 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     }
 
     /**
-     * A function to find the minimum of two values, but ignoring any
-     * Double.NaN values.
+     * Returns the x-value at the specified index as a {@code double}
+     * primitive.
+     *
+     * @param index  the index (zero-based).
      *
-     * @param a  the first value.
-     * @param b  the second value.
+     * @return The x-value.
      *
-     * @return The minimum of the two values.
+     * @since 2.0.0
      */
-    private double minIgnoreNaN(double a, double b) {
-        if (Double.isNaN(a)) {
-            return b;
-        }
-        if (Double.isNaN(b)) {
-            return a;
-        }
-        return Math.min(a, b);
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
     }
 
     /**
-     * A function to find the maximum of two values, but ignoring any
-     * Double.NaN values.
+     * Returns the y-value at the specified index as a {@code double}
+     * primitive.
+     *
+     * @param index  the index (zero-based).
      *
-     * @param a  the first value.
-     * @param b  the second value.
+     * @return The y-value ({@code Double.NaN} if the y-value is
+     *     {@code null}).
      *
-     * @return The maximum of the two values.
+     * @since 2.0.0
      */
-    private double maxIgnoreNaN(double a, double b) {
-        if (Double.isNaN(a)) {
-            return b;
-        }
-        if (Double.isNaN(b)) {
-            return a;
-        }
-        return Math.max(a, b);
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
     }
 
     /**
@@ -665,24 +680,10 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
      */
     public void updateByIndex(int index, Number y) {
         XYDataItem item = getRawDataItem(index);
-
-        // figure out if we need to iterate through all the y-values
-        boolean iterate = false;
         double oldY = item.getYValue();
-        if (!Double.isNaN(oldY)) {
-            iterate = oldY <= this.minY || oldY >= this.maxY;
-        }
         item.setY(y);
-
-        if (iterate) {
-            findBoundsByIteration();
-        }
-        else if (y != null) {
-            double yy = y.doubleValue();
-            this.minY = minIgnoreNaN(this.minY, yy);
-            this.maxY = maxIgnoreNaN(this.maxY, yy);
-        }
-        fireSeriesChanged();
+        updateBoundsForChangedItem(index, oldY, item.getYValue());
+        fireSeriesChanged(SeriesChangeInfo.itemsUpdated(index, index));
     }
 
     /**
@@ -752,26 +753,15 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
         // if we get to here, we know that duplicate X values are not permitted
         XYDataItem overwritten = null;
+        SeriesChangeInfo info;
         int index = indexOf(item.getX());
         if (index >= 0) {
             XYDataItem existing = this.data.get(index);
             overwritten = (XYDataItem) existing.clone();
-            // figure out if we need to iterate through all the y-values
-            boolean iterate = false;
             double oldY = existing.getYValue();
-            if (!Double.isNaN(oldY)) {
-                iterate = oldY <= this.minY || oldY >= this.maxY;
-            }
             existing.setY(item.getY());
-
-            if (iterate) {
-                findBoundsByIteration();
-            }
-            else if (item.getY() != null) {
-                double yy = item.getY().doubleValue();
-                this.minY = minIgnoreNaN(this.minY, yy);
-                this.maxY = maxIgnoreNaN(this.maxY, yy);
-            }
+            updateBoundsForChangedItem(index, oldY, existing.getYValue());
+            info = SeriesChangeInfo.itemsUpdated(index, index);
         }
         else {
             // if the series is sorted, the negative index is a result from
@@ -779,21 +769,22 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = (XYDataItem) item.clone();
-            if (this.autoSort) {
-                this.data.add(-index - 1, item);
-            }
-            else {
-                this.data.add(item);
-            }
-            updateBoundsForAddedItem(item);
+            int position = this.autoSort ? -index - 1 : this.data.size();
+            this.data.add(position, item);
+            updateBoundsForAddedItem(position, item.getXValue(),
+                    item.getYValue());
 
             // check if this addition will exceed the maximum item count...
-            if (getItemCount() > this.maximumItemCount) {
+            int count = getItemCount();
+            if (count > this.maximumItemCount) {
                 XYDataItem removed = this.data.remove(0);
-                updateBoundsForRemovedItem(removed);
+                updateBoundsForRemovedItem(0, removed.getXValue(),
+                        removed.getYValue());
             }
+            info = SeriesChangeInfo.itemAdded(position, count,
+                    count - getItemCount());
         }
-        fireSeriesChanged();
+        fireSeriesChanged(info);
         return overwritten;
     }
 
@@ -857,6 +848,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
     public Object clone() throws CloneNotSupportedException {
         XYSeries<K> clone = (XYSeries) super.clone();
         clone.data = CloneUtils.cloneList(this.data);
+        clone.createTrackers();
         return clone;
     }
 
@@ -876,6 +868,7 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
         XYSeries<K> copy = (XYSeries) super.clone();
         copy.data = new ArrayList<>();
+        copy.createTrackers();
         if (!this.data.isEmpty()) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = this.data.get(index);
@@ -893,6 +886,20 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
 
     }
 
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        createTrackers();
+    }
+
     /**
      * Tests this series for equality with an arbitrary object.
      *
@@ -910,6 +917,12 @@ public class XYSeries<K extends Comparable<K>> extends Series<K>
         if (!(obj instanceof XYSeries)) {
             return false;
         }
+        // a columnar series stores its items in arrays rather than in the
+        // data list, and is only ever equal to another columnar series
+        if (obj instanceof ColumnarXYSeries
+                && !(this instanceof ColumnarXYSeries)) {
+            return false;
+        }
         if (!super.equals(obj)) {
             return false;
         }
@@ -59,6 +59,7 @@ import org.jfree.data.UnknownKeyException;
 import org.jfree.data.gantt.TaskSeries;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.Series;
+import org.jfree.data.general.SeriesChangeInfo;
 
 /**
  * Represents a collection of {@link XYSeries} objects that can be used as a
@@ -67,7 +68,7 @@ import org.jfree.data.general.Series;
 public class XYSeriesCollection<S extends Comparable<S>> 
         extends AbstractIntervalXYDataset<S>
         implements IntervalXYDataset<S>, DomainInfo, RangeInfo, 
-        VetoableChangeListener, PublicCloneable, Serializable {
+        XYPyramidInfo, VetoableChangeListener, PublicCloneable, Serializable {
 
     /** For serialization. */
     private static final long serialVersionUID = -7590013825931496766L;
@@ -78,6 +79,15 @@ public class XYSeriesCollection<S extends Comparable<S>>
     /** The interval delegate (used to calculate the start and end x-values). */
     private IntervalXYDelegate intervalDelegate;
 
+    /**
+     * A flag that controls whether or not the collection maintains a
+     * multi-resolution index of its items.
+     */
+    private boolean pyramidEnabled;
+
+    /** The multi-resolution index ({@code null} if not enabled). */
+    private transient XYPyramid pyramid;
+
     /**
      * Constructs an empty dataset.
      */
@@ -135,7 +145,8 @@ public class XYSeriesCollection<S extends Comparable<S>>
         }
         this.data.add(series);
         series.addChangeListener(this);
-        fireDatasetChanged();
+        fireDatasetChanged(this.data.size() - 1,
+                SeriesChangeInfo.seriesAdded());
     }
 
     /**
@@ -160,10 +171,11 @@ public class XYSeriesCollection<S extends Comparable<S>>
      */
     public void removeSeries(XYSeries<S> series) {
         Args.nullNotPermitted(series, "series");
-        if (this.data.contains(series)) {
+        int index = this.data.indexOf(series);
+        if (index >= 0) {
             series.removeChangeListener(this);
-            this.data.remove(series);
-            fireDatasetChanged();
+            this.data.remove(index);
+            fireDatasetChanged(index, SeriesChangeInfo.seriesRemoved());
         }
     }
 
@@ -221,6 +233,24 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return this.data.indexOf(series);
     }
 
+    /**
+     * Returns the index of the specified series object (compared by
+     * identity), or -1.
+     *
+     * @param series  the series ({@code null} not permitted).
+     *
+     * @return The index (or -1 if the series is not in the collection).
+     */
+    @Override
+    protected int indexOfSeries(Object series) {
+        for (int i = 0; i < this.data.size(); i++) {
+            if (this.data.get(i) == series) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * Returns a series from the collection.
      *
@@ -327,6 +357,36 @@ public class XYSeriesCollection<S extends Comparable<S>>
         return s.getX(item);
     }
 
+    /**
+     * Returns the x-value for the specified series and item as a
+     * {@code double} primitive.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        XYSeries<S> s = this.data.get(series);
+        return s.getXValue(item);
+    }
+
+    /**
+     * Returns the y-value for the specified series and item as a
+     * {@code double} primitive.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value ({@code Double.NaN} for a missing value).
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        XYSeries<S> s = this.data.get(series);
+        return s.getYValue(item);
+    }
+
     /**
      * Returns the starting X value for the specified series and item.
      *
@@ -412,6 +472,9 @@ public class XYSeriesCollection<S extends Comparable<S>>
         if (!this.intervalDelegate.equals(that.intervalDelegate)) {
             return false;
         }
+        if (this.pyramidEnabled != that.pyramidEnabled) {
+            return false;
+        }
         return Objects.equals(this.data, that.data);
     }
 
@@ -428,6 +491,7 @@ public class XYSeriesCollection<S extends Comparable<S>>
         clone.data = CloneUtils.cloneList(this.data);
         clone.intervalDelegate
                 = (IntervalXYDelegate) this.intervalDelegate.clone();
+        clone.pyramid = this.pyramidEnabled ? new XYPyramid(clone) : null;
         return clone;
     }
 
@@ -441,6 +505,7 @@ public class XYSeriesCollection<S extends Comparable<S>>
         int hash = 5;
         hash = HashUtils.hashCode(hash, this.intervalDelegate);
         hash = HashUtils.hashCode(hash, this.data);
+        hash = HashUtils.hashCode(hash, this.pyramidEnabled);
         return hash;
     }
 
@@ -609,6 +674,66 @@ public class XYSeriesCollection<S extends Comparable<S>>
         fireDatasetChanged();
     }
 
+    /**
+     * Returns the flag that controls whether or not the collection maintains
+     * a multi-resolution index of its items.  The default value is
+     * {@code false}.
+     *
+     * @return A boolean.
+     *
+     * @see #setPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    public boolean isPyramidEnabled() {
+        return this.pyramidEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the collection maintains
+     * a multi-resolution index of its items (see {@link XYPyramid}) and
+     * sends a {@link DatasetChangeEvent} to all registered listeners.  The
+     * index speeds up the rendering of series that have many more items than
+     * there are pixels available, at the cost of some additional memory.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @since 2.0.0
+     */
+    public void setPyramidEnabled(boolean enabled) {
+        this.pyramidEnabled = enabled;
+        this.pyramid = enabled ? new XYPyramid(this) : null;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the multi-resolution index for the collection.
+     *
+     * @return The index ({@code null} if the index is not enabled).
+     *
+     * @see #setPyramidEnabled(boolean)
+     *
+     * @since 2.0.0
+     */
+    @Override
+    public XYPyramid getPyramid() {
+        return this.pyramid;
+    }
+
+    /**
+     * Updates the multi-resolution index (if there is one) and then
+     * notifies all registered listeners that the dataset has changed.
+     *
+     * @param event  contains information about the event.
+     */
+    @Override
+    protected void notifyListeners(DatasetChangeEvent event) {
+        if (this.pyramid != null) {
+            this.pyramid.datasetChanged(event);
+        }
+        super.notifyListeners(event);
+    }
+
     /**
      * Returns the range of the values in this dataset's range.
      *
@@ -752,5 +877,6 @@ public class XYSeriesCollection<S extends Comparable<S>>
             XYSeries<S> series = (XYSeries<S>) item;
             series.addChangeListener(this);
         }
+        this.pyramid = this.pyramidEnabled ? new XYPyramid(this) : null;
     }
 }
@@ -0,0 +1,207 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartRenderServiceTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.imageio.ImageIO;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartRenderService} class.
+ */
+public class ChartRenderServiceTest {
+
+    /**
+     * Creates a chart.
+     *
+     * @param n  the chart number.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createChart(int n) {
+        XYSeries<String> series = new XYSeries<>("S" + n);
+        for (int i = 0; i < 20; i++) {
+            series.add(i, (i * (n + 3)) % 7);
+        }
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart("Chart " + n, plot);
+        // alternate opaque and transparent backgrounds, to check that the
+        // pooled images are cleared
+        chart.setBackgroundPaint(n % 2 == 0 ? Color.YELLOW : null);
+        plot.setBackgroundPaint(null);
+        return chart;
+    }
+
+    /**
+     * Checks that two encoded images have the same pixels.
+     *
+     * @param expected  the expected image.
+     * @param actual  the actual image.
+     */
+    private static void assertSameImage(byte[] expected, byte[] actual)
+            throws IOException {
+        BufferedImage i1 = ImageIO.read(new ByteArrayInputStream(expected));
+        BufferedImage i2 = ImageIO.read(new ByteArrayInputStream(actual));
+        assertEquals(i1.getWidth(), i2.getWidth());
+        assertEquals(i1.getHeight(), i2.getHeight());
+        for (int x = 0; x < i1.getWidth(); x++) {
+            for (int y = 0; y < i1.getHeight(); y++) {
+                assertEquals(i1.getRGB(x, y), i2.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * The rendered images match the images written by {@link ChartUtils},
+     * and the image pool stays within its limit.
+     */
+    @Test
+    public void testRenderAll() throws Exception {
+        List<JFreeChart> charts = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            charts.add(createChart(i));
+        }
+        try (ChartRenderService service = new ChartRenderService(3)) {
+            service.setEncodeAlpha(true);
+            for (int[] size : new int[][] {{300, 200}, {200, 150}}) {
+                List<ChartRenderService.Result> results = service.renderAll(
+                        charts, size[0], size[1]);
+                assertEquals(charts.size(), results.size());
+                for (int i = 0; i < charts.size(); i++) {
+                    ChartRenderService.Result r = results.get(i);
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    ChartUtils.writeChartAsPNG(out, charts.get(i), size[0],
+                            size[1], null, true, 9);
+                    assertSameImage(out.toByteArray(), r.getBytes());
+                    assertTrue(r.getQueueNanos() >= 0);
+                    assertTrue(r.getDrawNanos() > 0);
+                    assertTrue(r.getEncodeNanos() > 0);
+                }
+            }
+            assertTrue(service.getPooledImageCount() > 0);
+            assertTrue(service.getPooledImageCount()
+                    <= service.getMaxPooledImages());
+            service.clearImagePool();
+            assertEquals(0, service.getPooledImageCount());
+        }
+    }
+
+    /**
+     * The quality setting applies to JPEG only, so PNG images are written
+     * with the encoder's default compression level.
+     */
+    @Test
+    public void testSubmitPNG() throws Exception {
+        JFreeChart chart = createChart(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartUtils.writeChartAsPNG(out, chart, 200, 100, null, true, 4);
+        try (ChartRenderService service = new ChartRenderService(1)) {
+            service.setEncodeAlpha(true);
+            byte[] b1 = service.submit(chart, 200, 100).get().getBytes();
+            assertArrayEquals(out.toByteArray(), b1);
+            service.setQuality(0.0f);
+            byte[] b2 = service.submit(chart, 200, 100).get().getBytes();
+            assertArrayEquals(b1, b2);
+        }
+    }
+
+    /**
+     * Images from renders that finish after the service is closed are not
+     * returned to the pool.
+     */
+    @Test
+    public void testClose() throws Exception {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ChartRenderService((ExecutorService) null));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ChartRenderService service = new ChartRenderService(executor);
+            service.submit(createChart(1), 100, 50).get();
+            assertEquals(1, service.getPooledImageCount());
+            service.close();
+            assertEquals(0, service.getPooledImageCount());
+            service.submit(createChart(1), 100, 50).get();
+            assertEquals(0, service.getPooledImageCount());
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Rendering with rendering info, in JPEG format.
+     */
+    @Test
+    public void testSubmitJPEG() throws Exception {
+        try (ChartRenderService service = new ChartRenderService(1)) {
+            service.setFormat(ImageFormat.JPEG);
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            ChartRenderService.Result r = service.submit(createChart(1), 200,
+                    100, info).get();
+            BufferedImage image = ImageIO.read(
+                    new ByteArrayInputStream(r.getBytes()));
+            assertEquals(200, image.getWidth());
+            assertEquals(100, image.getHeight());
+            assertEquals(200.0, info.getChartArea().getWidth());
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.submit(createChart(1), 0, 100));
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.submit(null, 10, 100));
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * FastPNGEncoderTest.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FastPNGEncoder} class.
+ */
+public class FastPNGEncoderTest {
+
+    /**
+     * Creates an image with varying colours and transparency.
+     *
+     * @param type  the image type.
+     * @param width  the width.
+     * @param height  the height.
+     *
+     * @return The image.
+     */
+    private static BufferedImage createImage(int type, int width,
+            int height) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int a = (x * 7 + y) & 0xFF;
+                int r = (x * 3) & 0xFF;
+                int g = (y * 5 + x / 8) & 0xFF;
+                int b = (x ^ y) & 0xFF;
+                image.setRGB(x, y, (a << 24) | (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Checks that the decoded image matches the source image.
+     *
+     * @param expected  the source image.
+     * @param bytes  the encoded image.
+     * @param alpha  is the alpha channel expected in the decoded image?
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private static void assertDecodes(BufferedImage expected, byte[] bytes,
+            boolean alpha) throws IOException {
+        BufferedImage actual = ImageIO.read(new ByteArrayInputStream(bytes));
+        assertNotNull(actual);
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        assertEquals(alpha, actual.getColorModel().hasAlpha());
+        int mask = alpha ? 0xFFFFFFFF : 0x00FFFFFF;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                assertEquals(expected.getRGB(x, y) & mask,
+                        actual.getRGB(x, y) & mask, "(" + x + ", " + y + ")");
+            }
+        }
+    }
+
+    /**
+     * Each filter should produce an image that decodes to the same pixels.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB, 37, 23);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        for (FastPNGEncoder.Filter filter : FastPNGEncoder.Filter.values()) {
+            encoder.setFilter(filter);
+            assertDecodes(image, encoder.encode(image), true);
+        }
+    }
+
+    /**
+     * The alpha channel is dropped when alpha encoding is switched off, or
+     * when the image has no alpha channel.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testAlpha() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB, 20, 10);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setEncodingAlpha(false);
+        assertDecodes(image, encoder.encode(image), false);
+
+        BufferedImage rgb = createImage(BufferedImage.TYPE_INT_RGB, 20, 10);
+        encoder.setEncodingAlpha(true);
+        assertDecodes(rgb, encoder.encode(rgb), false);
+    }
+
+    /**
+     * Images that are not read directly from an integer raster.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testOtherImageTypes() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        BufferedImage bgr = createImage(BufferedImage.TYPE_3BYTE_BGR, 15, 12);
+        assertDecodes(bgr, encoder.encode(bgr), false);
+        BufferedImage pre = createImage(BufferedImage.TYPE_INT_ARGB_PRE, 15,
+                12);
+        assertDecodes(pre, encoder.encode(pre), true);
+        BufferedImage sub = createImage(BufferedImage.TYPE_INT_ARGB, 40, 30)
+                .getSubimage(5, 7, 20, 11);
+        assertDecodes(sub, encoder.encode(sub), true);
+    }
+
+    /**
+     * A large image is compressed in several stripes - the parallel and
+     * serial output should be identical and decode correctly.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Test
+    public void testStripes() throws IOException {
+        BufferedImage image = createImage(BufferedImage.TYPE_INT_ARGB, 600,
+                500);
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        for (int level = 0; level <= 9; level += 3) {
+            encoder.setCompressionLevel(level);
+            encoder.setParallel(true);
+            byte[] parallel = encoder.encode(image);
+            encoder.setParallel(false);
+            byte[] serial = encoder.encode(image);
+            assertArrayEquals(serial, parallel);
+            assertDecodes(image, parallel, true);
+        }
+    }
+
+    /**
+     * The quality setting is the compression level.
+     */
+    @Test
+    public void testQuality() {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setQuality(9.0f);
+        assertEquals(9, encoder.getCompressionLevel());
+        encoder.setQuality(0.75f);
+        assertEquals(1, encoder.getCompressionLevel());
+        encoder.setQuality(20.0f);
+        assertEquals(9.0f, encoder.getQuality());
+        assertThrows(IllegalArgumentException.class,
+                () -> encoder.setFilter(null));
+    }
+
+    /**
+     * The factory returns this encoder for PNG images.
+     */
+    @Test
+    public void testFactory() {
+        ImageEncoder encoder = ImageEncoderFactory.newInstance(
+                ImageFormat.PNG, 9.0f, false);
+        assertTrue(encoder instanceof FastPNGEncoder);
+        assertEquals(9.0f, encoder.getQuality());
+        assertFalse(encoder.isEncodingAlpha());
+    }
+
+}
@@ -0,0 +1,198 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * IndexedEntityCollectionTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Iterator;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link IndexedEntityCollection} class.
+ */
+public class IndexedEntityCollectionTest {
+
+    /**
+     * Checks that the indexed collection finds the same entity as the
+     * standard collection at a number of random points.
+     *
+     * @param indexed  the indexed collection.
+     * @param standard  the standard collection (with the same entities).
+     * @param random  the random number generator.
+     */
+    private static void checkLookups(IndexedEntityCollection indexed,
+            StandardEntityCollection standard, Random random) {
+        for (int i = 0; i < 2000; i++) {
+            double x = random.nextDouble() * 1100.0 - 50.0;
+            double y = random.nextDouble() * 1100.0 - 50.0;
+            assertSame(standard.getEntity(x, y), indexed.getEntity(x, y));
+        }
+        // points on the edges of the entities
+        for (ChartEntity entity : standard.getEntities()) {
+            Rectangle2D b = entity.getArea().getBounds2D();
+            double[][] points = {{b.getMinX(), b.getMinY()},
+                    {b.getMaxX(), b.getMaxY()}, {b.getCenterX(),
+                    b.getCenterY()}, {b.getMaxX(), b.getCenterY()}};
+            for (double[] p : points) {
+                assertSame(standard.getEntity(p[0], p[1]),
+                        indexed.getEntity(p[0], p[1]));
+            }
+        }
+    }
+
+    /**
+     * Lookups on a mix of small and large, overlapping entities.
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(11L);
+        IndexedEntityCollection indexed = new IndexedEntityCollection();
+        StandardEntityCollection standard = new StandardEntityCollection();
+        assertNull(indexed.getEntity(1.0, 1.0));
+        for (int i = 0; i < 3000; i++) {
+            double w = random.nextInt(50) == 0 ? random.nextDouble() * 800.0
+                    : random.nextDouble() * 12.0;
+            double h = random.nextInt(50) == 0 ? random.nextDouble() * 800.0
+                    : random.nextDouble() * 12.0;
+            double x = random.nextDouble() * 1000.0;
+            double y = random.nextDouble() * 1000.0;
+            Shape s = i % 2 == 0 ? new Rectangle2D.Double(x, y, w, h)
+                    : new Ellipse2D.Double(x, y, w, h);
+            ChartEntity entity = new ChartEntity(s, "Item " + i);
+            indexed.add(entity);
+            standard.add(entity);
+            if (i == 100) {
+                checkLookups(indexed, standard, random);
+            }
+        }
+        checkLookups(indexed, standard, random);
+
+        // the index must be rebuilt after entities are removed
+        Iterator<ChartEntity> iterator = indexed.iterator();
+        Iterator<ChartEntity> iterator2 = standard.iterator();
+        while (iterator.hasNext()) {
+            iterator.next();
+            iterator2.next();
+            if (random.nextBoolean()) {
+                iterator.remove();
+                iterator2.remove();
+            }
+        }
+        checkLookups(indexed, standard, random);
+        indexed.clear();
+        assertNull(indexed.getEntity(500.0, 500.0));
+    }
+
+    /**
+     * Entities with zero width or height (and all on one line).
+     */
+    @Test
+    public void testDegenerateBounds() {
+        IndexedEntityCollection c = new IndexedEntityCollection();
+        ChartEntity e1 = new ChartEntity(
+                new Rectangle2D.Double(0.0, 5.0, 10.0, 0.0));
+        ChartEntity e2 = new ChartEntity(
+                new Rectangle2D.Double(2.0, 5.0, 4.0, 0.0));
+        c.add(e1);
+        c.add(e2);
+        assertNull(c.getEntity(3.0, 5.0));
+        ChartEntity e3 = new ChartEntity(
+                new Rectangle2D.Double(2.0, 4.0, 4.0, 2.0));
+        c.add(e3);
+        assertSame(e3, c.getEntity(3.0, 5.0));
+        assertNull(c.getEntity(3.0, 7.0));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        IndexedEntityCollection c2 = new IndexedEntityCollection();
+        assertEquals(c1, c2);
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertNotEquals(c1, c2);
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertEquals(c1, c2);
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        ChartEntity e1 = new ChartEntity(
+                new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0), "ToolTip", "URL");
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        c1.add(e1);
+        assertSame(e1, c1.getEntity(2.0, 3.0));
+        IndexedEntityCollection c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+
+        // check independence
+        c1.clear();
+        assertNull(c1.getEntity(2.0, 3.0));
+        assertNotNull(c2.getEntity(2.0, 3.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        IndexedEntityCollection c1 = new IndexedEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertNotNull(c1.getEntity(2.0, 3.0));
+        IndexedEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertNotNull(c2.getEntity(2.0, 3.0));
+    }
+
+}
@@ -0,0 +1,321 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * LazyEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.entity;
+
+import java.awt.Graphics2D;
+import java.awt.Shape;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LazyEntityCollection} class.
+ */
+public class LazyEntityCollectionTest {
+
+    /**
+     * A factory that creates a {@link ChartEntity} with a tool tip that
+     * describes the item, and counts the entities created.
+     */
+    private static class CountingFactory implements ItemEntityFactory {
+
+        /** The number of entities created. */
+        int count;
+
+        @Override
+        public ChartEntity createItemEntity(Shape area, Dataset dataset,
+                int series, int item) {
+            this.count++;
+            return new ChartEntity(area, series + ":" + item);
+        }
+    }
+
+    /**
+     * Entities are created only when they are requested, and hit testing
+     * gives the same results as a standard collection with the same
+     * entities.
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(17L);
+        CountingFactory factory = new CountingFactory();
+        LazyEntityCollection lazy = new LazyEntityCollection();
+        StandardEntityCollection standard = new StandardEntityCollection();
+        assertNull(lazy.getEntity(1.0, 1.0));
+        for (int i = 0; i < 1000; i++) {
+            double x = random.nextDouble() * 500.0;
+            double y = random.nextDouble() * 500.0;
+            double w = random.nextDouble() * 20.0;
+            double h = random.nextDouble() * 20.0;
+            if (i % 3 == 0) {
+                ChartEntity entity = new ChartEntity(
+                        new Rectangle2D.Double(x, y, w, h), "Entity " + i);
+                lazy.add(entity);
+                standard.add(entity);
+            }
+            else if (i % 3 == 1) {
+                Rectangle2D area = new Rectangle2D.Double(x, y, w, h);
+                lazy.addItem(factory, null, 1, i, x, y, area);
+                standard.add(new ChartEntity(area, "1:" + i));
+            }
+            else {
+                lazy.addItem(factory, null, 2, i, x, y, x, y, w, h);
+                standard.add(new ChartEntity(new Ellipse2D.Double(x, y, w, h),
+                        "2:" + i));
+            }
+        }
+        assertEquals(1000, lazy.getEntityCount());
+        assertEquals(334, lazy.getCreatedEntityCount());
+        assertEquals(0, factory.count);
+        for (int i = 0; i < 500; i++) {
+            double x = random.nextDouble() * 520.0;
+            double y = random.nextDouble() * 520.0;
+            int before = factory.count;
+            ChartEntity e1 = standard.getEntity(x, y);
+            ChartEntity e2 = lazy.getEntity(x, y);
+            if (e1 == null) {
+                assertNull(e2);
+            }
+            else {
+                assertEquals(e1, e2);
+            }
+            assertTrue(factory.count - before <= 1);
+        }
+        assertTrue(factory.count < 500);
+
+        // the same entity instance is returned for later requests
+        ChartEntity e = lazy.getEntity(1);
+        assertSame(e, lazy.getEntity(1));
+        assertEquals(new ArrayList<>(standard.getEntities()),
+                new ArrayList<>(lazy.getEntities()));
+        assertEquals(666, factory.count);
+
+        lazy.clear();
+        assertEquals(0, lazy.getEntityCount());
+        assertNull(lazy.getEntity(250.0, 250.0));
+    }
+
+    /**
+     * An item that has changed since it was recorded is not found by hit
+     * testing, and its entity has no tool tip.
+     */
+    @Test
+    public void testChangedItem() {
+        ItemEntityFactory factory = new CountingFactory() {
+            @Override
+            public boolean isItemUnchanged(Dataset dataset, int series,
+                    int item, double xValue, double yValue) {
+                return item != 1;
+            }
+        };
+        LazyEntityCollection c = new LazyEntityCollection();
+        c.addItem(factory, null, 0, 0, 0.0, 0.0, 0.0, 0.0, 10.0, 10.0);
+        c.addItem(factory, null, 0, 1, 1.0, 1.0, 20.0, 0.0, 10.0, 10.0);
+        assertEquals("0:0", c.getEntity(5.0, 5.0).getToolTipText());
+        assertNull(c.getEntity(25.0, 5.0));
+        assertNull(c.getEntity(1).getToolTipText());
+        assertNull(c.getEntity(25.0, 5.0));
+        assertEquals(2, c.getCreatedEntityCount());
+
+        // a changed item does not hide the entity underneath it
+        c = new LazyEntityCollection();
+        c.addItem(factory, null, 0, 0, 0.0, 0.0, 0.0, 0.0, 10.0, 10.0);
+        c.addItem(factory, null, 0, 1, 1.0, 1.0, 2.0, 2.0, 10.0, 10.0);
+        assertEquals("0:0", c.getEntity(6.0, 6.0).getToolTipText());
+        assertEquals(1, c.getCreatedEntityCount());
+        assertNull(c.getEntity(1).getToolTipText());
+        assertEquals("0:0", c.getEntity(6.0, 6.0).getToolTipText());
+    }
+
+    /**
+     * Adding a lazy collection to another does not create the entities.
+     */
+    @Test
+    public void testAddAll() {
+        CountingFactory factory = new CountingFactory();
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 10.0, 10.0),
+                "A"));
+        LazyEntityCollection c2 = new LazyEntityCollection();
+        for (int i = 0; i < 100; i++) {
+            c2.addItem(factory, null, 0, i, i, i, i, i, 2.0, 2.0);
+        }
+        c1.addAll(c2);
+        assertEquals(101, c1.getEntityCount());
+        assertEquals(0, factory.count);
+        assertEquals("0:5", c1.getEntity(6.0, 6.0).getToolTipText());
+        assertEquals(1, factory.count);
+
+        StandardEntityCollection c3 = new StandardEntityCollection();
+        c3.add(new ChartEntity(new Rectangle2D.Double(0.0, 0.0, 1.0, 1.0)));
+        c1.addAll(c3);
+        assertEquals(102, c1.getEntityCount());
+    }
+
+    /**
+     * A chart drawn with a lazy collection has the same entities as a chart
+     * drawn with a standard collection, including the tool tips and URLs.
+     */
+    @Test
+    public void testChartEntities() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        Random random = new Random(3L);
+        for (int s = 0; s < 2; s++) {
+            XYSeries<String> series = new XYSeries<>("S" + s);
+            for (int i = 0; i < 200; i++) {
+                series.add(i, random.nextDouble() * 100.0);
+            }
+            dataset.addSeries(series);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setSeriesShapesVisible(1, false);
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        renderer.setURLGenerator(new StandardXYURLGenerator());
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        LazyEntityCollection lazy = new LazyEntityCollection();
+        ChartRenderingInfo info2 = new ChartRenderingInfo(lazy);
+        for (ChartRenderingInfo info : new ChartRenderingInfo[] {info1,
+                info2}) {
+            BufferedImage image = new BufferedImage(400, 300,
+                    BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = image.createGraphics();
+            chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+            g2.dispose();
+        }
+        EntityCollection standard = info1.getEntityCollection();
+        assertEquals(standard.getEntityCount(), lazy.getEntityCount());
+        int created = lazy.getCreatedEntityCount();
+        assertTrue(created < 20);
+        for (int i = 0; i < 100; i++) {
+            double x = random.nextDouble() * 400.0;
+            double y = random.nextDouble() * 300.0;
+            ChartEntity e1 = standard.getEntity(x, y);
+            ChartEntity e2 = lazy.getEntity(x, y);
+            assertEquals(String.valueOf(e1), String.valueOf(e2));
+        }
+        assertTrue(lazy.getCreatedEntityCount() <= created + 100);
+        List<ChartEntity> entities = new ArrayList<>(lazy.getEntities());
+        for (int i = 0; i < standard.getEntityCount(); i++) {
+            ChartEntity e1 = standard.getEntity(i);
+            ChartEntity e2 = entities.get(i);
+            assertEquals(e1.toString(), e2.toString());
+            assertEquals(e1.getURLText(), e2.getURLText());
+            assertEquals(e1.getArea().getBounds2D(),
+                    e2.getArea().getBounds2D());
+        }
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        LazyEntityCollection c2 = new LazyEntityCollection();
+        assertEquals(c1, c2);
+        c1.addItem(new CountingFactory(), null, 0, 1, 1.0, 2.0, 1.0, 2.0, 3.0,
+                4.0);
+        assertNotEquals(c1, c2);
+        c2.addItem(new CountingFactory(), null, 0, 1, 1.0, 2.0, 1.0, 2.0, 3.0,
+                4.0);
+        assertEquals(c1, c2);
+        assertEquals(c1.hashCode(), c2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        c1.addItem(new CountingFactory(), null, 0, 1, 10.0, 2.0, 10.0, 2.0, 3.0,
+                4.0);
+        LazyEntityCollection c2 = CloneUtils.clone(c1);
+        assertNotSame(c1, c2);
+        assertSame(c1.getClass(), c2.getClass());
+        assertEquals(c1, c2);
+        assertNotSame(c1.getEntity(0), c2.getEntity(0));
+
+        // check independence
+        c1.clear();
+        assertNotEquals(c1, c2);
+        assertNotNull(c2.getEntity(11.0, 4.0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        LazyEntityCollection c1 = new LazyEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        c1.addItem(new CountingFactory(), null, 0, 1, 10.0, 2.0, 10.0, 2.0, 3.0,
+                4.0);
+        LazyEntityCollection c2 = TestUtils.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals("0:1", c2.getEntity(11.5, 4.0).getToolTipText());
+        c2.addItem(new CountingFactory(), null, 0, 2, 20.0, 2.0, 20.0, 2.0, 3.0,
+                4.0);
+        assertEquals(3, c2.getEntityCount());
+    }
+
+}
@@ -0,0 +1,156 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * StreamingImageMapWriterTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.imagemap;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartUtils;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.labels.StandardXYToolTipGenerator;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.urls.StandardXYURLGenerator;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingImageMapWriter} class.
+ */
+public class StreamingImageMapWriterTest {
+
+    /**
+     * Creates a chart with tool tips and URLs.
+     *
+     * @return The chart.
+     */
+    private static JFreeChart createChart() {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 50; i++) {
+            series.add(i, (i * 37) % 11);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        renderer.setURLGenerator(new StandardXYURLGenerator());
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        return new JFreeChart("Title <&>", plot);
+    }
+
+    /**
+     * Draws a chart.
+     *
+     * @param chart  the chart.
+     * @param info  the rendering info.
+     */
+    private static void draw(JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), null, info);
+        g2.dispose();
+    }
+
+    /**
+     * The streamed map has the same areas as the map written from the
+     * entity collection, in the reverse order.
+     */
+    @Test
+    public void testSameAreas() throws Exception {
+        JFreeChart chart = createChart();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(chart, info);
+        StringWriter sw1 = new StringWriter();
+        ChartUtils.writeImageMap(new PrintWriter(sw1), "map<1>", info,
+                new StandardToolTipTagFragmentGenerator(),
+                new StandardURLTagFragmentGenerator());
+
+        StringWriter sw2 = new StringWriter();
+        StreamingImageMapWriter map = new StreamingImageMapWriter(
+                new PrintWriter(sw2), "map<1>");
+        draw(chart, new ChartRenderingInfo(map));
+        map.finish();
+        map.finish();
+        assertEquals(0, map.getEntityCount());
+        assertNull(map.getEntity(100.0, 100.0));
+
+        List<String> lines1 = Arrays.asList(sw1.toString().split("\\R"));
+        List<String> lines2 = new ArrayList<>(
+                Arrays.asList(sw2.toString().split("\\R")));
+        assertEquals(lines1.size(), lines2.size());
+        assertEquals(50, map.getAreaCount());
+        assertEquals(lines1.get(0), lines2.get(0));
+        assertEquals("<map id=\"map&lt;1&gt;\" name=\"map&lt;1&gt;\">",
+                lines2.get(0));
+        assertEquals("</map>", lines2.get(lines2.size() - 1));
+        List<String> areas = lines2.subList(1, lines2.size() - 1);
+        Collections.reverse(areas);
+        assertEquals(lines1, lines2);
+        assertThrows(IllegalStateException.class,
+                () -> map.add(new ChartEntity(new Rectangle2D.Double(),
+                        "A")));
+    }
+
+    /**
+     * An empty map.
+     */
+    @Test
+    public void testEmpty() {
+        StringWriter sw = new StringWriter();
+        StreamingImageMapWriter map = new StreamingImageMapWriter(
+                new PrintWriter(sw), "m");
+        map.add(new ChartEntity(new Rectangle2D.Double(1, 2, 3, 4)));
+        map.finish();
+        assertEquals(0, map.getAreaCount());
+        assertEquals(ImageMapUtils.getImageMap("m", new ChartRenderingInfo()),
+                sw.toString().trim());
+    }
+
+}
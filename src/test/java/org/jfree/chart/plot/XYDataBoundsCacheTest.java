@@ -0,0 +1,222 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYDataBoundsCacheTest.java
+ * --------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.chart.plot;
+
+import java.util.Random;
+
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.renderer.xy.XYBarRenderer;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.Range;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYDataBoundsCache} class.
+ */
+public class XYDataBoundsCacheTest {
+
+    /**
+     * Adds random items to the series in a dataset, updating the cache
+     * incrementally, and checks the cached bounds against the bounds
+     * calculated by the renderer.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The number of times that the cache had to recalculate the
+     *     bounds.
+     */
+    private static int checkItemsAdded(XYItemRenderer renderer) {
+        Random random = new Random(1L);
+        XYSeries<String> s1 = new XYSeries<>("S1", false, true);
+        XYSeries<String> s2 = new XYSeries<>("S2", false, true);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        dataset.addSeries(s2);
+        NumberAxis xAxis = new NumberAxis("X");
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, new NumberAxis("Y"),
+                renderer);
+        renderer.setSeriesVisible(1, false);
+        XYDataBoundsCache cache = new XYDataBoundsCache();
+        int[] calls = new int[1];
+        for (int i = 0; i < 500; i++) {
+            XYSeries<String> s = random.nextBoolean() ? s1 : s2;
+            int first = s.getItemCount();
+            int count = 1 + random.nextInt(5);
+            for (int j = 0; j < count; j++) {
+                s.add(random.nextDouble() * 100.0, random.nextInt(20) == 0
+                        ? null : random.nextDouble() * 10.0);
+            }
+            cache.itemsAdded(dataset, dataset.indexOf(s.getKey()), first,
+                    s.getItemCount() - 1);
+            assertEquals(renderer.findDomainBounds(dataset),
+                    cache.getDomainBounds(dataset, renderer, () -> {
+                        calls[0]++;
+                        return renderer.findDomainBounds(dataset);
+                    }));
+            if (random.nextInt(10) == 0) {
+                xAxis.setRange(random.nextDouble() * 50.0, 100.0);
+            }
+            else {
+                xAxis.setRange(-1.0, 101.0);
+            }
+            assertEquals(renderer.findRangeBounds(dataset),
+                    cache.getRangeBounds(dataset, renderer, xAxis.getRange(),
+                    () -> {
+                        calls[0]++;
+                        return renderer.findRangeBounds(dataset);
+                    }));
+        }
+        return calls[0];
+    }
+
+    /**
+     * For a renderer whose bounds depend only on the x and y-values, adding
+     * items updates the cached bounds without a recalculation.
+     */
+    @Test
+    public void testItemsAdded() {
+        int calls = checkItemsAdded(new XYLineAndShapeRenderer());
+        assertTrue(calls < 200);
+    }
+
+    /**
+     * For other renderers, the cached bounds are recalculated.
+     */
+    @Test
+    public void testItemsAddedOtherRenderer() {
+        int calls = checkItemsAdded(new XYBarRenderer());
+        assertEquals(1000, calls);
+    }
+
+    /**
+     * Checks the cached bounds for a dataset against the bounds calculated
+     * by the renderer.
+     *
+     * @param cache  the cache.
+     * @param dataset  the dataset.
+     * @param renderer  the renderer.
+     * @param xRange  the x-range.
+     * @param calls  counts the recalculations.
+     */
+    private static void checkBounds(XYDataBoundsCache cache,
+            XYDataset dataset, XYItemRenderer renderer, Range xRange,
+            int[] calls) {
+        assertEquals(renderer.findDomainBounds(dataset),
+                cache.getDomainBounds(dataset, renderer, () -> {
+                    calls[0]++;
+                    return renderer.findDomainBounds(dataset);
+                }));
+        assertEquals(renderer.findRangeBounds(dataset),
+                cache.getRangeBounds(dataset, renderer, xRange, () -> {
+                    calls[0]++;
+                    return renderer.findRangeBounds(dataset);
+                }));
+    }
+
+    /**
+     * Items appended to series used as sliding windows (so that items are
+     * also removed from the start) update the cached bounds from the series
+     * bounds, without a recalculation.
+     */
+    @Test
+    public void testItemsRemoved() {
+        Random random = new Random(2L);
+        XYSeries<String> s1 = new XYSeries<>("S1", false, true);
+        XYSeries<String> s2 = new XYSeries<>("S2", false, true);
+        s1.setMaximumItemCount(50);
+        s2.setMaximumItemCount(20);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        dataset.addSeries(s2);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        renderer.setSeriesVisible(1, false);
+        XYDataBoundsCache cache = new XYDataBoundsCache();
+        Range all = new Range(-1.0, 1000.0);
+        int[] calls = new int[1];
+        for (int i = 0; i < 500; i++) {
+            XYSeries<String> s = random.nextBoolean() ? s1 : s2;
+            s.add(i, random.nextInt(20) == 0 ? null
+                    : random.nextDouble() * 10.0);
+            cache.itemsRemoved(dataset, dataset.indexOf(s.getKey()));
+            checkBounds(cache, dataset, renderer, all, calls);
+        }
+        assertEquals(2, calls[0]);
+
+        // range bounds filtered by an x-range are recalculated
+        Range xRange = new Range(480.0, 1000.0);
+        checkBounds(cache, dataset, renderer, xRange, calls);
+        s1.add(500, 99.0);
+        cache.itemsRemoved(dataset, 0);
+        checkBounds(cache, dataset, renderer, xRange, calls);
+        assertEquals(4, calls[0]);
+    }
+
+    /**
+     * The same for a {@link TimeSeriesCollection}.
+     */
+    @Test
+    public void testItemsRemovedTimeSeries() {
+        Random random = new Random(3L);
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setMaximumItemCount(50);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(s1);
+        XYItemRenderer renderer = new XYLineAndShapeRenderer();
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        XYDataBoundsCache cache = new XYDataBoundsCache();
+        Range all = new Range(-Double.MAX_VALUE, Double.MAX_VALUE);
+        int[] calls = new int[1];
+        for (int i = 0; i < 200; i++) {
+            s1.add(new Millisecond(i, 0, 0, 0, 1, 1, 2026),
+                    random.nextDouble() * 10.0);
+            cache.itemsRemoved(dataset, 0);
+            checkBounds(cache, dataset, renderer, all, calls);
+        }
+        assertEquals(2, calls[0]);
+    }
+
+}
@@ -51,6 +51,7 @@ import java.util.EventListener;
 import java.util.List;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.legend.LegendItemCollection;
@@ -60,6 +61,9 @@ import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.date.MonthConstants;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
@@ -77,6 +81,7 @@ import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
+import org.jfree.data.xy.XYBarDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
 import org.jfree.data.xy.XYSeriesCollection;
@@ -409,6 +414,17 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertEquals(plot1, plot2);
 
+        // parallelRendering
+        plot1.setParallelRendering(true);
+        assertNotEquals(plot1, plot2);
+        plot2.setParallelRendering(true);
+        assertEquals(plot1, plot2);
+
+        plot1.setItemEntityLimit(100);
+        assertNotEquals(plot1, plot2);
+        plot2.setItemEntityLimit(100);
+        assertEquals(plot1, plot2);
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.RED));
         plot1.setFixedLegendItems(lic1);
@@ -1415,4 +1431,201 @@ public class XYPlotTest {
         assertEquals(new Range(1.0, 6.0), plot.getDataRange(xAxis));
         assertEquals(new Range(2.0, 10.0), plot.getDataRange(yAxis)); // only y-values for items in the x-range        
     }    
+
+    /**
+     * The data bounds for a dataset are cached until the dataset or the
+     * renderer changes.
+     */
+    @Test
+    public void testDataBoundsCache() {
+        int[] calls = new int[1];
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<String>() {
+            @Override
+            public double getYValue(int series, int item) {
+                calls[0]++;
+                return super.getYValue(series, item);
+            }
+        };
+        dataset.addSeries("S1", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, 5.0, 6.0}});
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, yAxis,
+                new XYLineAndShapeRenderer());
+        assertEquals(new Range(4.0, 6.0), plot.getDataRange(yAxis));
+        calls[0] = 0;
+        assertEquals(new Range(4.0, 6.0), plot.getDataRange(yAxis));
+        assertEquals(0, calls[0]);
+
+        dataset.addSeries("S2", new double[][] {{1.0}, {10.0}});
+        assertEquals(new Range(4.0, 10.0), plot.getDataRange(yAxis));
+        plot.getRenderer().setSeriesVisible(1, false);
+        assertEquals(new Range(4.0, 6.0), plot.getDataRange(yAxis));
+        xAxis.setRange(1.5, 2.5);
+        assertEquals(new Range(5.0, 5.0), plot.getDataRange(yAxis));
+    }
+
+    /**
+     * Draws a chart into an image.
+     *
+     * @param chart  the chart.
+     * @param scale  the scale factor for the graphics transform.
+     * @param info  the rendering info.
+     *
+     * @return The image.
+     */
+    private static BufferedImage drawChart(JFreeChart chart, double scale,
+            ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage((int) (300 * scale),
+                (int) (200 * scale), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.scale(scale, scale);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 300, 200), null, info);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Rendering the datasets in parallel gives the same image and entities
+     * as rendering them in sequence.
+     */
+    @Test
+    public void testParallelRendering() {
+        XYPlot<String> plot = new XYPlot<>(null, new NumberAxis("X"),
+                new NumberAxis("Y"), new XYLineAndShapeRenderer());
+        plot.setForegroundAlpha(0.7f);
+        for (int d = 0; d < 10; d++) {
+            XYSeries<String> s = new XYSeries<>("S" + d);
+            for (int i = 0; i < 50; i++) {
+                s.add(i, Math.sin(i * 0.2 + d) * (d + 1));
+            }
+            plot.setDataset(d, new XYSeriesCollection<>(s));
+            // datasets 8 and 9 share the renderer for dataset 0
+            if (d > 0 && d < 8) {
+                plot.setRenderer(d, d % 2 == 0 ? new XYBarRenderer()
+                        : new XYLineAndShapeRenderer());
+            }
+        }
+        JFreeChart chart = new JFreeChart(plot);
+        for (DatasetRenderingOrder order : new DatasetRenderingOrder[] {
+                DatasetRenderingOrder.FORWARD,
+                DatasetRenderingOrder.REVERSE}) {
+            plot.setDatasetRenderingOrder(order);
+            for (double scale : new double[] {1.0, 2.0}) {
+                plot.setParallelRendering(false);
+                ChartRenderingInfo info1 = new ChartRenderingInfo();
+                BufferedImage image1 = drawChart(chart, scale, info1);
+                plot.setParallelRendering(true);
+                ChartRenderingInfo info2 = new ChartRenderingInfo();
+                BufferedImage image2 = drawChart(chart, scale, info2);
+                for (int x = 0; x < image1.getWidth(); x++) {
+                    for (int y = 0; y < image1.getHeight(); y++) {
+                        int rgb1 = image1.getRGB(x, y);
+                        int rgb2 = image2.getRGB(x, y);
+                        for (int shift = 0; shift < 32; shift += 8) {
+                            int c1 = (rgb1 >>> shift) & 0xFF;
+                            int c2 = (rgb2 >>> shift) & 0xFF;
+                            // allow for rounding in the alpha compositing
+                            assertTrue(Math.abs(c1 - c2) <= 4);
+                        }
+                    }
+                }
+                // compare the entities by description and bounds (the
+                // shapes are not always comparable with equals())
+                EntityCollection e1 = info1.getEntityCollection();
+                EntityCollection e2 = info2.getEntityCollection();
+                assertEquals(e1.getEntityCount(), e2.getEntityCount());
+                for (int i = 0; i < e1.getEntityCount(); i++) {
+                    assertEquals(e1.getEntity(i).toString(),
+                            e2.getEntity(i).toString());
+                    assertEquals(e1.getEntity(i).getArea().getBounds2D(),
+                            e2.getEntity(i).getArea().getBounds2D());
+                }
+            }
+        }
+    }
+
+    /**
+     * The renderers stop creating item entities when the limit is reached,
+     * and the limit applies to each drawing of the plot.
+     */
+    @Test
+    public void testItemEntityLimit() {
+        XYSeries<String> s = new XYSeries<>("S1");
+        for (int i = 0; i < 100; i++) {
+            s.add(i, i % 7);
+        }
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(s),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+        plot.setItemEntityLimit(30);
+        for (boolean parallel : new boolean[] {false, true}) {
+            plot.setParallelRendering(parallel);
+            for (int pass = 0; pass < 2; pass++) {
+                ChartRenderingInfo info = new ChartRenderingInfo();
+                drawChart(chart, 1.0, info);
+                int count = 0;
+                for (ChartEntity entity
+                        : info.getEntityCollection().getEntities()) {
+                    if (entity instanceof XYItemEntity) {
+                        count++;
+                    }
+                }
+                assertEquals(30, count);
+            }
+        }
+        plot.setItemEntityLimit(Integer.MAX_VALUE);
+        assertTrue(plot.reserveItemEntity());
+        assertThrows(IllegalArgumentException.class,
+                () -> plot.setItemEntityLimit(-1));
+    }
+
+    /**
+     * The cached data bounds follow items added to a series, including when
+     * the change event is forwarded by a wrapper dataset.
+     */
+    @Test
+    public void testDataBoundsCacheItemsAdded() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 4.0);
+        XYSeriesCollection<String> d1 = new XYSeriesCollection<>(s1);
+        NumberAxis xAxis = new NumberAxis("X");
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot<String> plot = new XYPlot<>(d1, xAxis, yAxis,
+                new XYLineAndShapeRenderer());
+        assertEquals(new Range(4.0, 4.0), plot.getDataRange(yAxis));
+        s1.add(2.0, 7.0);
+        s1.add(3.0, 2.0);
+        assertEquals(new Range(2.0, 7.0), plot.getDataRange(yAxis));
+        assertEquals(new Range(1.0, 3.0), plot.getDataRange(xAxis));
+
+        XYBarDataset<String> d2 = new XYBarDataset<>(d1, 1.0);
+        plot.setDataset(d2);
+        assertEquals(new Range(2.0, 7.0), plot.getDataRange(yAxis));
+        s1.add(4.0, 9.0);
+        assertEquals(new Range(2.0, 9.0), plot.getDataRange(yAxis));
+    }
+
+    /**
+     * The cached data bounds are updated for the right series when several
+     * series in a dataset have the same key.
+     */
+    @Test
+    public void testDataBoundsCacheDuplicateKeys() {
+        TimeSeries<String> s1 = new TimeSeries<>("S");
+        TimeSeries<String> s2 = new TimeSeries<>("S");
+        s1.add(new Day(1, 1, 2025), 4.0);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        NumberAxis yAxis = new NumberAxis("Y");
+        XYPlot<String> plot = new XYPlot<>(dataset, new DateAxis("X"), yAxis,
+                new XYLineAndShapeRenderer());
+        assertEquals(new Range(4.0, 4.0), plot.getDataRange(yAxis));
+        s2.add(new Day(2, 1, 2025), 7.0);
+        assertEquals(new Range(4.0, 7.0), plot.getDataRange(yAxis));
+        s1.add(new Day(3, 1, 2025), 2.0);
+        assertEquals(new Range(2.0, 7.0), plot.getDataRange(yAxis));
+    }
 }
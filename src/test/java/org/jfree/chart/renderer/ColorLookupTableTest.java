@@ -0,0 +1,118 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ColorLookupTableTest.java
+ * -------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.renderer;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ColorLookupTable} class.
+ */
+public class ColorLookupTableTest {
+
+    private static final double[] VALUES = {Double.NaN,
+            Double.NEGATIVE_INFINITY, -1.0, 0.0, 0.5, 1.0, 1.5, 2.0, 2.25,
+            2.5, 3.0, 4.0, 9.5, 10.0, 10.5, Double.POSITIVE_INFINITY};
+
+    private static void assertSameColors(PaintScale scale) {
+        ColorLookupTable table = ColorLookupTable.of(scale);
+        assertNotNull(table);
+        for (double v : VALUES) {
+            assertEquals(((Color) scale.getPaint(v)).getRGB(),
+                    table.getARGB(v), "value " + v);
+        }
+    }
+
+    /**
+     * The table returns the same colors as a LookupPaintScale.
+     */
+    @Test
+    public void testLookupPaintScale() {
+        LookupPaintScale s = new LookupPaintScale(0.0, 10.0, Color.WHITE);
+        assertSameColors(s);
+        s.add(1.0, Color.RED);
+        assertSameColors(s);
+        s.add(2.0, new Color(1, 2, 3, 4));
+        s.add(2.5, Color.BLUE);
+        s.add(4.0, Color.GREEN);
+        assertSameColors(s);
+
+        // the table is a snapshot
+        ColorLookupTable table = ColorLookupTable.of(s);
+        s.add(3.0, Color.YELLOW);
+        assertEquals(Color.BLUE.getRGB(), table.getARGB(3.0));
+        assertSameColors(s);
+    }
+
+    /**
+     * The table returns the same colors as a GrayPaintScale.
+     */
+    @Test
+    public void testGrayPaintScale() {
+        assertSameColors(new GrayPaintScale());
+        assertSameColors(new GrayPaintScale(-1.0, 3.0, 128));
+    }
+
+    /**
+     * Scales with paints that are not colors are not supported.
+     */
+    @Test
+    public void testUnsupported() {
+        LookupPaintScale s = new LookupPaintScale();
+        s.add(0.5, new GradientPaint(0f, 0f, Color.RED, 1f, 1f, Color.BLUE));
+        assertNull(ColorLookupTable.of(s));
+        assertNull(ColorLookupTable.of(new PaintScale() {
+            @Override
+            public double getLowerBound() {
+                return 0.0;
+            }
+            @Override
+            public double getUpperBound() {
+                return 1.0;
+            }
+            @Override
+            public java.awt.Paint getPaint(double value) {
+                return Color.RED;
+            }
+        }));
+    }
+
+}
@@ -37,7 +37,14 @@
 package org.jfree.chart.renderer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+
+import org.jfree.chart.api.RectangleEdge;
+import org.jfree.chart.axis.NumberAxis;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -384,4 +391,43 @@ public class RendererUtilsTest {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * Some checks for the findDecimatedItems() method.
+     */
+    @Test
+    public void testFindDecimatedItems() {
+        XYSeries<String> s = new XYSeries<>("S");
+        for (int i = 0; i < 1000; i++) {
+            s.add(i, i % 7);
+        }
+        s.updateByIndex(505, 1000.0);
+        s.updateByIndex(700, null);
+        XYSeriesCollection<String> d = new XYSeriesCollection<>(s);
+        NumberAxis axis = new NumberAxis("X");
+        axis.setRange(0.0, 1000.0);
+        Rectangle2D area = new Rectangle2D.Double(0.0, 0.0, 100.0, 50.0);
+        int[] items = RendererUtils.findDecimatedItems(d, 0, 0, 999, axis,
+                area, RectangleEdge.BOTTOM);
+        assertTrue(items.length <= 4 * 101 + 1);
+        assertEquals(0, items[0]);
+        assertEquals(999, items[items.length - 1]);
+        assertTrue(Arrays.binarySearch(items, 505) >= 0);  // the spike
+        assertTrue(Arrays.binarySearch(items, 700) >= 0);  // the gap
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i - 1] < items[i]);
+        }
+
+        // a sub-range is respected
+        items = RendererUtils.findDecimatedItems(d, 0, 100, 109, axis, area,
+                RectangleEdge.BOTTOM);
+        assertEquals(100, items[0]);
+        assertEquals(109, items[items.length - 1]);
+
+        // unordered data can't be decimated
+        DefaultXYDataset<String> d2 = new DefaultXYDataset<>();
+        d2.addSeries("S1", new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        assertNull(RendererUtils.findDecimatedItems(d2, 0, 0, 1, axis, area,
+                RectangleEdge.BOTTOM));
+    }
+
 }
@@ -36,12 +36,23 @@
 
 package org.jfree.chart.renderer.xy;
 
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
 import org.junit.jupiter.api.Test;
 
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.LazyEntityCollection;
+import org.jfree.chart.entity.PlotEntity;
 import org.jfree.chart.labels.StandardXYSeriesLabelGenerator;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.labels.StandardXYItemLabelGenerator;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.chart.plot.XYPlot;
 import org.jfree.data.Range;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.data.xy.XYSeries;
@@ -166,6 +177,71 @@ public class AbstractXYItemRendererTest {
         assertNotEquals(r1, r2);
     }
 
+    /**
+     * Returns the entity found by hit testing at the location of a data
+     * point.
+     *
+     * @param plot  the plot.
+     * @param info  the rendering info.
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The entity (possibly {@code null}).
+     */
+    private static ChartEntity getEntity(XYPlot<String> plot,
+            ChartRenderingInfo info, double x, double y) {
+        Rectangle2D dataArea = info.getPlotInfo().getDataArea();
+        double xx = plot.getDomainAxis().valueToJava2D(x, dataArea,
+                plot.getDomainAxisEdge());
+        double yy = plot.getRangeAxis().valueToJava2D(y, dataArea,
+                plot.getRangeAxisEdge());
+        return info.getEntityCollection().getEntity(xx, yy);
+    }
+
+    /**
+     * The entities recorded in a {@link LazyEntityCollection} are not
+     * created from a dataset that has changed since the chart was drawn.
+     */
+    @Test
+    public void testLazyEntitiesAfterDatasetChange() {
+        XYSeries<String> series = new XYSeries<>("S");
+        series.setMaximumItemCount(5);
+        for (int i = 0; i < 5; i++) {
+            series.add(i, i);
+        }
+        XYLineAndShapeRenderer renderer = new XYLineAndShapeRenderer();
+        renderer.setDefaultToolTipGenerator(new StandardXYToolTipGenerator());
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"), renderer);
+        plot.getDomainAxis().setRange(-1.0, 6.0);
+        plot.getRangeAxis().setRange(-1.0, 6.0);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_ARGB);
+        ChartRenderingInfo info = new ChartRenderingInfo(
+                new LazyEntityCollection());
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        assertEquals("S: (1, 1)", getEntity(plot, info, 1.0, 1.0)
+                .getToolTipText());
+
+        // items shifted: index 2 is now (3, 3), so the stale item is
+        // skipped and the plot entity underneath is found
+        series.add(5.0, 5.0);
+        assertTrue(getEntity(plot, info, 2.0, 2.0) instanceof PlotEntity);
+        // an entity created before the change is kept
+        assertEquals("S: (1, 1)", getEntity(plot, info, 1.0, 1.0)
+                .getToolTipText());
+
+        // items removed: index 4 no longer exists
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        series.delete(2, 4);
+        assertTrue(getEntity(plot, info, 5.0, 5.0) instanceof PlotEntity);
+        assertEquals("S: (2, 2)", getEntity(plot, info, 2.0, 2.0)
+                .getToolTipText());
+        g2.dispose();
+    }
+
     @Test
     public void testEquals_ObjectList2() {
         XYBarRenderer r1 = new XYBarRenderer();
@@ -43,6 +43,7 @@ import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.RendererChangeDetector;
 import org.jfree.chart.util.GradientPaintTransformType;
 import org.jfree.chart.util.StandardGradientPaintTransformer;
 import org.jfree.chart.internal.CloneUtils;
@@ -108,6 +109,11 @@ public class XYAreaRendererTest {
         r2.setUseFillPaint(true);
         assertEquals(r1, r2);
 
+        r1.setUseDecimation(true);
+        assertNotEquals(r1, r2);
+        r2.setUseDecimation(true);
+        assertEquals(r1, r2);
+
         r1.setGradientTransformer(new StandardGradientPaintTransformer(
                 GradientPaintTransformType.CENTER_VERTICAL));
         assertNotEquals(r1, r2);
@@ -132,6 +138,20 @@ public class XYAreaRendererTest {
         assertNotEquals(r1.hashCode(), r2.hashCode());
     }
 
+    /**
+     * A change event is sent only when the decimation flag changes.
+     */
+    @Test
+    public void testSetUseDecimationEvent() {
+        XYAreaRenderer r = new XYAreaRenderer();
+        RendererChangeDetector detector = new RendererChangeDetector();
+        r.addChangeListener(detector);
+        r.setUseDecimation(false);
+        assertFalse(detector.getNotified());
+        r.setUseDecimation(true);
+        assertTrue(detector.getNotified());
+    }
+
     /**
      * Confirm that cloning works.
      */
@@ -37,11 +37,20 @@
 package org.jfree.chart.renderer.xy;
 
 import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.TestUtils;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.PlotOrientation;
+import org.jfree.chart.plot.XYPlot;
 
 import org.jfree.chart.renderer.GrayPaintScale;
 import org.jfree.chart.renderer.LookupPaintScale;
+import org.jfree.chart.renderer.RendererChangeDetector;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.chart.api.PublicCloneable;
 import org.jfree.data.Range;
@@ -89,6 +98,12 @@ public class XYBlockRendererTest {
         r2.setPaintScale(new GrayPaintScale(0.0, 1.0));
         assertEquals(r1, r2);
 
+        // rasterized
+        r1.setRasterized(true);
+        assertNotEquals(r1, r2);
+        r2.setRasterized(true);
+        assertEquals(r1, r2);
+
     }
 
     /**
@@ -208,5 +223,120 @@ public class XYBlockRendererTest {
         r = renderer.findDomainBounds(dataset);
         assertNull(r);
     }    
-           
+
+    private static BufferedImage draw(DefaultXYZDataset<String> dataset,
+            boolean rasterized, PlotOrientation orientation) {
+        LookupPaintScale scale = new LookupPaintScale(0.0, 100.0, Color.WHITE);
+        scale.add(0.0, Color.RED);
+        scale.add(25.0, Color.GREEN);
+        scale.add(50.0, Color.BLUE);
+        scale.add(75.0, Color.YELLOW);
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setPaintScale(scale);
+        renderer.setDrawOutlines(false);
+        renderer.setRasterized(rasterized);
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setInverted(true);
+        XYPlot<String> plot = new XYPlot<>(dataset, xAxis, new NumberAxis("Y"),
+                renderer);
+        plot.setOrientation(orientation);
+        JFreeChart chart = new JFreeChart(plot);
+        chart.removeLegend();
+        chart.setAntiAlias(false);
+        return chart.createBufferedImage(400, 300);
+    }
+
+    /**
+     * A regular grid drawn as an image gives the same colors as drawing a
+     * block per item, and other data falls back to drawing blocks.
+     */
+    @Test
+    public void testRasterized() {
+        int w = 20;
+        int h = 10;
+        double[][] data = new double[3][w * h];
+        for (int i = 0; i < w * h; i++) {
+            data[0][i] = i % w;
+            data[1][i] = i / w;
+            data[2][i] = (i * 7) % 100;
+        }
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        dataset.addSeries("S1", data);
+        for (PlotOrientation orientation : new PlotOrientation[] {
+                PlotOrientation.VERTICAL, PlotOrientation.HORIZONTAL}) {
+            BufferedImage blocks = draw(dataset, false, orientation);
+            BufferedImage image = draw(dataset, true, orientation);
+            int differences = 0;
+            for (int x = 0; x < 400; x++) {
+                for (int y = 0; y < 300; y++) {
+                    if (blocks.getRGB(x, y) != image.getRGB(x, y)) {
+                        differences++;
+                    }
+                }
+            }
+            // allow for rounding differences at the block edges
+            assertTrue(differences < 400 * 300 / 100, "" + differences);
+        }
+
+        // not a regular grid
+        data[0][3] = 3.5;
+        DefaultXYZDataset<String> irregular = new DefaultXYZDataset<>();
+        irregular.addSeries("S1", data);
+        BufferedImage blocks = draw(irregular, false, PlotOrientation.VERTICAL);
+        BufferedImage image = draw(irregular, true, PlotOrientation.VERTICAL);
+        for (int x = 0; x < 400; x++) {
+            for (int y = 0; y < 300; y++) {
+                assertEquals(blocks.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+    }
+
+    /**
+     * Drawing a series as an image leaves the interpolation hint of the
+     * caller's graphics as it was, including when it was not set.
+     */
+    @Test
+    public void testRasterizedRestoresHint() {
+        double[][] data = new double[3][25];
+        for (int i = 0; i < 25; i++) {
+            data[0][i] = i % 5;
+            data[1][i] = i / 5;
+            data[2][i] = i;
+        }
+        DefaultXYZDataset<String> dataset = new DefaultXYZDataset<>();
+        dataset.addSeries("S1", data);
+        XYBlockRenderer renderer = new XYBlockRenderer();
+        renderer.setRasterized(true);
+        XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), renderer);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        assertNull(g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null,
+                null);
+        assertNull(g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        plot.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), null, null,
+                null);
+        assertEquals(RenderingHints.VALUE_INTERPOLATION_BICUBIC,
+                g2.getRenderingHint(RenderingHints.KEY_INTERPOLATION));
+        g2.dispose();
+    }
+
+    /**
+     * A change event is sent only when the rasterized flag changes.
+     */
+    @Test
+    public void testSetRasterizedEvent() {
+        XYBlockRenderer r = new XYBlockRenderer();
+        RendererChangeDetector detector = new RendererChangeDetector();
+        r.addChangeListener(detector);
+        r.setRasterized(false);
+        assertFalse(detector.getNotified());
+        r.setRasterized(true);
+        assertTrue(detector.getNotified());
+    }
+
 }
@@ -43,10 +43,12 @@ import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.legend.LegendItem;
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
@@ -130,6 +132,11 @@ public class XYLineAndShapeRendererTest {
         assertNotEquals(r1, r2);
         r2.setDrawSeriesLineAsPath(true);
         assertEquals(r1, r2);
+
+        r1.setUseDecimation(true);
+        assertNotEquals(r1, r2);
+        r2.setUseDecimation(true);
+        assertEquals(r1, r2);
     }
 
     /**
@@ -295,4 +302,34 @@ public class XYLineAndShapeRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * With decimation switched on, a large series is drawn with an entity
+     * for each retained item only, and the spike is among them.
+     */
+    @Test
+    public void testDrawWithDecimation() {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        for (int i = 0; i < 20000; i++) {
+            s1.add(i, Math.sin(i / 100.0));
+        }
+        s1.updateByIndex(12345, 10.0);
+        for (boolean pyramid : new boolean[] {false, true}) {
+            XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+            r.setUseDecimation(true);
+            XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+            dataset.setPyramidEnabled(pyramid);
+            XYPlot<String> plot = new XYPlot<>(dataset, new NumberAxis("x"),
+                    new NumberAxis("y"), r);
+            JFreeChart chart = new JFreeChart(plot);
+            ChartRenderingInfo info = new ChartRenderingInfo();
+            chart.createBufferedImage(300, 200, info);
+            int count = info.getEntityCollection().getEntityCount();
+            assertTrue(count > 100);
+            assertTrue(count < 2000);
+            assertTrue(info.getEntityCollection().getEntities().stream()
+                    .anyMatch(e -> e instanceof XYItemEntity
+                    && ((XYItemEntity) e).getItem() == 12345));
+        }
+    }
+
 }
@@ -0,0 +1,231 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartLayerCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.swing;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.annotations.XYTextAnnotation;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.plot.CrosshairState;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.ValueMarker;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChartLayerCache} class.
+ */
+public class ChartLayerCacheTest {
+
+    private static final int WIDTH = 300;
+
+    private static final int HEIGHT = 200;
+
+    /**
+     * A renderer that counts the items it draws.
+     */
+    static class CountingRenderer extends XYLineAndShapeRenderer {
+        int count;
+
+        @Override
+        public void drawItem(Graphics2D g2, XYItemRendererState state,
+                Rectangle2D dataArea, PlotRenderingInfo info, XYPlot plot,
+                ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
+                int series, int item, CrosshairState crosshairState,
+                int pass) {
+            this.count++;
+            super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                    rangeAxis, dataset, series, item, crosshairState, pass);
+        }
+    }
+
+    private XYSeries<String> s1;
+
+    private XYSeries<String> s2;
+
+    private CountingRenderer r1;
+
+    private CountingRenderer r2;
+
+    private JFreeChart createChart() {
+        this.s1 = new XYSeries<>("S1");
+        this.s2 = new XYSeries<>("S2");
+        for (int i = 0; i < 10; i++) {
+            this.s1.add(i, i);
+            this.s2.add(i, 10 - i);
+        }
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 20.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 20.0);
+        this.r1 = new CountingRenderer();
+        this.r2 = new CountingRenderer();
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(this.s1),
+                xAxis, yAxis, this.r1);
+        plot.setDataset(1, new XYSeriesCollection<>(this.s2));
+        plot.setRenderer(1, this.r2);
+        plot.addAnnotation(new XYTextAnnotation("Note", 5.0, 5.0));
+        plot.addDomainMarker(new ValueMarker(3.0));
+        plot.setDomainCrosshairVisible(true);
+        plot.setDomainCrosshairValue(4.0);
+        return new JFreeChart(plot);
+    }
+
+    private static BufferedImage image() {
+        return new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private static void draw(ChartLayerCache cache, JFreeChart chart,
+            BufferedImage target, ChartRenderingInfo info) {
+        Graphics2D g2 = target.createGraphics();
+        GraphicsConfiguration gc = g2.getDeviceConfiguration();
+        g2.dispose();
+        cache.draw(chart, target, WIDTH, HEIGHT, gc, new AffineTransform(),
+                new Rectangle2D.Double(0, 0, WIDTH, HEIGHT), info);
+    }
+
+    /**
+     * Returns the number of pixels that differ noticeably between two
+     * images.
+     */
+    private static int countDifferences(BufferedImage i1, BufferedImage i2) {
+        int result = 0;
+        for (int x = 0; x < WIDTH; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                Color c1 = new Color(i1.getRGB(x, y), true);
+                Color c2 = new Color(i2.getRGB(x, y), true);
+                if (Math.abs(c1.getRed() - c2.getRed()) > 2
+                        || Math.abs(c1.getGreen() - c2.getGreen()) > 2
+                        || Math.abs(c1.getBlue() - c2.getBlue()) > 2
+                        || Math.abs(c1.getAlpha() - c2.getAlpha()) > 2) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * The layers combine to give the same image as drawing the chart
+     * directly.
+     */
+    @Test
+    public void testSameImage() {
+        JFreeChart chart = createChart();
+        BufferedImage expected = image();
+        Graphics2D g2 = expected.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, WIDTH, HEIGHT));
+        g2.dispose();
+
+        BufferedImage actual = image();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(new ChartLayerCache(), chart, actual, info);
+        assertEquals(0, countDifferences(expected, actual));
+        int items = 0;
+        for (Object entity : info.getEntityCollection().getEntities()) {
+            if (entity instanceof XYItemEntity) {
+                items++;
+            }
+        }
+        assertEquals(20, items);
+    }
+
+    /**
+     * A change to the items in one dataset redraws only that dataset.
+     */
+    @Test
+    public void testDatasetChange() {
+        JFreeChart chart = createChart();
+        ChartLayerCache cache = new ChartLayerCache();
+        chart.addChangeListener(new ChartChangeListener() {
+            @Override
+            public void chartChanged(ChartChangeEvent event) {
+                if (!cache.chartChanged(chart, event)) {
+                    cache.invalidateAll();
+                }
+            }
+        });
+        BufferedImage target = image();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(cache, chart, target, info);
+        int entityCount = info.getEntityCollection().getEntityCount();
+        assertFalse(cache.isDirty());
+
+        this.r1.count = 0;
+        this.r2.count = 0;
+        this.s2.add(10.0, 5.0);
+        assertTrue(cache.isPartiallyDirty());
+        draw(cache, chart, target, info);
+        assertEquals(0, this.r1.count);
+        assertEquals(22, this.r2.count);  // two passes
+        assertEquals(entityCount + 1,
+                info.getEntityCollection().getEntityCount());
+
+        BufferedImage expected = image();
+        Graphics2D g2 = expected.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, WIDTH, HEIGHT));
+        g2.dispose();
+        assertEquals(0, countDifferences(expected, target));
+
+        // an axis change redraws everything
+        this.r1.count = 0;
+        ((XYPlot) chart.getPlot()).getRangeAxis().setRange(0.0, 30.0);
+        assertTrue(cache.isDirty());
+        assertFalse(cache.isPartiallyDirty());
+        draw(cache, chart, target, info);
+        assertEquals(20, this.r1.count);
+    }
+
+}
@@ -0,0 +1,174 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * TextMeasurementCacheTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.text;
+
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TextMeasurementCache} class and its use in
+ * {@link TextUtils}.
+ */
+public class TextMeasurementCacheTest {
+
+    /**
+     * Restores the default cache size.
+     */
+    @AfterEach
+    public void restoreDefaults() {
+        TextUtils.setTextMeasurementCacheSize(2048);
+        TextUtils.setUseFontMetricsGetStringBounds(false);
+    }
+
+    /**
+     * Creates a graphics device.
+     *
+     * @return The graphics device.
+     */
+    private static Graphics2D createGraphics() {
+        BufferedImage image = new BufferedImage(10, 10,
+                BufferedImage.TYPE_INT_ARGB);
+        return image.createGraphics();
+    }
+
+    /**
+     * The cached results match the uncached results.
+     */
+    @Test
+    public void testSameResults() {
+        Graphics2D g2 = createGraphics();
+        Font font = new Font("Dialog", Font.PLAIN, 12);
+        g2.setFont(font);
+        String[] texts = {"123.45", "Title", "ABCxyz", "-1,000"};
+        for (boolean useStringBounds : new boolean[] {false, true}) {
+            TextUtils.setUseFontMetricsGetStringBounds(useStringBounds);
+            for (String text : texts) {
+                TextUtils.setTextMeasurementCacheSize(0);
+                FontMetrics fm = g2.getFontMetrics();
+                Rectangle2D b1 = TextUtils.getTextBounds(text, g2, fm);
+                Shape s1 = TextUtils.calculateRotatedStringBounds(text, g2,
+                        10f, 20f, TextAnchor.CENTER, Math.PI / 3,
+                        TextAnchor.BOTTOM_RIGHT);
+                Rectangle2D a1 = TextUtils.calcAlignedStringBounds(text, g2,
+                        5f, 5f, TextAnchor.TOP_CENTER);
+                float w1 = new G2TextMeasurer(g2).getStringWidth(text, 1,
+                        text.length());
+                TextUtils.setTextMeasurementCacheSize(16);
+                for (int pass = 0; pass < 2; pass++) {
+                    assertEquals(b1, TextUtils.getTextBounds(text, g2, fm));
+                    assertEquals(s1.getBounds2D(),
+                            TextUtils.calculateRotatedStringBounds(text, g2,
+                            10f, 20f, TextAnchor.CENTER, Math.PI / 3,
+                            TextAnchor.BOTTOM_RIGHT).getBounds2D());
+                    assertEquals(a1, TextUtils.calcAlignedStringBounds(text,
+                            g2, 5f, 5f, TextAnchor.TOP_CENTER));
+                    assertEquals(w1, new G2TextMeasurer(g2).getStringWidth(
+                            text, 1, text.length()));
+                }
+            }
+        }
+    }
+
+    /**
+     * The cache key includes the font and the font render context.
+     */
+    @Test
+    public void testKey() {
+        Graphics2D g2 = createGraphics();
+        Font f1 = new Font("Dialog", Font.PLAIN, 12);
+        Font f2 = new Font("Dialog", Font.PLAIN, 24);
+        Rectangle2D b1 = TextUtils.getTextBounds("Text", g2,
+                g2.getFontMetrics(f1));
+        Rectangle2D b2 = TextUtils.getTextBounds("Text", g2,
+                g2.getFontMetrics(f2));
+        assertTrue(b2.getHeight() > b1.getHeight());
+
+        TextUtils.setTextMeasurementCacheSize(0);
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        Rectangle2D b3 = TextUtils.getTextBounds("Text", g2,
+                g2.getFontMetrics(f1));
+        TextUtils.setTextMeasurementCacheSize(16);
+        TextUtils.getTextBounds("Text", g2, g2.getFontMetrics(f1));
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+        assertEquals(b1, TextUtils.getTextBounds("Text", g2,
+                g2.getFontMetrics(f1)));
+        g2.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS,
+                RenderingHints.VALUE_FRACTIONALMETRICS_ON);
+        assertEquals(b3, TextUtils.getTextBounds("Text", g2,
+                g2.getFontMetrics(f1)));
+    }
+
+    /**
+     * The cache does not grow beyond its maximum size, and the returned
+     * bounds can be modified without affecting the cache.
+     */
+    @Test
+    public void testMaxSize() {
+        TextUtils.setTextMeasurementCacheSize(10);
+        assertEquals(10, TextUtils.getTextMeasurementCacheSize());
+        Graphics2D g2 = createGraphics();
+        FontMetrics fm = g2.getFontMetrics();
+        for (int i = 0; i < 100; i++) {
+            TextUtils.getTextBounds(String.valueOf(i), g2, fm);
+        }
+        assertEquals(10, TextUtils.getTextMeasurementCache().size());
+        Rectangle2D b = TextUtils.getTextBounds("99", g2, fm);
+        Rectangle2D expected = (Rectangle2D) b.clone();
+        b.setRect(0, 0, 0, 0);
+        assertEquals(expected, TextUtils.getTextBounds("99", g2, fm));
+
+        TextUtils.setTextMeasurementCacheSize(0);
+        assertEquals(0, TextUtils.getTextMeasurementCacheSize());
+        assertNull(TextUtils.getTextMeasurementCache());
+        assertEquals(expected, TextUtils.getTextBounds("99", g2, fm));
+        assertThrows(IllegalArgumentException.class,
+                () -> TextUtils.setTextMeasurementCacheSize(-1));
+    }
+
+}
@@ -0,0 +1,262 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * StreamingSVGGraphics2DTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.chart.util;
+
+import java.awt.Color;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StreamingSVGGraphics2D} class.
+ */
+public class StreamingSVGGraphics2DTest {
+
+    /**
+     * Parses an SVG document.
+     *
+     * @param svg  the document.
+     *
+     * @return The parsed document.
+     *
+     * @throws Exception if the document is not well-formed.
+     */
+    private static Document parse(String svg) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(
+                svg.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Returns the number of occurrences of a string.
+     *
+     * @param text  the text.
+     * @param s  the string to count.
+     *
+     * @return The count.
+     */
+    private static int count(String text, String s) {
+        int count = 0;
+        int i = text.indexOf(s);
+        while (i >= 0) {
+            count++;
+            i = text.indexOf(s, i + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Connected line segments with the same style are written as a single
+     * path.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testLinesCoalesced() throws Exception {
+        StringWriter out = new StringWriter();
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(out, 100, 50);
+        g2.setPaint(Color.RED);
+        g2.draw(new Line2D.Double(0, 0, 10, 10));
+        g2.draw(new Line2D.Double(10, 10, 20, 5));
+        g2.drawLine(20, 5, 30, 7);
+        g2.draw(new Line2D.Double(40, 0, 50, 0));
+        g2.setPaint(Color.BLUE);
+        g2.draw(new Line2D.Double(50, 0, 60, 0));
+        g2.finish();
+        String svg = out.toString();
+        parse(svg);
+        assertEquals(3, count(svg, "<path "));
+        assertTrue(svg.contains("d=\"M0 0L10 10L20 5L30 7\""));
+        assertTrue(svg.contains("d=\"M40 0L50 0\""));
+    }
+
+    /**
+     * A shape filled more than once at different locations is defined once
+     * and reused.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testShapesReused() throws Exception {
+        StringWriter out = new StringWriter();
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(out, 100, 50);
+        for (int i = 0; i < 4; i++) {
+            g2.fill(new Ellipse2D.Double(i * 10.5, 3.0, 6.0, 6.0));
+        }
+        g2.finish();
+        String svg = out.toString();
+        parse(svg);
+        assertEquals(1, g2.getSharedShapeCount());
+        assertEquals(2, count(svg, "<path "));
+        assertEquals(3, count(svg, "<use "));
+        assertTrue(svg.contains("x=\"31.5\" y=\"3\""));
+    }
+
+    /**
+     * Filling a shape and then drawing its outline writes one element.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testFillAndOutlineCombined() throws Exception {
+        StringWriter out = new StringWriter();
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(out, 100, 50);
+        for (int i = 0; i < 3; i++) {
+            Ellipse2D shape = new Ellipse2D.Double(i * 10.0, 3.0, 6.0, 6.0);
+            g2.setPaint(Color.GREEN);
+            g2.fill(shape);
+            g2.setPaint(Color.BLACK);
+            g2.draw(shape);
+        }
+        g2.finish();
+        String svg = out.toString();
+        parse(svg);
+        assertEquals(2, count(svg, "<path "));
+        assertEquals(2, count(svg, "<use "));
+        assertEquals(2, count(svg, "fill=\"#00ff00\" stroke=\"#000000\""));
+    }
+
+    /**
+     * Clipping, transforms, text and images.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testStateAndText() throws Exception {
+        StringWriter out = new StringWriter();
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(out, 100, 50);
+        g2.clip(new Rectangle2D.Double(5, 5, 50, 30));
+        g2.translate(10, 20);
+        g2.setPaint(new Color(0, 0, 255, 128));
+        g2.drawString("A < B & C", 1, 2);
+        g2.drawImage(new BufferedImage(4, 3, BufferedImage.TYPE_INT_ARGB),
+                0, 0, null);
+        assertEquals(new Rectangle2D.Double(-5, -15, 50, 30), g2.getClip());
+        g2.setClip(null);
+        g2.fillRect(0, 0, 5, 5);
+        g2.finish();
+        String svg = out.toString();
+        parse(svg);
+        assertEquals(1, count(svg, "<clipPath "));
+        assertTrue(svg.contains("A &lt; B &amp; C"));
+        assertTrue(svg.contains("fill=\"#0000ff\" fill-opacity=\"0.502\""));
+        assertTrue(svg.contains("transform=\"matrix(1 0 0 1 10 20)\""));
+        assertTrue(svg.contains("data:image/png;base64,"));
+    }
+
+    /**
+     * Nothing can be drawn after the document is finished and write errors
+     * are reported by {@code finish()}.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testFinish() throws Exception {
+        StringWriter out = new StringWriter();
+        StreamingSVGGraphics2D g2 = new StreamingSVGGraphics2D(out, 10, 10);
+        g2.finish();
+        assertTrue(g2.isFinished());
+        assertThrows(IllegalStateException.class,
+                () -> g2.fillRect(0, 0, 1, 1));
+
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len)
+                    throws IOException {
+                throw new IOException("Failed.");
+            }
+            @Override
+            public void flush() {
+            }
+            @Override
+            public void close() {
+            }
+        };
+        StreamingSVGGraphics2D g3 = new StreamingSVGGraphics2D(failing, 10,
+                10);
+        g3.fillRect(0, 0, 1, 1);
+        assertThrows(IOException.class, () -> g3.finish());
+    }
+
+    /**
+     * A chart with many item shapes is written with the shapes reused and
+     * the series line as a single path.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testChart() throws Exception {
+        XYSeries<String> series = new XYSeries<>("S1");
+        for (int i = 0; i < 500; i++) {
+            series.add(i, Math.sin(i / 20.0));
+        }
+        XYPlot<String> plot = new XYPlot<>(new XYSeriesCollection<>(series),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer());
+        JFreeChart chart = new JFreeChart("Title", plot);
+        chart.setElementHinting(true);
+        StringWriter out = new StringWriter();
+        ExportUtils.writeAsSVG(chart, 600, 400, out);
+        String svg = out.toString();
+        Document document = parse(svg);
+        assertEquals("svg", document.getDocumentElement().getLocalName());
+        assertTrue(count(svg, "<use ") >= 490);
+        assertTrue(count(svg, "<path ") < 100);
+        assertTrue(svg.contains("data-ref=\"JFREECHART_TOP_LEVEL\""));
+    }
+
+}
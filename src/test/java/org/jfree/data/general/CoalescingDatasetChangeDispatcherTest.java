@@ -0,0 +1,196 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------------------------
+ * CoalescingDatasetChangeDispatcherTest.java
+ * ------------------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link CoalescingDatasetChangeDispatcher} class.
+ */
+public class CoalescingDatasetChangeDispatcherTest {
+
+    /**
+     * Runs the tasks passed to the executor.
+     *
+     * @param tasks  the tasks.
+     */
+    private static void runAll(List<Runnable> tasks) {
+        List<Runnable> copy = new ArrayList<>(tasks);
+        tasks.clear();
+        copy.forEach(Runnable::run);
+    }
+
+    /**
+     * Appending items to a series gives a single event that describes all the
+     * new items.
+     */
+    @Test
+    public void testItemsAdded() {
+        List<Runnable> tasks = new ArrayList<>();
+        CoalescingDatasetChangeDispatcher dispatcher
+                = new CoalescingDatasetChangeDispatcher(tasks::add);
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(new XYSeries<>("S0"));
+        dataset.addSeries(s1);
+        dataset.setChangeDispatcher(dispatcher);
+        List<DatasetChangeEvent> events = new ArrayList<>();
+        dataset.addChangeListener(events::add);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, i);
+        }
+        assertTrue(events.isEmpty());
+        assertEquals(1, tasks.size());
+        assertEquals(1, dispatcher.getPendingCount());
+        runAll(tasks);
+        assertEquals(1, events.size());
+        assertEquals(1, events.get(0).getSeries());
+        assertEquals(SeriesChangeInfo.itemsAdded(0, 99),
+                events.get(0).getInfo());
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+
+    /**
+     * Appending items to a series used as a sliding window gives a single
+     * event that describes all the removed and new items.
+     */
+    @Test
+    public void testSlidingWindow() {
+        List<Runnable> tasks = new ArrayList<>();
+        CoalescingDatasetChangeDispatcher dispatcher
+                = new CoalescingDatasetChangeDispatcher(tasks::add);
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.setMaximumItemCount(10);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        dataset.setChangeDispatcher(dispatcher);
+        List<DatasetChangeEvent> events = new ArrayList<>();
+        dataset.addChangeListener(events::add);
+        for (int i = 0; i < 14; i++) {
+            s1.add(i, i);
+        }
+        runAll(tasks);
+        assertEquals(1, events.size());
+        assertEquals(SeriesChangeInfo.itemsShifted(4, 0, 9),
+                events.get(0).getInfo());
+
+        for (int i = 14; i < 17; i++) {
+            s1.add(i, i);
+        }
+        runAll(tasks);
+        assertEquals(SeriesChangeInfo.itemsShifted(3, 7, 9),
+                events.get(1).getInfo());
+
+        // the window is replaced more than once
+        for (int i = 17; i < 40; i++) {
+            s1.add(i, i);
+        }
+        runAll(tasks);
+        assertEquals(SeriesChangeInfo.itemsShifted(23, 0, 9),
+                events.get(2).getInfo());
+    }
+
+    /**
+     * Different kinds of change give a single event for an unknown change.
+     */
+    @Test
+    public void testMixedChanges() {
+        List<Runnable> tasks = new ArrayList<>();
+        CoalescingDatasetChangeDispatcher dispatcher
+                = new CoalescingDatasetChangeDispatcher(tasks::add);
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        dataset.setChangeDispatcher(dispatcher);
+        List<DatasetChangeEvent> events = new ArrayList<>();
+        dataset.addChangeListener(events::add);
+        s1.updateByIndex(1, 3.0);
+        s1.updateByIndex(0, 3.0);
+        dispatcher.flush();
+        assertEquals(1, events.size());
+        assertEquals(SeriesChangeInfo.itemsUpdated(0, 1),
+                events.get(0).getInfo());
+        s1.add(3.0, 3.0);
+        s1.remove(0);
+        runAll(tasks);
+        assertEquals(2, events.size());
+        assertEquals(-1, events.get(1).getSeries());
+        assertNull(events.get(1).getInfo());
+
+        // the tasks scheduled before the flush find nothing to deliver
+        runAll(tasks);
+        assertEquals(2, events.size());
+    }
+
+    /**
+     * A dispatcher can be shared, and each dataset gets its own event.
+     */
+    @Test
+    public void testSharedDispatcher() throws CloneNotSupportedException {
+        List<Runnable> tasks = new ArrayList<>();
+        CoalescingDatasetChangeDispatcher dispatcher
+                = new CoalescingDatasetChangeDispatcher(tasks::add);
+        XYSeriesCollection<String> d1 = new XYSeriesCollection<>(
+                new XYSeries<>("S1"));
+        d1.setChangeDispatcher(dispatcher);
+        XYSeriesCollection<String> d2 = (XYSeriesCollection<String>)
+                d1.clone();
+        assertSame(dispatcher, d2.getChangeDispatcher());
+        List<DatasetChangeEvent> events = new ArrayList<>();
+        d1.addChangeListener(events::add);
+        d2.addChangeListener(events::add);
+        d1.getSeries(0).add(1.0, 1.0);
+        d2.addSeries(new XYSeries<>("S2"));
+        d1.getSeries(0).add(2.0, 1.0);
+        assertEquals(2, dispatcher.getPendingCount());
+        runAll(tasks);
+        assertEquals(2, events.size());
+        assertSame(d1, events.get(0).getDataset());
+        assertEquals(SeriesChangeInfo.itemsAdded(0, 1),
+                events.get(0).getInfo());
+        assertSame(d2, events.get(1).getDataset());
+        assertEquals(SeriesChangeInfo.seriesAdded(), events.get(1).getInfo());
+    }
+
+}
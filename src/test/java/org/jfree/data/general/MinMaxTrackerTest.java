@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxTrackerTest.java
+ * ----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link MinMaxTracker} class.
+ */
+public class MinMaxTrackerTest {
+
+    /**
+     * Checks the tracker bounds against the bounds found by iteration.
+     *
+     * @param tracker  the tracker.
+     * @param values  the values.
+     */
+    private static void checkBounds(MinMaxTracker tracker,
+            List<Double> values) {
+        double min = Double.NaN;
+        double max = Double.NaN;
+        for (double v : values) {
+            if (!Double.isNaN(v)) {
+                min = Double.isNaN(min) ? v : Math.min(min, v);
+                max = Double.isNaN(max) ? v : Math.max(max, v);
+            }
+        }
+        assertEquals(values.size(), tracker.getCount());
+        assertEquals(min, tracker.getMin());
+        assertEquals(max, tracker.getMax());
+    }
+
+    /**
+     * A new tracker has no bounds.
+     */
+    @Test
+    public void testEmpty() {
+        MinMaxTracker tracker = new MinMaxTracker(i -> 0.0);
+        assertTrue(Double.isNaN(tracker.getMin()));
+        assertTrue(Double.isNaN(tracker.getMax()));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MinMaxTracker(null));
+    }
+
+    /**
+     * Removing the current maximum triggers a recalculation.
+     */
+    @Test
+    public void testRemoveExtreme() {
+        List<Double> values = new ArrayList<>();
+        MinMaxTracker tracker = new MinMaxTracker(values::get);
+        for (double v : new double[] {3.0, 7.0, Double.NaN, 1.0, 5.0}) {
+            values.add(v);
+            tracker.itemAdded(values.size() - 1, v);
+        }
+        checkBounds(tracker, values);
+        tracker.itemRemoved(1, values.remove(1));
+        checkBounds(tracker, values);
+        tracker.itemRemoved(1, values.remove(1));
+        checkBounds(tracker, values);
+        double old = values.set(1, 10.0);
+        tracker.itemChanged(1, old, 10.0);
+        checkBounds(tracker, values);
+    }
+
+    /**
+     * In sliding window mode, a series with a maximum item count that
+     * receives monotonic data should still report the correct bounds.
+     */
+    @Test
+    public void testSlidingWindow() {
+        List<Double> values = new ArrayList<>();
+        MinMaxTracker tracker = new MinMaxTracker(values::get);
+        tracker.setSlidingWindow(true);
+        for (int i = 0; i < 1000; i++) {
+            double v = 1000.0 - i;
+            values.add(v);
+            tracker.itemAdded(values.size() - 1, v);
+            if (values.size() > 10) {
+                tracker.itemRemoved(0, values.remove(0));
+            }
+        }
+        checkBounds(tracker, values);
+        assertEquals(1.0, tracker.getMin());
+        assertEquals(10.0, tracker.getMax());
+    }
+
+    /**
+     * A random mix of changes, with and without the sliding window mode.
+     */
+    @Test
+    public void testRandomChanges() {
+        for (boolean sliding : new boolean[] {false, true}) {
+            Random random = new Random(sliding ? 1L : 2L);
+            List<Double> values = new ArrayList<>();
+            MinMaxTracker tracker = new MinMaxTracker(values::get);
+            tracker.setSlidingWindow(sliding);
+            for (int i = 0; i < 5000; i++) {
+                int op = random.nextInt(10);
+                double v = random.nextInt(20) == 0 ? Double.NaN
+                        : random.nextInt(100);
+                if (op < 5 || values.isEmpty()) {
+                    values.add(v);
+                    tracker.itemAdded(values.size() - 1, v);
+                }
+                else if (op < 7) {
+                    tracker.itemRemoved(0, values.remove(0));
+                }
+                else if (op < 8) {
+                    int index = random.nextInt(values.size());
+                    tracker.itemRemoved(index, values.remove(index));
+                }
+                else if (op < 9) {
+                    int index = random.nextInt(values.size() + 1);
+                    values.add(index, v);
+                    tracker.itemAdded(index, v);
+                }
+                else {
+                    int index = random.nextInt(values.size());
+                    double old = values.set(index, v);
+                    tracker.itemChanged(index, old, v);
+                }
+                checkBounds(tracker, values);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * SeriesChangeInfoTest.java
+ * -------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.general;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SeriesChangeInfo} class.
+ */
+public class SeriesChangeInfoTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        SeriesChangeInfo i1 = SeriesChangeInfo.itemsAdded(1, 2);
+        SeriesChangeInfo i2 = SeriesChangeInfo.itemsAdded(1, 2);
+        assertEquals(i1, i2);
+        assertEquals(i1.hashCode(), i2.hashCode());
+        assertNotEquals(i1, SeriesChangeInfo.itemsAdded(0, 2));
+        assertNotEquals(i1, SeriesChangeInfo.itemsAdded(1, 3));
+        assertNotEquals(i1, SeriesChangeInfo.itemsRemoved(1, 2));
+        assertNotEquals(i1, SeriesChangeInfo.itemsUpdated(1, 2));
+        assertNotEquals(i1, SeriesChangeInfo.itemsShifted(1, 1, 2));
+        assertEquals(SeriesChangeInfo.itemsShifted(3, 1, 2),
+                SeriesChangeInfo.itemsShifted(3, 1, 2));
+        assertNotEquals(SeriesChangeInfo.itemsShifted(3, 1, 2),
+                SeriesChangeInfo.itemsShifted(4, 1, 2));
+        assertEquals(SeriesChangeInfo.seriesAdded(),
+                SeriesChangeInfo.seriesAdded());
+        assertNotEquals(SeriesChangeInfo.seriesAdded(),
+                SeriesChangeInfo.seriesRemoved());
+    }
+
+    /**
+     * Item ranges are checked.
+     */
+    @Test
+    public void testItemRange() {
+        SeriesChangeInfo info = SeriesChangeInfo.itemsRemoved(3, 5);
+        assertEquals(SeriesChangeType.ITEMS_REMOVED, info.getType());
+        assertEquals(3, info.getFirstItem());
+        assertEquals(5, info.getLastItem());
+        assertEquals(-1, SeriesChangeInfo.seriesAdded().getFirstItem());
+        assertThrows(IllegalArgumentException.class,
+                () -> SeriesChangeInfo.itemsAdded(-1, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> SeriesChangeInfo.itemsUpdated(3, 2));
+    }
+
+    /**
+     * A single item added and followed by the removal of items from the
+     * start of a series.
+     */
+    @Test
+    public void testItemAdded() {
+        assertEquals(SeriesChangeInfo.itemsAdded(4, 4),
+                SeriesChangeInfo.itemAdded(4, 10, 0));
+        SeriesChangeInfo info = SeriesChangeInfo.itemAdded(9, 10, 2);
+        assertEquals(SeriesChangeType.ITEMS_SHIFTED, info.getType());
+        assertEquals(2, info.getRemovedCount());
+        assertEquals(7, info.getFirstItem());
+        assertEquals(7, info.getLastItem());
+
+        // not appended, or removed again
+        assertNull(SeriesChangeInfo.itemAdded(4, 10, 2));
+        assertNull(SeriesChangeInfo.itemAdded(0, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> SeriesChangeInfo.itemsShifted(0, 1, 2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        SeriesChangeInfo i1 = SeriesChangeInfo.itemsUpdated(4, 7);
+        SeriesChangeInfo i2 = TestUtils.serialised(i1);
+        assertEquals(i1, i2);
+    }
+
+}
@@ -0,0 +1,321 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * BinaryDatasetUtilsTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.ColumnarTimeSeries;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Minute;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link BinaryDatasetUtils} class.
+ */
+public class BinaryDatasetUtilsTest {
+
+    @TempDir
+    Path dir;
+
+    private static XYSeriesCollection<String> createXYSeriesCollection() {
+        XYSeries<String> s1 = new XYSeries<>("S1", false, true);
+        Random random = new Random(42L);
+        double y = 100.0;
+        for (int i = 0; i < 1000; i++) {
+            y += random.nextGaussian();
+            s1.add(i * 0.5, i % 100 == 0 ? Double.NaN : y);
+        }
+        s1.add(3.0, -0.0);
+        XYSeries<String> s2 = new XYSeries<>("S2 é");
+        s2.setMaximumItemCount(10);
+        s2.add(1.0, 2.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        dataset.addSeries(s2);
+        dataset.addSeries(new XYSeries<>("Empty"));
+        return dataset;
+    }
+
+    private static byte[] write(XYSeriesCollection<?> dataset,
+            boolean compress) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryDatasetUtils.writeXYSeriesCollection(dataset, out, compress);
+        return out.toByteArray();
+    }
+
+    private static void assertSameSeries(XYSeries<?> expected,
+            XYSeries<?> actual) {
+        assertEquals(expected.getKey().toString(), actual.getKey());
+        assertEquals(expected.getAutoSort(), actual.getAutoSort());
+        assertEquals(expected.getAllowDuplicateXValues(),
+                actual.getAllowDuplicateXValues());
+        assertEquals(expected.getMaximumItemCount(),
+                actual.getMaximumItemCount());
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(Double.doubleToRawLongBits(expected.getXValue(i)),
+                    Double.doubleToRawLongBits(actual.getXValue(i)));
+            assertEquals(Double.doubleToRawLongBits(expected.getYValue(i)),
+                    Double.doubleToRawLongBits(actual.getYValue(i)));
+        }
+    }
+
+    /**
+     * An XYSeriesCollection survives a round trip, with and without
+     * compression, and compression makes the output smaller.
+     */
+    @Test
+    public void testXYSeriesCollection() throws IOException {
+        XYSeriesCollection<String> dataset = createXYSeriesCollection();
+        byte[] raw = write(dataset, false);
+        byte[] compressed = write(dataset, true);
+        assertTrue(compressed.length < raw.length * 3 / 4);
+        for (byte[] bytes : new byte[][] {raw, compressed}) {
+            XYSeriesCollection<?> copy = (XYSeriesCollection<?>)
+                    BinaryDatasetUtils.read(new ByteArrayInputStream(bytes));
+            assertEquals(3, copy.getSeriesCount());
+            for (int s = 0; s < 3; s++) {
+                assertSameSeries(dataset.getSeries(s), copy.getSeries(s));
+            }
+        }
+    }
+
+    /**
+     * A TimeSeriesCollection survives a round trip through a memory-mapped
+     * file, with less than eight bytes per item.
+     */
+    @Test
+    public void testTimeSeriesCollection() throws IOException {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        Minute m = new Minute(0, 12, 1, 3, 2020);
+        for (int i = 0; i < 10000; i++) {
+            s1.add(m, i % 7 == 0 ? null : (double) (i % 10));
+            m = (Minute) m.next();
+        }
+        TimeSeries<String> s2 = new TimeSeries<>("S2");
+        s2.add(new Day(1, 1, 2021), 1.5);
+        s2.add(new Day(5, 1, 2021), -2.5);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(s1,
+                zone);
+        dataset.addSeries(s2);
+        Path file = this.dir.resolve("series.bin");
+        try (OutputStream out = Files.newOutputStream(file)) {
+            BinaryDatasetUtils.writeTimeSeriesCollection(dataset, zone, out,
+                    true);
+        }
+        assertTrue(Files.size(file) < 10000 * 8);
+        TimeSeriesCollection<?> copy = (TimeSeriesCollection<?>)
+                BinaryDatasetUtils.read(file);
+        assertEquals(zone, ((ColumnarTimeSeries<?>) copy.getSeries(0))
+                .getTimeZone());
+        assertEquals(2, copy.getSeriesCount());
+        for (int s = 0; s < 2; s++) {
+            TimeSeries<?> expected = dataset.getSeries(s);
+            TimeSeries<?> actual = copy.getSeries(s);
+            assertEquals(expected.getKey(), actual.getKey());
+            assertEquals(expected.getTimePeriodClass(),
+                    actual.getTimePeriodClass());
+            assertEquals(expected.getItemCount(), actual.getItemCount());
+            for (int i = 0; i < expected.getItemCount(); i++) {
+                assertEquals(expected.getTimePeriod(i),
+                        actual.getTimePeriod(i));
+                assertEquals(expected.getYValue(i), actual.getYValue(i));
+            }
+        }
+    }
+
+    /**
+     * A DefaultXYDataset survives a round trip.
+     */
+    @Test
+    public void testXYDataset() throws IOException {
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        dataset.addSeries("A", new double[][] {{1.0, 2.0, 3.0},
+                {4.0, Double.NaN, Double.POSITIVE_INFINITY}});
+        dataset.addSeries("B", new double[][] {{}, {}});
+        for (boolean compress : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryDatasetUtils.writeXYDataset(dataset, out, compress);
+            DefaultXYDataset<?> copy = (DefaultXYDataset<?>)
+                    BinaryDatasetUtils.read(new ByteArrayInputStream(
+                    out.toByteArray()));
+            assertEquals(dataset, copy);
+        }
+    }
+
+    /**
+     * A DefaultCategoryDataset survives a round trip, including null
+     * values.
+     */
+    @Test
+    public void testCategoryDataset() throws IOException {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(null, "R1", "C2");
+        dataset.addValue(3.5, "R2", "C2");
+        for (boolean compress : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryDatasetUtils.writeCategoryDataset(dataset, out, compress);
+            DefaultCategoryDataset<?, ?> copy = (DefaultCategoryDataset<?, ?>)
+                    BinaryDatasetUtils.read(new ByteArrayInputStream(
+                    out.toByteArray()));
+            assertEquals(dataset, copy);
+            assertNull(copy.getValue(1, 0));
+        }
+    }
+
+    /**
+     * Invalid input is reported with an IOException.
+     */
+    @Test
+    public void testInvalidInput() throws IOException {
+        assertThrows(IOException.class, () -> BinaryDatasetUtils.read(
+                new ByteArrayInputStream("not a dataset".getBytes("UTF-8"))));
+        byte[] bytes = write(createXYSeriesCollection(), true);
+        byte[] newer = bytes.clone();
+        newer[4] = (byte) (BinaryDatasetUtils.VERSION + 1);
+        assertThrows(IOException.class, () -> BinaryDatasetUtils.read(
+                new ByteArrayInputStream(newer)));
+        byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        assertThrows(IOException.class, () -> BinaryDatasetUtils.read(
+                new ByteArrayInputStream(truncated)));
+    }
+
+    /**
+     * Every truncated copy of a valid input is rejected with an
+     * {@link IOException}.
+     */
+    @Test
+    public void testTruncatedInput() throws IOException {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        TimeSeries<String> s2 = new TimeSeries<>("S2");
+        for (int i = 0; i < 20; i++) {
+            s1.add(i, i * 0.25);
+            s2.add(new Day(1 + i, 1, 2025), i * 0.25);
+        }
+        TimeZone zone = TimeZone.getTimeZone("UTC");
+        for (boolean compress : new boolean[] {false, true}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            BinaryDatasetUtils.writeTimeSeriesCollection(
+                    new TimeSeriesCollection<>(s2, zone), zone, out, compress);
+            for (byte[] bytes : new byte[][] {
+                    write(new XYSeriesCollection<>(s1), compress),
+                    out.toByteArray()}) {
+                for (int n = 0; n < bytes.length; n++) {
+                    byte[] truncated = new byte[n];
+                    System.arraycopy(bytes, 0, truncated, 0, n);
+                    assertThrows(IOException.class, () -> BinaryDatasetUtils
+                            .read(new ByteArrayInputStream(truncated)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Counts that are larger than the remaining input are rejected with an
+     * {@link IOException} before any arrays are allocated.
+     */
+    @Test
+    public void testHostileCounts() {
+        byte[] huge = {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                0x07};
+        // a series (or key, or time zone name) count for each dataset type
+        for (int type = 1; type <= 4; type++) {
+            assertInvalid(header(type), huge);
+        }
+        // one series with an empty key and a huge item count, raw values
+        assertInvalid(header(3), new byte[] {1, 0}, huge, new byte[] {0});
+        // the same, with compressed values that are too short
+        assertInvalid(header(3), new byte[] {1, 0}, huge,
+                new byte[] {1, 1, 0});
+        // a category dataset with 40000 (empty) row and column keys, so
+        // that there are too many cells for the remaining input
+        byte[] keys = new byte[40000];
+        assertInvalid(header(4), new byte[] {(byte) 0xC0, (byte) 0xB8, 0x02},
+                keys, new byte[] {(byte) 0xC0, (byte) 0xB8, 0x02}, keys,
+                new byte[] {0});
+    }
+
+    /**
+     * Returns a header for the specified dataset type.
+     *
+     * @param type  the dataset type.
+     *
+     * @return The header bytes.
+     */
+    private static byte[] header(int type) {
+        return new byte[] {'J', 'F', 'D', 'S', 1, (byte) type, 0};
+    }
+
+    /**
+     * Checks that the concatenated parts are rejected with an
+     * {@link IOException}.
+     *
+     * @param parts  the parts of the input.
+     */
+    private static void assertInvalid(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.write(part, 0, part.length);
+        }
+        byte[] bytes = out.toByteArray();
+        assertThrows(IOException.class, () -> BinaryDatasetUtils.read(
+                new ByteArrayInputStream(bytes)));
+    }
+
+}
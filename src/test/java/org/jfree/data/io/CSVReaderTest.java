@@ -0,0 +1,217 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * CSVReaderTest.java
+ * ------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.io;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.time.ColumnarTimeSeries;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.xy.ColumnarXYSeries;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link CSVReader} class.
+ */
+public class CSVReaderTest {
+
+    @TempDir
+    Path dir;
+
+    private static double parse(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        return CSVReader.parseNumber(ByteBuffer.wrap(bytes), 0, bytes.length,
+                0L);
+    }
+
+    /**
+     * The number parser gives the same results as Double.parseDouble().
+     */
+    @Test
+    public void testParseNumber() {
+        String[] values = {"0", "-0", "1", "+1", "-1.5", "0.1", "0.005",
+                "123456789012345678", "1234567890123456789012", "3.14159",
+                "1e10", "1E-5", "-2.5e+3", "1e300", "4.9e-324",
+                "0.30000000000000004", "9007199254740993", ".5", "5.",
+                "NaN", "Infinity", "-Infinity", "1.7976931348623157e308"};
+        for (String v : values) {
+            assertEquals(Double.parseDouble(v), parse(v), v);
+        }
+        assertThrows(NumberFormatException.class, () -> parse("abc"));
+        assertThrows(NumberFormatException.class, () -> parse("1e"));
+        assertThrows(NumberFormatException.class, () -> parse("1.2.3"));
+
+        Random random = new Random(1L);
+        for (int i = 0; i < 10000; i++) {
+            double d = random.nextDouble() * Math.pow(10,
+                    random.nextInt(40) - 20);
+            String s = Double.toString(d);
+            assertEquals(d, parse(s), s);
+        }
+    }
+
+    /**
+     * Checks the date calculation.
+     */
+    @Test
+    public void testDaysFromCivil() {
+        for (LocalDate d : new LocalDate[] {LocalDate.of(1970, 1, 1),
+                LocalDate.of(2000, 2, 29), LocalDate.of(1969, 12, 31),
+                LocalDate.of(1600, 3, 1), LocalDate.of(2024, 12, 31)}) {
+            assertEquals(d.toEpochDay(), CSVReader.daysFromCivil(
+                    d.getYear(), d.getMonthValue(), d.getDayOfMonth()));
+        }
+    }
+
+    /**
+     * Reads columns from a stream and from a file, with quoted fields, white
+     * space, missing values and date-times.
+     */
+    @Test
+    public void testReadColumns() throws IOException {
+        String csv = "\"x\",\"label\",\"y\",\"t\"\r\n"
+                + "1, \"a\", 2.5, 2020-01-01T00:00:00Z\r\n"
+                + "2,\"b,c\",,2020-01-01 01:30\r\n"
+                + "\n"
+                + "3,d,\"-4\",2020-01-02T00:00:00.250+01:00\r\n"
+                + "4,e";
+        CSVReader reader = new CSVReader();
+        reader.setTimeZone(TimeZone.getTimeZone("UTC"));
+        InputStream in = new ByteArrayInputStream(
+                csv.getBytes(StandardCharsets.UTF_8));
+        double[][] data = reader.readColumns(in, 2, 0, 3);
+        assertArrayEquals(new double[] {1, 2, 3, 4}, data[1]);
+        assertEquals(2.5, data[0][0]);
+        assertTrue(Double.isNaN(data[0][1]));
+        assertEquals(-4.0, data[0][2]);
+        assertTrue(Double.isNaN(data[0][3]));
+        assertEquals(1577836800000.0, data[2][0]);
+        assertEquals(1577836800000.0 + 5400000L, data[2][1]);
+        assertEquals(1577923200250.0 - 3600000L, data[2][2]);
+
+        Path file = this.dir.resolve("test.csv");
+        Files.write(file, csv.getBytes(StandardCharsets.UTF_8));
+        double[][] data2 = reader.readColumns(file, 2, 0, 3);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(data[i], data2[i]);
+        }
+
+        assertThrows(NumberFormatException.class,
+                () -> reader.readColumns(file, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> reader.readColumns(file, 0, 0));
+    }
+
+    /**
+     * A file large enough to be split into chunks gives the same result
+     * whether or not the chunks are parsed in parallel, and the same result
+     * as reading the file as a stream.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        StringBuilder sb = new StringBuilder("x;y\n");
+        Random random = new Random(2L);
+        int rows = 200000;
+        for (int i = 0; i < rows; i++) {
+            sb.append(i).append(';').append(random.nextGaussian()).append(
+                    '\n');
+        }
+        Path file = this.dir.resolve("large.csv");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.UTF_8));
+        CSVReader reader = new CSVReader(';', '"');
+        double[][] parallel = reader.readColumns(file, 0, 1);
+        reader.setParallel(false);
+        double[][] serial = reader.readColumns(file, 0, 1);
+        double[][] stream;
+        try (InputStream in = Files.newInputStream(file)) {
+            stream = reader.readColumns(in, 0, 1);
+        }
+        assertEquals(rows, parallel[0].length);
+        for (int i = 0; i < rows; i++) {
+            assertEquals(i, parallel[0][i]);
+        }
+        assertArrayEquals(serial[1], parallel[1]);
+        assertArrayEquals(serial[1], stream[1]);
+    }
+
+    /**
+     * Reads into a series and datasets.
+     */
+    @Test
+    public void testReadInto() throws IOException {
+        Path file = this.dir.resolve("series.csv");
+        Files.write(file, Arrays.asList("time,a,b", "0,1,10", "1000,2,20",
+                "2000,3,30"));
+        CSVReader reader = new CSVReader();
+
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S1");
+        reader.readInto(file, s1, 1, 2);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(3.0, s1.getXValue(2));
+        assertEquals(30.0, s1.getYValue(2));
+
+        ColumnarTimeSeries<String> s2 = new ColumnarTimeSeries<>("S2",
+                Millisecond.class);
+        reader.readInto(file, s2, 0, 1);
+        assertEquals(3, s2.getItemCount());
+        assertEquals(2000L, s2.getFirstMillisecond(2));
+        assertEquals(3.0, s2.getYValue(2));
+
+        DefaultXYDataset<String> dataset = new DefaultXYDataset<>();
+        reader.readInto(file, dataset, Arrays.asList("A", "B"), 0, 1, 2);
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals(1000.0, dataset.getXValue(1, 1));
+        assertEquals(20.0, dataset.getYValue(1, 1));
+    }
+
+}
@@ -0,0 +1,175 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * JSONReaderTest.java
+ * -------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link JSONReader} and {@link JSONWriter} classes.
+ */
+public class JSONReaderTest {
+
+    /**
+     * Reads a document containing all the token types.
+     */
+    @Test
+    public void testTokens() throws IOException {
+        String json = " {\"a\" : [1, -2.5e3, null, true, false, \"x\\\"y\\u0041\"],"
+                + " \"b\": {}, \"c\": []} ";
+        JSONReader in = new JSONReader(new StringReader(json));
+        in.beginObject();
+        assertEquals("a", in.nextName());
+        in.beginArray();
+        assertEquals(JSONReader.Token.NUMBER, in.peek());
+        assertEquals(1.0, in.nextDouble());
+        assertEquals(-2500.0, in.nextDouble());
+        assertTrue(Double.isNaN(in.nextDouble()));
+        assertTrue(in.nextBoolean());
+        assertFalse(in.nextBoolean());
+        assertEquals("x\"yA", in.nextString());
+        assertFalse(in.hasNext());
+        in.endArray();
+        assertEquals("b", in.nextName());
+        in.skipValue();
+        assertEquals("c", in.nextName());
+        in.beginArray();
+        in.endArray();
+        in.endObject();
+        assertEquals(JSONReader.Token.END_DOCUMENT, in.peek());
+    }
+
+    /**
+     * Malformed input is reported.
+     */
+    @Test
+    public void testMalformed() {
+        for (String json : new String[] {"[1 2]", "{\"a\" 1}", "[1,]",
+                "{1: 2}", "[\"abc", "[", "[1] 2", "[tru]", "[1.2.3]",
+                "[01]", "[-01]", "[00]", "[1.]", "[-.5]", "[-]", "[1e]",
+                "[1e+]", "[1.e5]"}) {
+            assertThrows(IOException.class, () -> {
+                JSONReader in = new JSONReader(new StringReader(json));
+                in.skipValue();
+                in.peek();
+            }, json);
+        }
+    }
+
+    /**
+     * Numbers in all the forms allowed by the JSON grammar are read.
+     */
+    @Test
+    public void testNumbers() throws IOException {
+        JSONReader in = new JSONReader(new StringReader(
+                "[0, -0, 0.5, -10, 1E+2, 2e-1, 0e5, 123.25]"));
+        in.beginArray();
+        for (double expected : new double[] {0.0, -0.0, 0.5, -10.0, 100.0,
+                0.2, 0.0, 123.25}) {
+            assertEquals(expected, in.nextDouble());
+        }
+        in.endArray();
+    }
+
+    /**
+     * Strings and numbers survive a round trip through the writer and
+     * reader, including strings longer than the buffers.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        Random random = new Random(4L);
+        double[] values = new double[5000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 3 == 0 ? random.nextInt(1000000)
+                    : random.nextGaussian() * Math.pow(10, random.nextInt(30)
+                    - 15);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append((char) (i % 97 + 10));
+        }
+        String longString = sb.toString();
+
+        StringWriter sw = new StringWriter();
+        JSONWriter out = new JSONWriter(sw);
+        out.beginObject().name("s").value(longString).name("v").beginArray();
+        for (double v : values) {
+            out.value(v);
+        }
+        out.value(Double.NaN).value(-0.0).value(Long.MAX_VALUE).endArray();
+        out.endObject().flush();
+
+        JSONReader in = new JSONReader(new StringReader(sw.toString()));
+        in.beginObject();
+        assertEquals("s", in.nextName());
+        assertEquals(longString, in.nextString());
+        assertEquals("v", in.nextName());
+        in.beginArray();
+        for (double v : values) {
+            assertEquals(v, in.nextDouble());
+        }
+        assertTrue(Double.isNaN(in.nextDouble()));
+        assertEquals(-0.0, in.nextDouble());
+        assertEquals("9223372036854775807", in.nextString());
+        in.endArray();
+        in.endObject();
+    }
+
+    /**
+     * Checks the writer's separators.
+     */
+    @Test
+    public void testWriter() throws IOException {
+        StringWriter sw = new StringWriter();
+        JSONWriter out = new JSONWriter(sw);
+        out.beginArray().value(1L).beginObject().name("a").value("b")
+                .name("c").nullValue().endObject().beginArray().endArray()
+                .value(true).endArray().flush();
+        assertEquals("[1,{\"a\":\"b\",\"c\":null},[],true]", sw.toString());
+        assertThrows(IllegalStateException.class, () -> out.endArray());
+    }
+
+}
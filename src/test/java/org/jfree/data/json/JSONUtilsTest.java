@@ -0,0 +1,163 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * JSONUtilsTest.java
+ * ------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.TimeZone;
+
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.Day;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link JSONUtils} class.
+ */
+public class JSONUtilsTest {
+
+    /**
+     * An XY dataset survives a round trip, with NaN values.
+     */
+    @Test
+    public void testXYDataset() throws IOException {
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        s1.add(1.0, 2.5);
+        s1.add(2.0, null);
+        s1.add(3.5, -4.0);
+        XYSeries<String> s2 = new XYSeries<>("S\"2");
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        StringWriter sw = new StringWriter();
+        JSONUtils.writeXYDataset(dataset, sw);
+        assertEquals("{\"series\":[{\"key\":\"S1\",\"x\":[1,2,3.5],"
+                + "\"y\":[2.5,null,-4]},{\"key\":\"S\\\"2\",\"x\":[],"
+                + "\"y\":[]}]}", sw.toString());
+
+        DefaultXYDataset<String> copy = JSONUtils.readXYDataset(
+                new StringReader(sw.toString()));
+        assertEquals(2, copy.getSeriesCount());
+        assertEquals("S\"2", copy.getSeriesKey(1));
+        assertEquals(3, copy.getItemCount(0));
+        assertEquals(3.5, copy.getXValue(0, 2));
+        assertEquals(Double.NaN, copy.getYValue(0, 1));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONUtils.writeXYDataset(copy, out);
+        DefaultXYDataset<String> copy2 = JSONUtils.readXYDataset(
+                new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(copy, copy2);
+
+        assertThrows(IOException.class, () -> JSONUtils.readXYDataset(
+                new StringReader("{\"series\":[{\"key\":\"A\",\"x\":[1]}]}")));
+        // duplicate keys are rejected rather than replacing a series
+        assertThrows(IOException.class, () -> JSONUtils.readXYDataset(
+                new StringReader("{\"series\":["
+                + "{\"key\":\"A\",\"x\":[1],\"y\":[2]},"
+                + "{\"key\":\"A\",\"x\":[3],\"y\":[4]}]}")));
+    }
+
+    /**
+     * A time series collection survives a round trip.
+     */
+    @Test
+    public void testTimeSeriesCollection() throws IOException {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.add(new Day(1, 3, 2020), 1.0);
+        s1.add(new Day(29, 3, 2020), null);
+        s1.add(new Day(30, 3, 2020), 3.0);
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>(
+                s1, zone);
+        StringWriter sw = new StringWriter();
+        JSONUtils.writeTimeSeriesCollection(dataset, zone, sw);
+
+        TimeSeriesCollection<String> copy = JSONUtils.readTimeSeriesCollection(
+                new StringReader(sw.toString()), zone);
+        TimeSeries<String> c1 = copy.getSeries(0);
+        assertEquals(Day.class, c1.getTimePeriodClass());
+        assertEquals(s1.getTimePeriod(2), c1.getTimePeriod(2));
+        assertEquals(3, c1.getItemCount());
+        assertNull(c1.getValue(1));
+        assertEquals(3.0, c1.getYValue(2));
+        for (int i = 0; i < 3; i++) {
+            assertEquals(dataset.getXValue(0, i), copy.getXValue(0, i));
+        }
+
+        String json = "{\"series\":[{\"key\":\"A\",\"time\":[0,5],"
+                + "\"values\":[1,2]}]}";
+        copy = JSONUtils.readTimeSeriesCollection(new StringReader(json),
+                zone);
+        assertEquals(Millisecond.class, copy.getSeries(0).getTimePeriodClass());
+        assertThrows(IOException.class, () -> JSONUtils
+                .readTimeSeriesCollection(new StringReader("{\"series\":[{"
+                + "\"key\":\"A\",\"period\":\"String\",\"time\":[],"
+                + "\"values\":[]}]}"), zone));
+    }
+
+    /**
+     * The category format written by writeKeyedValues2D() can be read back.
+     */
+    @Test
+    public void testKeyedValues2D() throws IOException {
+        DefaultCategoryDataset<String, String> dataset
+                = new DefaultCategoryDataset<>();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(null, "R1", "C2");
+        dataset.addValue(3.0, "R2", "C1");
+        dataset.addValue(4.5, "R2", "C2");
+        String json = JSONUtils.writeKeyedValues2D(dataset);
+        CategoryDataset<String, String> copy = JSONUtils.readKeyedValues2D(
+                new StringReader(json));
+        assertEquals(dataset, copy);
+    }
+
+}
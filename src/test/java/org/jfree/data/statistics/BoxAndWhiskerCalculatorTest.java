@@ -41,6 +41,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -158,4 +159,86 @@ public class BoxAndWhiskerCalculatorTest {
         assertEquals(1.0, item.getMinRegularValue().doubleValue(), EPSILON);
         assertEquals(4.0, item.getMaxRegularValue().doubleValue(), EPSILON);
     }
+
+    /**
+     * The selection based calculations (used for arrays and for lists when
+     * null and NaN items are stripped) give the same results as sorting the
+     * values.
+     */
+    @Test
+    public void testSelectionMatchesSorting() {
+        Random random = new Random(3L);
+        for (int n = 0; n < 60; n++) {
+            double[] values = new double[n + 1];
+            List<Double> list = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                values[i] = Math.floor(random.nextGaussian() * 10.0);
+                if (i % 7 == 0) {
+                    values[i] *= 10.0;  // some outliers
+                }
+                list.add(values[i]);
+            }
+            values[n] = Double.NaN;
+            List<Double> withNaN = new ArrayList<>(list);
+            withNaN.add(Double.NaN);
+            BoxAndWhiskerItem expected = BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(list, false);
+            assertItemEquals(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(values, true));
+            assertItemEquals(expected, BoxAndWhiskerCalculator
+                    .calculateBoxAndWhiskerStatistics(withNaN));
+        }
+    }
+
+    /**
+     * The approximate statistics from a sketch are close to the exact
+     * values.
+     */
+    @Test
+    public void testSketch() {
+        Random random = new Random(5L);
+        QuantileSketch sketch = new QuantileSketch();
+        double[] values = new double[50000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian());
+            sketch.add(values[i]);
+        }
+        BoxAndWhiskerItem exact = BoxAndWhiskerCalculator
+                .calculateBoxAndWhiskerStatistics(values, false);
+        BoxAndWhiskerItem item = BoxAndWhiskerCalculator
+                .calculateApproximateStatistics(sketch);
+        assertEquals(exact.getMean().doubleValue(),
+                item.getMean().doubleValue(), EPSILON);
+        assertEquals(exact.getQ1().doubleValue(), item.getQ1().doubleValue(),
+                0.01);
+        assertEquals(exact.getMedian().doubleValue(),
+                item.getMedian().doubleValue(), 0.01);
+        assertEquals(exact.getQ3().doubleValue(), item.getQ3().doubleValue(),
+                0.01);
+        assertEquals(exact.getMinRegularValue().doubleValue(),
+                item.getMinRegularValue().doubleValue(), 0.01);
+        assertEquals(exact.getMaxRegularValue().doubleValue(),
+                item.getMaxRegularValue().doubleValue(), 0.05);
+        assertTrue(item.getOutliers().isEmpty());
+
+        item = BoxAndWhiskerCalculator.calculateApproximateStatistics(
+                new QuantileSketch());
+        assertTrue(Double.isNaN(item.getMedian().doubleValue()));
+    }
+
+    private static void assertItemEquals(BoxAndWhiskerItem expected,
+            BoxAndWhiskerItem actual) {
+        assertEquals(expected.getMean().doubleValue(),
+                actual.getMean().doubleValue(), EPSILON);
+        assertEquals(expected.getMedian(), actual.getMedian());
+        assertEquals(expected.getQ1(), actual.getQ1());
+        assertEquals(expected.getQ3(), actual.getQ3());
+        assertEquals(expected.getMinRegularValue(),
+                actual.getMinRegularValue());
+        assertEquals(expected.getMaxRegularValue(),
+                actual.getMaxRegularValue());
+        assertEquals(expected.getMinOutlier(), actual.getMinOutlier());
+        assertEquals(expected.getMaxOutlier(), actual.getMaxOutlier());
+        assertEquals(expected.getOutliers(), actual.getOutliers());
+    }
 }
@@ -157,6 +157,30 @@ public class DefaultBoxAndWhiskerCategoryDatasetTest {
         assertEquals(new Range(7.0, 8.0), dataset.getRangeBounds(false));
     }
 
+    /**
+     * Adding a sketch creates an item with the approximate statistics.
+     */
+    @Test
+    public void testAddSketch() {
+        DefaultBoxAndWhiskerCategoryDataset<String, String> dataset
+                = new DefaultBoxAndWhiskerCategoryDataset<>();
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i <= 100; i++) {
+            sketch.add(i);
+        }
+        dataset.add(sketch, "R1", "C1");
+        assertEquals(50.0, dataset.getMeanValue("R1", "C1").doubleValue(),
+                EPSILON);
+        assertEquals(50.0, dataset.getMedianValue("R1", "C1").doubleValue(),
+                1.0);
+        assertEquals(25.0, dataset.getQ1Value("R1", "C1").doubleValue(), 1.0);
+        assertEquals(75.0, dataset.getQ3Value("R1", "C1").doubleValue(), 1.0);
+        assertEquals(0.0, dataset.getMinRegularValue("R1", "C1").doubleValue(),
+                EPSILON);
+        assertEquals(100.0,
+                dataset.getMaxRegularValue("R1", "C1").doubleValue(), EPSILON);
+    }
+
     /**
      * Some checks for the add() method.
      */
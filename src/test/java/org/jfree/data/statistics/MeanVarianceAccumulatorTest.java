@@ -0,0 +1,135 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * MeanVarianceAccumulatorTest.java
+ * --------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link MeanVarianceAccumulator} class.
+ */
+public class MeanVarianceAccumulatorTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * An empty accumulator.
+     */
+    @Test
+    public void testEmpty() {
+        MeanVarianceAccumulator acc = new MeanVarianceAccumulator();
+        assertEquals(0, acc.getCount());
+        assertTrue(Double.isNaN(acc.getMean()));
+        assertTrue(Double.isNaN(acc.getVariance()));
+        assertTrue(Double.isNaN(acc.getMinimum()));
+        assertTrue(Double.isNaN(acc.getMaximum()));
+        acc.add(2.0);
+        assertEquals(2.0, acc.getMean(), EPSILON);
+        assertTrue(Double.isNaN(acc.getStandardDeviation()));
+    }
+
+    /**
+     * The results match the {@link Statistics} methods, and NaN is ignored.
+     */
+    @Test
+    public void testAgainstStatistics() {
+        double[] values = {3.0, 1.5, 9.25, -4.0, 7.0, 0.0, 2.0};
+        MeanVarianceAccumulator acc = new MeanVarianceAccumulator();
+        acc.addAll(values);
+        acc.add(Double.NaN);
+        assertEquals(7, acc.getCount());
+        assertEquals(Statistics.calculateMean(values), acc.getMean(),
+                EPSILON);
+        assertEquals(Statistics.calculateStdDev(values),
+                acc.getStandardDeviation(), EPSILON);
+        assertEquals(18.75, acc.getSum(), EPSILON);
+        assertEquals(-4.0, acc.getMinimum(), EPSILON);
+        assertEquals(9.25, acc.getMaximum(), EPSILON);
+    }
+
+    /**
+     * Merging chunks gives the same result as adding the values in sequence,
+     * including when collecting a parallel stream.
+     */
+    @Test
+    public void testMerge() {
+        Random random = new Random(11L);
+        double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1.0e6 + random.nextGaussian() * 3.0;
+        }
+        MeanVarianceAccumulator all = new MeanVarianceAccumulator();
+        all.addAll(values);
+
+        MeanVarianceAccumulator a = new MeanVarianceAccumulator();
+        a.addAll(values, 0, 1234);
+        MeanVarianceAccumulator b = new MeanVarianceAccumulator();
+        b.addAll(values, 1234, values.length);
+        a.merge(b).merge(new MeanVarianceAccumulator());
+        assertEquals(all.getCount(), a.getCount());
+        assertEquals(all.getMean(), a.getMean(), 1.0e-6);
+        assertEquals(all.getVariance(), a.getVariance(), 1.0e-6);
+        assertEquals(all.getMinimum(), a.getMinimum(), EPSILON);
+        assertEquals(all.getMaximum(), a.getMaximum(), EPSILON);
+
+        MeanVarianceAccumulator p = MeanVarianceAccumulator.of(
+                DoubleStream.of(values).parallel());
+        assertEquals(all.getCount(), p.getCount());
+        assertEquals(all.getMean(), p.getMean(), 1.0e-6);
+        assertEquals(all.getVariance(), p.getVariance(), 1.0e-6);
+        assertEquals(9.0, p.getVariance(), 0.5);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MeanVarianceAccumulator acc = new MeanVarianceAccumulator();
+        acc.addAll(new double[] {1.0, 2.0, 4.0});
+        MeanVarianceAccumulator acc2 = TestUtils.serialised(acc);
+        assertEquals(acc.getCount(), acc2.getCount());
+        assertEquals(acc.getMean(), acc2.getMean(), EPSILON);
+        assertEquals(acc.getVariance(), acc2.getVariance(), EPSILON);
+    }
+
+}
@@ -0,0 +1,122 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * OLSAccumulatorTest.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link OLSAccumulator} class.
+ */
+public class OLSAccumulatorTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Not enough data.
+     */
+    @Test
+    public void testEmpty() {
+        OLSAccumulator acc = new OLSAccumulator();
+        assertTrue(Double.isNaN(acc.getSlope()));
+        acc.add(1.0, 2.0);
+        assertTrue(Double.isNaN(acc.getSlope()));
+        assertTrue(Double.isNaN(acc.getCorrelation()));
+        assertEquals(2.0, acc.getMeanY(), EPSILON);
+    }
+
+    /**
+     * The results match {@link Regression} and {@link Statistics}, and pairs
+     * containing NaN are ignored.
+     */
+    @Test
+    public void testAgainstRegression() {
+        XYSeries<String> s = new XYSeries<>("S");
+        double[][] data = new double[20][2];
+        for (int i = 0; i < data.length; i++) {
+            data[i][0] = i * 1.5;
+            data[i][1] = 3.0 - 0.5 * i + Math.sin(i);
+            s.add(data[i][0], data[i][1]);
+        }
+        OLSAccumulator acc = new OLSAccumulator();
+        acc.addAll(new XYSeriesCollection<>(s), 0);
+        acc.add(Double.NaN, 1.0);
+        acc.add(1.0, Double.NaN);
+        assertEquals(20, acc.getCount());
+        double[] expected = Regression.getOLSRegression(data);
+        double[] result = acc.getCoefficients();
+        assertEquals(expected[0], result[0], EPSILON);
+        assertEquals(expected[1], result[1], EPSILON);
+        assertEquals(expected[0], acc.getIntercept(), EPSILON);
+        assertEquals(expected[1], acc.getSlope(), EPSILON);
+
+        Number[] x = new Number[data.length];
+        Number[] y = new Number[data.length];
+        for (int i = 0; i < data.length; i++) {
+            x[i] = data[i][0];
+            y[i] = data[i][1];
+        }
+        assertEquals(Statistics.getCorrelation(x, y), acc.getCorrelation(),
+                EPSILON);
+    }
+
+    /**
+     * Merging chunks gives the same result as adding the pairs in sequence.
+     */
+    @Test
+    public void testMerge() {
+        OLSAccumulator all = new OLSAccumulator();
+        OLSAccumulator a = new OLSAccumulator();
+        OLSAccumulator b = new OLSAccumulator();
+        for (int i = 0; i < 100; i++) {
+            double x = i * i;
+            double y = 7.0 + 2.0 * x + (i % 3);
+            all.add(x, y);
+            (i < 40 ? a : b).add(x, y);
+        }
+        OLSAccumulator merged = new OLSAccumulator().merge(a).merge(b);
+        assertEquals(all.getCount(), merged.getCount());
+        assertEquals(all.getSlope(), merged.getSlope(), EPSILON);
+        assertEquals(all.getIntercept(), merged.getIntercept(), 1.0e-8);
+        assertEquals(all.getCorrelation(), merged.getCorrelation(), EPSILON);
+    }
+
+}
@@ -0,0 +1,188 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * QuantileSketchTest.java
+ * -----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link QuantileSketch} class.
+ */
+public class QuantileSketchTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Returns the exact quantile of some sorted values (by linear
+     * interpolation between the closest ranks).
+     */
+    private static double exactQuantile(double[] sorted, double q) {
+        double pos = q * (sorted.length - 1);
+        int i = (int) Math.floor(pos);
+        if (i >= sorted.length - 1) {
+            return sorted[sorted.length - 1];
+        }
+        return sorted[i] + (sorted[i + 1] - sorted[i]) * (pos - i);
+    }
+
+    /**
+     * Checks the constructor and an empty sketch.
+     */
+    @Test
+    public void testEmpty() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new QuantileSketch(5.0));
+        QuantileSketch sketch = new QuantileSketch();
+        assertEquals(0, sketch.getCount());
+        assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        assertTrue(Double.isNaN(sketch.getMean()));
+        assertThrows(IllegalArgumentException.class,
+                () -> sketch.getQuantile(1.5));
+        sketch.add(Double.NaN);
+        assertEquals(0, sketch.getCount());
+    }
+
+    /**
+     * Small samples are summarised exactly.
+     */
+    @Test
+    public void testSmall() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(3.0);
+        assertEquals(3.0, sketch.getQuantile(0.0), EPSILON);
+        assertEquals(3.0, sketch.getQuantile(0.5), EPSILON);
+        assertEquals(3.0, sketch.getQuantile(1.0), EPSILON);
+        sketch.addAll(new double[] {1.0, 2.0, 4.0, 5.0});
+        assertEquals(5, sketch.getCount());
+        assertEquals(1.0, sketch.getMinimum(), EPSILON);
+        assertEquals(5.0, sketch.getMaximum(), EPSILON);
+        assertEquals(3.0, sketch.getMean(), EPSILON);
+        assertEquals(3.0, sketch.getQuantile(0.5), EPSILON);
+        assertEquals(1.0, sketch.getQuantile(0.0), EPSILON);
+        assertEquals(5.0, sketch.getQuantile(1.0), EPSILON);
+    }
+
+    /**
+     * The estimates are close to the exact quantiles, especially in the
+     * tails, and the number of centroids is bounded.
+     */
+    @Test
+    public void testAccuracy() {
+        Random random = new Random(17L);
+        double[] values = new double[200000];
+        QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+        for (double q : new double[] {0.001, 0.01, 0.25, 0.5, 0.75, 0.99,
+                0.999}) {
+            double error = Math.abs(q - rank(values,
+                    sketch.getQuantile(q)));
+            assertTrue(error < 0.005 * Math.min(1.0, 20.0 * Math.min(q,
+                    1.0 - q)) + 0.0002, "q = " + q + ", error = " + error);
+        }
+        assertTrue(sketch.getCentroidCount() <= 100);
+    }
+
+    /**
+     * Returns the fraction of sorted values that are less than v.
+     */
+    private static double rank(double[] sorted, double v) {
+        int i = Arrays.binarySearch(sorted, v);
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return (double) i / sorted.length;
+    }
+
+    /**
+     * Merged sketches (and a parallel stream) give similar estimates to a
+     * single sketch.
+     */
+    @Test
+    public void testMerge() {
+        Random random = new Random(19L);
+        double[] values = new double[100000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 1000.0;
+        }
+        QuantileSketch a = new QuantileSketch();
+        QuantileSketch b = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            (i % 3 == 0 ? a : b).add(values[i]);
+        }
+        a.merge(b);
+        QuantileSketch p = QuantileSketch.of(
+                DoubleStream.of(values).parallel());
+        Arrays.sort(values);
+        for (double q : new double[] {0.1, 0.25, 0.5, 0.75, 0.9}) {
+            double exact = exactQuantile(values, q);
+            assertEquals(exact, a.getQuantile(q), 5.0);
+            assertEquals(exact, p.getQuantile(q), 5.0);
+        }
+        assertEquals(values.length, a.getCount());
+        assertEquals(values.length, p.getCount());
+        assertEquals(values[0], p.getMinimum(), EPSILON);
+        assertEquals(values[values.length - 1], p.getMaximum(), EPSILON);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check the estimates.
+     */
+    @Test
+    public void testSerialization() {
+        QuantileSketch sketch = new QuantileSketch(50.0);
+        for (int i = 0; i < 1000; i++) {
+            sketch.add(i);
+        }
+        QuantileSketch sketch2 = TestUtils.serialised(sketch);
+        assertEquals(sketch.getCount(), sketch2.getCount());
+        assertEquals(sketch.getCompression(), sketch2.getCompression());
+        assertEquals(sketch.getQuantile(0.3), sketch2.getQuantile(0.3),
+                EPSILON);
+    }
+
+}
@@ -48,6 +48,32 @@ import org.junit.jupiter.api.Test;
  */
 public class RegressionTest {
 
+    /**
+     * Checks the primitive array version of the OLS regression against the
+     * results for sample dataset 1, and that it stays accurate for x-values
+     * with a large offset (such as seconds since the epoch).
+     */
+    @Test
+    public void testOLSRegressionArrays() {
+        double[][] data = createSampleData1();
+        double[] x = new double[data.length];
+        double[] y = new double[data.length];
+        for (int i = 0; i < data.length; i++) {
+            x[i] = data[i][0];
+            y[i] = data[i][1];
+        }
+        double[] result = Regression.getOLSRegression(x, y);
+        assertEquals(.25680930, result[0], 0.0000001);
+        assertEquals(0.72792106, result[1], 0.0000001);
+
+        double offset = 1.0e9;
+        for (int i = 0; i < x.length; i++) {
+            x[i] += offset;
+        }
+        result = Regression.getOLSRegression(x, y);
+        assertEquals(0.72792106, result[1], 0.000001);
+    }
+
     /**
      * Checks the results of an OLS regression on sample dataset 1.
      */
@@ -0,0 +1,144 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * RollingWindowTest.java
+ * ----------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.statistics;
+
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RollingWindow} class.
+ */
+public class RollingWindowTest {
+
+    private static final double EPSILON = 1e-9;
+
+    /**
+     * The rolling statistics should match a direct calculation over the
+     * values in the window.
+     */
+    @Test
+    public void testAgainstDirectCalculation() {
+        Random random = new Random(42L);
+        for (int size : new int[] {1, 2, 5, 17}) {
+            RollingWindow w = new RollingWindow(size);
+            double[] all = new double[300];
+            double ewma = Double.NaN;
+            for (int i = 0; i < all.length; i++) {
+                all[i] = random.nextInt(50) - 20 + random.nextDouble();
+                w.add(all[i]);
+                ewma = Double.isNaN(ewma) ? all[i]
+                        : ewma + 2.0 / (size + 1) * (all[i] - ewma);
+                int n = Math.min(i + 1, size);
+                assertEquals(n, w.getCount());
+                assertEquals(n == size, w.isFull());
+                double min = Double.POSITIVE_INFINITY;
+                double max = Double.NEGATIVE_INFINITY;
+                double sum = 0.0;
+                for (int j = i - n + 1; j <= i; j++) {
+                    min = Math.min(min, all[j]);
+                    max = Math.max(max, all[j]);
+                    sum += all[j];
+                }
+                double mean = sum / n;
+                double squares = 0.0;
+                for (int j = i - n + 1; j <= i; j++) {
+                    squares += (all[j] - mean) * (all[j] - mean);
+                }
+                assertEquals(min, w.getMinimum());
+                assertEquals(max, w.getMaximum());
+                assertEquals(mean, w.getMean(), EPSILON);
+                if (n > 1) {
+                    assertEquals(Math.sqrt(squares / (n - 1)),
+                            w.getStandardDeviation(), EPSILON);
+                }
+                else {
+                    assertTrue(Double.isNaN(w.getStandardDeviation()));
+                }
+                assertEquals(ewma, w.getExponentialMean(), EPSILON);
+                assertEquals(mean, w.getValue(RollingStatistic.MEAN),
+                        EPSILON);
+            }
+        }
+    }
+
+    /**
+     * Some checks for an empty window, {@code clear()} and the arguments.
+     */
+    @Test
+    public void testEmptyAndClear() {
+        RollingWindow w = new RollingWindow(3);
+        assertTrue(Double.isNaN(w.getMean()));
+        assertTrue(Double.isNaN(w.getMinimum()));
+        assertTrue(Double.isNaN(w.getMaximum()));
+        assertTrue(Double.isNaN(w.getExponentialMean()));
+        w.add(1.0);
+        w.add(2.0);
+        w.add(3.0);
+        w.add(4.0);
+        assertArrayEquals(new double[] {2.0, 3.0, 4.0}, w.getValues());
+        w.clear();
+        assertEquals(0, w.getCount());
+        assertEquals(0, w.getValues().length);
+        assertThrows(IllegalArgumentException.class, () -> w.add(Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+                () -> new RollingWindow(0));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check that it gives the same
+     * results.
+     */
+    @Test
+    public void testSerialization() {
+        RollingWindow w1 = new RollingWindow(4);
+        for (int i = 0; i < 10; i++) {
+            w1.add(i * i % 7);
+        }
+        RollingWindow w2 = TestUtils.serialised(w1);
+        assertArrayEquals(w1.getValues(), w2.getValues());
+        w1.add(3.0);
+        w2.add(3.0);
+        assertEquals(w1.getMinimum(), w2.getMinimum());
+        assertEquals(w1.getMaximum(), w2.getMaximum());
+        assertEquals(w1.getMean(), w2.getMean(), EPSILON);
+    }
+
+}
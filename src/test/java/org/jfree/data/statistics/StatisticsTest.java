@@ -41,13 +41,16 @@
 
 package org.jfree.data.statistics;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -434,4 +437,102 @@ public class StatisticsTest {
         assertTrue(Double.isNaN(Statistics.getStdDev(new Double[]{1.0})));
     }
 
+    /**
+     * Checks the primitive array methods against the {@code Number[]}
+     * versions.
+     */
+    @Test
+    public void testPrimitiveArrays() {
+        double[] x = {1.0, 2.0, 4.0, 7.0, 11.0};
+        double[] y = {2.5, 3.0, 6.5, 9.0, 15.0};
+        Double[] xx = {1.0, 2.0, 4.0, 7.0, 11.0};
+        Double[] yy = {2.5, 3.0, 6.5, 9.0, 15.0};
+        assertEquals(Statistics.calculateMean(xx),
+                Statistics.calculateMean(x), EPSILON);
+        assertEquals(Statistics.getStdDev(xx), Statistics.calculateStdDev(x),
+                EPSILON);
+        assertEquals(Statistics.getSlope(xx, yy),
+                Statistics.calculateSlope(x, y), EPSILON);
+        double[] fit = Statistics.calculateLinearFit(x, y);
+        double[] expected = Statistics.getLinearFit(xx, yy);
+        assertEquals(expected[0], fit[0], EPSILON);
+        assertEquals(expected[1], fit[1], EPSILON);
+        assertEquals(Statistics.getCorrelation(xx, yy),
+                Statistics.calculateCorrelation(x, y), EPSILON);
+
+        double[] withNaN = {1.0, Double.NaN, 3.0};
+        assertTrue(Double.isNaN(Statistics.calculateMean(withNaN)));
+        assertEquals(2.0, Statistics.calculateMean(withNaN, false), EPSILON);
+    }
+
+    /**
+     * Checks the selection based median and quartiles against the sort based
+     * calculations in {@link BoxAndWhiskerCalculator}.
+     */
+    @Test
+    public void testSelectMedianAndQuartiles() {
+        Random random = new Random(7L);
+        for (int n = 1; n < 200; n++) {
+            double[] values = new double[n];
+            List<Double> list = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                // use a small range so that there are duplicates
+                values[i] = random.nextInt(n / 2 + 1);
+                list.add(values[i]);
+            }
+            double[] original = values.clone();
+            Collections.sort(list);
+            double median = Statistics.calculateMedian(list, false);
+            assertEquals(median, Statistics.selectMedian(values), EPSILON);
+            assertArrayEquals(original, values);
+
+            double[] q = Statistics.selectQuartiles(values, 0, n - 1,
+                    false);
+            assertEquals(BoxAndWhiskerCalculator.calculateQ1(list), q[0],
+                    EPSILON);
+            assertEquals(median, q[1], EPSILON);
+            assertEquals(BoxAndWhiskerCalculator.calculateQ3(list), q[2],
+                    EPSILON);
+        }
+    }
+
+    /**
+     * The array versions of the median ignore {@code Double.NaN} and can
+     * work on a subrange.
+     */
+    @Test
+    public void testSelectMedian() {
+        double[] values = {9.0, Double.NaN, 5.0, 1.0, Double.NaN, 3.0, 8.0};
+        assertEquals(5.0, Statistics.selectMedian(values), EPSILON);
+        assertEquals(3.0, Statistics.selectMedian(values, 1, 5, true),
+                EPSILON);
+        assertTrue(Double.isNaN(Statistics.selectMedian(new double[0])));
+        assertTrue(Double.isNaN(Statistics.selectMedian(
+                new double[] {Double.NaN})));
+
+        // in place, only the range is reordered
+        assertEquals(3.0, Statistics.selectMedian(values, 2, 4, false),
+                EPSILON);
+        assertEquals(9.0, values[0], EPSILON);
+        assertEquals(3.0, values[5], EPSILON);
+    }
+
+    /**
+     * A large array where quickselect's pivots are poor (a descending
+     * sequence with many repeated values).
+     */
+    @Test
+    public void testSelect() {
+        double[] values = new double[10001];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (values.length - i) / 3;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (int k : new int[] {0, 1, 17, 5000, 9999, 10000}) {
+            double[] a = values.clone();
+            assertEquals(sorted[k], Statistics.select(a, 0, a.length - 1, k));
+        }
+    }
+
 }
@@ -0,0 +1,278 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ColumnarTimeSeriesTest.java
+ * ---------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ColumnarTimeSeries} class.
+ */
+public class ColumnarTimeSeriesTest {
+
+    private static final TimeZone ZONE = TimeZone.getTimeZone("Europe/Paris");
+
+    private static ColumnarTimeSeries<String> createSeries(Class c) {
+        return new ColumnarTimeSeries<>("S", c, ZONE, Locale.UK);
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        ColumnarTimeSeries<String> s1 = createSeries(Minute.class);
+        ColumnarTimeSeries<String> s2 = createSeries(Minute.class);
+        assertEquals(s1, s2);
+        s1.add(new Minute(1, 2, 3, 4, 2025), 1.0);
+        assertNotEquals(s1, s2);
+        s2.add(new Minute(1, 2, 3, 4, 2025), 1.0);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+        s1.setMaximumItemAge(10);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemAge(10);
+        assertEquals(s1, s2);
+        assertNotEquals(s1, createSeries(Second.class));
+    }
+
+    /**
+     * A columnar series is never equal to a plain {@link TimeSeries}, in
+     * either direction.
+     */
+    @Test
+    public void testEqualsTimeSeries() {
+        ColumnarTimeSeries<String> s1 = createSeries(Minute.class);
+        TimeSeries<String> s2 = new TimeSeries<>("S");
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        ColumnarTimeSeries<String> s1 = createSeries(Day.class);
+        s1.add(new Day(1, 1, 2025), 1.0);
+        ColumnarTimeSeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertEquals(s1, s2);
+        s2.add(new Day(2, 1, 2025), 2.0);
+        assertNotEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        ColumnarTimeSeries<String> s1 = createSeries(Hour.class);
+        s1.add(new Hour(1, 1, 1, 2025), 1.0);
+        s1.add(new Hour(2, 1, 1, 2025), null);
+        ColumnarTimeSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items are sorted, duplicates are rejected and periods are recreated on
+     * demand.
+     */
+    @Test
+    public void testAdd() {
+        ColumnarTimeSeries<String> s1 = createSeries(Day.class);
+        s1.add(new Day(3, 1, 2025), 3.0);
+        s1.add(new Day(1, 1, 2025), 1.0);
+        s1.add(new Day(2, 1, 2025), null);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Day(1, 1, 2025), s1.getTimePeriod(0));
+        assertEquals(new Day(3, 1, 2025), s1.getTimePeriod(2));
+        assertNull(s1.getValue(1));
+        assertEquals(1, s1.getIndex(new Day(2, 1, 2025)));
+        assertEquals(-4, s1.getIndex(new Day(4, 1, 2025)));
+        assertEquals(1.0, s1.getMinY());
+        assertEquals(3.0, s1.getMaxY());
+        assertThrows(SeriesException.class,
+                () -> s1.add(new Day(2, 1, 2025), 2.0));
+        assertThrows(SeriesException.class,
+                () -> s1.add(new Hour(2, 1, 1, 2025), 2.0));
+    }
+
+    /**
+     * Adding by millisecond assigns the value to the containing period.
+     */
+    @Test
+    public void testAddMillisecond() {
+        ColumnarTimeSeries<String> s1 = createSeries(Minute.class);
+        Minute m = new Minute(30, 10, 1, 6, 2025);
+        long first = m.getFirstMillisecond(
+                java.util.Calendar.getInstance(ZONE, Locale.UK));
+        s1.add(first + 59999L, 5.0);
+        assertEquals(m, s1.getTimePeriod(0));
+        assertEquals(first, s1.getFirstMillisecond(0));
+        assertThrows(SeriesException.class, () -> s1.add(first + 1L, 6.0));
+    }
+
+    /**
+     * Check the maximum item count and age.
+     */
+    @Test
+    public void testAgeing() {
+        ColumnarTimeSeries<String> s1 = createSeries(Second.class);
+        s1.setMaximumItemCount(5);
+        Second s = new Second(0, 0, 0, 1, 1, 2025);
+        for (int i = 0; i < 20; i++) {
+            s1.add(s, 20 - i);
+            s = (Second) s.next();
+        }
+        assertEquals(5, s1.getItemCount());
+        assertEquals(1.0, s1.getMinY());
+        assertEquals(5.0, s1.getMaxY());
+        s1.setMaximumItemAge(2);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Second(17, 0, 0, 1, 1, 2025), s1.getTimePeriod(0));
+        assertEquals(3.0, s1.getMaxY());
+    }
+
+    /**
+     * Check that createCopy() works, and rejects indices outside the items
+     * (but inside the array capacity), as the list-backed series does.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCreateCopy() throws CloneNotSupportedException {
+        ColumnarTimeSeries<String> s1 = createSeries(Year.class);
+        TimeSeries<String> s2 = new TimeSeries<>("S");
+        for (int i = 0; i < 5; i++) {
+            s1.add(new Year(2020 + i), i);
+            s2.add(new Year(2020 + i), i);
+        }
+        TimeSeries<String> copy = s1.createCopy(1, 3);
+        assertEquals(3, copy.getItemCount());
+        assertEquals(new Year(2021), copy.getTimePeriod(0));
+        assertEquals(3.0, copy.getMaxY());
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s1.createCopy(3, 5));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s2.createCopy(3, 5));
+    }
+
+    /**
+     * The change info sent by {@code addOrUpdate()} covers the items
+     * removed because of the maximum item count or age.
+     */
+    @Test
+    public void testAddOrUpdateChangeInfo() {
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        ColumnarTimeSeries<String> s1 = createSeries(Year.class);
+        s1.setMaximumItemCount(2);
+        s1.addChangeListener(e -> last[0] = e);
+        s1.addOrUpdate(new Year(2010), 1.1);
+        s1.addOrUpdate(new Year(2011), 2.2);
+        assertEquals(SeriesChangeInfo.itemsAdded(1, 1), last[0].getInfo());
+        s1.addOrUpdate(new Year(2012), 3.3);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 1, 1),
+                last[0].getInfo());
+        s1.addOrUpdate(new Year(2012), 3.4);
+        assertEquals(SeriesChangeInfo.itemsUpdated(1, 1), last[0].getInfo());
+
+        s1.setMaximumItemCount(10);
+        s1.setMaximumItemAge(2);
+        s1.addOrUpdate(new Year(2015), 5.5);
+        assertEquals(SeriesChangeInfo.itemsShifted(2, 0, 0),
+                last[0].getInfo());
+    }
+
+    /**
+     * The collection should return the same x-values as it would for a
+     * regular {@link TimeSeries}.
+     */
+    @Test
+    public void testCollection() {
+        for (Class c : new Class[] {Minute.class, Day.class, Month.class}) {
+            ColumnarTimeSeries<String> s1 = createSeries(c);
+            TimeSeries<String> s2 = new TimeSeries<>("S");
+            RegularTimePeriod p = RegularTimePeriod.createInstance(c,
+                    new java.util.Date(1711843200000L), ZONE, Locale.UK);
+            for (int i = 0; i < 5; i++) {
+                s1.add(p, i);
+                s2.add(p, i);
+                p = p.next();
+            }
+            TimeSeriesCollection<String> d1 = new TimeSeriesCollection<>(s1,
+                    ZONE);
+            TimeSeriesCollection<String> d2 = new TimeSeriesCollection<>(s2,
+                    ZONE);
+            TimeSeriesCollection<String> d3 = new TimeSeriesCollection<>(s1,
+                    TimeZone.getTimeZone("Asia/Tokyo"));
+            TimeSeriesCollection<String> d4 = new TimeSeriesCollection<>(s2,
+                    TimeZone.getTimeZone("Asia/Tokyo"));
+            for (TimePeriodAnchor anchor : new TimePeriodAnchor[] {
+                    TimePeriodAnchor.START, TimePeriodAnchor.MIDDLE,
+                    TimePeriodAnchor.END}) {
+                d1.setXPosition(anchor);
+                d2.setXPosition(anchor);
+                d3.setXPosition(anchor);
+                d4.setXPosition(anchor);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(d2.getXValue(0, i), d1.getXValue(0, i));
+                    assertEquals(d2.getStartX(0, i), d1.getStartX(0, i));
+                    assertEquals(d2.getEndX(0, i), d1.getEndX(0, i));
+                    assertEquals(d2.getYValue(0, i), d1.getYValue(0, i));
+                    assertEquals(d4.getXValue(0, i), d3.getXValue(0, i));
+                }
+                assertEquals(d2.getDomainBounds(true),
+                        d1.getDomainBounds(true));
+            }
+            assertEquals(new Range(0.0, 4.0), d1.getRangeBounds(false));
+        }
+    }
+
+}
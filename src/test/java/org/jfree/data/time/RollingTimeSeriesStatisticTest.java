@@ -0,0 +1,128 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------------
+ * RollingTimeSeriesStatisticTest.java
+ * -----------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.time;
+
+import org.jfree.data.statistics.RollingStatistic;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RollingTimeSeriesStatistic} class.
+ */
+public class RollingTimeSeriesStatisticTest {
+
+    /**
+     * Checks that two time series have the same items.
+     *
+     * @param expected  the expected series.
+     * @param actual  the actual series.
+     */
+    private static void assertSameItems(TimeSeries<String> expected,
+            TimeSeries<String> actual) {
+        assertEquals(expected.getItemCount(), actual.getItemCount());
+        for (int i = 0; i < expected.getItemCount(); i++) {
+            assertEquals(expected.getTimePeriod(i), actual.getTimePeriod(i));
+            assertEquals(expected.getValue(i).doubleValue(),
+                    actual.getValue(i).doubleValue(), 1e-9);
+        }
+    }
+
+    /**
+     * The live moving average should match
+     * {@link MovingAverage#createPointMovingAverage}.
+     */
+    @Test
+    public void testMatchesPointMovingAverage() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        Day day = new Day(1, 1, 2024);
+        for (int i = 0; i < 10; i++) {
+            source.add(day, (i * 7) % 5);
+            day = (Day) day.next();
+        }
+        RollingTimeSeriesStatistic<String> ma
+                = new RollingTimeSeriesStatistic<>(source, "MA",
+                RollingStatistic.MEAN, 4);
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "MA",
+                4), ma.getSeries());
+        for (int i = 10; i < 60; i++) {
+            source.add(day, (i * 7) % 5);
+            day = (Day) day.next();
+            assertSameItems(MovingAverage.createPointMovingAverage(source,
+                    "MA", 4), ma.getSeries());
+        }
+        source.update(3, 50.0);
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "MA",
+                4), ma.getSeries());
+        // removing items from the start keeps the derived items that were
+        // calculated for the remaining source items
+        source.delete(0, 4);
+        assertEquals(source.getItemCount(), ma.getSeries().getItemCount());
+        assertEquals(source.getTimePeriod(0),
+                ma.getSeries().getTimePeriod(0));
+        ma.recalculate();
+        assertSameItems(MovingAverage.createPointMovingAverage(source, "MA",
+                4), ma.getSeries());
+    }
+
+    /**
+     * A source with a maximum item count (so that each addition also
+     * removes the oldest item).
+     */
+    @Test
+    public void testSlidingSource() {
+        TimeSeries<String> source = new TimeSeries<>("S");
+        source.setMaximumItemCount(5);
+        RollingTimeSeriesStatistic<String> ewma
+                = new RollingTimeSeriesStatistic<>(source, "EWMA",
+                RollingStatistic.EXPONENTIAL_MEAN, 3);
+        Day day = new Day(1, 1, 2024);
+        double expected = Double.NaN;
+        for (int i = 0; i < 30; i++) {
+            double v = (i * 3) % 4;
+            source.add(day, v);
+            day = (Day) day.next();
+            expected = Double.isNaN(expected) ? v
+                    : expected + 0.5 * (v - expected);
+        }
+        TimeSeries<String> derived = ewma.getSeries();
+        assertEquals(5, derived.getItemCount());
+        assertEquals(source.getTimePeriod(0), derived.getTimePeriod(0));
+        assertEquals(expected, derived.getValue(4).doubleValue(), 1e-9);
+    }
+
+}
@@ -475,4 +475,23 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(Collections.singletonList("S1"), range, true));
     }
+
+    /**
+     * The change events carry the index of the series that changed, even
+     * when several series have the same key.
+     */
+    @Test
+    public void testChangeInfoDuplicateKeys() {
+        TimeSeries<String> s1 = new TimeSeries<>("S");
+        TimeSeries<String> s2 = new TimeSeries<>("S");
+        TimeSeriesCollection<String> dataset = new TimeSeriesCollection<>();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        dataset.addChangeListener(listener);
+        s2.add(new Day(1, 1, 2025), 1.0);
+        assertEquals(1, listener.event.getSeries());
+        s1.add(new Day(1, 1, 2025), 1.0);
+        assertEquals(0, listener.event.getSeries());
+    }
 }
@@ -46,6 +46,7 @@ import org.jfree.chart.date.MonthConstants;
 import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.Range;
 import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesChangeListener;
 import org.jfree.data.general.SeriesException;
 
@@ -1008,6 +1009,40 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertEquals(3.3, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * An item appended to a series with a maximum item count or age is
+     * reported as a shift.
+     */
+    @Test
+    public void testAddChangeInfo() {
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        TimeSeries<String> s1 = new TimeSeries<>("S1");
+        s1.setMaximumItemCount(2);
+        s1.addChangeListener(e -> last[0] = e);
+        s1.add(new Year(2010), 1.1);
+        s1.add(new Year(2011), 2.2);
+        assertEquals(SeriesChangeInfo.itemsAdded(1, 1), last[0].getInfo());
+        s1.add(new Year(2012), 3.3);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 1, 1),
+                last[0].getInfo());
+        s1.addOrUpdate(new Year(2013), 4.4);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 1, 1),
+                last[0].getInfo());
+
+        s1.setMaximumItemCount(10);
+        s1.setMaximumItemAge(2);
+        s1.add(new Year(2016), 6.6);
+        assertEquals(SeriesChangeInfo.itemsShifted(2, 0, 0),
+                last[0].getInfo());
+        s1.addOrUpdate(new Year(2017), 7.7);
+        assertEquals(SeriesChangeInfo.itemsAdded(1, 1), last[0].getInfo());
+        s1.addOrUpdate(new Year(2020), 9.9);
+        assertEquals(SeriesChangeInfo.itemsShifted(2, 0, 0),
+                last[0].getInfo());
+        s1.addOrUpdate(new Year(2020), 9.8);
+        assertEquals(SeriesChangeInfo.itemsUpdated(0, 0), last[0].getInfo());
+    }
+
     /**
      * Some checks for the update(RegularTimePeriod...method).
      */
@@ -1151,4 +1186,30 @@ public class TimeSeriesTest implements SeriesChangeListener {
                 ts.findValueRange(range, TimePeriodAnchor.END, tzone));
 
     }
+
+    /**
+     * The y-bounds should remain correct as aged items are removed from a
+     * series with a maximum item age.
+     */
+    @Test
+    public void testRemoveAgedItemsBounds() {
+        TimeSeries<String> ts = new TimeSeries<>("S");
+        ts.setMaximumItemAge(3);
+        Day d = new Day(1, 1, 2025);
+        for (int i = 0; i < 100; i++) {
+            ts.add(d, 100.0 - i);
+            d = (Day) d.next();
+        }
+        assertEquals(4, ts.getItemCount());
+        assertEquals(1.0, ts.getMinY());
+        assertEquals(4.0, ts.getMaxY());
+        ts.removeAgedItems(d.getFirstMillisecond(), true);
+        assertEquals(3, ts.getItemCount());
+        assertEquals(3.0, ts.getMaxY());
+        ts.update(2, 50.0);
+        assertEquals(2.0, ts.getMinY());
+        assertEquals(50.0, ts.getMaxY());
+        ts.delete(0, 1);
+        assertEquals(50.0, ts.getMinY());
+    }
 }
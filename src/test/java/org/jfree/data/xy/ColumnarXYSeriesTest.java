@@ -0,0 +1,315 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ColumnarXYSeriesTest.java
+ * -------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.jfree.data.general.SeriesException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ColumnarXYSeries} class.
+ */
+public class ColumnarXYSeriesTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        ColumnarXYSeries<String> s2 = new ColumnarXYSeries<>("Series");
+        s2.add(1.0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.add(2.0, 2.2);
+        assertNotEquals(s1, s2);
+        s2.add(2.0, 2.2);
+        assertEquals(s1, s2);
+
+        s1.setMaximumItemCount(5);
+        assertNotEquals(s1, s2);
+        s2.setMaximumItemCount(5);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * A columnar series is never equal to a plain {@link XYSeries}, in either
+     * direction, even when both contain the same items.
+     */
+    @Test
+    public void testEqualsXYSeries() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        XYSeries<String> s2 = new XYSeries<>("S");
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+        s1.add(1.0, 1.1);
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+        s2.add(1.0, 1.1);
+        assertNotEquals(s1, s2);
+        assertNotEquals(s2, s1);
+    }
+
+    /**
+     * The hash code is derived from the values held in the arrays.
+     */
+    @Test
+    public void testHashCode() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        ColumnarXYSeries<String> s2 = new ColumnarXYSeries<>("S");
+        s1.add(1.0, 1.1);
+        s2.add(1.0, 2.2);
+        assertNotEquals(s1.hashCode(), s2.hashCode());
+        s2.updateByIndex(0, 1.1);
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("Series");
+        s1.add(1.0, 100.0);
+        s1.add(2.0, null);
+        ColumnarXYSeries<String> s2 = CloneUtils.clone(s1);
+        assertNotSame(s1, s2);
+        assertSame(s1.getClass(), s2.getClass());
+        assertEquals(s1, s2);
+
+        // check independence
+        s2.add(4.0, 300.0);
+        assertNotEquals(s1, s2);
+        s1.add(4.0, 300.0);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        ColumnarXYSeries<String> s2 = TestUtils.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items are kept in x-order, with duplicates added after existing items.
+     */
+    @Test
+    public void testAddSorted() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        s1.add(5.0, 5.0);
+        s1.add(1.0, 1.0);
+        s1.add(3.0, 3.0);
+        s1.add(3.0, 33.0);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0));
+        assertEquals(3.0, s1.getYValue(1));
+        assertEquals(33.0, s1.getYValue(2));
+        assertEquals(5.0, s1.getXValue(3));
+        int index = s1.indexOf(3.0);
+        assertTrue(index == 1 || index == 2);
+        assertEquals(-2, s1.indexOf(2.0));
+    }
+
+    /**
+     * A series that doesn't allow duplicates should reject them.
+     */
+    @Test
+    public void testNoDuplicates() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S", true, false);
+        s1.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s1.add(1.0, 2.0));
+        ColumnarXYSeries<String> s2 = new ColumnarXYSeries<>("S", false, false);
+        s2.add(1.0, 1.0);
+        assertThrows(SeriesException.class, () -> s2.add(1.0, 2.0));
+    }
+
+    /**
+     * Null y-values are stored as NaN and returned as null.
+     */
+    @Test
+    public void testNullY() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        s1.add(1.0, null);
+        s1.add(2.0, 2.0);
+        assertNull(s1.getY(0));
+        assertTrue(Double.isNaN(s1.getYValue(0)));
+        assertNull(s1.getDataItem(0).getY());
+        assertEquals(2.0, s1.getMinY());
+        assertEquals(2.0, s1.getMaxY());
+    }
+
+    /**
+     * Check that the maximum item count is respected as a sliding window and
+     * that the bounds are maintained.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S", true, true,
+                2);
+        s1.setMaximumItemCount(3);
+        for (int i = 0; i < 100; i++) {
+            s1.add(i, 100 - i);
+        }
+        assertEquals(3, s1.getItemCount());
+        assertEquals(97.0, s1.getXValue(0));
+        assertEquals(99.0, s1.getXValue(2));
+        assertEquals(97.0, s1.getMinX());
+        assertEquals(99.0, s1.getMaxX());
+        assertEquals(1.0, s1.getMinY());
+        assertEquals(3.0, s1.getMaxY());
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(99.0, s1.getMinX());
+        assertEquals(1.0, s1.getMaxY());
+    }
+
+    /**
+     * An item appended to a full series is reported as a shift.
+     */
+    @Test
+    public void testMaximumItemCountChangeInfo() {
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S", true,
+                false, 2);
+        s1.setMaximumItemCount(3);
+        s1.addChangeListener(e -> last[0] = e);
+        for (int i = 0; i < 3; i++) {
+            s1.add(i, i);
+        }
+        assertEquals(SeriesChangeInfo.itemsAdded(2, 2), last[0].getInfo());
+        s1.add(3.0, 3.0);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 2, 2),
+                last[0].getInfo());
+        s1.addOrUpdate(4.0, 4.0);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 2, 2),
+                last[0].getInfo());
+        s1.add(-1.0, -1.0);
+        assertNull(last[0].getInfo());
+    }
+
+    /**
+     * Some checks for the remove, delete and update methods.
+     */
+    @Test
+    public void testRemoveAndUpdate() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S", true, false);
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i);
+        }
+        XYDataItem removed = s1.remove(9);
+        assertEquals(new XYDataItem(9.0, 9.0), removed);
+        assertEquals(8.0, s1.getMaxY());
+        s1.delete(0, 3);
+        assertEquals(5, s1.getItemCount());
+        assertEquals(4.0, s1.getMinX());
+        s1.update(5.0, 50.0);
+        assertEquals(50.0, s1.getMaxY());
+        XYDataItem old = s1.addOrUpdate(6.0, -1.0);
+        assertEquals(6.0, old.getYValue());
+        assertEquals(-1.0, s1.getMinY());
+        assertNull(s1.addOrUpdate(4.5, 0.0));
+        assertEquals(1, s1.indexOf(4.5));
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getMinX()));
+    }
+
+    /**
+     * Check that the series works as part of an {@link XYSeriesCollection}.
+     */
+    @Test
+    public void testCollection() {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        s1.add(1.0, 2.0);
+        s1.add(3.0, 4.0);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s1);
+        assertEquals(3.0, dataset.getXValue(0, 1));
+        assertEquals(4.0, dataset.getYValue(0, 1));
+        assertEquals(1.0, dataset.getDomainLowerBound(false));
+        assertEquals(4.0, dataset.getRangeUpperBound(false));
+        s1.add(5.0, 6.0);
+        assertEquals(6.0, dataset.getRangeUpperBound(false));
+    }
+
+    /**
+     * Check that createCopy() works.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCreateCopy() throws CloneNotSupportedException {
+        ColumnarXYSeries<String> s1 = new ColumnarXYSeries<>("S");
+        for (int i = 0; i < 10; i++) {
+            s1.add(i, i * 10);
+        }
+        XYSeries<String> s2 = s1.createCopy(2, 4);
+        assertEquals(3, s2.getItemCount());
+        assertEquals(2.0, s2.getXValue(0));
+        assertEquals(40.0, s2.getMaxY());
+        s2.add(100.0, 0.0);
+        assertEquals(10, s1.getItemCount());
+
+        // indices outside the items (but inside the array capacity) fail,
+        // as they do for the list-backed series
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s1.createCopy(5, 10));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s1.createCopy(-1, 2));
+        XYSeries<String> s3 = new XYSeries<>("S");
+        s3.add(1.0, 1.0);
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> s3.createCopy(0, 1));
+    }
+
+}
@@ -0,0 +1,183 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MappedXYDatasetTest.java
+ * ------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jfree.chart.renderer.RendererUtils;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the {@link MappedXYDataset} class.
+ */
+public class MappedXYDatasetTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Values written to a series file are read back from the mapping.
+     */
+    @Test
+    public void testReadBack() throws IOException {
+        int n = 100000;
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i * 0.25;
+            y[i] = Math.sin(i);
+        }
+        y[10] = Double.NaN;
+        Path file = this.dir.resolve("s1.bin");
+        MappedXYDataset.writeSeries(file, x, y);
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals("S1", dataset.getSeriesKey(0));
+        assertEquals(file, dataset.getSeriesFile(0));
+        assertEquals(n, dataset.getItemCount(0));
+        for (int i = 0; i < n; i++) {
+            assertEquals(x[i], dataset.getXValue(0, i));
+            assertEquals(y[i], dataset.getYValue(0, i));
+        }
+        assertEquals(Double.valueOf(2.5), dataset.getX(0, 10));
+        assertEquals(Double.valueOf(Double.NaN), dataset.getY(0, 10));
+        assertEquals(DomainOrder.ASCENDING, dataset.getDomainOrder());
+        assertEquals(new Range(0.0, (n - 1) * 0.25),
+                dataset.getDomainBounds(false));
+        assertEquals(new Range(-0.5, (n - 1) * 0.25 + 0.5),
+                dataset.getDomainBounds(true));
+        assertEquals(DatasetUtils.iterateRangeBounds(dataset),
+                dataset.getRangeBounds(false));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> dataset.getXValue(0, n));
+    }
+
+    /**
+     * The renderers' binary search finds the items in a window.
+     */
+    @Test
+    public void testFindLiveItems() throws IOException {
+        Path file = this.dir.resolve("s1.bin");
+        MappedXYDataset.writeSeries(file, new double[] {1, 2, 3, 4, 5, 6},
+                new double[] {6, 5, 4, 3, 2, 1});
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        assertEquals(2, RendererUtils.findLiveItemsLowerBound(dataset, 0,
+                2.5, 4.5));
+        assertEquals(3, RendererUtils.findLiveItemsUpperBound(dataset, 0,
+                2.5, 4.5));
+    }
+
+    /**
+     * A series can be written from another dataset; unsorted x-values give
+     * no domain order.
+     */
+    @Test
+    public void testWriteFromDataset() throws IOException {
+        DefaultXYDataset<String> source = new DefaultXYDataset<>();
+        source.addSeries("A", new double[][] {{3.0, 1.0, 2.0},
+                {-1.0, 7.0, 2.0}});
+        Path file = this.dir.resolve("a.bin");
+        MappedXYDataset.writeSeries(file, source, 0);
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("A", file);
+        assertEquals(DomainOrder.NONE, dataset.getDomainOrder());
+        assertEquals(new Range(-1.0, 7.0), dataset.getRangeBounds(true));
+        assertEquals(new Range(1.0, 3.0), dataset.getDomainBounds(false));
+        dataset.setIntervalWidth(2.0);
+        dataset.setIntervalPositionFactor(0.25);
+        assertEquals(2.5, dataset.getStartXValue(0, 0));
+        assertEquals(4.5, dataset.getEndXValue(0, 0));
+        assertEquals(-1.0, dataset.getStartYValue(0, 0));
+        assertEquals(new Range(0.5, 4.5), dataset.getDomainBounds(true));
+        dataset.removeSeries(0);
+        assertEquals(0, dataset.getSeriesCount());
+        assertNull(dataset.getDomainBounds(false));
+        assertNull(dataset.getRangeBounds(false));
+    }
+
+    /**
+     * Invalid files are rejected.
+     */
+    @Test
+    public void testInvalidFile() throws IOException {
+        Path file = this.dir.resolve("bad.bin");
+        Files.write(file, new byte[] {1, 2, 3});
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        assertThrows(IOException.class, () -> dataset.addSeries("S1", file));
+        MappedXYDataset.writeSeries(file, new double[] {1.0},
+                new double[] {2.0});
+        Files.write(file, new byte[8], StandardOpenOption.APPEND);
+        assertThrows(IOException.class, () -> dataset.addSeries("S1", file));
+        assertThrows(IllegalArgumentException.class,
+                () -> MappedXYDataset.writeSeries(file, new double[1],
+                new double[2]));
+    }
+
+    /**
+     * Serialization is rejected with a {@link NotSerializableException}.
+     */
+    @Test
+    public void testSerialization() throws IOException {
+        Path file = this.dir.resolve("s1.bin");
+        MappedXYDataset.writeSeries(file, new double[] {1.0},
+                new double[] {2.0});
+        MappedXYDataset<String> dataset = new MappedXYDataset<>();
+        dataset.addSeries("S1", file);
+        try (ObjectOutputStream out = new ObjectOutputStream(
+                OutputStream.nullOutputStream())) {
+            assertThrows(NotSerializableException.class,
+                    () -> out.writeObject(dataset));
+        }
+    }
+
+}
@@ -0,0 +1,204 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------------
+ * RollingXYSeriesStatisticTest.java
+ * ---------------------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import org.jfree.data.statistics.RollingStatistic;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RollingXYSeriesStatistic} class.
+ */
+public class RollingXYSeriesStatisticTest {
+
+    /**
+     * Checks that the derived series matches a direct calculation of the
+     * moving average over the current source items.
+     *
+     * @param source  the source.
+     * @param derived  the derived series.
+     * @param n  the window size.
+     */
+    private static void assertMovingAverage(XYSeries<String> source,
+            XYSeries<String> derived, int n) {
+        int expected = Math.max(0, source.getItemCount() - n + 1);
+        assertEquals(expected, derived.getItemCount());
+        for (int i = 0; i < expected; i++) {
+            int last = i + n - 1;
+            double sum = 0.0;
+            for (int j = i; j <= last; j++) {
+                sum += source.getY(j).doubleValue();
+            }
+            assertEquals(source.getX(last), derived.getX(i));
+            assertEquals(sum / n, derived.getY(i).doubleValue(), 1e-9);
+        }
+    }
+
+    /**
+     * Items appended to the source are added to the derived series.
+     */
+    @Test
+    public void testAppend() {
+        XYSeries<String> source = new XYSeries<>("S");
+        for (int i = 0; i < 5; i++) {
+            source.add(i, i * 2.0);
+        }
+        RollingXYSeriesStatistic<String> ma = new RollingXYSeriesStatistic<>(
+                source, "MA", RollingStatistic.MEAN, 3);
+        assertMovingAverage(source, ma.getSeries(), 3);
+        for (int i = 5; i < 50; i++) {
+            source.add(i, (i * 37) % 11);
+            assertMovingAverage(source, ma.getSeries(), 3);
+        }
+        assertEquals("MA", ma.getSeries().getKey());
+    }
+
+    /**
+     * Items appended with the same values as the last item are processed.
+     */
+    @Test
+    public void testDuplicateAppends() {
+        XYSeries<String> source = new XYSeries<>("S");
+        RollingXYSeriesStatistic<String> ma = new RollingXYSeriesStatistic<>(
+                source, "MA", RollingStatistic.MEAN, 1);
+        source.add(1.0, 5.0);
+        source.add(2.0, 5.0);
+        source.add(2.0, 5.0);
+        source.add(2.0, 5.0);
+        assertEquals(4, source.getItemCount());
+        assertMovingAverage(source, ma.getSeries(), 1);
+
+        // the same with a maximum item count and with batched changes
+        source.setMaximumItemCount(3);
+        source.add(2.0, 5.0);
+        assertMovingAverage(source, ma.getSeries(), 1);
+        source.setNotify(false);
+        source.add(2.0, 5.0);
+        source.add(2.0, 5.0);
+        source.setNotify(true);
+        assertMovingAverage(source, ma.getSeries(), 1);
+        source.add(3.0, 5.0);
+        assertMovingAverage(source, ma.getSeries(), 1);
+    }
+
+    /**
+     * A source with a maximum item count (so that each addition also
+     * removes the oldest item).
+     */
+    @Test
+    public void testSlidingSource() {
+        XYSeries<String> source = new XYSeries<>("S");
+        source.setMaximumItemCount(10);
+        RollingXYSeriesStatistic<String> ma = new RollingXYSeriesStatistic<>(
+                source, "MA", RollingStatistic.MEAN, 4);
+        for (int i = 0; i < 40; i++) {
+            source.add(i, (i * 13) % 7);
+        }
+        XYSeries<String> derived = ma.getSeries();
+        assertEquals(10, derived.getItemCount());
+        assertEquals(39.0, derived.getX(9).doubleValue());
+        assertEquals(30.0, derived.getX(0).doubleValue());
+        // the first items were calculated with windows that extend before
+        // the current source items
+        double expected = 0.0;
+        for (int i = 36; i < 40; i++) {
+            expected += (i * 13) % 7;
+        }
+        assertEquals(expected / 4, derived.getY(9).doubleValue(), 1e-9);
+    }
+
+    /**
+     * Updates, insertions and removals cause a recalculation.
+     */
+    @Test
+    public void testOtherChanges() {
+        XYSeries<String> source = new XYSeries<>("S");
+        for (int i = 0; i < 20; i++) {
+            source.add(i * 2, i % 5);
+        }
+        RollingXYSeriesStatistic<String> ma = new RollingXYSeriesStatistic<>(
+                source, "MA", RollingStatistic.MEAN, 3);
+        source.updateByIndex(7, 100.0);
+        assertMovingAverage(source, ma.getSeries(), 3);
+        source.add(5, 9.0);
+        assertMovingAverage(source, ma.getSeries(), 3);
+        source.remove(10);
+        assertMovingAverage(source, ma.getSeries(), 3);
+        // removing items from the start keeps the derived items that were
+        // calculated for the remaining source items
+        source.delete(0, 2);
+        assertEquals(source.getItemCount(), ma.getSeries().getItemCount());
+        assertEquals(source.getX(0), ma.getSeries().getX(0));
+        ma.recalculate();
+        assertMovingAverage(source, ma.getSeries(), 3);
+        source.clear();
+        assertEquals(0, ma.getSeries().getItemCount());
+        ma.dispose();
+        source.add(1.0, 1.0);
+        source.add(2.0, 1.0);
+        source.add(3.0, 1.0);
+        assertEquals(0, ma.getSeries().getItemCount());
+    }
+
+    /**
+     * The rolling minimum, maximum and standard deviation.
+     */
+    @Test
+    public void testStatistics() {
+        XYSeries<String> source = new XYSeries<>("S");
+        RollingXYSeriesStatistic<String> min = new RollingXYSeriesStatistic<>(
+                source, "Min", RollingStatistic.MINIMUM, 3);
+        RollingXYSeriesStatistic<String> max = new RollingXYSeriesStatistic<>(
+                source, "Max", RollingStatistic.MAXIMUM, 3);
+        RollingXYSeriesStatistic<String> sd = new RollingXYSeriesStatistic<>(
+                source, "SD", RollingStatistic.STANDARD_DEVIATION, 3);
+        double[] y = {4.0, 1.0, 7.0, 3.0, 3.0, 9.0};
+        for (int i = 0; i < y.length; i++) {
+            source.add(i, y[i]);
+        }
+        source.add(6.0, null);
+        assertEquals(4, min.getSeries().getItemCount());
+        assertEquals(1.0, min.getSeries().getY(0).doubleValue());
+        assertEquals(3.0, min.getSeries().getY(3).doubleValue());
+        assertEquals(7.0, max.getSeries().getY(0).doubleValue());
+        assertEquals(9.0, max.getSeries().getY(3).doubleValue());
+        assertEquals(Math.sqrt(12.0), sd.getSeries().getY(3).doubleValue(),
+                1e-9);
+    }
+
+}
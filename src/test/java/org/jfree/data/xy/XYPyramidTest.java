@@ -0,0 +1,257 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by David Gilbert and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * XYPyramidTest.java
+ * ------------------
+ * (C) Copyright 2026, by David Gilbert and Contributors.
+ *
+ * Original Author:  David Gilbert;
+ * Contributor(s):   -;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.jfree.chart.TestUtils;
+import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link XYPyramid} class.
+ */
+public class XYPyramidTest {
+
+    /**
+     * Creates a series with random y-values and a few gaps.
+     *
+     * @param random  the random number generator.
+     * @param count  the number of items.
+     *
+     * @return The series.
+     */
+    private static XYSeries<String> createSeries(Random random, int count) {
+        XYSeries<String> s = new XYSeries<>("S", true, false);
+        for (int i = 0; i < count; i++) {
+            s.add(i, random.nextInt(50) == 0 ? null : random.nextDouble());
+        }
+        return s;
+    }
+
+    /**
+     * Checks the items returned by the index for a range against the items
+     * found by iteration: the items must be in ascending order and must
+     * include the first and last items in the range, the items with the
+     * lowest and highest y-values and the first and last items with a null
+     * y-value.
+     *
+     * @param dataset  the dataset.
+     * @param items  the items returned by the index.
+     * @param first  the first item in the range.
+     * @param last  the last item in the range.
+     */
+    private static void checkItems(XYDataset<String> dataset, int[] items,
+            int first, int last) {
+        assertEquals(first, items[0]);
+        assertEquals(last, items[items.length - 1]);
+        for (int i = 1; i < items.length; i++) {
+            assertTrue(items[i] > items[i - 1]);
+        }
+        int low = -1;
+        int high = -1;
+        int firstGap = -1;
+        int lastGap = -1;
+        for (int i = first; i <= last; i++) {
+            double y = dataset.getYValue(0, i);
+            if (Double.isNaN(y)) {
+                firstGap = firstGap < 0 ? i : firstGap;
+                lastGap = i;
+                continue;
+            }
+            if (low < 0 || y < dataset.getYValue(0, low)) {
+                low = i;
+            }
+            if (high < 0 || y > dataset.getYValue(0, high)) {
+                high = i;
+            }
+        }
+        assertTrue(Arrays.binarySearch(items, low) >= 0);
+        assertTrue(Arrays.binarySearch(items, high) >= 0);
+        if (firstGap >= 0) {
+            assertTrue(Arrays.binarySearch(items, firstGap) >= 0);
+            assertTrue(Arrays.binarySearch(items, lastGap) >= 0);
+        }
+    }
+
+    /**
+     * Check the items selected for random ranges.
+     */
+    @Test
+    public void testFindItems() {
+        Random random = new Random(1L);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(
+                createSeries(random, 10000));
+        XYPyramid pyramid = new XYPyramid(dataset);
+        assertEquals(13, pyramid.getLevelCount(0));
+        for (int i = 0; i < 200; i++) {
+            int first = random.nextInt(10000);
+            int last = first + random.nextInt(10000 - first);
+            int buckets = 1 + random.nextInt(100);
+            int[] items = pyramid.findItems(0, first, last, buckets);
+            if (last - first + 1 < 2 * buckets) {
+                assertNull(items);
+            }
+            else {
+                checkItems(dataset, items, first, last);
+                assertTrue(items.length <= 12 * buckets + 100);
+            }
+        }
+        assertArrayEquals(new int[0], pyramid.findItems(0, 20000, 20010, 1));
+    }
+
+    /**
+     * Appending items (with or without notification) and changing items
+     * should give the same results as building a new index.
+     */
+    @Test
+    public void testUpdates() {
+        Random random = new Random(2L);
+        XYSeries<String> s = createSeries(random, 1000);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        XYPyramid pyramid = new XYPyramid(dataset);
+        dataset.addChangeListener(pyramid);
+        for (int i = 0; i < 50; i++) {
+            int op = random.nextInt(3);
+            if (op == 0) {
+                int count = 1 + random.nextInt(300);
+                s.setNotify(false);
+                for (int j = 0; j < count; j++) {
+                    s.add(s.getItemCount(), random.nextDouble());
+                }
+                s.setNotify(true);
+            }
+            else if (op == 1) {
+                int item = random.nextInt(s.getItemCount());
+                s.updateByIndex(item, random.nextDouble() * 2.0);
+            }
+            else {
+                s.delete(s.getItemCount() - 100, s.getItemCount() - 1);
+            }
+            int n = s.getItemCount();
+            int[] expected = new XYPyramid(dataset).findItems(0, 0, n - 1,
+                    20);
+            assertArrayEquals(expected, pyramid.findItems(0, 0, n - 1, 20));
+            checkItems(dataset, expected, 0, n - 1);
+        }
+    }
+
+    /**
+     * A series used as a sliding window (items appended to the end and
+     * removed from the start) keeps the index valid.  The buckets are not
+     * aligned with those of a new index, so the items are checked against
+     * the dataset.
+     */
+    @Test
+    public void testSlidingWindow() {
+        Random random = new Random(4L);
+        XYSeries<String> s = createSeries(random, 1000);
+        s.setMaximumItemCount(1000);
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>(s);
+        XYPyramid pyramid = new XYPyramid(dataset);
+        dataset.addChangeListener(pyramid);
+        int x = 1000;
+        for (int i = 0; i < 100; i++) {
+            int op = random.nextInt(3);
+            if (op == 0) {
+                int count = 1 + random.nextInt(300);
+                for (int j = 0; j < count; j++) {
+                    s.add(x++, random.nextInt(50) == 0 ? null
+                            : random.nextDouble());
+                }
+            }
+            else if (op == 1) {
+                s.delete(0, random.nextInt(100));
+            }
+            else {
+                int count = 1 + random.nextInt(100);
+                s.setNotify(false);
+                for (int j = 0; j < count; j++) {
+                    s.add(x++, random.nextDouble());
+                }
+                s.setNotify(true);
+            }
+            int n = s.getItemCount();
+            for (int j = 0; j < 5; j++) {
+                int first = random.nextInt(n);
+                int last = first + random.nextInt(n - first);
+                int[] items = pyramid.findItems(0, first, last, 10);
+                if (items != null) {
+                    checkItems(dataset, items, first, last);
+                    assertTrue(items.length <= 12 * 10 + 100);
+                }
+            }
+        }
+
+        // a (coalesced) change that replaces the whole window
+        dataset.removeChangeListener(pyramid);
+        for (int j = 0; j < 2500; j++) {
+            s.add(x++, random.nextDouble());
+        }
+        pyramid.datasetChanged(new DatasetChangeEvent(dataset, dataset, 0,
+                SeriesChangeInfo.itemsShifted(2500, 0, 999)));
+        checkItems(dataset, pyramid.findItems(0, 0, 999, 10), 0, 999);
+    }
+
+    /**
+     * The collection classes create an index on demand, which survives
+     * cloning and serialization.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Test
+    public void testCollection() throws CloneNotSupportedException {
+        XYSeriesCollection<String> c1 = new XYSeriesCollection<>(
+                createSeries(new Random(3L), 100));
+        assertNull(c1.getPyramid());
+        c1.setPyramidEnabled(true);
+        assertNotNull(c1.getPyramid());
+        XYSeriesCollection<String> c2 = CloneUtils.clone(c1);
+        assertSame(c2, c2.getPyramid().getDataset());
+        XYSeriesCollection<String> c3 = TestUtils.serialised(c1);
+        assertSame(c3, c3.getPyramid().getDataset());
+        c1.setPyramidEnabled(false);
+        assertNull(c1.getPyramid());
+    }
+
+}
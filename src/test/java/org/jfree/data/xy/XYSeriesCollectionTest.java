@@ -42,6 +42,7 @@ import org.jfree.chart.internal.CloneUtils;
 import org.jfree.data.DatasetChangeConfirmation;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -100,6 +101,11 @@ public class XYSeriesCollectionTest {
         c2.setAutoWidth(true);
         assertEquals(c1, c2);
 
+        c1.setPyramidEnabled(true);
+        assertNotEquals(c1, c2);
+        c2.setPyramidEnabled(true);
+        assertEquals(c1, c2);
+
     }
 
     /**
@@ -481,4 +487,34 @@ public class XYSeriesCollectionTest {
         assertEquals(6.0, r.getUpperBound(), EPSILON);
     }
 
+    /**
+     * Check the series index and change details carried by the dataset
+     * change events.
+     */
+    @Test
+    public void testChangeInfo() {
+        XYSeriesCollection<String> dataset = new XYSeriesCollection<>();
+        DatasetChangeConfirmation listener = new DatasetChangeConfirmation();
+        dataset.addChangeListener(listener);
+        XYSeries<String> s1 = new XYSeries<>("S1");
+        XYSeries<String> s2 = new XYSeries<>("S2");
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        assertEquals(1, listener.event.getSeries());
+        assertEquals(SeriesChangeInfo.seriesAdded(), listener.event.getInfo());
+        s2.add(1.0, 2.0);
+        assertEquals(1, listener.event.getSeries());
+        assertEquals(SeriesChangeInfo.itemsAdded(0, 0),
+                listener.event.getInfo());
+        dataset.removeSeries(s1);
+        assertEquals(0, listener.event.getSeries());
+        assertEquals(SeriesChangeInfo.seriesRemoved(),
+                listener.event.getInfo());
+        s2.add(2.0, 2.0);
+        assertEquals(0, listener.event.getSeries());
+        dataset.setIntervalWidth(2.0);
+        assertEquals(-1, listener.event.getSeries());
+        assertNull(listener.event.getInfo());
+    }
+
 }
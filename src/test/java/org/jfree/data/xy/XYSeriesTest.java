@@ -38,6 +38,8 @@ package org.jfree.data.xy;
 
 import org.jfree.chart.TestUtils;
 import org.jfree.chart.internal.CloneUtils;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeInfo;
 import org.jfree.data.general.SeriesException;
 import org.junit.jupiter.api.Test;
 
@@ -760,4 +762,44 @@ public class XYSeriesTest {
         assertEquals(2.0, s1.getMaxY(), EPSILON);
     }
 
+    /**
+     * Check the change details carried by the series change events.
+     */
+    @Test
+    public void testChangeInfo() {
+        SeriesChangeEvent[] last = new SeriesChangeEvent[1];
+        XYSeries<String> s1 = new XYSeries<>("S1", true, false);
+        s1.addChangeListener(e -> last[0] = e);
+        s1.add(1.0, 1.0);
+        assertEquals(SeriesChangeInfo.itemsAdded(0, 0), last[0].getInfo());
+        s1.add(3.0, 3.0);
+        s1.add(2.0, 2.0);
+        assertEquals(SeriesChangeInfo.itemsAdded(1, 1), last[0].getInfo());
+        s1.updateByIndex(2, 4.0);
+        assertEquals(SeriesChangeInfo.itemsUpdated(2, 2), last[0].getInfo());
+        s1.addOrUpdate(1.0, 5.0);
+        assertEquals(SeriesChangeInfo.itemsUpdated(0, 0), last[0].getInfo());
+        s1.addOrUpdate(4.0, 5.0);
+        assertEquals(SeriesChangeInfo.itemsAdded(3, 3), last[0].getInfo());
+        s1.delete(1, 2);
+        assertEquals(SeriesChangeInfo.itemsRemoved(1, 2), last[0].getInfo());
+        s1.remove(0);
+        assertEquals(SeriesChangeInfo.itemsRemoved(0, 0), last[0].getInfo());
+
+        // a sliding window addition removes items from the start
+        s1.setMaximumItemCount(1);
+        s1.add(5.0, 5.0);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 0, 0),
+                last[0].getInfo());
+        s1.addOrUpdate(6.0, 6.0);
+        assertEquals(SeriesChangeInfo.itemsShifted(1, 0, 0),
+                last[0].getInfo());
+
+        // ...unless the new item is not appended
+        s1.add(0.5, 0.5);
+        assertNull(last[0].getInfo());
+        s1.clear();
+        assertEquals(SeriesChangeInfo.itemsRemoved(0, 0), last[0].getInfo());
+    }
+
 }